@@ -15,6 +15,20 @@ GO
 USE BancoPichincha;
 GO
 
+-- =====================================================
+-- SECUENCIAS de ids de clientes, cuentas y movimientos
+-- Hibernate reserva bloques de 50 ids por llamada (allocationSize = 50, optimizador pooled:
+-- el valor leído es el tope del bloque) y así puede agrupar los INSERT en lotes JDBC.
+-- El incremento debe coincidir con el allocationSize de las entidades.
+-- =====================================================
+IF NOT EXISTS (SELECT * FROM sys.sequences WHERE name = N'clientes_seq')
+    CREATE SEQUENCE [dbo].[clientes_seq] AS BIGINT START WITH 1 INCREMENT BY 50;
+IF NOT EXISTS (SELECT * FROM sys.sequences WHERE name = N'cuentas_seq')
+    CREATE SEQUENCE [dbo].[cuentas_seq] AS BIGINT START WITH 1 INCREMENT BY 50;
+IF NOT EXISTS (SELECT * FROM sys.sequences WHERE name = N'movimientos_seq')
+    CREATE SEQUENCE [dbo].[movimientos_seq] AS BIGINT START WITH 1 INCREMENT BY 50;
+GO
+
 -- =====================================================
 -- TABLA: clientes
 -- Descripción: Almacena información de clientes del banco
@@ -22,7 +36,7 @@ GO
 IF NOT EXISTS (SELECT * FROM sys.objects WHERE object_id = OBJECT_ID(N'[dbo].[clientes]') AND type in (N'U'))
 BEGIN
     CREATE TABLE [dbo].[clientes] (
-        [id] BIGINT IDENTITY(1,1) PRIMARY KEY,
+        [id] BIGINT NOT NULL CONSTRAINT [DF_clientes_id] DEFAULT (NEXT VALUE FOR [dbo].[clientes_seq]) PRIMARY KEY,
         [nombre] NVARCHAR(255) NOT NULL,
         [genero] NVARCHAR(50) NOT NULL,
         [edad] INT NOT NULL,
@@ -48,10 +62,12 @@ GO
 IF NOT EXISTS (SELECT * FROM sys.objects WHERE object_id = OBJECT_ID(N'[dbo].[cuentas]') AND type in (N'U'))
 BEGIN
     CREATE TABLE [dbo].[cuentas] (
-        [id] BIGINT IDENTITY(1,1) PRIMARY KEY,
+        [id] BIGINT NOT NULL CONSTRAINT [DF_cuentas_id] DEFAULT (NEXT VALUE FOR [dbo].[cuentas_seq]) PRIMARY KEY,
         [numero_cuenta] NVARCHAR(50) NOT NULL UNIQUE,
         [tipo_cuenta] NVARCHAR(50) NOT NULL,
         [saldo_inicial] DECIMAL(18,2) NOT NULL DEFAULT 0.00,
+        [saldo_actual] DECIMAL(18,2) NOT NULL DEFAULT 0.00,
+        [version] BIGINT NOT NULL DEFAULT 0,
         [estado] BIT NOT NULL DEFAULT 1,
         [cliente_id] BIGINT NOT NULL,
         [fecha_creacion] DATETIME2 DEFAULT GETDATE(),
@@ -68,6 +84,20 @@ BEGIN
 END
 GO
 
+-- Saldo vigente materializado y versión para actualizaciones condicionales.
+-- En bases existentes se agregan las columnas y se cargan desde el último movimiento.
+IF COL_LENGTH(N'dbo.cuentas', N'saldo_actual') IS NULL
+BEGIN
+    ALTER TABLE [dbo].[cuentas] ADD
+        [saldo_actual] DECIMAL(18,2) NOT NULL CONSTRAINT [DF_cuentas_saldo_actual] DEFAULT 0.00,
+        [version] BIGINT NOT NULL CONSTRAINT [DF_cuentas_version] DEFAULT 0;
+
+    EXEC(N'UPDATE c SET c.saldo_actual = c.saldo_inicial + COALESCE(
+              (SELECT SUM(m.valor) FROM movimientos m WHERE m.numero_cuenta = c.numero_cuenta), 0)
+          FROM cuentas c');
+END
+GO
+
 -- =====================================================
 -- TABLA: movimientos
 -- Descripción: Almacena movimientos/transacciones de cuentas
@@ -75,7 +105,7 @@ GO
 IF NOT EXISTS (SELECT * FROM sys.objects WHERE object_id = OBJECT_ID(N'[dbo].[movimientos]') AND type in (N'U'))
 BEGIN
     CREATE TABLE [dbo].[movimientos] (
-        [id] BIGINT IDENTITY(1,1) PRIMARY KEY,
+        [id] BIGINT NOT NULL CONSTRAINT [DF_movimientos_id] DEFAULT (NEXT VALUE FOR [dbo].[movimientos_seq]) PRIMARY KEY,
         [fecha] DATE NOT NULL,
         [tipo_movimiento] NVARCHAR(50) NOT NULL,
         [valor] DECIMAL(18,2) NOT NULL,
@@ -95,6 +125,266 @@ BEGIN
 END
 GO
 
+-- =====================================================
+-- TABLA: saldos_diarios
+-- Descripción: Cierre diario por cuenta (saldo, débitos, créditos, cantidad).
+-- Se mantiene en la misma transacción que cada movimiento; el saldo a una fecha
+-- es el cierre del último día con movimientos hasta esa fecha.
+-- =====================================================
+IF NOT EXISTS (SELECT * FROM sys.objects WHERE object_id = OBJECT_ID(N'[dbo].[saldos_diarios]') AND type in (N'U'))
+BEGIN
+    CREATE TABLE [dbo].[saldos_diarios] (
+        [id] BIGINT IDENTITY(1,1) PRIMARY KEY,
+        [numero_cuenta] NVARCHAR(50) NOT NULL,
+        [fecha] DATE NOT NULL,
+        [saldo_cierre] DECIMAL(18,2) NOT NULL,
+        [total_debitos] DECIMAL(18,2) NOT NULL DEFAULT 0.00,
+        [total_creditos] DECIMAL(18,2) NOT NULL DEFAULT 0.00,
+        [cantidad_movimientos] INT NOT NULL DEFAULT 0,
+        CONSTRAINT [UQ_saldos_diarios_cuenta_fecha] UNIQUE ([numero_cuenta], [fecha]),
+        CONSTRAINT [FK_saldos_diarios_cuenta] FOREIGN KEY ([numero_cuenta])
+            REFERENCES [dbo].[cuentas]([numero_cuenta])
+            ON DELETE NO ACTION
+            ON UPDATE CASCADE
+    );
+
+    -- En bases existentes se cargan los cierres a partir de los movimientos
+    EXEC(N'INSERT INTO saldos_diarios (numero_cuenta, fecha, saldo_cierre, total_debitos, total_creditos, cantidad_movimientos)
+          SELECT d.numero_cuenta, d.fecha,
+                 c.saldo_inicial + SUM(d.neto) OVER (PARTITION BY d.numero_cuenta ORDER BY d.fecha ROWS UNBOUNDED PRECEDING),
+                 d.debitos, d.creditos, d.cantidad
+          FROM (SELECT numero_cuenta, fecha,
+                       SUM(valor) AS neto,
+                       SUM(CASE WHEN valor < 0 THEN -valor ELSE 0 END) AS debitos,
+                       SUM(CASE WHEN valor > 0 THEN valor ELSE 0 END) AS creditos,
+                       COUNT(*) AS cantidad
+                FROM movimientos
+                GROUP BY numero_cuenta, fecha) d
+          INNER JOIN cuentas c ON c.numero_cuenta = d.numero_cuenta');
+END
+GO
+
+-- =====================================================
+-- TABLA: claves_idempotencia
+-- Descripción: Idempotency-Key de POST /movimientos con la huella de la solicitud y el
+-- movimiento registrado. Se inserta en la misma transacción que el movimiento y se purga
+-- pasada la retención (bp.idempotencia.retencion). Sin FK: la respuesta original se
+-- conserva aunque el movimiento se elimine después.
+-- =====================================================
+IF NOT EXISTS (SELECT * FROM sys.objects WHERE object_id = OBJECT_ID(N'[dbo].[claves_idempotencia]') AND type in (N'U'))
+BEGIN
+    CREATE TABLE [dbo].[claves_idempotencia] (
+        [clave] NVARCHAR(100) NOT NULL PRIMARY KEY,
+        [huella] NVARCHAR(64) NOT NULL,
+        [movimiento_id] BIGINT NOT NULL,
+        [fecha] DATE NOT NULL,
+        [tipo_movimiento] NVARCHAR(255) NOT NULL,
+        [valor] DECIMAL(18,2) NOT NULL,
+        [saldo] DECIMAL(18,2) NOT NULL,
+        [numero_cuenta] NVARCHAR(255) NOT NULL,
+        [fecha_creacion] DATETIME2 NOT NULL
+    );
+
+    CREATE NONCLUSTERED INDEX [IX_claves_idempotencia_fecha_creacion] ON [dbo].[claves_idempotencia]([fecha_creacion]);
+END
+GO
+
+-- =====================================================
+-- MIGRACIÓN: ids IDENTITY a secuencias
+-- SQL Server no permite quitar la propiedad IDENTITY a una columna. En bases creadas con ids
+-- IDENTITY cada tabla se copia con sus ids a una tabla *_nuevo cuyo id toma el valor por
+-- defecto de la secuencia, se intercambian con sp_rename y la secuencia se reinicia por encima
+-- del MAX(id). Va después de las columnas agregadas arriba para copiar el esquema vigente.
+-- La tabla anterior queda como *_identidad para verificar la copia y se elimina a mano.
+-- Todo corre en una transacción: si algo falla, las tablas quedan como estaban. Antes de cada
+-- intercambio se comprueba que la copia tenga las mismas filas, columna por columna, y los
+-- mismos importes; si no coinciden se lanza un error y se revierte la migración completa.
+-- En una base con datos reales el script debe detenerse antes de DATOS DE EJEMPLO, que
+-- vacía las tablas.
+-- =====================================================
+IF COLUMNPROPERTY(OBJECT_ID(N'dbo.clientes'), N'id', 'IsIdentity') = 1
+   OR COLUMNPROPERTY(OBJECT_ID(N'dbo.cuentas'), N'id', 'IsIdentity') = 1
+   OR COLUMNPROPERTY(OBJECT_ID(N'dbo.movimientos'), N'id', 'IsIdentity') = 1
+BEGIN
+    SET XACT_ABORT ON;
+    BEGIN TRANSACTION;
+
+    DECLARE @reinicio NVARCHAR(200);
+
+    -- Las claves foráneas entre estas tablas se quitan durante el intercambio y se recrean al final
+    IF OBJECT_ID(N'dbo.FK_saldos_diarios_cuenta', N'F') IS NOT NULL
+        ALTER TABLE [dbo].[saldos_diarios] DROP CONSTRAINT [FK_saldos_diarios_cuenta];
+    IF OBJECT_ID(N'dbo.FK_movimientos_cuenta', N'F') IS NOT NULL
+        ALTER TABLE [dbo].[movimientos] DROP CONSTRAINT [FK_movimientos_cuenta];
+    IF OBJECT_ID(N'dbo.FK_cuentas_cliente', N'F') IS NOT NULL
+        ALTER TABLE [dbo].[cuentas] DROP CONSTRAINT [FK_cuentas_cliente];
+
+    IF COLUMNPROPERTY(OBJECT_ID(N'dbo.clientes'), N'id', 'IsIdentity') = 1
+    BEGIN
+        CREATE TABLE [dbo].[clientes_nuevo] (
+            [id] BIGINT NOT NULL CONSTRAINT [DF_clientes_id] DEFAULT (NEXT VALUE FOR [dbo].[clientes_seq]) PRIMARY KEY,
+            [nombre] NVARCHAR(255) NOT NULL,
+            [genero] NVARCHAR(50) NOT NULL,
+            [edad] INT NOT NULL,
+            [identificacion] NVARCHAR(50) NOT NULL UNIQUE,
+            [direccion] NVARCHAR(500) NOT NULL,
+            [telefono] NVARCHAR(20) NOT NULL,
+            [cliente_id] BIGINT UNIQUE,
+            [contrasena] NVARCHAR(255) NOT NULL,
+            [estado] BIT NOT NULL DEFAULT 1,
+            [fecha_creacion] DATETIME2 DEFAULT GETDATE(),
+            [fecha_modificacion] DATETIME2 DEFAULT GETDATE()
+        );
+        CREATE NONCLUSTERED INDEX [IX_clientes_identificacion] ON [dbo].[clientes_nuevo]([identificacion]);
+        CREATE NONCLUSTERED INDEX [IX_clientes_estado] ON [dbo].[clientes_nuevo]([estado]);
+
+        EXEC(N'INSERT INTO clientes_nuevo (id, nombre, genero, edad, identificacion, direccion, telefono,
+                                           cliente_id, contrasena, estado, fecha_creacion, fecha_modificacion)
+              SELECT id, nombre, genero, edad, identificacion, direccion, telefono,
+                     cliente_id, contrasena, estado, fecha_creacion, fecha_modificacion
+              FROM clientes');
+
+        EXEC(N'IF (SELECT COUNT_BIG(*) FROM clientes) <> (SELECT COUNT_BIG(*) FROM clientes_nuevo)
+                 OR EXISTS (SELECT id, nombre, genero, edad, identificacion, direccion, telefono,
+                                   cliente_id, contrasena, estado, fecha_creacion, fecha_modificacion
+                            FROM clientes
+                            EXCEPT
+                            SELECT id, nombre, genero, edad, identificacion, direccion, telefono,
+                                   cliente_id, contrasena, estado, fecha_creacion, fecha_modificacion
+                            FROM clientes_nuevo)
+                  THROW 50001, N''Migración de clientes: la copia no coincide con la tabla original'', 1;');
+
+        SELECT @reinicio = N'ALTER SEQUENCE [dbo].[clientes_seq] RESTART WITH '
+                           + CAST(COALESCE(MAX(id), 0) + 50 AS NVARCHAR(20))
+        FROM [dbo].[clientes];
+        EXEC(@reinicio);
+
+        EXEC sp_rename N'dbo.clientes', N'clientes_identidad';
+        EXEC sp_rename N'dbo.clientes_nuevo', N'clientes';
+    END
+
+    IF COLUMNPROPERTY(OBJECT_ID(N'dbo.cuentas'), N'id', 'IsIdentity') = 1
+    BEGIN
+        CREATE TABLE [dbo].[cuentas_nuevo] (
+            [id] BIGINT NOT NULL CONSTRAINT [DF_cuentas_id] DEFAULT (NEXT VALUE FOR [dbo].[cuentas_seq]) PRIMARY KEY,
+            [numero_cuenta] NVARCHAR(50) NOT NULL UNIQUE,
+            [tipo_cuenta] NVARCHAR(50) NOT NULL,
+            [saldo_inicial] DECIMAL(18,2) NOT NULL DEFAULT 0.00,
+            [saldo_actual] DECIMAL(18,2) NOT NULL DEFAULT 0.00,
+            [version] BIGINT NOT NULL DEFAULT 0,
+            [estado] BIT NOT NULL DEFAULT 1,
+            [cliente_id] BIGINT NOT NULL,
+            [fecha_creacion] DATETIME2 DEFAULT GETDATE(),
+            [fecha_modificacion] DATETIME2 DEFAULT GETDATE()
+        );
+        CREATE NONCLUSTERED INDEX [IX_cuentas_numero_cuenta] ON [dbo].[cuentas_nuevo]([numero_cuenta]);
+        CREATE NONCLUSTERED INDEX [IX_cuentas_cliente_id] ON [dbo].[cuentas_nuevo]([cliente_id]);
+        CREATE NONCLUSTERED INDEX [IX_cuentas_estado] ON [dbo].[cuentas_nuevo]([estado]);
+
+        EXEC(N'INSERT INTO cuentas_nuevo (id, numero_cuenta, tipo_cuenta, saldo_inicial, saldo_actual, version,
+                                          estado, cliente_id, fecha_creacion, fecha_modificacion)
+              SELECT id, numero_cuenta, tipo_cuenta, saldo_inicial, saldo_actual, version,
+                     estado, cliente_id, fecha_creacion, fecha_modificacion
+              FROM cuentas');
+
+        EXEC(N'IF (SELECT COUNT_BIG(*) FROM cuentas) <> (SELECT COUNT_BIG(*) FROM cuentas_nuevo)
+                 OR (SELECT SUM(saldo_inicial) FROM cuentas) <> (SELECT SUM(saldo_inicial) FROM cuentas_nuevo)
+                 OR (SELECT SUM(saldo_actual) FROM cuentas) <> (SELECT SUM(saldo_actual) FROM cuentas_nuevo)
+                 OR EXISTS (SELECT id, numero_cuenta, tipo_cuenta, saldo_inicial, saldo_actual, version,
+                                   estado, cliente_id, fecha_creacion, fecha_modificacion
+                            FROM cuentas
+                            EXCEPT
+                            SELECT id, numero_cuenta, tipo_cuenta, saldo_inicial, saldo_actual, version,
+                                   estado, cliente_id, fecha_creacion, fecha_modificacion
+                            FROM cuentas_nuevo)
+                  THROW 50002, N''Migración de cuentas: la copia no coincide con la tabla original'', 1;');
+
+        SELECT @reinicio = N'ALTER SEQUENCE [dbo].[cuentas_seq] RESTART WITH '
+                           + CAST(COALESCE(MAX(id), 0) + 50 AS NVARCHAR(20))
+        FROM [dbo].[cuentas];
+        EXEC(@reinicio);
+
+        EXEC sp_rename N'dbo.cuentas', N'cuentas_identidad';
+        EXEC sp_rename N'dbo.cuentas_nuevo', N'cuentas';
+    END
+
+    IF COLUMNPROPERTY(OBJECT_ID(N'dbo.movimientos'), N'id', 'IsIdentity') = 1
+    BEGIN
+        CREATE TABLE [dbo].[movimientos_nuevo] (
+            [id] BIGINT NOT NULL CONSTRAINT [DF_movimientos_id] DEFAULT (NEXT VALUE FOR [dbo].[movimientos_seq]) PRIMARY KEY,
+            [fecha] DATE NOT NULL,
+            [tipo_movimiento] NVARCHAR(50) NOT NULL,
+            [valor] DECIMAL(18,2) NOT NULL,
+            [saldo] DECIMAL(18,2) NOT NULL,
+            [numero_cuenta] NVARCHAR(50) NOT NULL,
+            [fecha_creacion] DATETIME2 DEFAULT GETDATE()
+        );
+        CREATE NONCLUSTERED INDEX [IX_movimientos_numero_cuenta] ON [dbo].[movimientos_nuevo]([numero_cuenta]);
+        CREATE NONCLUSTERED INDEX [IX_movimientos_fecha] ON [dbo].[movimientos_nuevo]([fecha]);
+        CREATE NONCLUSTERED INDEX [IX_movimientos_tipo] ON [dbo].[movimientos_nuevo]([tipo_movimiento]);
+        CREATE NONCLUSTERED INDEX [IX_movimientos_cuenta_fecha] ON [dbo].[movimientos_nuevo]([numero_cuenta], [fecha] DESC);
+
+        EXEC(N'INSERT INTO movimientos_nuevo (id, fecha, tipo_movimiento, valor, saldo, numero_cuenta, fecha_creacion)
+              SELECT id, fecha, tipo_movimiento, valor, saldo, numero_cuenta, fecha_creacion
+              FROM movimientos');
+
+        EXEC(N'IF (SELECT COUNT_BIG(*) FROM movimientos) <> (SELECT COUNT_BIG(*) FROM movimientos_nuevo)
+                 OR (SELECT SUM(valor) FROM movimientos) <> (SELECT SUM(valor) FROM movimientos_nuevo)
+                 OR (SELECT SUM(saldo) FROM movimientos) <> (SELECT SUM(saldo) FROM movimientos_nuevo)
+                 OR EXISTS (SELECT id, fecha, tipo_movimiento, valor, saldo, numero_cuenta, fecha_creacion
+                            FROM movimientos
+                            EXCEPT
+                            SELECT id, fecha, tipo_movimiento, valor, saldo, numero_cuenta, fecha_creacion
+                            FROM movimientos_nuevo)
+                  THROW 50003, N''Migración de movimientos: la copia no coincide con la tabla original'', 1;');
+
+        SELECT @reinicio = N'ALTER SEQUENCE [dbo].[movimientos_seq] RESTART WITH '
+                           + CAST(COALESCE(MAX(id), 0) + 50 AS NVARCHAR(20))
+        FROM [dbo].[movimientos];
+        EXEC(@reinicio);
+
+        EXEC sp_rename N'dbo.movimientos', N'movimientos_identidad';
+        EXEC sp_rename N'dbo.movimientos_nuevo', N'movimientos';
+    END
+
+    ALTER TABLE [dbo].[cuentas] ADD CONSTRAINT [FK_cuentas_cliente] FOREIGN KEY ([cliente_id])
+        REFERENCES [dbo].[clientes]([id]) ON DELETE NO ACTION ON UPDATE CASCADE;
+    ALTER TABLE [dbo].[movimientos] ADD CONSTRAINT [FK_movimientos_cuenta] FOREIGN KEY ([numero_cuenta])
+        REFERENCES [dbo].[cuentas]([numero_cuenta]) ON DELETE NO ACTION ON UPDATE CASCADE;
+    ALTER TABLE [dbo].[saldos_diarios] ADD CONSTRAINT [FK_saldos_diarios_cuenta] FOREIGN KEY ([numero_cuenta])
+        REFERENCES [dbo].[cuentas]([numero_cuenta]) ON DELETE NO ACTION ON UPDATE CASCADE;
+
+    COMMIT TRANSACTION;
+END
+GO
+
+-- Índice para paginación por cursor (keyset) sobre (fecha, id)
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = N'IX_movimientos_fecha_id' AND object_id = OBJECT_ID(N'[dbo].[movimientos]'))
+BEGIN
+    CREATE NONCLUSTERED INDEX [IX_movimientos_fecha_id] ON [dbo].[movimientos]([fecha], [id]);
+END
+GO
+
+-- Índice para reencadenar los saldos de una cuenta en orden (fecha, id)
+IF NOT EXISTS (SELECT * FROM sys.indexes WHERE name = N'IX_movimientos_cuenta_fecha_id' AND object_id = OBJECT_ID(N'[dbo].[movimientos]'))
+BEGIN
+    CREATE NONCLUSTERED INDEX [IX_movimientos_cuenta_fecha_id] ON [dbo].[movimientos]([numero_cuenta], [fecha], [id])
+        INCLUDE ([valor], [saldo]);
+END
+GO
+
+-- Repara la cadena de saldos de movimientos editados o eliminados antes del reencadenamiento:
+-- saldo = saldo inicial + suma acumulada en orden (fecha, id). Solo escribe las filas que cambian
+MERGE INTO [dbo].[movimientos] AS t
+USING (SELECT m.id,
+              c.saldo_inicial + SUM(m.valor) OVER (PARTITION BY m.numero_cuenta ORDER BY m.fecha, m.id
+                                                  ROWS UNBOUNDED PRECEDING) AS saldo
+       FROM [dbo].[movimientos] m
+       INNER JOIN [dbo].[cuentas] c ON c.numero_cuenta = m.numero_cuenta) AS s
+ON t.id = s.id
+WHEN MATCHED AND t.saldo <> s.saldo THEN UPDATE SET saldo = s.saldo;
+GO
+
 -- =====================================================
 -- TRIGGERS
 -- =====================================================
@@ -155,13 +445,7 @@ SELECT
     cl.id AS cliente_id,
     cl.nombre AS cliente_nombre,
     cl.identificacion AS cliente_identificacion,
-    COALESCE(
-        (SELECT TOP 1 m.saldo 
-         FROM movimientos m 
-         WHERE m.numero_cuenta = c.numero_cuenta 
-         ORDER BY m.fecha DESC, m.id DESC), 
-        c.saldo_inicial
-    ) AS saldo_actual,
+    c.saldo_actual,
     c.fecha_creacion,
     c.fecha_modificacion
 FROM cuentas c
@@ -231,15 +515,9 @@ AS
 BEGIN
     SET NOCOUNT ON;
     
-    SELECT @p_saldo_actual = COALESCE(
-        (SELECT TOP 1 saldo 
-         FROM movimientos 
-         WHERE numero_cuenta = @p_numero_cuenta 
-         ORDER BY fecha DESC, id DESC),
-        (SELECT saldo_inicial 
-         FROM cuentas 
-         WHERE numero_cuenta = @p_numero_cuenta)
-    );
+    SELECT @p_saldo_actual = saldo_actual
+    FROM cuentas
+    WHERE numero_cuenta = @p_numero_cuenta;
 END
 GO
 
@@ -248,46 +526,49 @@ GO
 -- =====================================================
 
 -- Limpiar datos existentes (solo para desarrollo)
+IF EXISTS (SELECT 1 FROM claves_idempotencia)
+BEGIN
+    DELETE FROM claves_idempotencia;
+END
+
+IF EXISTS (SELECT 1 FROM saldos_diarios)
+BEGIN
+    DELETE FROM saldos_diarios;
+    DBCC CHECKIDENT ('saldos_diarios', RESEED, 0);
+END
+
 IF EXISTS (SELECT 1 FROM movimientos)
 BEGIN
     DELETE FROM movimientos;
-    DBCC CHECKIDENT ('movimientos', RESEED, 0);
 END
 
 IF EXISTS (SELECT 1 FROM cuentas)
 BEGIN
     DELETE FROM cuentas;
-    DBCC CHECKIDENT ('cuentas', RESEED, 0);
 END
 
 IF EXISTS (SELECT 1 FROM clientes)
 BEGIN
     DELETE FROM clientes;
-    DBCC CHECKIDENT ('clientes', RESEED, 0);
 END
 GO
 
 -- Insertar clientes de ejemplo
-SET IDENTITY_INSERT clientes ON;
 INSERT INTO clientes (id, nombre, genero, edad, identificacion, direccion, telefono, cliente_id, contrasena, estado) VALUES
 (1, N'Jose Lema', N'Masculino', 30, N'1234567890', N'Otavalo sn y principal', N'098254785', 1, N'1234', 1),
 (2, N'Marianela Montalvo', N'Femenino', 28, N'0987654321', N'Amazonas y NNUU', N'097548965', 2, N'5678', 1),
 (3, N'Juan Osorio', N'Masculino', 35, N'1122334455', N'13 junio y Equinoccial', N'098874587', 3, N'1245', 1);
-SET IDENTITY_INSERT clientes OFF;
 GO
 
 -- Insertar cuentas de ejemplo
-SET IDENTITY_INSERT cuentas ON;
-INSERT INTO cuentas (id, numero_cuenta, tipo_cuenta, saldo_inicial, estado, cliente_id) VALUES
-(1, N'478758', N'Ahorro', 2000.00, 1, 1),
-(2, N'225487', N'Corriente', 100.00, 1, 2),
-(3, N'495878', N'Ahorro', 0.00, 1, 3),
-(4, N'496825', N'Ahorro', 540.00, 1, 2);
-SET IDENTITY_INSERT cuentas OFF;
+INSERT INTO cuentas (id, numero_cuenta, tipo_cuenta, saldo_inicial, saldo_actual, estado, cliente_id) VALUES
+(1, N'478758', N'Ahorro', 2000.00, 1925.00, 1, 1),
+(2, N'225487', N'Corriente', 100.00, 850.00, 1, 2),
+(3, N'495878', N'Ahorro', 0.00, 1000.00, 1, 3),
+(4, N'496825', N'Ahorro', 540.00, 0.00, 1, 2);
 GO
 
 -- Insertar movimientos de ejemplo
-SET IDENTITY_INSERT movimientos ON;
 INSERT INTO movimientos (id, fecha, tipo_movimiento, valor, saldo, numero_cuenta) VALUES
 -- Cuenta 478758 (Jose Lema)
 (1, '2026-01-05', N'Depósito', 500.00, 2500.00, N'478758'),
@@ -302,7 +583,28 @@ INSERT INTO movimientos (id, fecha, tipo_movimiento, valor, saldo, numero_cuenta
 
 -- Cuenta 496825 (Marianela Montalvo - segunda cuenta)
 (6, '2026-01-07', N'Retiro', -540.00, 0.00, N'496825');
-SET IDENTITY_INSERT movimientos OFF;
+GO
+
+-- Las secuencias continúan después de los ids de ejemplo: el primer bloque que reserve
+-- Hibernate con el valor 100 es 51..100
+ALTER SEQUENCE [dbo].[clientes_seq] RESTART WITH 100;
+ALTER SEQUENCE [dbo].[cuentas_seq] RESTART WITH 100;
+ALTER SEQUENCE [dbo].[movimientos_seq] RESTART WITH 100;
+GO
+
+-- Cierres diarios de los movimientos de ejemplo
+INSERT INTO saldos_diarios (numero_cuenta, fecha, saldo_cierre, total_debitos, total_creditos, cantidad_movimientos)
+SELECT d.numero_cuenta, d.fecha,
+       c.saldo_inicial + SUM(d.neto) OVER (PARTITION BY d.numero_cuenta ORDER BY d.fecha ROWS UNBOUNDED PRECEDING),
+       d.debitos, d.creditos, d.cantidad
+FROM (SELECT numero_cuenta, fecha,
+             SUM(valor) AS neto,
+             SUM(CASE WHEN valor < 0 THEN -valor ELSE 0 END) AS debitos,
+             SUM(CASE WHEN valor > 0 THEN valor ELSE 0 END) AS creditos,
+             COUNT(*) AS cantidad
+      FROM movimientos
+      GROUP BY numero_cuenta, fecha) d
+INNER JOIN cuentas c ON c.numero_cuenta = d.numero_cuenta;
 GO
 
 -- =====================================================
@@ -325,7 +627,9 @@ SELECT 'Clientes' AS Tipo, COUNT(*) AS Total FROM clientes
 UNION ALL
 SELECT 'Cuentas', COUNT(*) FROM cuentas
 UNION ALL
-SELECT 'Movimientos', COUNT(*) FROM movimientos;
+SELECT 'Movimientos', COUNT(*) FROM movimientos
+UNION ALL
+SELECT 'Saldos diarios', COUNT(*) FROM saldos_diarios;
 GO
 
 -- Verificar vistas
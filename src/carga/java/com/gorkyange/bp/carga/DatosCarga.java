@@ -0,0 +1,103 @@
+package com.gorkyange.bp.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Clientes y cuentas sobre los que corre la carga, creados por la API antes de medir.
+ * Las claves llevan un prefijo por ejecución para poder repetir la prueba contra la
+ * misma instancia sin chocar con los datos de una corrida anterior.
+ */
+final class DatosCarga {
+
+    private final long[] clientes;
+    private final String[] cuentas;
+
+    private DatosCarga(long[] clientes, String[] cuentas) {
+        this.clientes = clientes;
+        this.cuentas = cuentas;
+    }
+
+    long clienteAlAzar(ThreadLocalRandom azar) {
+        return clientes[azar.nextInt(clientes.length)];
+    }
+
+    String cuentaAlAzar(ThreadLocalRandom azar) {
+        return cuentas[azar.nextInt(cuentas.length)];
+    }
+
+    int numeroCuentas() {
+        return cuentas.length;
+    }
+
+    /**
+     * Crea los clientes con sus cuentas y carga por lote un historial de movimientos
+     * repartido en los últimos 60 días, para que los reportes y listados no corran vacíos.
+     */
+    static DatosCarga preparar(HttpClient http, URI base, ObjectMapper json, int numeroClientes,
+                               int cuentasPorCliente, int movimientosPorCuenta) throws IOException, InterruptedException {
+        String prefijo = Long.toString(System.currentTimeMillis(), 36);
+        long clienteIdBase = System.currentTimeMillis() * 1_000;
+        long[] clientes = new long[numeroClientes];
+        String[] cuentas = new String[numeroClientes * cuentasPorCliente];
+
+        for (int c = 0; c < numeroClientes; c++) {
+            String cliente = String.format("{\"nombre\":\"Cliente Carga %d\",\"genero\":\"M\",\"edad\":30,"
+                    + "\"identificacion\":\"carga-%s-%d\",\"direccion\":\"Quito\",\"telefono\":\"0999999999\","
+                    + "\"clienteId\":%d,\"contrasena\":\"1234\",\"estado\":true}", c, prefijo, c, clienteIdBase + c);
+            clientes[c] = crear(http, json, base.resolve("/clientes"), cliente).get("id").asLong();
+
+            for (int k = 0; k < cuentasPorCliente; k++) {
+                String numero = "C" + prefijo + "-" + (c * cuentasPorCliente + k);
+                String cuenta = String.format("{\"numeroCuenta\":\"%s\",\"tipoCuenta\":\"%s\",\"saldoInicial\":1000000,"
+                        + "\"estado\":true,\"clienteId\":%d}", numero, k % 2 == 0 ? "Ahorro" : "Corriente", clientes[c]);
+                crear(http, json, base.resolve("/cuentas"), cuenta);
+                cuentas[c * cuentasPorCliente + k] = numero;
+            }
+        }
+
+        if (movimientosPorCuenta > 0) {
+            ThreadLocalRandom azar = ThreadLocalRandom.current();
+            LocalDate hoy = LocalDate.now();
+            List<String> movimientos = new ArrayList<>(cuentas.length * movimientosPorCuenta);
+            for (String numero : cuentas) {
+                for (int m = 0; m < movimientosPorCuenta; m++) {
+                    boolean retiro = m % 3 == 2;
+                    movimientos.add(String.format("{\"numeroCuenta\":\"%s\",\"tipoMovimiento\":\"%s\",\"valor\":%s%d,"
+                                    + "\"fecha\":\"%s\"}", numero, retiro ? "Retiro" : "Deposito", retiro ? "-" : "",
+                            1 + azar.nextInt(500), hoy.minusDays(azar.nextInt(60))));
+                }
+            }
+            // POST /movimientos/lote admite hasta 10000 movimientos por solicitud
+            for (int desde = 0; desde < movimientos.size(); desde += 10_000) {
+                List<String> lote = movimientos.subList(desde, Math.min(desde + 10_000, movimientos.size()));
+                enviar(http, base.resolve("/movimientos/lote"), "[" + String.join(",", lote) + "]", 200);
+            }
+        }
+        return new DatosCarga(clientes, cuentas);
+    }
+
+    private static JsonNode crear(HttpClient http, ObjectMapper json, URI uri, String cuerpo)
+            throws IOException, InterruptedException {
+        return json.readTree(enviar(http, uri, cuerpo, 201));
+    }
+
+    private static String enviar(HttpClient http, URI uri, String cuerpo, int estadoEsperado)
+            throws IOException, InterruptedException {
+        HttpResponse<String> respuesta = http.send(Operacion.post(uri, cuerpo), HttpResponse.BodyHandlers.ofString());
+        if (respuesta.statusCode() != estadoEsperado) {
+            throw new IllegalStateException("Preparando datos: " + uri + " respondió " + respuesta.statusCode()
+                    + ": " + respuesta.body());
+        }
+        return respuesta.body();
+    }
+}
@@ -0,0 +1,78 @@
+package com.gorkyange.bp.carga;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latencias en nanosegundos y estados HTTP de una operación. Cada hilo de carga llena su
+ * propia instancia sin sincronizar; al terminar se combinan y se ordenan una sola vez.
+ * El estado 0 indica que la solicitud no obtuvo respuesta (error de conexión o tiempo agotado).
+ */
+final class Latencias {
+
+    private long[] valores = new long[1024];
+    private int cantidad;
+    private final Map<Integer, Long> estados = new TreeMap<>();
+    private long errores;
+    private boolean ordenadas;
+
+    void registrar(long nanos, int estado) {
+        if (cantidad == valores.length) {
+            valores = Arrays.copyOf(valores, cantidad * 2);
+        }
+        valores[cantidad++] = nanos;
+        estados.merge(estado, 1L, Long::sum);
+        if (estado < 200 || estado >= 300) {
+            errores++;
+        }
+        ordenadas = false;
+    }
+
+    void combinar(Latencias otras) {
+        if (cantidad + otras.cantidad > valores.length) {
+            valores = Arrays.copyOf(valores, Math.max(valores.length * 2, cantidad + otras.cantidad));
+        }
+        System.arraycopy(otras.valores, 0, valores, cantidad, otras.cantidad);
+        cantidad += otras.cantidad;
+        otras.estados.forEach((estado, veces) -> estados.merge(estado, veces, Long::sum));
+        errores += otras.errores;
+        ordenadas = false;
+    }
+
+    int cantidad() {
+        return cantidad;
+    }
+
+    long errores() {
+        return errores;
+    }
+
+    Map<Integer, Long> estados() {
+        return estados;
+    }
+
+    double media() {
+        long suma = 0;
+        for (int i = 0; i < cantidad; i++) {
+            suma += valores[i];
+        }
+        return cantidad == 0 ? 0 : (double) suma / cantidad;
+    }
+
+    /**
+     * Percentil por rango más cercano (p entre 0 y 100): el menor valor que deja
+     * al menos el p% de las muestras por debajo o igual.
+     */
+    long percentil(double p) {
+        if (cantidad == 0) {
+            return 0;
+        }
+        if (!ordenadas) {
+            Arrays.sort(valores, 0, cantidad);
+            ordenadas = true;
+        }
+        int rango = (int) Math.ceil(p / 100.0 * cantidad);
+        return valores[Math.min(cantidad, Math.max(1, rango)) - 1];
+    }
+}
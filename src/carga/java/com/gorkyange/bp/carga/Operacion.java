@@ -0,0 +1,89 @@
+package com.gorkyange.bp.carga;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Endpoints que ejercita la prueba de carga, con la solicitud que arma cada uno sobre
+ * los clientes y cuentas creados al preparar los datos.
+ */
+enum Operacion {
+
+    /** Depósitos y retiros pequeños sobre una cuenta al azar, con fecha de hoy. */
+    POST_MOVIMIENTOS("post-movimientos") {
+        @Override
+        HttpRequest solicitud(URI base, DatosCarga datos, ThreadLocalRandom azar) {
+            boolean retiro = azar.nextInt(10) < 3;
+            long centavos = 100 + azar.nextInt(5_000);
+            String cuerpo = String.format("{\"numeroCuenta\":\"%s\",\"tipoMovimiento\":\"%s\",\"valor\":%s%d.%02d,"
+                            + "\"fecha\":\"%s\"}",
+                    datos.cuentaAlAzar(azar), retiro ? "Retiro" : "Deposito", retiro ? "-" : "",
+                    centavos / 100, centavos % 100, LocalDate.now());
+            return post(base.resolve("/movimientos"), cuerpo);
+        }
+    },
+
+    /** Movimientos de una cuenta, como la consulta de un cliente en la banca en línea. */
+    GET_MOVIMIENTOS("get-movimientos") {
+        @Override
+        HttpRequest solicitud(URI base, DatosCarga datos, ThreadLocalRandom azar) {
+            return get(base.resolve("/movimientos?numeroCuenta=" + datos.cuentaAlAzar(azar)));
+        }
+    },
+
+    /** Cuentas de un cliente. */
+    GET_CUENTAS("get-cuentas") {
+        @Override
+        HttpRequest solicitud(URI base, DatosCarga datos, ThreadLocalRandom azar) {
+            return get(base.resolve("/cuentas?clienteId=" + datos.clienteAlAzar(azar)));
+        }
+    },
+
+    /** Estado de cuenta JSON de un cliente para los últimos 30 días. */
+    GET_REPORTES("get-reportes") {
+        @Override
+        HttpRequest solicitud(URI base, DatosCarga datos, ThreadLocalRandom azar) {
+            LocalDate hoy = LocalDate.now();
+            return get(base.resolve("/reportes?clienteId=" + datos.clienteAlAzar(azar)
+                    + "&fechaInicio=" + hoy.minusDays(30) + "&fechaFin=" + hoy));
+        }
+    };
+
+    static final Duration TIEMPO_MAXIMO = Duration.ofSeconds(30);
+
+    private final String nombre;
+
+    Operacion(String nombre) {
+        this.nombre = nombre;
+    }
+
+    String nombre() {
+        return nombre;
+    }
+
+    abstract HttpRequest solicitud(URI base, DatosCarga datos, ThreadLocalRandom azar);
+
+    static Operacion porNombre(String nombre) {
+        for (Operacion operacion : values()) {
+            if (operacion.nombre.equals(nombre)) {
+                return operacion;
+            }
+        }
+        throw new IllegalArgumentException("Operación desconocida '" + nombre + "'");
+    }
+
+    static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(TIEMPO_MAXIMO).GET().build();
+    }
+
+    static HttpRequest post(URI uri, String json) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(TIEMPO_MAXIMO)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
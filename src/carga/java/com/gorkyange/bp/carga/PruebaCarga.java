@@ -0,0 +1,284 @@
+package com.gorkyange.bp.carga;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gorkyange.bp.MainApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Prueba de carga HTTP con una mezcla ponderada de endpoints. Cada hilo envía una solicitud,
+ * espera la respuesta y envía la siguiente (carga en lazo cerrado): la concurrencia es el
+ * número de hilos y el throughput es el que la aplicación logra sostener con ella.
+ * Las muestras del calentamiento se descartan. Al terminar escribe throughput, errores,
+ * estados HTTP y percentiles de latencia por endpoint en un archivo JSON.
+ *
+ * <p>Sin {@code --url} levanta la aplicación en este mismo proceso con H2 en memoria y un
+ * puerto libre; con {@code --url} carga una instancia ya levantada (por ejemplo el JAR con
+ * {@code java -jar}), que no comparte CPU ni heap con el generador.
+ *
+ * <pre>
+ * ./mvnw -Pcarga -DskipTests test-compile exec:exec -Dcarga.args="--hilos=32 --duracion=2m"
+ * </pre>
+ */
+public final class PruebaCarga {
+
+    private static final String MEZCLA_POR_DEFECTO = "post-movimientos:40,get-movimientos:30,get-cuentas:20,get-reportes:10";
+    private static final double[] PERCENTILES = {50, 95, 99, 99.9};
+
+    private PruebaCarga() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opciones = opciones(args);
+        int hilos = Integer.parseInt(opciones.getOrDefault("hilos", "16"));
+        Duration duracion = DurationStyle.detectAndParse(opciones.getOrDefault("duracion", "60s"));
+        Duration calentamiento = DurationStyle.detectAndParse(opciones.getOrDefault("calentamiento", "15s"));
+        Map<Operacion, Integer> mezcla = mezcla(opciones.getOrDefault("mezcla", MEZCLA_POR_DEFECTO));
+        int clientes = Integer.parseInt(opciones.getOrDefault("clientes", "8"));
+        int cuentasPorCliente = Integer.parseInt(opciones.getOrDefault("cuentas-por-cliente", "4"));
+        int movimientosPorCuenta = Integer.parseInt(opciones.getOrDefault("movimientos-por-cuenta", "50"));
+        Path salida = Path.of(opciones.getOrDefault("salida", "target/carga/carga-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json"));
+
+        ConfigurableApplicationContext contexto = null;
+        URI base;
+        if (opciones.containsKey("url")) {
+            base = URI.create(opciones.get("url"));
+        } else {
+            // Como argumentos: properties() del builder solo fija valores por defecto y
+            // application.properties los reemplazaría
+            contexto = new SpringApplicationBuilder(MainApplication.class).run(
+                    "--server.port=0",
+                    "--spring.datasource.url=jdbc:h2:mem:carga;DB_CLOSE_DELAY=-1",
+                    "--spring.jpa.show-sql=false",
+                    "--logging.level.root=WARN");
+            base = URI.create("http://localhost:" + ((WebServerApplicationContext) contexto).getWebServer().getPort());
+        }
+
+        try {
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            ObjectMapper json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+            System.out.printf("Preparando %d clientes con %d cuentas y %d movimientos por cuenta en %s%n",
+                    clientes, cuentasPorCliente, movimientosPorCuenta, base);
+            DatosCarga datos = DatosCarga.preparar(http, base, json, clientes, cuentasPorCliente, movimientosPorCuenta);
+
+            System.out.printf("Carga: %d hilos, %s de calentamiento y %s medidos, mezcla %s%n",
+                    hilos, calentamiento, duracion, mezcla);
+            Map<Operacion, Latencias> resultados = ejecutar(http, base, datos, hilos, mezcla, calentamiento, duracion);
+
+            Map<String, Object> informe = informe(opciones, base, contexto != null, hilos, calentamiento, duracion,
+                    mezcla, datos, resultados);
+            Files.createDirectories(salida.toAbsolutePath().getParent());
+            json.writeValue(salida.toFile(), informe);
+            imprimir(resultados, duracion);
+            System.out.println("Resultados en " + salida.toAbsolutePath());
+        } finally {
+            if (contexto != null) {
+                contexto.close();
+            }
+        }
+    }
+
+    private static Map<Operacion, Latencias> ejecutar(HttpClient http, URI base, DatosCarga datos, int hilos,
+                                                      Map<Operacion, Integer> mezcla, Duration calentamiento,
+                                                      Duration duracion) throws InterruptedException {
+        Operacion[] operaciones = mezcla.keySet().toArray(new Operacion[0]);
+        int[] pesosAcumulados = new int[operaciones.length];
+        int total = 0;
+        for (int i = 0; i < operaciones.length; i++) {
+            total += mezcla.get(operaciones[i]);
+            pesosAcumulados[i] = total;
+        }
+        int pesoTotal = total;
+
+        long inicioMedicion = System.nanoTime() + calentamiento.toNanos();
+        long fin = inicioMedicion + duracion.toNanos();
+        List<Map<Operacion, Latencias>> porHilo = new ArrayList<>(hilos);
+        List<Thread> trabajadores = new ArrayList<>(hilos);
+        for (int h = 0; h < hilos; h++) {
+            Map<Operacion, Latencias> propias = new EnumMap<>(Operacion.class);
+            for (Operacion operacion : operaciones) {
+                propias.put(operacion, new Latencias());
+            }
+            porHilo.add(propias);
+            Thread trabajador = new Thread(() -> {
+                ThreadLocalRandom azar = ThreadLocalRandom.current();
+                long ahora;
+                while ((ahora = System.nanoTime()) < fin) {
+                    int sorteo = azar.nextInt(pesoTotal);
+                    int i = 0;
+                    while (sorteo >= pesosAcumulados[i]) {
+                        i++;
+                    }
+                    HttpRequest solicitud = operaciones[i].solicitud(base, datos, azar);
+                    int estado;
+                    try {
+                        estado = http.send(solicitud, HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (IOException e) {
+                        estado = 0;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    long latencia = System.nanoTime() - ahora;
+                    if (ahora >= inicioMedicion) {
+                        propias.get(operaciones[i]).registrar(latencia, estado);
+                    }
+                }
+            }, "carga-" + h);
+            trabajadores.add(trabajador);
+            trabajador.start();
+        }
+        for (Thread trabajador : trabajadores) {
+            trabajador.join();
+        }
+
+        Map<Operacion, Latencias> combinadas = new EnumMap<>(Operacion.class);
+        for (Operacion operacion : operaciones) {
+            Latencias todas = new Latencias();
+            for (Map<Operacion, Latencias> propias : porHilo) {
+                todas.combinar(propias.get(operacion));
+            }
+            combinadas.put(operacion, todas);
+        }
+        return combinadas;
+    }
+
+    private static Map<String, Object> informe(Map<String, String> opciones, URI base, boolean embebida, int hilos,
+                                               Duration calentamiento, Duration duracion,
+                                               Map<Operacion, Integer> mezcla, DatosCarga datos,
+                                               Map<Operacion, Latencias> resultados) {
+        double segundos = duracion.toNanos() / 1e9;
+        Map<String, Object> informe = new LinkedHashMap<>();
+        informe.put("fecha", LocalDateTime.now().toString());
+        informe.put("etiqueta", opciones.getOrDefault("etiqueta", ""));
+        informe.put("url", base.toString());
+        informe.put("aplicacionEmbebida", embebida);
+        informe.put("java", System.getProperty("java.version"));
+        informe.put("procesadores", Runtime.getRuntime().availableProcessors());
+
+        Map<String, Object> configuracion = new LinkedHashMap<>();
+        configuracion.put("hilos", hilos);
+        configuracion.put("calentamientoSegundos", calentamiento.toSeconds());
+        configuracion.put("duracionSegundos", segundos);
+        Map<String, Integer> pesos = new LinkedHashMap<>();
+        mezcla.forEach((operacion, peso) -> pesos.put(operacion.nombre(), peso));
+        configuracion.put("mezcla", pesos);
+        configuracion.put("cuentas", datos.numeroCuentas());
+        informe.put("configuracion", configuracion);
+
+        long solicitudes = 0;
+        long errores = 0;
+        Map<String, Object> operaciones = new LinkedHashMap<>();
+        for (Map.Entry<Operacion, Latencias> entrada : resultados.entrySet()) {
+            Latencias latencias = entrada.getValue();
+            solicitudes += latencias.cantidad();
+            errores += latencias.errores();
+
+            Map<String, Object> operacion = new LinkedHashMap<>();
+            operacion.put("solicitudes", latencias.cantidad());
+            operacion.put("errores", latencias.errores());
+            operacion.put("solicitudesPorSegundo", redondear(latencias.cantidad() / segundos));
+            Map<String, Object> latenciaMs = new LinkedHashMap<>();
+            latenciaMs.put("media", milisegundos(latencias.media()));
+            for (double p : PERCENTILES) {
+                latenciaMs.put("p" + formatoPercentil(p), milisegundos(latencias.percentil(p)));
+            }
+            latenciaMs.put("max", milisegundos(latencias.percentil(100)));
+            operacion.put("latenciaMs", latenciaMs);
+            Map<String, Long> estados = new LinkedHashMap<>();
+            latencias.estados().forEach((estado, veces) -> estados.put(String.valueOf(estado), veces));
+            operacion.put("estados", estados);
+            operaciones.put(entrada.getKey().nombre(), operacion);
+        }
+
+        Map<String, Object> totales = new LinkedHashMap<>();
+        totales.put("solicitudes", solicitudes);
+        totales.put("errores", errores);
+        totales.put("solicitudesPorSegundo", redondear(solicitudes / segundos));
+        informe.put("total", totales);
+        informe.put("operaciones", operaciones);
+        return informe;
+    }
+
+    private static void imprimir(Map<Operacion, Latencias> resultados, Duration duracion) {
+        double segundos = duracion.toNanos() / 1e9;
+        System.out.printf("%-18s %10s %8s %9s %9s %9s %9s %9s%n",
+                "operacion", "solicitudes", "errores", "sol/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        resultados.forEach((operacion, latencias) -> System.out.printf("%-18s %10d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                operacion.nombre(), latencias.cantidad(), latencias.errores(), latencias.cantidad() / segundos,
+                milisegundos(latencias.percentil(50)), milisegundos(latencias.percentil(95)),
+                milisegundos(latencias.percentil(99)), milisegundos(latencias.percentil(100))));
+    }
+
+    /**
+     * Opciones {@code --clave=valor}: url, hilos, duracion, calentamiento (60s, 2m...), mezcla
+     * (operacion:peso separados por comas), clientes, cuentas-por-cliente, movimientos-por-cuenta,
+     * salida y etiqueta (texto libre para identificar la versión medida).
+     */
+    private static Map<String, String> opciones(String[] args) {
+        Map<String, String> opciones = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            int igual = arg.indexOf('=');
+            if (!arg.startsWith("--") || igual < 0) {
+                throw new IllegalArgumentException("Opción inválida '" + arg + "': se espera --clave=valor");
+            }
+            opciones.put(arg.substring(2, igual), arg.substring(igual + 1));
+        }
+        return opciones;
+    }
+
+    private static Map<Operacion, Integer> mezcla(String texto) {
+        Map<Operacion, Integer> mezcla = new EnumMap<>(Operacion.class);
+        for (String parte : texto.split(",")) {
+            String[] nombreYPeso = parte.trim().split(":");
+            int peso = nombreYPeso.length > 1 ? Integer.parseInt(nombreYPeso[1].trim()) : 1;
+            if (peso > 0) {
+                mezcla.put(Operacion.porNombre(nombreYPeso[0].trim()), peso);
+            }
+        }
+        if (mezcla.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla no tiene operaciones con peso positivo: " + texto);
+        }
+        return mezcla;
+    }
+
+    private static String formatoPercentil(double p) {
+        return p == Math.rint(p) ? String.valueOf((long) p) : String.valueOf(p).replace(".", "");
+    }
+
+    private static double milisegundos(double nanos) {
+        return redondear(nanos / 1e6);
+    }
+
+    private static double redondear(double valor) {
+        return Math.round(valor * 1000) / 1000.0;
+    }
+}
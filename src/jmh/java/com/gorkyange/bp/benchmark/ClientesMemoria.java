@@ -0,0 +1,30 @@
+package com.gorkyange.bp.benchmark;
+
+import com.gorkyange.bp.application.port.in.ObtenerClienteUseCase;
+import com.gorkyange.bp.domain.model.Cliente;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Caso de uso de clientes con un único cliente fijo.
+ */
+class ClientesMemoria implements ObtenerClienteUseCase {
+
+    private final Cliente cliente;
+
+    ClientesMemoria(Cliente cliente) {
+        this.cliente = cliente;
+    }
+
+    @Override
+    public Optional<Cliente> obtenerPorId(Long clienteId) {
+        return cliente.getId().equals(clienteId) ? Optional.of(cliente) : Optional.empty();
+    }
+
+    @Override
+    public List<Cliente> obtenerPorIds(Collection<Long> clienteIds) {
+        return clienteIds.contains(cliente.getId()) ? List.of(cliente) : List.of();
+    }
+}
@@ -0,0 +1,66 @@
+package com.gorkyange.bp.benchmark;
+
+import com.gorkyange.bp.application.port.in.ListarCuentasUseCase;
+import com.gorkyange.bp.application.port.in.ObtenerCuentaUseCase;
+import com.gorkyange.bp.application.service.Paginacion;
+import com.gorkyange.bp.domain.model.Cuenta;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Casos de uso de cuentas respaldados por un mapa, para aislar los servicios
+ * bajo medición de la base de datos.
+ */
+class CuentasMemoria implements ObtenerCuentaUseCase, ListarCuentasUseCase {
+
+    private final Map<String, Cuenta> cuentas = new LinkedHashMap<>();
+
+    CuentasMemoria(List<Cuenta> cuentas) {
+        cuentas.forEach(cuenta -> this.cuentas.put(cuenta.getNumeroCuenta(), cuenta));
+    }
+
+    @Override
+    public Optional<Cuenta> obtenerPorId(Long id) {
+        return cuentas.values().stream().filter(c -> id.equals(c.getId())).findFirst();
+    }
+
+    @Override
+    public Optional<Cuenta> obtenerPorNumeroCuenta(String numeroCuenta) {
+        return Optional.ofNullable(cuentas.get(numeroCuenta));
+    }
+
+    @Override
+    public List<Cuenta> obtenerPorNumerosCuenta(Collection<String> numerosCuenta) {
+        return numerosCuenta.stream()
+                .map(cuentas::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Cuenta> listarTodas() {
+        return new ArrayList<>(cuentas.values());
+    }
+
+    @Override
+    public List<Cuenta> listarPagina(Long despuesDe, Integer limite) {
+        return cuentas.values().stream()
+                .filter(c -> despuesDe == null || c.getId() > despuesDe)
+                .sorted(Comparator.comparing(Cuenta::getId))
+                .limit(Paginacion.limitar(limite))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Cuenta> listarPorCliente(Long clienteId) {
+        return listarTodas();
+    }
+}
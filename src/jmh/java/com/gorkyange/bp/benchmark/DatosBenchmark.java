@@ -0,0 +1,70 @@
+package com.gorkyange.bp.benchmark;
+
+import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.domain.model.Movimiento;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Datos sintéticos de un único cliente con varias cuentas y movimientos
+ * repartidos en el tiempo, usados por los benchmarks en memoria.
+ */
+final class DatosBenchmark {
+
+    static final long CLIENTE_ID = 1L;
+    static final LocalDate FECHA_BASE = LocalDate.of(2026, 1, 1);
+
+    private DatosBenchmark() {
+    }
+
+    static Cliente cliente() {
+        Cliente cliente = new Cliente("Cliente Benchmark", "M", 30, "1700000001",
+                "Quito", "0999999999", CLIENTE_ID, "1234", true);
+        cliente.setId(CLIENTE_ID);
+        return cliente;
+    }
+
+    static String numeroCuenta(int indice) {
+        return String.valueOf(100000 + indice);
+    }
+
+    static List<Cuenta> cuentas(int numeroCuentas) {
+        List<Cuenta> cuentas = new ArrayList<>(numeroCuentas);
+        for (int i = 0; i < numeroCuentas; i++) {
+            Cuenta cuenta = new Cuenta(numeroCuenta(i), i % 2 == 0 ? "Ahorro" : "Corriente",
+                    Dinero.deCentavos(100_000), true, CLIENTE_ID);
+            cuenta.setId((long) i + 1);
+            cuenta.setSaldoActual(cuenta.getSaldoInicial());
+            cuenta.setVersion(0L);
+            cuentas.add(cuenta);
+        }
+        return cuentas;
+    }
+
+    /**
+     * Movimientos ordenados por (cuenta, fecha, id), alternando depósitos y retiros
+     * para que el saldo se mantenga positivo.
+     */
+    static List<Movimiento> movimientos(int numeroCuentas, int numeroMovimientos) {
+        List<Movimiento> movimientos = new ArrayList<>(numeroMovimientos);
+        int porCuenta = Math.max(1, numeroMovimientos / numeroCuentas);
+        long id = 1;
+        for (int c = 0; c < numeroCuentas && movimientos.size() < numeroMovimientos; c++) {
+            long saldo = 100_000;
+            for (int j = 0; j < porCuenta && movimientos.size() < numeroMovimientos; j++) {
+                long valor = j % 2 == 0 ? 2_500 : -1_500;
+                saldo += valor;
+                Movimiento movimiento = new Movimiento(FECHA_BASE.plusDays(j % 365),
+                        valor > 0 ? "Deposito" : "Retiro",
+                        Dinero.deCentavos(valor), Dinero.deCentavos(saldo), numeroCuenta(c));
+                movimiento.setId(id++);
+                movimientos.add(movimiento);
+            }
+        }
+        return movimientos;
+    }
+}
@@ -0,0 +1,55 @@
+package com.gorkyange.bp.benchmark;
+
+import com.gorkyange.bp.application.service.MovimientoService;
+import com.gorkyange.bp.application.service.SerializadorCuentas;
+import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.infrastructure.adapter.out.cache.IdempotenciaCacheAdapter;
+import com.gorkyange.bp.infrastructure.adapter.out.cache.ReporteCacheAdapter;
+import com.gorkyange.bp.infrastructure.adapter.out.cache.SaldoCacheAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listado de movimientos con el enriquecimiento en bloque de cuenta y cliente.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnriquecimientoBenchmark {
+
+    private static final int CUENTAS = 50;
+
+    @Param({"100", "10000"})
+    public int movimientos;
+
+    private MovimientoService servicio;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        servicio = new MovimientoService(
+                new MovimientoRepositorioMemoria(DatosBenchmark.movimientos(CUENTAS, movimientos)),
+                new CuentasMemoria(DatosBenchmark.cuentas(CUENTAS)),
+                new ClientesMemoria(DatosBenchmark.cliente()),
+                new SaldoCacheAdapter(10_000, Duration.ofMinutes(5), new SimpleMeterRegistry()),
+                new ReporteCacheAdapter(32L << 20, Duration.ofMinutes(10), new SimpleMeterRegistry()),
+                new IdempotenciaCacheAdapter(100_000, Duration.ofHours(24)),
+                clave -> Optional.empty(),
+                new SerializadorCuentas(256),
+                10_000,
+                500,
+                3);
+    }
+
+    @Benchmark
+    public List<Movimiento> listarTodosEnriquecidos() {
+        return servicio.listarTodos();
+    }
+}
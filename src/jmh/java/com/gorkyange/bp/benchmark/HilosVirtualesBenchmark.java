@@ -0,0 +1,122 @@
+package com.gorkyange.bp.benchmark;
+
+import com.gorkyange.bp.MainApplication;
+import com.gorkyange.bp.application.port.in.CrearClienteUseCase;
+import com.gorkyange.bp.application.port.in.CrearCuentaUseCase;
+import com.gorkyange.bp.application.port.in.CrearMovimientoUseCase;
+import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.domain.model.Movimiento;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ráfagas de depósitos concurrentes contra el contexto completo, como llegarían a
+ * Tomcat: {@code plataforma} usa un pool de 200 hilos (server.tomcat.threads.max por
+ * defecto) y {@code virtual} un hilo virtual por solicitud. En ambos modos el pool de
+ * Hikari (10 conexiones) es el cuello de botella compartido.
+ * El modo virtual requiere Java 21 (-Pjava21); en Java 17 usar -p modo=plataforma.
+ * Con -prof gc se comparan los bytes asignados por movimiento; para una base de datos
+ * real: -jvmArgsAppend -Dspring.datasource.url=...
+ * Con pocos núcleos el pool de 200 hilos tarda más de un minuto en estabilizarse, de ahí
+ * el calentamiento largo.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 20, time = 5)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HilosVirtualesBenchmark {
+
+    private static final int CUENTAS = 64;
+    private static final int RAFAGA = 200;
+    private static final int HILOS_PLATAFORMA = 200;
+
+    @Param({"plataforma", "virtual"})
+    public String modo;
+
+    private ConfigurableApplicationContext contexto;
+    private CrearMovimientoUseCase crearMovimiento;
+    private String[] numerosCuenta;
+    private Executor ejecutor;
+    private final AtomicInteger siguiente = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        boolean virtual = "virtual".equals(modo);
+        contexto = new SpringApplicationBuilder(MainApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:virtuales;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=10",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+
+        crearMovimiento = contexto.getBean(CrearMovimientoUseCase.class);
+
+        Cliente cliente = DatosBenchmark.cliente();
+        cliente.setId(null);
+        Long clienteId = contexto.getBean(CrearClienteUseCase.class).crear(cliente).getId();
+
+        CrearCuentaUseCase crearCuenta = contexto.getBean(CrearCuentaUseCase.class);
+        List<Cuenta> cuentas = DatosBenchmark.cuentas(CUENTAS);
+        numerosCuenta = new String[CUENTAS];
+        for (int i = 0; i < CUENTAS; i++) {
+            Cuenta cuenta = cuentas.get(i);
+            cuenta.setId(null);
+            cuenta.setClienteId(clienteId);
+            numerosCuenta[i] = crearCuenta.crear(cuenta).getNumeroCuenta();
+        }
+
+        ejecutor = virtual
+                ? new VirtualThreadTaskExecutor("carga-")
+                : Executors.newFixedThreadPool(HILOS_PLATAFORMA);
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        if (ejecutor instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        }
+        contexto.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RAFAGA)
+    public void rafagaDepositos() throws InterruptedException {
+        CountDownLatch pendientes = new CountDownLatch(RAFAGA);
+        for (int i = 0; i < RAFAGA; i++) {
+            ejecutor.execute(() -> {
+                try {
+                    crearMovimiento.crear(deposito());
+                } finally {
+                    pendientes.countDown();
+                }
+            });
+        }
+        pendientes.await();
+    }
+
+    private Movimiento deposito() {
+        Movimiento movimiento = new Movimiento();
+        movimiento.setTipoMovimiento("Deposito");
+        movimiento.setValor(Dinero.deCentavos(100));
+        movimiento.setNumeroCuenta(numerosCuenta[Math.floorMod(siguiente.getAndIncrement(), CUENTAS)]);
+        movimiento.setFecha(DatosBenchmark.FECHA_BASE);
+        return movimiento;
+    }
+}
@@ -0,0 +1,79 @@
+package com.gorkyange.bp.benchmark;
+
+import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.MovimientoRequest;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.MovimientoResponse;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.mapper.MovimientoRestMapper;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.entity.CuentaEntity;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.entity.MovimientoEntity;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.mapper.CuentaMapper;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.mapper.MovimientoMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversión entre DTOs REST, modelo de dominio y entidades JPA.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final MovimientoRestMapper restMapper = new MovimientoRestMapper();
+    private final MovimientoMapper movimientoMapper = new MovimientoMapper();
+    private final CuentaMapper cuentaMapper = new CuentaMapper();
+
+    private Movimiento movimiento;
+    private MovimientoRequest request;
+    private MovimientoEntity movimientoEntity;
+    private CuentaEntity cuentaEntity;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        movimiento = DatosBenchmark.movimientos(1, 1).get(0);
+        movimiento.setNombreCliente("Cliente Benchmark");
+        movimiento.setTipoCuenta("Ahorro");
+        movimiento.setSaldoInicial(Dinero.deCentavos(100_000));
+        movimiento.setEstadoCuenta(true);
+
+        request = new MovimientoRequest();
+        request.setTipoMovimiento("Deposito");
+        request.setValor(Dinero.deCentavos(2_500));
+        request.setNumeroCuenta(DatosBenchmark.numeroCuenta(0));
+
+        movimientoEntity = movimientoMapper.toEntity(movimiento);
+        Cuenta cuenta = DatosBenchmark.cuentas(1).get(0);
+        cuentaEntity = cuentaMapper.toEntity(cuenta);
+    }
+
+    @Benchmark
+    public MovimientoResponse movimientoAResponse() {
+        return restMapper.toResponse(movimiento);
+    }
+
+    @Benchmark
+    public Movimiento requestAMovimiento() {
+        return restMapper.toDomain(request);
+    }
+
+    @Benchmark
+    public MovimientoEntity movimientoAEntidad() {
+        return movimientoMapper.toEntity(movimiento);
+    }
+
+    @Benchmark
+    public Movimiento entidadAMovimiento() {
+        return movimientoMapper.toDomain(movimientoEntity);
+    }
+
+    @Benchmark
+    public Cuenta entidadACuenta() {
+        return cuentaMapper.toDomain(cuentaEntity);
+    }
+}
@@ -0,0 +1,170 @@
+package com.gorkyange.bp.benchmark;
+
+import com.gorkyange.bp.application.port.out.MovimientoRepositoryPort;
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.domain.model.Movimiento;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Repositorio de movimientos en memoria. Las lecturas devuelven una lista precargada;
+ * las escrituras solo asignan id y recuerdan el último movimiento por cuenta, para que
+ * un benchmark de escritura no acumule memoria entre iteraciones. Eliminar quita el
+ * movimiento de ambos.
+ */
+class MovimientoRepositorioMemoria implements MovimientoRepositoryPort {
+
+    private final List<Movimiento> precargados;
+    private final Map<String, Movimiento> ultimos = new ConcurrentHashMap<>();
+    private final AtomicLong secuencia = new AtomicLong(1_000_000);
+
+    MovimientoRepositorioMemoria(List<Movimiento> precargados) {
+        this.precargados = new CopyOnWriteArrayList<>(precargados);
+    }
+
+    @Override
+    public Movimiento guardar(Movimiento movimiento) {
+        if (movimiento.getId() == null) {
+            movimiento.setId(secuencia.incrementAndGet());
+        }
+        ultimos.put(movimiento.getNumeroCuenta(), movimiento);
+        return movimiento;
+    }
+
+    @Override
+    public List<Movimiento> guardarTodos(List<Movimiento> movimientos) {
+        movimientos.forEach(this::guardar);
+        return movimientos;
+    }
+
+    @Override
+    public List<Movimiento> guardarConSaldo(String numeroCuenta, long versionEsperada, List<Movimiento> movimientos) {
+        return guardarTodos(movimientos);
+    }
+
+    @Override
+    public Movimiento guardarConSaldo(String numeroCuenta, long versionEsperada, Movimiento movimiento,
+                                      String claveIdempotencia, String huella) {
+        return guardar(movimiento);
+    }
+
+    @Override
+    public Optional<Movimiento> buscarPorId(Long id) {
+        return precargados.stream().filter(m -> id.equals(m.getId())).findFirst();
+    }
+
+    @Override
+    public List<Movimiento> buscarTodos() {
+        return new ArrayList<>(precargados);
+    }
+
+    @Override
+    public List<Movimiento> buscarPagina(Long despuesDe, int limite) {
+        return precargados.stream()
+                .filter(m -> despuesDe == null || m.getId() > despuesDe)
+                .limit(limite)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Movimiento> buscarPaginaPorCuenta(String numeroCuenta, Long despuesDe, int limite) {
+        return buscarPorCuenta(numeroCuenta).stream()
+                .filter(m -> despuesDe == null || m.getId() > despuesDe)
+                .limit(limite)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Movimiento> buscarPaginaPorFechas(LocalDate fechaInicio, LocalDate fechaFin, Long despuesDe,
+                                                  int limite) {
+        return buscarPorFechas(fechaInicio, fechaFin).stream()
+                .filter(m -> despuesDe == null || m.getId() > despuesDe)
+                .limit(limite)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Movimiento> buscarPorCuenta(String numeroCuenta) {
+        return precargados.stream()
+                .filter(m -> numeroCuenta.equals(m.getNumeroCuenta()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Movimiento> buscarPorFechas(LocalDate fechaInicio, LocalDate fechaFin) {
+        return precargados.stream()
+                .filter(m -> !m.getFecha().isBefore(fechaInicio) && !m.getFecha().isAfter(fechaFin))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void recorrerPorFechas(LocalDate fechaInicio, LocalDate fechaFin, Consumer<Movimiento> consumidor) {
+        buscarPorFechas(fechaInicio, fechaFin).forEach(consumidor);
+    }
+
+    @Override
+    public List<Movimiento> buscarPorClienteYFechas(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin) {
+        return buscarPorFechas(fechaInicio, fechaFin);
+    }
+
+    @Override
+    public List<Movimiento> buscarPorClienteYFechasAgrupadoPorCuenta(Long clienteId, LocalDate fechaInicio,
+                                                                    LocalDate fechaFin) {
+        // Los datos precargados ya están ordenados por (cuenta, fecha, id) y son de un único cliente
+        return buscarPorFechas(fechaInicio, fechaFin);
+    }
+
+    @Override
+    public Optional<Movimiento> buscarUltimoPorCuenta(String numeroCuenta) {
+        return Optional.ofNullable(ultimos.get(numeroCuenta));
+    }
+
+    @Override
+    public int contarPorCuenta(String numeroCuenta) {
+        return buscarPorCuenta(numeroCuenta).size();
+    }
+
+    @Override
+    public Dinero saldoMinimoConCambio(String numeroCuenta, LocalDate desde, Long id, LocalDate fecha, Dinero valor) {
+        List<Movimiento> cuenta = buscarPorCuenta(numeroCuenta).stream()
+                .sorted(Comparator.comparing(Movimiento::getFecha).thenComparing(Movimiento::getId))
+                .collect(Collectors.toList());
+        // Sin saldo inicial a mano, la base es el saldo previo al primer movimiento de la cuenta
+        Dinero saldo = cuenta.isEmpty() ? Dinero.CERO : cuenta.get(0).getSaldo().restar(cuenta.get(0).getValor());
+        List<Movimiento> tramo = new ArrayList<>();
+        for (Movimiento m : cuenta) {
+            if (m.getFecha().isBefore(desde)) {
+                saldo = saldo.sumar(id.equals(m.getId()) ? Dinero.CERO : m.getValor());
+            } else if (!id.equals(m.getId())) {
+                tramo.add(m);
+            }
+        }
+        Movimiento cambiado = new Movimiento(fecha, null, valor, null, numeroCuenta);
+        cambiado.setId(id);
+        tramo.add(cambiado);
+        tramo.sort(Comparator.comparing(Movimiento::getFecha).thenComparing(Movimiento::getId));
+
+        Dinero minimo = null;
+        for (Movimiento m : tramo) {
+            saldo = saldo.sumar(m.getValor());
+            minimo = minimo == null || saldo.compareTo(minimo) < 0 ? saldo : minimo;
+        }
+        return minimo;
+    }
+
+    @Override
+    public void eliminar(Long id) {
+        precargados.removeIf(m -> id.equals(m.getId()));
+        ultimos.values().removeIf(m -> id.equals(m.getId()));
+    }
+}
@@ -0,0 +1,85 @@
+package com.gorkyange.bp.benchmark;
+
+import com.gorkyange.bp.application.service.MovimientoService;
+import com.gorkyange.bp.application.service.SerializadorCuentas;
+import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.infrastructure.adapter.out.cache.IdempotenciaCacheAdapter;
+import com.gorkyange.bp.infrastructure.adapter.out.cache.ReporteCacheAdapter;
+import com.gorkyange.bp.infrastructure.adapter.out.cache.SaldoCacheAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registro de movimientos con puertos en memoria. {@code cuentasDistintas} controla
+ * cuántas cuentas reciben los depósitos: con una sola cuenta todos los hilos compiten
+ * por el mismo lock, con muchas el throughput debería escalar con los hilos.
+ * Con {@code -prof gc}, gc.alloc.rate.norm da los bytes asignados por movimiento.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MovimientoServiceBenchmark {
+
+    private static final Dinero VALOR_DEPOSITO = Dinero.deCentavos(100);
+
+    @Param({"1", "16", "256"})
+    public int cuentasDistintas;
+
+    private MovimientoService servicio;
+    private String[] numerosCuenta;
+
+    @State(Scope.Thread)
+    public static class Hilo {
+        int siguiente = ThreadLocalRandom.current().nextInt(1 << 16);
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        List<Cuenta> cuentas = DatosBenchmark.cuentas(cuentasDistintas);
+        numerosCuenta = cuentas.stream().map(Cuenta::getNumeroCuenta).toArray(String[]::new);
+        servicio = new MovimientoService(
+                new MovimientoRepositorioMemoria(List.of()),
+                new CuentasMemoria(cuentas),
+                new ClientesMemoria(DatosBenchmark.cliente()),
+                new SaldoCacheAdapter(10_000, Duration.ofMinutes(5), new SimpleMeterRegistry()),
+                new ReporteCacheAdapter(32L << 20, Duration.ofMinutes(10), new SimpleMeterRegistry()),
+                new IdempotenciaCacheAdapter(100_000, Duration.ofHours(24)),
+                clave -> Optional.empty(),
+                new SerializadorCuentas(256),
+                10_000,
+                500,
+                3);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Movimiento crearUnHilo(Hilo hilo) {
+        return servicio.crear(deposito(hilo));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Movimiento crearOchoHilos(Hilo hilo) {
+        return servicio.crear(deposito(hilo));
+    }
+
+    private Movimiento deposito(Hilo hilo) {
+        Movimiento movimiento = new Movimiento();
+        movimiento.setTipoMovimiento("Deposito");
+        movimiento.setValor(VALOR_DEPOSITO);
+        movimiento.setNumeroCuenta(numerosCuenta[hilo.siguiente++ % numerosCuenta.length]);
+        movimiento.setFecha(DatosBenchmark.FECHA_BASE);
+        return movimiento;
+    }
+}
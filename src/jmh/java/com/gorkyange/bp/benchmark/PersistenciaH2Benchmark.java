@@ -0,0 +1,108 @@
+package com.gorkyange.bp.benchmark;
+
+import com.gorkyange.bp.MainApplication;
+import com.gorkyange.bp.application.port.in.CrearClienteUseCase;
+import com.gorkyange.bp.application.port.in.CrearCuentaUseCase;
+import com.gorkyange.bp.application.port.in.CrearMovimientoUseCase;
+import com.gorkyange.bp.application.port.in.CrearMovimientosLoteUseCase;
+import com.gorkyange.bp.application.port.in.GenerarReporteUseCase;
+import com.gorkyange.bp.application.port.in.ListarMovimientosUseCase;
+import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Los mismos casos de uso contra el contexto Spring completo y H2 en memoria,
+ * incluyendo JPA, transacciones y el driver JDBC.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistenciaH2Benchmark {
+
+    private static final int CUENTAS = 16;
+    private static final int MOVIMIENTOS_INICIALES = 2_000;
+
+    private ConfigurableApplicationContext contexto;
+    private CrearMovimientoUseCase crearMovimiento;
+    private ListarMovimientosUseCase listarMovimientos;
+    private GenerarReporteUseCase generarReporte;
+    private Long clienteId;
+    private String[] numerosCuenta;
+    private int siguiente;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        contexto = new SpringApplicationBuilder(MainApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN");
+
+        crearMovimiento = contexto.getBean(CrearMovimientoUseCase.class);
+        listarMovimientos = contexto.getBean(ListarMovimientosUseCase.class);
+        generarReporte = contexto.getBean(GenerarReporteUseCase.class);
+
+        Cliente cliente = DatosBenchmark.cliente();
+        cliente.setId(null);
+        clienteId = contexto.getBean(CrearClienteUseCase.class).crear(cliente).getId();
+
+        CrearCuentaUseCase crearCuenta = contexto.getBean(CrearCuentaUseCase.class);
+        List<Cuenta> cuentas = DatosBenchmark.cuentas(CUENTAS);
+        numerosCuenta = new String[CUENTAS];
+        for (int i = 0; i < CUENTAS; i++) {
+            Cuenta cuenta = cuentas.get(i);
+            cuenta.setId(null);
+            cuenta.setClienteId(clienteId);
+            numerosCuenta[i] = crearCuenta.crear(cuenta).getNumeroCuenta();
+        }
+
+        List<Movimiento> iniciales = new ArrayList<>(MOVIMIENTOS_INICIALES);
+        for (Movimiento movimiento : DatosBenchmark.movimientos(CUENTAS, MOVIMIENTOS_INICIALES)) {
+            movimiento.setId(null);
+            movimiento.setSaldo(null);
+            iniciales.add(movimiento);
+        }
+        contexto.getBean(CrearMovimientosLoteUseCase.class).crearLote(iniciales);
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrar() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public Movimiento crear() {
+        Movimiento movimiento = new Movimiento();
+        movimiento.setTipoMovimiento("Deposito");
+        movimiento.setValor(Dinero.deCentavos(100));
+        movimiento.setNumeroCuenta(numerosCuenta[siguiente++ % CUENTAS]);
+        movimiento.setFecha(DatosBenchmark.FECHA_BASE);
+        return crearMovimiento.crear(movimiento);
+    }
+
+    @Benchmark
+    public List<Movimiento> listarPagina() {
+        return listarMovimientos.listarPagina(null, 50);
+    }
+
+    @Benchmark
+    public ReporteEstadoCuentaResponse generarReporte() {
+        return generarReporte.generarReporte(clienteId, DatosBenchmark.FECHA_BASE, LocalDate.of(2026, 3, 31));
+    }
+}
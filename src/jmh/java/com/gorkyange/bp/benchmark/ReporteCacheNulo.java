@@ -0,0 +1,44 @@
+package com.gorkyange.bp.benchmark;
+
+import com.gorkyange.bp.application.port.out.ReporteCachePort;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Caché de reportes que nunca retiene nada, para medir la generación completa.
+ */
+class ReporteCacheNulo implements ReporteCachePort {
+
+    @Override
+    public long generacion(Long clienteId) {
+        return 0;
+    }
+
+    @Override
+    public Optional<ReporteEstadoCuentaResponse> obtener(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void guardar(ReporteEstadoCuentaResponse reporte, long generacion) {
+    }
+
+    @Override
+    public Optional<byte[]> obtenerPdf(ReporteEstadoCuentaResponse reporte) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void guardarPdf(ReporteEstadoCuentaResponse reporte, byte[] pdf) {
+    }
+
+    @Override
+    public void invalidar(Long clienteId, LocalDate fecha) {
+    }
+
+    @Override
+    public void invalidarCliente(Long clienteId) {
+    }
+}
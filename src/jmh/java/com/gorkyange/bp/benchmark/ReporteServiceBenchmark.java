@@ -0,0 +1,70 @@
+package com.gorkyange.bp.benchmark;
+
+import com.gorkyange.bp.application.service.ReporteService;
+import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse;
+import com.gorkyange.bp.infrastructure.adapter.out.cache.ReporteCacheAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estado de cuenta en JSON (armado del reporte), PDF en streaming y PDF en base64.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReporteServiceBenchmark {
+
+    private static final int CUENTAS = 8;
+    private static final LocalDate FECHA_FIN = DatosBenchmark.FECHA_BASE.plusYears(1);
+
+    @Param({"100", "5000"})
+    public int movimientos;
+
+    // Con caché, las iteraciones repetidas sobre el mismo rango miden el acierto
+    @Param({"false", "true"})
+    public boolean cache;
+
+    private ReporteService servicio;
+    private ReporteEstadoCuentaResponse reporte;
+
+    @Setup(Level.Trial)
+    public void preparar() {
+        List<Cuenta> datosCuentas = DatosBenchmark.cuentas(CUENTAS);
+        List<Movimiento> datosMovimientos = DatosBenchmark.movimientos(CUENTAS, movimientos);
+        servicio = new ReporteService(
+                new ClientesMemoria(DatosBenchmark.cliente()),
+                new CuentasMemoria(datosCuentas),
+                new MovimientoRepositorioMemoria(datosMovimientos),
+                new SaldosDiariosMemoria(datosCuentas, datosMovimientos),
+                cache ? new ReporteCacheAdapter(32L << 20, Duration.ofMinutes(10), new SimpleMeterRegistry())
+                      : new ReporteCacheNulo(),
+                2 << 20);
+        reporte = generarReporte();
+    }
+
+    @Benchmark
+    public ReporteEstadoCuentaResponse generarReporte() {
+        return servicio.generarReporte(DatosBenchmark.CLIENTE_ID, DatosBenchmark.FECHA_BASE, FECHA_FIN);
+    }
+
+    @Benchmark
+    public void escribirReportePdf() {
+        servicio.escribirReportePdf(reporte, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public String generarReportePdfBase64() {
+        return servicio.generarReportePdf(DatosBenchmark.CLIENTE_ID, DatosBenchmark.FECHA_BASE, FECHA_FIN);
+    }
+}
@@ -0,0 +1,58 @@
+package com.gorkyange.bp.benchmark;
+
+import com.gorkyange.bp.application.port.out.SaldoDiarioRepositoryPort;
+import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.domain.model.SaldoDiario;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Saldos diarios calculados una vez a partir de los movimientos de prueba,
+ * con la búsqueda del último día por cuenta en un TreeMap.
+ */
+class SaldosDiariosMemoria implements SaldoDiarioRepositoryPort {
+
+    private final Map<String, TreeMap<LocalDate, SaldoDiario>> porCuenta = new HashMap<>();
+
+    SaldosDiariosMemoria(List<Cuenta> cuentas, List<Movimiento> movimientos) {
+        Map<String, TreeMap<LocalDate, Long>> netos = new HashMap<>();
+        for (Movimiento m : movimientos) {
+            netos.computeIfAbsent(m.getNumeroCuenta(), k -> new TreeMap<>())
+                    .merge(m.getFecha(), m.getValor().getCentavos(), Long::sum);
+        }
+        for (Cuenta cuenta : cuentas) {
+            TreeMap<LocalDate, SaldoDiario> dias = new TreeMap<>();
+            long saldo = cuenta.getSaldoInicial().getCentavos();
+            for (Map.Entry<LocalDate, Long> dia : netos.getOrDefault(cuenta.getNumeroCuenta(), new TreeMap<>()).entrySet()) {
+                saldo += dia.getValue();
+                dias.put(dia.getKey(), new SaldoDiario(cuenta.getNumeroCuenta(), dia.getKey(),
+                        Dinero.deCentavos(saldo), Dinero.CERO, Dinero.CERO, 0));
+            }
+            porCuenta.put(cuenta.getNumeroCuenta(), dias);
+        }
+    }
+
+    @Override
+    public Optional<SaldoDiario> buscarUltimoHasta(String numeroCuenta, LocalDate fecha) {
+        TreeMap<LocalDate, SaldoDiario> dias = porCuenta.get(numeroCuenta);
+        return dias == null ? Optional.empty() : Optional.ofNullable(dias.floorEntry(fecha)).map(Map.Entry::getValue);
+    }
+
+    @Override
+    public List<SaldoDiario> buscarUltimosHasta(Collection<String> numerosCuenta, LocalDate fecha) {
+        return numerosCuenta.stream()
+                .map(numero -> buscarUltimoHasta(numero, fecha).orElse(null))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,8 @@
+package com.gorkyange.bp.application.port.in;
+
+import com.gorkyange.bp.domain.model.Dinero;
+import java.time.LocalDate;
+
+public interface ConsultarSaldoUseCase {
+    Dinero obtenerSaldoAl(String numeroCuenta, LocalDate fecha);
+}
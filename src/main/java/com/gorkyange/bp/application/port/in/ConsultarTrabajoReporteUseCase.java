@@ -0,0 +1,5 @@
+package com.gorkyange.bp.application.port.in;
+
+public interface ConsultarTrabajoReporteUseCase {
+    TrabajoReporte obtenerTrabajo(String id);
+}
@@ -0,0 +1,9 @@
+package com.gorkyange.bp.application.port.in;
+
+import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.domain.model.ResultadoClienteLote;
+import java.util.List;
+
+public interface CrearClientesLoteUseCase {
+    List<ResultadoClienteLote> crearLote(List<Cliente> clientes);
+}
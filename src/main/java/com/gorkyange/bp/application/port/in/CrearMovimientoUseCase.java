@@ -4,4 +4,10 @@ import com.gorkyange.bp.domain.model.Movimiento;
 
 public interface CrearMovimientoUseCase {
     Movimiento crear(Movimiento movimiento);
+
+    /**
+     * Igual que {@link #crear(Movimiento)}, pero una repetición con la misma clave devuelve
+     * el movimiento creado la primera vez en lugar de registrar otro.
+     */
+    Movimiento crear(Movimiento movimiento, String claveIdempotencia);
 }
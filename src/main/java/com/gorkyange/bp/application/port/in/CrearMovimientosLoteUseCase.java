@@ -0,0 +1,9 @@
+package com.gorkyange.bp.application.port.in;
+
+import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.domain.model.ResultadoMovimientoLote;
+import java.util.List;
+
+public interface CrearMovimientosLoteUseCase {
+    List<ResultadoMovimientoLote> crearLote(List<Movimiento> movimientos);
+}
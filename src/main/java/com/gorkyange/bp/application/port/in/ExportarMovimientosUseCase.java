@@ -0,0 +1,9 @@
+package com.gorkyange.bp.application.port.in;
+
+import com.gorkyange.bp.domain.model.Movimiento;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+public interface ExportarMovimientosUseCase {
+    void exportarPorFechas(LocalDate fechaInicio, LocalDate fechaFin, Consumer<Movimiento> consumidor);
+}
@@ -5,4 +5,5 @@ import java.util.List;
 
 public interface ListarClientesUseCase {
     List<Cliente> listarTodos();
+    List<Cliente> listarPagina(Long despuesDe, Integer limite);
 }
@@ -5,5 +5,6 @@ import java.util.List;
 
 public interface ListarCuentasUseCase {
     List<Cuenta> listarTodas();
+    List<Cuenta> listarPagina(Long despuesDe, Integer limite);
     List<Cuenta> listarPorCliente(Long clienteId);
 }
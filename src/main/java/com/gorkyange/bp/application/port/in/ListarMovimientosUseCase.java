@@ -6,6 +6,9 @@ import java.util.List;
 
 public interface ListarMovimientosUseCase {
     List<Movimiento> listarTodos();
+    List<Movimiento> listarPagina(Long despuesDe, Integer limite);
+    List<Movimiento> listarPaginaPorCuenta(String numeroCuenta, Long despuesDe, Integer limite);
+    List<Movimiento> listarPaginaPorFechas(LocalDate fechaInicio, LocalDate fechaFin, Long despuesDe, Integer limite);
     List<Movimiento> listarPorCuenta(String numeroCuenta);
     List<Movimiento> listarPorFechas(LocalDate fechaInicio, LocalDate fechaFin);
     List<Movimiento> listarPorClienteYFechas(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin);
@@ -1,8 +1,11 @@
 package com.gorkyange.bp.application.port.in;
 
 import com.gorkyange.bp.domain.model.Cliente;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ObtenerClienteUseCase {
     Optional<Cliente> obtenerPorId(Long clienteId);
+    List<Cliente> obtenerPorIds(Collection<Long> clienteIds);
 }
@@ -0,0 +1,7 @@
+package com.gorkyange.bp.application.port.in;
+
+import java.time.LocalDate;
+
+public interface SolicitarReporteUseCase {
+    TrabajoReporte solicitarReporte(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin, String formato);
+}
@@ -0,0 +1,128 @@
+package com.gorkyange.bp.application.port.in;
+
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Estado de un reporte solicitado en segundo plano. Es inmutable: cada cambio de
+ * estado produce una copia que reemplaza a la anterior en el repositorio de trabajos.
+ */
+public class TrabajoReporte {
+
+    public enum Estado {
+        PENDIENTE, EN_PROCESO, COMPLETADO, FALLIDO, RESULTADO_EXPIRADO
+    }
+
+    private final String id;
+    private final Long clienteId;
+    private final LocalDate fechaInicio;
+    private final LocalDate fechaFin;
+    private final String formato;
+    private final Estado estado;
+    private final LocalDateTime fechaSolicitud;
+    private final LocalDateTime fechaFinalizacion;
+    private final String error;
+    private final ReporteEstadoCuentaResponse reporte;
+    private final byte[] pdf;
+
+    private TrabajoReporte(String id, Long clienteId, LocalDate fechaInicio, LocalDate fechaFin,
+                           String formato, Estado estado, LocalDateTime fechaSolicitud,
+                           LocalDateTime fechaFinalizacion, String error,
+                           ReporteEstadoCuentaResponse reporte, byte[] pdf) {
+        this.id = id;
+        this.clienteId = clienteId;
+        this.fechaInicio = fechaInicio;
+        this.fechaFin = fechaFin;
+        this.formato = formato;
+        this.estado = estado;
+        this.fechaSolicitud = fechaSolicitud;
+        this.fechaFinalizacion = fechaFinalizacion;
+        this.error = error;
+        this.reporte = reporte;
+        this.pdf = pdf;
+    }
+
+    public static TrabajoReporte pendiente(String id, Long clienteId, LocalDate fechaInicio,
+                                           LocalDate fechaFin, String formato) {
+        return new TrabajoReporte(id, clienteId, fechaInicio, fechaFin, formato,
+                Estado.PENDIENTE, LocalDateTime.now(), null, null, null, null);
+    }
+
+    public TrabajoReporte enProceso() {
+        return new TrabajoReporte(id, clienteId, fechaInicio, fechaFin, formato,
+                Estado.EN_PROCESO, fechaSolicitud, null, null, null, null);
+    }
+
+    public TrabajoReporte completado(ReporteEstadoCuentaResponse reporte, byte[] pdf) {
+        return new TrabajoReporte(id, clienteId, fechaInicio, fechaFin, formato,
+                Estado.COMPLETADO, fechaSolicitud, LocalDateTime.now(), null, reporte, pdf);
+    }
+
+    public TrabajoReporte fallido(String error) {
+        return new TrabajoReporte(id, clienteId, fechaInicio, fechaFin, formato,
+                Estado.FALLIDO, fechaSolicitud, LocalDateTime.now(), error, null, null);
+    }
+
+    /**
+     * El mismo trabajo sin el reporte ni el PDF, para conservar su estado aparte del resultado.
+     */
+    public TrabajoReporte sinResultado() {
+        return new TrabajoReporte(id, clienteId, fechaInicio, fechaFin, formato,
+                estado, fechaSolicitud, fechaFinalizacion, error, null, null);
+    }
+
+    public TrabajoReporte resultadoExpirado() {
+        return new TrabajoReporte(id, clienteId, fechaInicio, fechaFin, formato,
+                Estado.RESULTADO_EXPIRADO, fechaSolicitud, fechaFinalizacion, null, null, null);
+    }
+
+    public boolean esPdf() {
+        return "pdf".equals(formato);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getClienteId() {
+        return clienteId;
+    }
+
+    public LocalDate getFechaInicio() {
+        return fechaInicio;
+    }
+
+    public LocalDate getFechaFin() {
+        return fechaFin;
+    }
+
+    public String getFormato() {
+        return formato;
+    }
+
+    public Estado getEstado() {
+        return estado;
+    }
+
+    public LocalDateTime getFechaSolicitud() {
+        return fechaSolicitud;
+    }
+
+    public LocalDateTime getFechaFinalizacion() {
+        return fechaFinalizacion;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public ReporteEstadoCuentaResponse getReporte() {
+        return reporte;
+    }
+
+    public byte[] getPdf() {
+        return pdf;
+    }
+}
@@ -1,14 +1,20 @@
 package com.gorkyange.bp.application.port.out;
 
 import com.gorkyange.bp.domain.model.Cliente;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ClienteRepositoryPort {
     Cliente guardar(Cliente cliente);
+    List<Cliente> guardarTodos(List<Cliente> clientes);
     Optional<Cliente> buscarPorId(Long clienteId);
+    List<Cliente> buscarPorIds(Collection<Long> clienteIds);
     List<Cliente> buscarTodos();
+    List<Cliente> buscarPagina(Long despuesDe, int limite);
     void eliminar(Long clienteId);
     boolean existePorId(Long clienteId);
     boolean existePorIdentificacion(String identificacion);
+    Set<String> buscarIdentificacionesExistentes(Collection<String> identificaciones);
 }
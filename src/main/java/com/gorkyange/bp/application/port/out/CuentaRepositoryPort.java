@@ -1,6 +1,7 @@
 package com.gorkyange.bp.application.port.out;
 
 import com.gorkyange.bp.domain.model.Cuenta;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,7 +9,9 @@ public interface CuentaRepositoryPort {
     Cuenta guardar(Cuenta cuenta);
     Optional<Cuenta> buscarPorId(Long id);
     Optional<Cuenta> buscarPorNumeroCuenta(String numeroCuenta);
+    List<Cuenta> buscarPorNumerosCuenta(Collection<String> numerosCuenta);
     List<Cuenta> buscarTodas();
+    List<Cuenta> buscarPagina(Long despuesDe, int limite);
     List<Cuenta> buscarPorCliente(Long clienteId);
     void eliminar(Long id);
     boolean existePorId(Long id);
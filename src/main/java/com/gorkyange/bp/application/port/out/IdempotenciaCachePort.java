@@ -0,0 +1,9 @@
+package com.gorkyange.bp.application.port.out;
+
+import com.gorkyange.bp.domain.model.RegistroIdempotencia;
+import java.util.Optional;
+
+public interface IdempotenciaCachePort {
+    Optional<RegistroIdempotencia> obtener(String clave);
+    void guardar(RegistroIdempotencia registro);
+}
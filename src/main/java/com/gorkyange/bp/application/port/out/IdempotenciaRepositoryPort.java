@@ -0,0 +1,8 @@
+package com.gorkyange.bp.application.port.out;
+
+import com.gorkyange.bp.domain.model.RegistroIdempotencia;
+import java.util.Optional;
+
+public interface IdempotenciaRepositoryPort {
+    Optional<RegistroIdempotencia> buscar(String clave);
+}
@@ -1,17 +1,48 @@
 package com.gorkyange.bp.application.port.out;
 
+import com.gorkyange.bp.domain.model.Dinero;
 import com.gorkyange.bp.domain.model.Movimiento;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface MovimientoRepositoryPort {
     Movimiento guardar(Movimiento movimiento);
+    List<Movimiento> guardarTodos(List<Movimiento> movimientos);
+
+    /**
+     * Inserta los movimientos de una cuenta y avanza su saldo vigente en la misma transacción,
+     * solo si la versión del saldo sigue siendo {@code versionEsperada}. Si otra operación lo
+     * modificó, no se inserta nada y se lanza ConflictoSaldoException.
+     */
+    List<Movimiento> guardarConSaldo(String numeroCuenta, long versionEsperada, List<Movimiento> movimientos);
+
+    /**
+     * Como {@link #guardarConSaldo(String, long, List)} para un solo movimiento, registrando
+     * además la clave de idempotencia y la respuesta en la misma transacción. Si otra
+     * operación registró la clave primero, no se inserta nada y se lanza
+     * ClaveIdempotenciaEnUsoException.
+     */
+    Movimiento guardarConSaldo(String numeroCuenta, long versionEsperada, Movimiento movimiento,
+                               String claveIdempotencia, String huella);
+
+    /**
+     * Saldo mínimo que tendría la cuenta desde {@code desde}, en orden (fecha, id), si el
+     * movimiento {@code id} quedara en ella con esa fecha y ese valor. Con valor cero equivale
+     * a sacar el movimiento de la cuenta.
+     */
+    Dinero saldoMinimoConCambio(String numeroCuenta, LocalDate desde, Long id, LocalDate fecha, Dinero valor);
     Optional<Movimiento> buscarPorId(Long id);
     List<Movimiento> buscarTodos();
+    List<Movimiento> buscarPagina(Long despuesDe, int limite);
+    List<Movimiento> buscarPaginaPorCuenta(String numeroCuenta, Long despuesDe, int limite);
+    List<Movimiento> buscarPaginaPorFechas(LocalDate fechaInicio, LocalDate fechaFin, Long despuesDe, int limite);
     List<Movimiento> buscarPorCuenta(String numeroCuenta);
     List<Movimiento> buscarPorFechas(LocalDate fechaInicio, LocalDate fechaFin);
+    void recorrerPorFechas(LocalDate fechaInicio, LocalDate fechaFin, Consumer<Movimiento> consumidor);
     List<Movimiento> buscarPorClienteYFechas(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin);
+    List<Movimiento> buscarPorClienteYFechasAgrupadoPorCuenta(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin);
     Optional<Movimiento> buscarUltimoPorCuenta(String numeroCuenta);
     int contarPorCuenta(String numeroCuenta);
     void eliminar(Long id);
@@ -0,0 +1,37 @@
+package com.gorkyange.bp.application.port.out;
+
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Caché de estados de cuenta por (cliente, fechaInicio, fechaFin) y del PDF generado
+ * a partir de cada uno.
+ */
+public interface ReporteCachePort {
+
+    /**
+     * Generación actual de los reportes del cliente. Se lee antes de consultar los datos
+     * y se entrega al guardar: si hubo una invalidación entre medias, el reporte no queda en caché.
+     */
+    long generacion(Long clienteId);
+
+    Optional<ReporteEstadoCuentaResponse> obtener(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin);
+
+    void guardar(ReporteEstadoCuentaResponse reporte, long generacion);
+
+    /**
+     * PDF del reporte, solo si se generó a partir de esa misma instancia en caché.
+     */
+    Optional<byte[]> obtenerPdf(ReporteEstadoCuentaResponse reporte);
+
+    void guardarPdf(ReporteEstadoCuentaResponse reporte, byte[] pdf);
+
+    /**
+     * Descarta los reportes del cliente afectados por un movimiento en esa fecha: los que
+     * terminan en o después de ella (el movimiento cambia su detalle o su saldo de apertura).
+     */
+    void invalidar(Long clienteId, LocalDate fecha);
+
+    void invalidarCliente(Long clienteId);
+}
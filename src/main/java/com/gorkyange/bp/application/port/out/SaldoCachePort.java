@@ -0,0 +1,12 @@
+package com.gorkyange.bp.application.port.out;
+
+import com.gorkyange.bp.domain.model.SaldoCuenta;
+import java.util.Optional;
+
+public interface SaldoCachePort {
+    Optional<SaldoCuenta> obtener(String numeroCuenta);
+    void actualizar(SaldoCuenta saldoCuenta);
+    // Para lecturas hechas fuera del lock de la cuenta: no pisa un saldo con versión más nueva
+    void actualizarSiMasReciente(SaldoCuenta saldoCuenta);
+    void invalidar(String numeroCuenta);
+}
@@ -0,0 +1,16 @@
+package com.gorkyange.bp.application.port.out;
+
+import com.gorkyange.bp.domain.model.SaldoDiario;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lectura de los saldos diarios. Las fotos se mantienen en la misma transacción
+ * que cada escritura de movimientos; aquí solo se consultan.
+ */
+public interface SaldoDiarioRepositoryPort {
+    Optional<SaldoDiario> buscarUltimoHasta(String numeroCuenta, LocalDate fecha);
+    List<SaldoDiario> buscarUltimosHasta(Collection<String> numerosCuenta, LocalDate fecha);
+}
@@ -0,0 +1,10 @@
+package com.gorkyange.bp.application.port.out;
+
+import com.gorkyange.bp.application.port.in.TrabajoReporte;
+import java.util.Optional;
+
+public interface TrabajoReporteRepositoryPort {
+    void guardar(TrabajoReporte trabajo);
+    Optional<TrabajoReporte> buscarPorId(String id);
+    void eliminar(String id);
+}
@@ -3,23 +3,46 @@ package com.gorkyange.bp.application.service;
 import com.gorkyange.bp.application.port.in.*;
 import com.gorkyange.bp.application.port.out.ClienteRepositoryPort;
 import com.gorkyange.bp.application.port.out.CuentaRepositoryPort;
+import com.gorkyange.bp.application.port.out.ReporteCachePort;
 import com.gorkyange.bp.domain.exception.*;
 import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.domain.model.ResultadoClienteLote;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
-public class ClienteService implements CrearClienteUseCase, ActualizarClienteUseCase,
+public class ClienteService implements CrearClienteUseCase, CrearClientesLoteUseCase, ActualizarClienteUseCase,
         ObtenerClienteUseCase, ListarClientesUseCase, EliminarClienteUseCase {
 
+    private static final Logger log = LoggerFactory.getLogger(ClienteService.class);
+    private static final String ERROR_REGISTRO_LOTE = "No se pudo registrar el cliente; intente nuevamente";
+
     private final ClienteRepositoryPort clienteRepository;
     private final CuentaRepositoryPort cuentaRepository;
+    private final ReporteCachePort reporteCache;
+    private final int tamanoMaximoLote;
+    private final int tamanoCommitLote;
 
-    public ClienteService(ClienteRepositoryPort clienteRepository, CuentaRepositoryPort cuentaRepository) {
+    public ClienteService(ClienteRepositoryPort clienteRepository, CuentaRepositoryPort cuentaRepository,
+                          ReporteCachePort reporteCache,
+                          @Value("${bp.clientes.lote.tamano-maximo:10000}") int tamanoMaximoLote,
+                          @Value("${bp.clientes.lote.tamano-commit:500}") int tamanoCommitLote) {
         this.clienteRepository = clienteRepository;
         this.cuentaRepository = cuentaRepository;
+        this.reporteCache = reporteCache;
+        this.tamanoMaximoLote = tamanoMaximoLote;
+        this.tamanoCommitLote = tamanoCommitLote;
     }
 
     @Override
@@ -35,13 +58,106 @@ public class ClienteService implements CrearClienteUseCase, ActualizarClienteUse
         return clienteRepository.guardar(cliente);
     }
 
+    @Override
+    public List<ResultadoClienteLote> crearLote(List<Cliente> clientes) {
+        if (clientes == null || clientes.isEmpty()) {
+            throw DatosInvalidosException.loteVacio();
+        }
+        if (clientes.size() > tamanoMaximoLote) {
+            throw DatosInvalidosException.loteExcedeMaximo(clientes.size(), tamanoMaximoLote);
+        }
+
+        ResultadoClienteLote[] resultados = new ResultadoClienteLote[clientes.size()];
+
+        // Validación en memoria, incluidas identificaciones y clienteId repetidos dentro del lote
+        Map<String, Integer> indicePorIdentificacion = new HashMap<>();
+        Map<Long, Integer> indicePorClienteId = new HashMap<>();
+        List<Integer> validos = new ArrayList<>(clientes.size());
+        for (int i = 0; i < clientes.size(); i++) {
+            Cliente cliente = clientes.get(i);
+            try {
+                if (cliente == null) {
+                    throw DatosInvalidosException.elementoVacioEnLote();
+                }
+                validarDatosCliente(cliente);
+                Integer previo = indicePorIdentificacion.get(cliente.getIdentificacion());
+                if (previo != null) {
+                    throw DatosInvalidosException.repetidoEnLote("identificacion", cliente.getIdentificacion(), previo);
+                }
+                previo = cliente.getClienteId() == null ? null : indicePorClienteId.get(cliente.getClienteId());
+                if (previo != null) {
+                    throw DatosInvalidosException.repetidoEnLote("clienteId", cliente.getClienteId(), previo);
+                }
+            } catch (DatosInvalidosException e) {
+                resultados[i] = ResultadoClienteLote.rechazado(i, cliente, e.getMessage());
+                continue;
+            }
+            indicePorIdentificacion.put(cliente.getIdentificacion(), i);
+            if (cliente.getClienteId() != null) {
+                indicePorClienteId.put(cliente.getClienteId(), i);
+            }
+            validos.add(i);
+        }
+
+        // Duplicados ya registrados: una consulta IN por bloque en lugar de una por cliente
+        Set<String> existentes = clienteRepository.buscarIdentificacionesExistentes(indicePorIdentificacion.keySet());
+        List<Integer> pendientes = new ArrayList<>(validos.size());
+        for (Integer i : validos) {
+            Cliente cliente = clientes.get(i);
+            if (existentes.contains(cliente.getIdentificacion())) {
+                resultados[i] = ResultadoClienteLote.rechazado(i, cliente,
+                        new ClienteDuplicadoException(cliente.getIdentificacion()).getMessage());
+            } else {
+                pendientes.add(i);
+            }
+        }
+
+        for (int desde = 0; desde < pendientes.size(); desde += tamanoCommitLote) {
+            confirmarGrupo(pendientes.subList(desde, Math.min(desde + tamanoCommitLote, pendientes.size())),
+                    clientes, resultados);
+        }
+        return Arrays.asList(resultados);
+    }
+
+    private void confirmarGrupo(List<Integer> grupo, List<Cliente> clientes, ResultadoClienteLote[] resultados) {
+        List<Cliente> pendientes = new ArrayList<>(grupo.size());
+        for (Integer i : grupo) {
+            pendientes.add(clientes.get(i));
+        }
+
+        try {
+            List<Cliente> guardados = clienteRepository.guardarTodos(pendientes);
+            for (int j = 0; j < grupo.size(); j++) {
+                resultados[grupo.get(j)] = ResultadoClienteLote.creado(grupo.get(j), guardados.get(j));
+            }
+        } catch (RuntimeException e) {
+            // El grupo se revirtió completo (un alta concurrente u otra restricción de la tabla):
+            // se reintenta cliente por cliente para rechazar solo los que fallan
+            for (Integer i : grupo) {
+                try {
+                    resultados[i] = ResultadoClienteLote.creado(i, clienteRepository.guardar(clientes.get(i)));
+                } catch (ClienteDuplicadoException ex) {
+                    resultados[i] = ResultadoClienteLote.rechazado(i, clientes.get(i), ex.getMessage());
+                } catch (RuntimeException ex) {
+                    // Al cliente solo llegan mensajes de dominio; el detalle de JDBC queda en el log
+                    log.warn("No se pudo registrar el cliente del lote en el índice {}", i, ex);
+                    resultados[i] = ResultadoClienteLote.rechazado(i, clientes.get(i), ERROR_REGISTRO_LOTE);
+                }
+            }
+        }
+    }
+
     @Override
     public Cliente actualizar(Long clienteId, Cliente cliente) {
         if (!clienteRepository.existePorId(clienteId)) {
             throw new ClienteNoEncontradoException(clienteId);
         }
         cliente.setId(clienteId);
-        return clienteRepository.guardar(cliente);
+        Cliente actualizado = clienteRepository.guardar(cliente);
+
+        // El nombre del cliente forma parte de sus reportes
+        reporteCache.invalidarCliente(clienteId);
+        return actualizado;
     }
 
     @Override
@@ -49,11 +165,21 @@ public class ClienteService implements CrearClienteUseCase, ActualizarClienteUse
         return clienteRepository.buscarPorId(clienteId);
     }
 
+    @Override
+    public List<Cliente> obtenerPorIds(Collection<Long> clienteIds) {
+        return clienteRepository.buscarPorIds(clienteIds);
+    }
+
     @Override
     public List<Cliente> listarTodos() {
         return clienteRepository.buscarTodos();
     }
 
+    @Override
+    public List<Cliente> listarPagina(Long despuesDe, Integer limite) {
+        return clienteRepository.buscarPagina(despuesDe, Paginacion.limitar(limite));
+    }
+
     @Override
     public void eliminar(Long clienteId) {
         if (!clienteRepository.existePorId(clienteId)) {
@@ -67,6 +193,7 @@ public class ClienteService implements CrearClienteUseCase, ActualizarClienteUse
         }
         
         clienteRepository.eliminar(clienteId);
+        reporteCache.invalidarCliente(clienteId);
     }
     
     private void validarDatosCliente(Cliente cliente) {
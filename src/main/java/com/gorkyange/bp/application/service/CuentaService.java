@@ -3,23 +3,38 @@ package com.gorkyange.bp.application.service;
 import com.gorkyange.bp.application.port.in.*;
 import com.gorkyange.bp.application.port.out.CuentaRepositoryPort;
 import com.gorkyange.bp.application.port.out.MovimientoRepositoryPort;
+import com.gorkyange.bp.application.port.out.ReporteCachePort;
+import com.gorkyange.bp.application.port.out.SaldoCachePort;
+import com.gorkyange.bp.application.port.out.SaldoDiarioRepositoryPort;
 import com.gorkyange.bp.domain.exception.*;
 import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.domain.model.SaldoDiario;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 public class CuentaService implements CrearCuentaUseCase, ActualizarCuentaUseCase,
-        ObtenerCuentaUseCase, ListarCuentasUseCase, EliminarCuentaUseCase {
+        ObtenerCuentaUseCase, ListarCuentasUseCase, EliminarCuentaUseCase, ConsultarSaldoUseCase {
 
     private final CuentaRepositoryPort cuentaRepository;
     private final MovimientoRepositoryPort movimientoRepository;
+    private final SaldoCachePort saldoCache;
+    private final SaldoDiarioRepositoryPort saldoDiarioRepository;
+    private final ReporteCachePort reporteCache;
 
-    public CuentaService(CuentaRepositoryPort cuentaRepository, MovimientoRepositoryPort movimientoRepository) {
+    public CuentaService(CuentaRepositoryPort cuentaRepository, MovimientoRepositoryPort movimientoRepository,
+                         SaldoCachePort saldoCache, SaldoDiarioRepositoryPort saldoDiarioRepository,
+                         ReporteCachePort reporteCache) {
         this.cuentaRepository = cuentaRepository;
         this.movimientoRepository = movimientoRepository;
+        this.saldoCache = saldoCache;
+        this.saldoDiarioRepository = saldoDiarioRepository;
+        this.reporteCache = reporteCache;
     }
 
     @Override
@@ -32,16 +47,26 @@ public class CuentaService implements CrearCuentaUseCase, ActualizarCuentaUseCas
             throw new CuentaDuplicadaException(cuenta.getNumeroCuenta());
         }
         
-        return cuentaRepository.guardar(cuenta);
+        Cuenta creada = cuentaRepository.guardar(cuenta);
+
+        // Los reportes del cliente listan todas sus cuentas
+        reporteCache.invalidarCliente(creada.getClienteId());
+        return creada;
     }
 
     @Override
     public Cuenta actualizar(Long id, Cuenta cuenta) {
-        if (!cuentaRepository.existePorId(id)) {
-            throw new CuentaNoEncontradaException(id);
-        }
+        Cuenta existente = cuentaRepository.buscarPorId(id)
+                .orElseThrow(() -> new CuentaNoEncontradaException(id));
         cuenta.setId(id);
-        return cuentaRepository.guardar(cuenta);
+        Cuenta actualizada = cuentaRepository.guardar(cuenta);
+
+        // Estado y saldo inicial forman parte de la entrada en caché
+        saldoCache.invalidar(existente.getNumeroCuenta());
+        saldoCache.invalidar(cuenta.getNumeroCuenta());
+        reporteCache.invalidarCliente(existente.getClienteId());
+        reporteCache.invalidarCliente(actualizada.getClienteId());
+        return actualizada;
     }
 
     @Override
@@ -54,16 +79,37 @@ public class CuentaService implements CrearCuentaUseCase, ActualizarCuentaUseCas
         return cuentaRepository.buscarPorNumeroCuenta(numeroCuenta);
     }
 
+    @Override
+    public List<Cuenta> obtenerPorNumerosCuenta(Collection<String> numerosCuenta) {
+        return cuentaRepository.buscarPorNumerosCuenta(numerosCuenta);
+    }
+
     @Override
     public List<Cuenta> listarTodas() {
         return cuentaRepository.buscarTodas();
     }
 
+    @Override
+    public List<Cuenta> listarPagina(Long despuesDe, Integer limite) {
+        return cuentaRepository.buscarPagina(despuesDe, Paginacion.limitar(limite));
+    }
+
     @Override
     public List<Cuenta> listarPorCliente(Long clienteId) {
         return cuentaRepository.buscarPorCliente(clienteId);
     }
 
+    @Override
+    public Dinero obtenerSaldoAl(String numeroCuenta, LocalDate fecha) {
+        Cuenta cuenta = cuentaRepository.buscarPorNumeroCuenta(numeroCuenta)
+                .orElseThrow(() -> new CuentaNoEncontradaException(numeroCuenta));
+
+        // Cierre del último día con movimientos hasta la fecha; sin movimientos, el saldo inicial
+        return saldoDiarioRepository.buscarUltimoHasta(numeroCuenta, fecha)
+                .map(SaldoDiario::getSaldoCierre)
+                .orElse(cuenta.getSaldoInicial());
+    }
+
     @Override
     public void eliminar(Long id) {
         // Buscar la cuenta para obtener el numeroCuenta
@@ -77,6 +123,8 @@ public class CuentaService implements CrearCuentaUseCase, ActualizarCuentaUseCas
         }
         
         cuentaRepository.eliminar(id);
+        saldoCache.invalidar(cuenta.getNumeroCuenta());
+        reporteCache.invalidarCliente(cuenta.getClienteId());
     }
     
     private void validarDatosCuenta(Cuenta cuenta) {
@@ -86,7 +134,7 @@ public class CuentaService implements CrearCuentaUseCase, ActualizarCuentaUseCas
         if (cuenta.getTipoCuenta() == null || cuenta.getTipoCuenta().trim().isEmpty()) {
             throw DatosInvalidosException.campoRequerido("tipoCuenta");
         }
-        if (cuenta.getSaldoInicial() == null || cuenta.getSaldoInicial() < 0) {
+        if (cuenta.getSaldoInicial() == null || cuenta.getSaldoInicial().esNegativo()) {
             throw DatosInvalidosException.saldoInicialNegativo(cuenta.getSaldoInicial());
         }
         if (cuenta.getClienteId() == null) {
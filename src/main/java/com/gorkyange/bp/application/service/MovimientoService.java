@@ -1,47 +1,164 @@
 package com.gorkyange.bp.application.service;
 
 import com.gorkyange.bp.application.port.in.*;
+import com.gorkyange.bp.application.port.out.IdempotenciaCachePort;
+import com.gorkyange.bp.application.port.out.IdempotenciaRepositoryPort;
 import com.gorkyange.bp.application.port.out.MovimientoRepositoryPort;
+import com.gorkyange.bp.application.port.out.ReporteCachePort;
+import com.gorkyange.bp.application.port.out.SaldoCachePort;
+import com.gorkyange.bp.domain.exception.ClaveIdempotenciaEnUsoException;
+import com.gorkyange.bp.domain.exception.ClaveIdempotenciaReutilizadaException;
+import com.gorkyange.bp.domain.exception.ConflictoSaldoException;
 import com.gorkyange.bp.domain.exception.CuentaInactivaException;
 import com.gorkyange.bp.domain.exception.CuentaNoEncontradaException;
+import com.gorkyange.bp.domain.exception.DatosInvalidosException;
 import com.gorkyange.bp.domain.exception.MovimientoInvalidoException;
 import com.gorkyange.bp.domain.exception.SaldoInsuficienteException;
 import com.gorkyange.bp.domain.model.Cliente;
 import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
 import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.domain.model.RegistroIdempotencia;
+import com.gorkyange.bp.domain.model.ResultadoMovimientoLote;
+import com.gorkyange.bp.domain.model.SaldoCuenta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class MovimientoService implements CrearMovimientoUseCase, ListarMovimientosUseCase, 
                                           ObtenerMovimientoUseCase, ActualizarMovimientoUseCase, 
-                                          EliminarMovimientoUseCase {
+                                          EliminarMovimientoUseCase, CrearMovimientosLoteUseCase,
+                                          ExportarMovimientosUseCase {
+
+    private static final int LONGITUD_MAXIMA_CLAVE = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(MovimientoService.class);
+    private static final String ERROR_REGISTRO_LOTE = "No se pudo registrar el movimiento; intente nuevamente";
 
     private final MovimientoRepositoryPort movimientoRepository;
     private final ObtenerCuentaUseCase obtenerCuentaUseCase;
     private final ObtenerClienteUseCase obtenerClienteUseCase;
+    private final SaldoCachePort saldoCache;
+    private final ReporteCachePort reporteCache;
+    private final IdempotenciaCachePort idempotenciaCache;
+    private final IdempotenciaRepositoryPort idempotenciaRepository;
+    private final SerializadorCuentas serializador;
+    private final int tamanoMaximoLote;
+    private final int tamanoCommitLote;
+    private final int intentosConflicto;
 
     public MovimientoService(MovimientoRepositoryPort movimientoRepository,
                             ObtenerCuentaUseCase obtenerCuentaUseCase,
-                            ObtenerClienteUseCase obtenerClienteUseCase) {
+                            ObtenerClienteUseCase obtenerClienteUseCase,
+                            SaldoCachePort saldoCache,
+                            ReporteCachePort reporteCache,
+                            IdempotenciaCachePort idempotenciaCache,
+                            IdempotenciaRepositoryPort idempotenciaRepository,
+                            SerializadorCuentas serializador,
+                            @Value("${bp.movimientos.lote.tamano-maximo:10000}") int tamanoMaximoLote,
+                            @Value("${bp.movimientos.lote.tamano-commit:500}") int tamanoCommitLote,
+                            @Value("${bp.movimientos.intentos-conflicto:3}") int intentosConflicto) {
         this.movimientoRepository = movimientoRepository;
         this.obtenerCuentaUseCase = obtenerCuentaUseCase;
         this.obtenerClienteUseCase = obtenerClienteUseCase;
+        this.saldoCache = saldoCache;
+        this.reporteCache = reporteCache;
+        this.idempotenciaCache = idempotenciaCache;
+        this.idempotenciaRepository = idempotenciaRepository;
+        this.serializador = serializador;
+        this.tamanoMaximoLote = tamanoMaximoLote;
+        this.tamanoCommitLote = tamanoCommitLote;
+        this.intentosConflicto = Math.max(1, intentosConflicto);
     }
 
     @Override
     public Movimiento crear(Movimiento movimiento) {
+        return crear(movimiento, null);
+    }
+
+    @Override
+    public Movimiento crear(Movimiento movimiento, String claveIdempotencia) {
         // Validar que el valor no sea cero
-        if (movimiento.getValor() == 0) {
+        if (movimiento.getValor() == null || movimiento.getValor().esCero()) {
             throw MovimientoInvalidoException.valorCero();
         }
 
-        // Validar que la cuenta exista
-        Cuenta cuenta = obtenerCuentaUseCase.obtenerPorNumeroCuenta(movimiento.getNumeroCuenta())
-                .orElseThrow(() -> new CuentaNoEncontradaException(movimiento.getNumeroCuenta()));
+        String huella = null;
+        if (claveIdempotencia != null) {
+            if (claveIdempotencia.isBlank() || claveIdempotencia.length() > LONGITUD_MAXIMA_CLAVE) {
+                throw DatosInvalidosException.claveIdempotenciaInvalida(LONGITUD_MAXIMA_CLAVE);
+            }
+            huella = huella(movimiento);
+            // Camino rápido para reintentos recientes: sin lock ni base de datos
+            Optional<RegistroIdempotencia> reciente = idempotenciaCache.obtener(claveIdempotencia);
+            if (reciente.isPresent()) {
+                return repeticion(reciente.get(), huella);
+            }
+        }
+
+        // Las escrituras sobre una misma cuenta se serializan. La inserción confirma su
+        // transacción antes de liberar el lock, así el siguiente movimiento parte del saldo nuevo
+        String huellaSolicitud = huella;
+        return serializador.ejecutar(movimiento.getNumeroCuenta(),
+                () -> registrar(movimiento, claveIdempotencia, huellaSolicitud));
+    }
+
+    private Movimiento registrar(Movimiento movimiento, String claveIdempotencia, String huella) {
+        for (int intento = 1; ; intento++) {
+            try {
+                return registrarIntento(movimiento, claveIdempotencia, huella);
+            } catch (ClaveIdempotenciaEnUsoException e) {
+                // La misma clave se confirmó desde otra cuenta o instancia: el movimiento se
+                // revirtió y se responde con el registro original, sin gastar reintentos de saldo
+                RegistroIdempotencia registrado = idempotenciaRepository.buscar(claveIdempotencia)
+                        .orElseThrow(() -> e);
+                idempotenciaCache.guardar(registrado);
+                return repeticion(registrado, huella);
+            } catch (ConflictoSaldoException e) {
+                // Otra instancia escribió en la cuenta: se descarta el saldo en caché
+                // y se reintenta sobre el saldo vigente en base de datos
+                saldoCache.invalidar(movimiento.getNumeroCuenta());
+                if (intento >= intentosConflicto) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private Movimiento registrarIntento(Movimiento movimiento, String claveIdempotencia, String huella) {
+        // Bajo el lock de la cuenta: una repetición concurrente de la misma solicitud
+        // encuentra aquí la clave que registró la primera
+        if (claveIdempotencia != null) {
+            Optional<RegistroIdempotencia> registrado = idempotenciaCache.obtener(claveIdempotencia)
+                    .or(() -> idempotenciaRepository.buscar(claveIdempotencia));
+            if (registrado.isPresent()) {
+                idempotenciaCache.guardar(registrado.get());
+                return repeticion(registrado.get(), huella);
+            }
+        }
+
+        // Validar que la cuenta exista (desde caché o base de datos)
+        SaldoCuenta saldoCuenta = obtenerSaldoCuenta(movimiento.getNumeroCuenta());
+        Cuenta cuenta = saldoCuenta.getCuenta();
 
         // Validar que la cuenta esté activa
         if (!cuenta.getEstado()) {
@@ -49,26 +166,194 @@ public class MovimientoService implements CrearMovimientoUseCase, ListarMovimien
         }
 
         // Obtener el último saldo de la cuenta
-        Double saldoActual = movimientoRepository.buscarUltimoPorCuenta(movimiento.getNumeroCuenta())
-                .map(Movimiento::getSaldo)
-                .orElse(cuenta.getSaldoInicial());
+        long saldoActual = saldoCuenta.getSaldoCentavos();
 
-        // Calcular nuevo saldo según el tipo de movimiento
+        // Calcular nuevo saldo en centavos según el tipo de movimiento
         // Créditos son positivos, débitos son negativos
-        Double nuevoSaldo = saldoActual + movimiento.getValor();
+        long valor = movimiento.getValor().getCentavos();
+        long nuevoSaldo = Math.addExact(saldoActual, valor);
 
         // Validar que el saldo no sea negativo para débitos (retiros)
-        if (movimiento.getValor() < 0 && nuevoSaldo < 0) {
-            throw new SaldoInsuficienteException(saldoActual, movimiento.getValor());
+        if (valor < 0 && nuevoSaldo < 0) {
+            // El saldo en caché puede estar atrasado si otra instancia acreditó la cuenta:
+            // antes de rechazar se relee de base de datos y, si la versión cambió, se reintenta
+            saldoCache.invalidar(movimiento.getNumeroCuenta());
+            if (obtenerSaldoCuenta(movimiento.getNumeroCuenta()).getVersion() != saldoCuenta.getVersion()) {
+                throw new ConflictoSaldoException(movimiento.getNumeroCuenta());
+            }
+            throw new SaldoInsuficienteException(saldoCuenta.getSaldo(), movimiento.getValor());
         }
 
         // Establecer el saldo calculado y la fecha si no viene
-        movimiento.setSaldo(nuevoSaldo);
+        movimiento.setSaldo(Dinero.deCentavos(nuevoSaldo));
         if (movimiento.getFecha() == null) {
             movimiento.setFecha(LocalDate.now());
         }
 
-        return movimientoRepository.guardar(movimiento);
+        // Inserción y UPDATE condicional del saldo vigente en una sola transacción,
+        // junto con la clave de idempotencia si la hay
+        Movimiento guardado = claveIdempotencia == null
+                ? movimientoRepository.guardarConSaldo(movimiento.getNumeroCuenta(), saldoCuenta.getVersion(),
+                        List.of(movimiento)).get(0)
+                : movimientoRepository.guardarConSaldo(movimiento.getNumeroCuenta(), saldoCuenta.getVersion(),
+                        movimiento, claveIdempotencia, huella);
+
+        // Write-through: el caché solo avanza tras una inserción exitosa
+        saldoCache.actualizar(saldoCuenta.conSaldo(nuevoSaldo));
+        if (claveIdempotencia != null) {
+            idempotenciaCache.guardar(new RegistroIdempotencia(claveIdempotencia, huella, guardado));
+        }
+        reporteCache.invalidar(cuenta.getClienteId(), guardado.getFecha());
+        return guardado;
+    }
+
+    @Override
+    public List<ResultadoMovimientoLote> crearLote(List<Movimiento> movimientos) {
+        if (movimientos == null || movimientos.isEmpty()) {
+            throw MovimientoInvalidoException.loteVacio();
+        }
+        if (movimientos.size() > tamanoMaximoLote) {
+            throw MovimientoInvalidoException.loteExcedeMaximo(movimientos.size(), tamanoMaximoLote);
+        }
+
+        ResultadoMovimientoLote[] resultados = new ResultadoMovimientoLote[movimientos.size()];
+
+        // Agrupar por cuenta conservando el orden de llegada dentro de cada cuenta
+        Map<String, List<Integer>> indicesPorCuenta = new LinkedHashMap<>();
+        for (int i = 0; i < movimientos.size(); i++) {
+            // Cada fila se valida antes de agrupar: una fila inválida no revierte su grupo
+            Movimiento movimiento = movimientos.get(i);
+            if (movimiento == null) {
+                resultados[i] = ResultadoMovimientoLote.rechazado(i, null,
+                        DatosInvalidosException.elementoVacioEnLote().getMessage());
+            } else if (movimiento.getNumeroCuenta() == null || movimiento.getNumeroCuenta().trim().isEmpty()) {
+                resultados[i] = ResultadoMovimientoLote.rechazado(i, movimiento,
+                        DatosInvalidosException.campoRequerido("numeroCuenta").getMessage());
+            } else if (movimiento.getTipoMovimiento() == null || movimiento.getTipoMovimiento().trim().isEmpty()) {
+                resultados[i] = ResultadoMovimientoLote.rechazado(i, movimiento,
+                        DatosInvalidosException.campoRequerido("tipoMovimiento").getMessage());
+            } else if (movimiento.getValor() == null || movimiento.getValor().esCero()) {
+                resultados[i] = ResultadoMovimientoLote.rechazado(i, movimiento,
+                        MovimientoInvalidoException.valorCero().getMessage());
+            } else {
+                indicesPorCuenta.computeIfAbsent(movimiento.getNumeroCuenta(), k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        indicesPorCuenta.forEach((numeroCuenta, indices) ->
+                serializador.ejecutar(numeroCuenta, () -> registrarLoteCuenta(numeroCuenta, indices, movimientos, resultados)));
+
+        return Arrays.asList(resultados);
+    }
+
+    private void registrarLoteCuenta(String numeroCuenta, List<Integer> indices,
+                                     List<Movimiento> movimientos, ResultadoMovimientoLote[] resultados) {
+        SaldoCuenta saldoCuenta;
+        try {
+            // Un lote parte siempre del saldo vigente en base de datos: una lectura por cuenta
+            // evita rechazar débitos con un saldo en caché que otra instancia dejó atrás
+            saldoCache.invalidar(numeroCuenta);
+            saldoCuenta = obtenerSaldoCuenta(numeroCuenta);
+            if (!saldoCuenta.getCuenta().getEstado()) {
+                throw new CuentaInactivaException(numeroCuenta);
+            }
+        } catch (CuentaNoEncontradaException | CuentaInactivaException e) {
+            for (Integer i : indices) {
+                resultados[i] = ResultadoMovimientoLote.rechazado(i, movimientos.get(i), e.getMessage());
+            }
+            return;
+        }
+
+        // Saldo confirmado en base de datos y saldo acumulado del grupo en curso
+        SaldoCuenta confirmado = saldoCuenta;
+        long saldoAcumulado = confirmado.getSaldoCentavos();
+        List<Integer> grupo = new ArrayList<>(tamanoCommitLote);
+
+        for (Integer i : indices) {
+            Movimiento movimiento = movimientos.get(i);
+            long valor = movimiento.getValor().getCentavos();
+            long nuevoSaldo = Math.addExact(saldoAcumulado, valor);
+            if (valor < 0 && nuevoSaldo < 0) {
+                resultados[i] = ResultadoMovimientoLote.rechazado(i, movimiento,
+                        new SaldoInsuficienteException(Dinero.deCentavos(saldoAcumulado), movimiento.getValor()).getMessage());
+                continue;
+            }
+
+            movimiento.setSaldo(Dinero.deCentavos(nuevoSaldo));
+            if (movimiento.getFecha() == null) {
+                movimiento.setFecha(LocalDate.now());
+            }
+            saldoAcumulado = nuevoSaldo;
+            grupo.add(i);
+
+            if (grupo.size() == tamanoCommitLote) {
+                confirmado = confirmarGrupo(grupo, movimientos, resultados, confirmado, saldoAcumulado);
+                saldoAcumulado = confirmado.getSaldoCentavos();
+                grupo.clear();
+            }
+        }
+
+        if (!grupo.isEmpty()) {
+            confirmarGrupo(grupo, movimientos, resultados, confirmado, saldoAcumulado);
+        }
+    }
+
+    /**
+     * Inserta un grupo de movimientos en una sola transacción (group commit).
+     * Retorna el saldo confirmado tras el grupo: el acumulado si la transacción
+     * se confirmó, o el vigente en base de datos si se revirtió.
+     */
+    private SaldoCuenta confirmarGrupo(List<Integer> grupo, List<Movimiento> movimientos,
+                                       ResultadoMovimientoLote[] resultados, SaldoCuenta confirmado,
+                                       long saldoAcumulado) {
+        List<Movimiento> pendientes = new ArrayList<>(grupo.size());
+        for (Integer i : grupo) {
+            pendientes.add(movimientos.get(i));
+        }
+
+        String numeroCuenta = confirmado.getCuenta().getNumeroCuenta();
+        try {
+            List<Movimiento> guardados = movimientoRepository
+                    .guardarConSaldo(numeroCuenta, confirmado.getVersion(), pendientes);
+            for (int j = 0; j < grupo.size(); j++) {
+                resultados[grupo.get(j)] = ResultadoMovimientoLote.creado(grupo.get(j), guardados.get(j));
+            }
+            SaldoCuenta nuevo = confirmado.conSaldo(saldoAcumulado);
+            saldoCache.actualizar(nuevo);
+            pendientes.stream()
+                    .map(Movimiento::getFecha)
+                    .min(LocalDate::compareTo)
+                    .ifPresent(fecha -> reporteCache.invalidar(confirmado.getCuenta().getClienteId(), fecha));
+            return nuevo;
+        } catch (RuntimeException e) {
+            // Al cliente solo llegan mensajes de dominio; el detalle de JDBC queda en el log
+            String error;
+            if (e instanceof ConflictoSaldoException) {
+                error = e.getMessage();
+            } else {
+                log.warn("No se pudo registrar un grupo de {} movimientos de la cuenta {}", grupo.size(), numeroCuenta, e);
+                error = ERROR_REGISTRO_LOTE;
+            }
+            for (Integer i : grupo) {
+                resultados[i] = ResultadoMovimientoLote.rechazado(i, movimientos.get(i), error);
+            }
+            // Los grupos siguientes parten del saldo y la versión vigentes en base de datos
+            saldoCache.invalidar(numeroCuenta);
+            return obtenerSaldoCuenta(numeroCuenta);
+        }
+    }
+
+    private SaldoCuenta obtenerSaldoCuenta(String numeroCuenta) {
+        return saldoCache.obtener(numeroCuenta).orElseGet(() -> {
+            // El saldo vigente y su versión viven en la fila de la cuenta: una lectura por clave
+            Cuenta cuenta = obtenerCuentaUseCase.obtenerPorNumeroCuenta(numeroCuenta)
+                    .orElseThrow(() -> new CuentaNoEncontradaException(numeroCuenta));
+
+            SaldoCuenta saldoCuenta = new SaldoCuenta(cuenta,
+                    cuenta.getSaldoActual().getCentavos(), cuenta.getVersion());
+            saldoCache.actualizar(saldoCuenta);
+            return saldoCuenta;
+        });
     }
 
     @Override
@@ -77,6 +362,27 @@ public class MovimientoService implements CrearMovimientoUseCase, ListarMovimien
         return enriquecerMovimientos(movimientos);
     }
 
+    @Override
+    public List<Movimiento> listarPagina(Long despuesDe, Integer limite) {
+        List<Movimiento> movimientos = movimientoRepository.buscarPagina(despuesDe, Paginacion.limitar(limite));
+        return enriquecerMovimientos(movimientos);
+    }
+
+    @Override
+    public List<Movimiento> listarPaginaPorCuenta(String numeroCuenta, Long despuesDe, Integer limite) {
+        List<Movimiento> movimientos = movimientoRepository.buscarPaginaPorCuenta(numeroCuenta, despuesDe,
+                Paginacion.limitar(limite));
+        return enriquecerMovimientos(movimientos);
+    }
+
+    @Override
+    public List<Movimiento> listarPaginaPorFechas(LocalDate fechaInicio, LocalDate fechaFin, Long despuesDe,
+                                                  Integer limite) {
+        List<Movimiento> movimientos = movimientoRepository.buscarPaginaPorFechas(fechaInicio, fechaFin, despuesDe,
+                Paginacion.limitar(limite));
+        return enriquecerMovimientos(movimientos);
+    }
+
     @Override
     public List<Movimiento> listarPorCuenta(String numeroCuenta) {
         List<Movimiento> movimientos = movimientoRepository.buscarPorCuenta(numeroCuenta);
@@ -89,6 +395,11 @@ public class MovimientoService implements CrearMovimientoUseCase, ListarMovimien
         return enriquecerMovimientos(movimientos);
     }
 
+    @Override
+    public void exportarPorFechas(LocalDate fechaInicio, LocalDate fechaFin, Consumer<Movimiento> consumidor) {
+        movimientoRepository.recorrerPorFechas(fechaInicio, fechaFin, consumidor);
+    }
+
     @Override
     public List<Movimiento> listarPorClienteYFechas(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin) {
         List<Movimiento> movimientos = movimientoRepository.buscarPorClienteYFechas(clienteId, fechaInicio, fechaFin);
@@ -96,28 +407,42 @@ public class MovimientoService implements CrearMovimientoUseCase, ListarMovimien
     }
 
     private List<Movimiento> enriquecerMovimientos(List<Movimiento> movimientos) {
+        if (movimientos.isEmpty()) {
+            return movimientos;
+        }
+
+        // Cargar cuentas y clientes en bloque y cruzarlos en memoria (evita N+1)
+        Set<String> numerosCuenta = movimientos.stream()
+                .map(Movimiento::getNumeroCuenta)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Cuenta> cuentas = obtenerCuentaUseCase.obtenerPorNumerosCuenta(numerosCuenta)
+                .stream()
+                .collect(Collectors.toMap(Cuenta::getNumeroCuenta, Function.identity(), (a, b) -> a));
+
+        Set<Long> clienteIds = cuentas.values().stream()
+                .map(Cuenta::getClienteId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Cliente> clientes = clienteIds.isEmpty()
+                ? Map.of()
+                : obtenerClienteUseCase.obtenerPorIds(clienteIds)
+                        .stream()
+                        .collect(Collectors.toMap(Cliente::getId, Function.identity(), (a, b) -> a));
+
         for (Movimiento movimiento : movimientos) {
-            try {
-                // Obtener información de la cuenta
-                Cuenta cuenta = obtenerCuentaUseCase.obtenerPorNumeroCuenta(movimiento.getNumeroCuenta())
-                        .orElse(null);
-                
-                if (cuenta != null) {
-                    movimiento.setTipoCuenta(cuenta.getTipoCuenta());
-                    movimiento.setSaldoInicial(cuenta.getSaldoInicial());
-                    movimiento.setEstadoCuenta(cuenta.getEstado());
-                    
-                    // Obtener información del cliente
-                    if (cuenta.getClienteId() != null) {
-                        Cliente cliente = obtenerClienteUseCase.obtenerPorId(cuenta.getClienteId())
-                                .orElse(null);
-                        if (cliente != null) {
-                            movimiento.setNombreCliente(cliente.getNombre());
-                        }
-                    }
-                }
-            } catch (Exception e) {
+            Cuenta cuenta = cuentas.get(movimiento.getNumeroCuenta());
+            if (cuenta == null) {
                 // Si no se puede enriquecer, continuar con los datos básicos
+                continue;
+            }
+            movimiento.setTipoCuenta(cuenta.getTipoCuenta());
+            movimiento.setSaldoInicial(cuenta.getSaldoInicial());
+            movimiento.setEstadoCuenta(cuenta.getEstado());
+
+            Cliente cliente = clientes.get(cuenta.getClienteId());
+            if (cliente != null) {
+                movimiento.setNombreCliente(cliente.getNombre());
             }
         }
         return movimientos;
@@ -130,41 +455,109 @@ public class MovimientoService implements CrearMovimientoUseCase, ListarMovimien
 
     @Override
     public Movimiento actualizar(Long id, Movimiento movimiento) {
+        String cuentaOriginal = movimientoRepository.buscarPorId(id)
+                .map(Movimiento::getNumeroCuenta)
+                .orElseThrow(() -> new RuntimeException("Movimiento no encontrado: " + id));
+
+        // Sin cuenta en la solicitud el movimiento se queda en la suya
+        List<String> cuentas = movimiento.getNumeroCuenta() == null
+                ? List.of(cuentaOriginal)
+                : List.of(cuentaOriginal, movimiento.getNumeroCuenta());
+        return serializador.ejecutar(cuentas, () -> actualizarBloqueado(id, movimiento));
+    }
+
+    private Movimiento actualizarBloqueado(Long id, Movimiento movimiento) {
         Movimiento existente = movimientoRepository.buscarPorId(id)
                 .orElseThrow(() -> new RuntimeException("Movimiento no encontrado: " + id));
         
-        // Mantener ID y recalcular saldo si cambia el valor
+        // Mantener ID, fecha, cuenta y valor si no vienen
         movimiento.setId(existente.getId());
+        if (movimiento.getFecha() == null) {
+            movimiento.setFecha(existente.getFecha());
+        }
+        if (movimiento.getNumeroCuenta() == null) {
+            movimiento.setNumeroCuenta(existente.getNumeroCuenta());
+        }
+        if (movimiento.getValor() == null) {
+            movimiento.setValor(existente.getValor());
+        }
         
-        if (!movimiento.getValor().equals(existente.getValor()) || 
-            !movimiento.getNumeroCuenta().equals(existente.getNumeroCuenta())) {
-            // Recalcular saldo
-            Cuenta cuenta = obtenerCuentaUseCase.obtenerPorNumeroCuenta(movimiento.getNumeroCuenta())
+        boolean mismaCuenta = movimiento.getNumeroCuenta().equals(existente.getNumeroCuenta());
+        if (!movimiento.getValor().equals(existente.getValor()) || !mismaCuenta
+                || !movimiento.getFecha().equals(existente.getFecha())) {
+            obtenerCuentaUseCase.obtenerPorNumeroCuenta(movimiento.getNumeroCuenta())
                     .orElseThrow(() -> new RuntimeException("Cuenta no encontrada: " + movimiento.getNumeroCuenta()));
-            
-            Double saldoActual = movimientoRepository.buscarUltimoPorCuenta(movimiento.getNumeroCuenta())
-                    .map(Movimiento::getSaldo)
-                    .orElse(cuenta.getSaldoInicial());
-            
-            Double nuevoSaldo = saldoActual + movimiento.getValor();
-            
-            if (movimiento.getValor() < 0 && nuevoSaldo < 0) {
-                throw new RuntimeException("Saldo no disponible");
-            }
-            
-            movimiento.setSaldo(nuevoSaldo);
-        } else {
-            movimiento.setSaldo(existente.getSaldo());
+
+            // Cada fila guarda su saldo acumulado: se valida el mínimo desde la fecha más temprana
+            // afectada, no solo el saldo final, para que ningún saldo intermedio quede negativo
+            LocalDate desde = mismaCuenta && existente.getFecha().isBefore(movimiento.getFecha())
+                    ? existente.getFecha() : movimiento.getFecha();
+            validarSaldoMinimo(movimiento.getNumeroCuenta(), desde, id, movimiento.getFecha(), movimiento.getValor());
+            if (!mismaCuenta) {
+                validarSaldoMinimo(existente.getNumeroCuenta(), existente.getFecha(), id,
+                        existente.getFecha(), Dinero.CERO);
+            }
         }
         
-        return movimientoRepository.guardar(movimiento);
+        // El saldo definitivo de esta fila y de las posteriores lo recalcula el repositorio
+        // al reencadenar la cuenta desde la fecha del movimiento
+        movimiento.setSaldo(existente.getSaldo());
+        
+        Movimiento actualizado = movimientoRepository.guardar(movimiento);
+        saldoCache.invalidar(existente.getNumeroCuenta());
+        saldoCache.invalidar(movimiento.getNumeroCuenta());
+        invalidarReportes(existente.getNumeroCuenta(), existente.getFecha());
+        invalidarReportes(actualizado.getNumeroCuenta(), actualizado.getFecha());
+        return actualizado;
     }
 
     @Override
     public void eliminar(Long id) {
-        if (!movimientoRepository.buscarPorId(id).isPresent()) {
-            throw new RuntimeException("Movimiento no encontrado: " + id);
+        Movimiento existente = movimientoRepository.buscarPorId(id)
+                .orElseThrow(() -> new RuntimeException("Movimiento no encontrado: " + id));
+        serializador.ejecutar(existente.getNumeroCuenta(), () -> {
+            validarSaldoMinimo(existente.getNumeroCuenta(), existente.getFecha(), id,
+                    existente.getFecha(), Dinero.CERO);
+            movimientoRepository.eliminar(id);
+            saldoCache.invalidar(existente.getNumeroCuenta());
+            invalidarReportes(existente.getNumeroCuenta(), existente.getFecha());
+        });
+    }
+
+    private void validarSaldoMinimo(String numeroCuenta, LocalDate desde, Long id, LocalDate fecha, Dinero valor) {
+        Dinero saldoMinimo = movimientoRepository.saldoMinimoConCambio(numeroCuenta, desde, id, fecha, valor);
+        if (saldoMinimo.esNegativo()) {
+            throw SaldoInsuficienteException.saldoIntermedioNegativo(numeroCuenta, saldoMinimo);
         }
-        movimientoRepository.eliminar(id);
+    }
+
+    private static Movimiento repeticion(RegistroIdempotencia registro, String huella) {
+        if (!registro.getHuella().equals(huella)) {
+            throw new ClaveIdempotenciaReutilizadaException(registro.getClave());
+        }
+        return registro.getMovimiento();
+    }
+
+    /**
+     * Resume los campos de la solicitud que determinan el movimiento: la misma clave con
+     * otro contenido es un error del cliente, no una repetición.
+     */
+    static String huella(Movimiento movimiento) {
+        String contenido = String.join("|",
+                String.valueOf(movimiento.getNumeroCuenta()),
+                String.valueOf(movimiento.getTipoMovimiento()),
+                String.valueOf(movimiento.getValor().getCentavos()),
+                String.valueOf(movimiento.getFecha()));
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(contenido.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void invalidarReportes(String numeroCuenta, LocalDate fecha) {
+        obtenerCuentaUseCase.obtenerPorNumeroCuenta(numeroCuenta)
+                .ifPresent(cuenta -> reporteCache.invalidar(cuenta.getClienteId(), fecha));
     }
 }
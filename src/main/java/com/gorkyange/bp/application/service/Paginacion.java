@@ -0,0 +1,20 @@
+package com.gorkyange.bp.application.service;
+
+/**
+ * Límites de las páginas por cursor (keyset) de los listados.
+ */
+public final class Paginacion {
+
+    public static final int LIMITE_POR_DEFECTO = 50;
+    public static final int LIMITE_MAXIMO = 500;
+
+    private Paginacion() {
+    }
+
+    public static int limitar(Integer limite) {
+        if (limite == null) {
+            return LIMITE_POR_DEFECTO;
+        }
+        return Math.min(Math.max(limite, 1), LIMITE_MAXIMO);
+    }
+}
@@ -1,9 +1,15 @@
 package com.gorkyange.bp.application.service;
 
 import com.gorkyange.bp.application.port.in.*;
+import com.gorkyange.bp.application.port.out.MovimientoRepositoryPort;
+import com.gorkyange.bp.application.port.out.ReporteCachePort;
+import com.gorkyange.bp.application.port.out.SaldoDiarioRepositoryPort;
+import com.gorkyange.bp.domain.exception.ClienteNoEncontradoException;
 import com.gorkyange.bp.domain.model.Cliente;
 import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
 import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.domain.model.SaldoDiario;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse.CuentaReporte;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse.MovimientoReporte;
@@ -13,92 +19,133 @@ import com.itextpdf.kernel.pdf.PdfWriter;
 import com.itextpdf.layout.Document;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 public class ReporteService implements GenerarReporteUseCase {
 
+    private static final int FILAS_POR_BLOQUE_PDF = 100;
+
     private final ObtenerClienteUseCase obtenerClienteUseCase;
     private final ListarCuentasUseCase listarCuentasUseCase;
-    private final ListarMovimientosUseCase listarMovimientosUseCase;
+    private final MovimientoRepositoryPort movimientoRepository;
+    private final SaldoDiarioRepositoryPort saldoDiarioRepository;
+    private final ReporteCachePort reporteCache;
+    private final int pdfTamanoMaximoCache;
 
     public ReporteService(ObtenerClienteUseCase obtenerClienteUseCase,
                          ListarCuentasUseCase listarCuentasUseCase,
-                         ListarMovimientosUseCase listarMovimientosUseCase) {
+                         MovimientoRepositoryPort movimientoRepository,
+                         SaldoDiarioRepositoryPort saldoDiarioRepository,
+                         ReporteCachePort reporteCache,
+                         @Value("${bp.cache.reportes.pdf-tamano-maximo-bytes:2097152}") int pdfTamanoMaximoCache) {
         this.obtenerClienteUseCase = obtenerClienteUseCase;
         this.listarCuentasUseCase = listarCuentasUseCase;
-        this.listarMovimientosUseCase = listarMovimientosUseCase;
+        this.movimientoRepository = movimientoRepository;
+        this.saldoDiarioRepository = saldoDiarioRepository;
+        this.reporteCache = reporteCache;
+        this.pdfTamanoMaximoCache = pdfTamanoMaximoCache;
     }
 
     @Override
     public ReporteEstadoCuentaResponse generarReporte(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin) {
+        // El reporte en caché se comparte entre solicitudes: nadie debe modificarlo
+        Optional<ReporteEstadoCuentaResponse> enCache = reporteCache.obtener(clienteId, fechaInicio, fechaFin);
+        if (enCache.isPresent()) {
+            return enCache.get();
+        }
+
+        // La generación se lee antes que los datos: si un movimiento la invalida mientras
+        // se arma el reporte, este no se guarda
+        long generacion = reporteCache.generacion(clienteId);
+        ReporteEstadoCuentaResponse reporte = armarReporte(clienteId, fechaInicio, fechaFin);
+        reporteCache.guardar(reporte, generacion);
+        return reporte;
+    }
+
+    private ReporteEstadoCuentaResponse armarReporte(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin) {
         // Obtener cliente
         Cliente cliente = obtenerClienteUseCase.obtenerPorId(clienteId)
-                .orElseThrow(() -> new RuntimeException("Cliente no encontrado: " + clienteId));
+                .orElseThrow(() -> new ClienteNoEncontradoException(clienteId));
 
-        // Obtener cuentas del cliente
+        // Saldos de apertura y cierre del periodo desde los saldos diarios: una búsqueda
+        // por cuenta y fecha, sin recorrer movimientos anteriores al periodo
         List<Cuenta> cuentas = listarCuentasUseCase.listarPorCliente(clienteId);
+        List<String> numerosCuenta = cuentas.stream()
+                .map(Cuenta::getNumeroCuenta)
+                .collect(Collectors.toList());
+        Map<String, Dinero> apertura = cierresHasta(numerosCuenta, fechaInicio.minusDays(1));
+        Map<String, Dinero> cierre = cierresHasta(numerosCuenta, fechaFin);
 
-        // Inicializar totales
-        double totalDebitos = 0;
-        double totalCreditos = 0;
-        double saldoFinal = 0;
-
-        // Procesar cada cuenta
-        List<CuentaReporte> cuentasReporte = new ArrayList<>();
+        // Cada cuenta sin días con movimientos hasta la fecha conserva su saldo inicial
+        Map<String, CuentaReporte> cuentasReporte = new LinkedHashMap<>();
         for (Cuenta cuenta : cuentas) {
-            // Obtener movimientos de la cuenta en el rango de fechas
-            List<Movimiento> movimientos = listarMovimientosUseCase.listarPorClienteYFechas(clienteId, fechaInicio, fechaFin)
-                    .stream()
-                    .filter(m -> m.getNumeroCuenta().equals(cuenta.getNumeroCuenta()))
-                    .collect(Collectors.toList());
-
-            // Convertir movimientos a DTO
-            List<MovimientoReporte> movimientosReporte = movimientos.stream()
-                    .map(m -> new MovimientoReporte(
-                            m.getFecha(),
-                            m.getTipoMovimiento(),
-                            m.getValor(),
-                            m.getSaldo()
-                    ))
-                    .collect(Collectors.toList());
-
-            // Calcular saldo actual (último saldo del periodo o saldo inicial si no hay movimientos)
-            Double saldoActual = movimientos.isEmpty() 
-                    ? cuenta.getSaldoInicial() 
-                    : movimientos.get(movimientos.size() - 1).getSaldo();
+            cuentasReporte.put(cuenta.getNumeroCuenta(), new CuentaReporte(
+                    cuenta.getNumeroCuenta(),
+                    cuenta.getTipoCuenta(),
+                    apertura.getOrDefault(cuenta.getNumeroCuenta(), cuenta.getSaldoInicial()),
+                    cierre.getOrDefault(cuenta.getNumeroCuenta(), cuenta.getSaldoInicial()),
+                    new ArrayList<>()
+            ));
+        }
 
-            // Acumular débitos y créditos
-            for (Movimiento m : movimientos) {
-                if (m.getValor() < 0) {
-                    totalDebitos += Math.abs(m.getValor());
-                } else {
-                    totalCreditos += m.getValor();
+        // Inicializar totales en centavos: la acumulación no crea objetos por fila
+        long totalDebitos = 0;
+        long totalCreditos = 0;
+
+        // Una sola consulta ordenada por (cuenta, fecha, id) recorrida en una pasada
+        List<Movimiento> movimientos = movimientoRepository
+                .buscarPorClienteYFechasAgrupadoPorCuenta(clienteId, fechaInicio, fechaFin);
+        CuentaReporte cuentaActual = null;
+        for (Movimiento m : movimientos) {
+            if (cuentaActual == null || !cuentaActual.getNumeroCuenta().equals(m.getNumeroCuenta())) {
+                cuentaActual = cuentasReporte.get(m.getNumeroCuenta());
+                if (cuentaActual == null) {
+                    continue;
                 }
             }
 
-            saldoFinal += saldoActual;
+            cuentaActual.getMovimientos().add(new MovimientoReporte(
+                    m.getFecha(),
+                    m.getTipoMovimiento(),
+                    m.getValor(),
+                    m.getSaldo()
+            ));
 
-            // Crear reporte de cuenta
-            CuentaReporte cuentaReporte = new CuentaReporte(
-                    cuenta.getNumeroCuenta(),
-                    cuenta.getTipoCuenta(),
-                    cuenta.getSaldoInicial(),
-                    saldoActual,
-                    movimientosReporte
-            );
-            cuentasReporte.add(cuentaReporte);
+            // Acumular débitos y créditos
+            long valor = m.getValor().getCentavos();
+            if (valor < 0) {
+                totalDebitos = Math.subtractExact(totalDebitos, valor);
+            } else {
+                totalCreditos = Math.addExact(totalCreditos, valor);
+            }
+        }
+
+        long saldoFinal = 0;
+        for (CuentaReporte cuentaReporte : cuentasReporte.values()) {
+            saldoFinal = Math.addExact(saldoFinal, cuentaReporte.getSaldoActual().getCentavos());
         }
 
         // Crear resumen
-        ResumenReporte resumen = new ResumenReporte(totalDebitos, totalCreditos, saldoFinal);
+        ResumenReporte resumen = new ResumenReporte(
+                Dinero.deCentavos(totalDebitos),
+                Dinero.deCentavos(totalCreditos),
+                Dinero.deCentavos(saldoFinal));
 
         // Construir respuesta
         return new ReporteEstadoCuentaResponse(
@@ -106,20 +153,64 @@ public class ReporteService implements GenerarReporteUseCase {
                 cliente.getNombre(),
                 fechaInicio,
                 fechaFin,
-                cuentasReporte,
+                new ArrayList<>(cuentasReporte.values()),
                 resumen
         );
     }
 
+    private Map<String, Dinero> cierresHasta(List<String> numerosCuenta, LocalDate fecha) {
+        Map<String, Dinero> cierres = new HashMap<>();
+        if (!numerosCuenta.isEmpty()) {
+            for (SaldoDiario saldo : saldoDiarioRepository.buscarUltimosHasta(numerosCuenta, fecha)) {
+                cierres.put(saldo.getNumeroCuenta(), saldo.getSaldoCierre());
+            }
+        }
+        return cierres;
+    }
+
     @Override
     public String generarReportePdf(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin) {
-        try {
-            // Generar datos del reporte
-            ReporteEstadoCuentaResponse reporte = generarReporte(clienteId, fechaInicio, fechaFin);
+        // Generar datos del reporte
+        ReporteEstadoCuentaResponse reporte = generarReporte(clienteId, fechaInicio, fechaFin);
 
-            // Crear PDF en memoria
+        // Crear PDF en memoria (o tomarlo de caché) y convertir a Base64 (formato JSON heredado)
+        byte[] pdf = reporteCache.obtenerPdf(reporte).orElseGet(() -> {
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            PdfWriter writer = new PdfWriter(baos);
+            renderizarPdf(reporte, baos);
+            byte[] generado = baos.toByteArray();
+            if (generado.length <= pdfTamanoMaximoCache) {
+                reporteCache.guardarPdf(reporte, generado);
+            }
+            return generado;
+        });
+        return Base64.getEncoder().encodeToString(pdf);
+    }
+
+    @Override
+    public void escribirReportePdf(ReporteEstadoCuentaResponse reporte, OutputStream salida) {
+        Optional<byte[]> enCache = reporteCache.obtenerPdf(reporte);
+        if (enCache.isPresent()) {
+            try {
+                salida.write(enCache.get());
+            } catch (IOException e) {
+                throw new RuntimeException("Error escribiendo PDF: " + e.getMessage(), e);
+            }
+            return;
+        }
+
+        // Se sigue escribiendo en streaming; la copia para la caché se abandona si supera el máximo
+        CopiaAcotada copia = new CopiaAcotada(salida, pdfTamanoMaximoCache);
+        renderizarPdf(reporte, copia);
+        if (copia.completa()) {
+            reporteCache.guardarPdf(reporte, copia.toByteArray());
+        }
+    }
+
+    private void renderizarPdf(ReporteEstadoCuentaResponse reporte, OutputStream salida) {
+        try {
+            // El PDF se escribe directamente en la salida; el llamador decide cuándo cerrarla
+            PdfWriter writer = new PdfWriter(salida);
+            writer.setCloseStream(false);
             PdfDocument pdfDoc = new PdfDocument(writer);
             Document document = new Document(pdfDoc);
 
@@ -140,22 +231,28 @@ public class ReporteService implements GenerarReporteUseCase {
                 document.add(new Paragraph("Saldo Actual: $" + cuenta.getSaldoActual()));
                 document.add(new Paragraph("\n"));
 
-                // Tabla de movimientos
+                // Tabla de movimientos en modo "large table": las filas se vuelcan
+                // al documento por bloques en lugar de retener la tabla completa
                 if (!cuenta.getMovimientos().isEmpty()) {
-                    Table table = new Table(4);
+                    Table table = new Table(4, true);
                     table.addHeaderCell("Fecha");
                     table.addHeaderCell("Tipo");
                     table.addHeaderCell("Valor");
                     table.addHeaderCell("Saldo");
+                    document.add(table);
 
+                    int filas = 0;
                     for (MovimientoReporte mov : cuenta.getMovimientos()) {
                         table.addCell(mov.getFecha().toString());
                         table.addCell(mov.getTipoMovimiento());
                         table.addCell("$" + mov.getValor());
                         table.addCell("$" + mov.getSaldo());
+                        if (++filas % FILAS_POR_BLOQUE_PDF == 0) {
+                            table.flush();
+                        }
                     }
 
-                    document.add(table);
+                    table.complete();
                     document.add(new Paragraph("\n"));
                 }
             }
@@ -169,12 +266,52 @@ public class ReporteService implements GenerarReporteUseCase {
             // Cerrar documento
             document.close();
 
-            // Convertir a Base64
-            byte[] pdfBytes = baos.toByteArray();
-            return Base64.getEncoder().encodeToString(pdfBytes);
-
         } catch (Exception e) {
             throw new RuntimeException("Error generando PDF: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Escribe en la salida y guarda una copia mientras no supere el máximo.
+     */
+    private static final class CopiaAcotada extends FilterOutputStream {
+
+        private final int maximo;
+        private ByteArrayOutputStream copia = new ByteArrayOutputStream();
+
+        CopiaAcotada(OutputStream salida, int maximo) {
+            super(salida);
+            this.maximo = maximo;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            copiar(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            copiar(b, off, len);
+        }
+
+        private void copiar(byte[] b, int off, int len) {
+            if (copia != null) {
+                if (copia.size() + len > maximo) {
+                    copia = null;
+                } else {
+                    copia.write(b, off, len);
+                }
+            }
+        }
+
+        boolean completa() {
+            return copia != null;
+        }
+
+        byte[] toByteArray() {
+            return copia.toByteArray();
+        }
+    }
 }
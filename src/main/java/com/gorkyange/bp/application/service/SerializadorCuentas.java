@@ -0,0 +1,76 @@
+package com.gorkyange.bp.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serializa las escrituras de saldo por número de cuenta usando locks por franjas.
+ * Dos cuentas distintas solo compiten si caen en la misma franja, por lo que el
+ * paralelismo crece con el número de cuentas distintas hasta el número de franjas.
+ */
+@Component
+public class SerializadorCuentas {
+
+    private final ReentrantLock[] franjas;
+    private final int mascara;
+
+    public SerializadorCuentas(@Value("${bp.movimientos.franjas-bloqueo:256}") int numeroFranjas) {
+        int tamano = Integer.highestOneBit(Math.max(1, numeroFranjas - 1)) << 1;
+        this.franjas = new ReentrantLock[tamano];
+        for (int i = 0; i < tamano; i++) {
+            franjas[i] = new ReentrantLock();
+        }
+        this.mascara = tamano - 1;
+    }
+
+    public <T> T ejecutar(String numeroCuenta, Supplier<T> accion) {
+        ReentrantLock lock = franjas[indice(numeroCuenta)];
+        lock.lock();
+        try {
+            return accion.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void ejecutar(String numeroCuenta, Runnable accion) {
+        ejecutar(numeroCuenta, () -> {
+            accion.run();
+            return null;
+        });
+    }
+
+    /**
+     * Bloquea varias cuentas a la vez. Las franjas se adquieren en orden ascendente
+     * para que dos operaciones sobre las mismas cuentas nunca se bloqueen mutuamente.
+     */
+    public <T> T ejecutar(Collection<String> numerosCuenta, Supplier<T> accion) {
+        int[] indices = numerosCuenta.stream()
+                .mapToInt(this::indice)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        int adquiridos = 0;
+        try {
+            for (int indice : indices) {
+                franjas[indice].lock();
+                adquiridos++;
+            }
+            return accion.get();
+        } finally {
+            for (int i = adquiridos - 1; i >= 0; i--) {
+                franjas[indices[i]].unlock();
+            }
+        }
+    }
+
+    private int indice(String numeroCuenta) {
+        int h = numeroCuenta == null ? 0 : numeroCuenta.hashCode();
+        return (h ^ (h >>> 16)) & mascara;
+    }
+}
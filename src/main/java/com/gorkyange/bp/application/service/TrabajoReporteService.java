@@ -0,0 +1,131 @@
+package com.gorkyange.bp.application.service;
+
+import com.gorkyange.bp.application.port.in.ConsultarTrabajoReporteUseCase;
+import com.gorkyange.bp.application.port.in.GenerarReporteUseCase;
+import com.gorkyange.bp.application.port.in.SolicitarReporteUseCase;
+import com.gorkyange.bp.application.port.in.TrabajoReporte;
+import com.gorkyange.bp.application.port.out.TrabajoReporteRepositoryPort;
+import com.gorkyange.bp.domain.exception.ColaReportesLlenaException;
+import com.gorkyange.bp.domain.exception.DatosInvalidosException;
+import com.gorkyange.bp.domain.exception.TrabajoReporteNoEncontradoException;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Genera reportes fuera del hilo de la solicitud HTTP. Un pool fijo de hilos con cola
+ * acotada limita cuántos reportes se arman a la vez (y cuántas conexiones ocupan);
+ * cuando la cola se llena la solicitud se rechaza en lugar de acumular trabajo.
+ * Con hilos virtuales habilitados (Java 21) los hilos del pool son virtuales, pero el
+ * límite de concurrencia se mantiene.
+ */
+@Service
+public class TrabajoReporteService implements SolicitarReporteUseCase, ConsultarTrabajoReporteUseCase {
+
+    private final GenerarReporteUseCase generarReporteUseCase;
+    private final TrabajoReporteRepositoryPort trabajoRepository;
+    private final ThreadPoolExecutor ejecutor;
+    private final int capacidadCola;
+
+    public TrabajoReporteService(GenerarReporteUseCase generarReporteUseCase,
+                                 TrabajoReporteRepositoryPort trabajoRepository,
+                                 @Value("${bp.reportes.trabajos.hilos:2}") int hilos,
+                                 @Value("${bp.reportes.trabajos.cola:50}") int capacidadCola,
+                                 @Value("${spring.threads.virtual.enabled:false}") boolean hilosVirtuales) {
+        this.generarReporteUseCase = generarReporteUseCase;
+        this.trabajoRepository = trabajoRepository;
+        this.capacidadCola = capacidadCola;
+
+        this.ejecutor = new ThreadPoolExecutor(hilos, hilos, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadCola),
+                fabricaHilos(hilosVirtuales),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public TrabajoReporte solicitarReporte(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin, String formato) {
+        if (clienteId == null) {
+            throw DatosInvalidosException.campoRequerido("clienteId");
+        }
+        if (fechaInicio == null) {
+            throw DatosInvalidosException.campoRequerido("fechaInicio");
+        }
+        if (fechaFin == null) {
+            throw DatosInvalidosException.campoRequerido("fechaFin");
+        }
+        if (fechaInicio.isAfter(fechaFin)) {
+            throw DatosInvalidosException.rangoFechasInvalido(fechaInicio, fechaFin);
+        }
+        String formatoNormalizado = formato == null ? "json" : formato.toLowerCase(Locale.ROOT);
+        if (!"json".equals(formatoNormalizado) && !"pdf".equals(formatoNormalizado)) {
+            throw DatosInvalidosException.formatoNoSoportado(formato);
+        }
+
+        TrabajoReporte trabajo = TrabajoReporte.pendiente(UUID.randomUUID().toString(),
+                clienteId, fechaInicio, fechaFin, formatoNormalizado);
+        // Se registra antes de encolarlo para que el hilo nunca actualice un trabajo inexistente
+        trabajoRepository.guardar(trabajo);
+        try {
+            ejecutor.execute(() -> ejecutar(trabajo));
+        } catch (RejectedExecutionException e) {
+            trabajoRepository.eliminar(trabajo.getId());
+            throw new ColaReportesLlenaException(capacidadCola);
+        }
+        return trabajo;
+    }
+
+    @Override
+    public TrabajoReporte obtenerTrabajo(String id) {
+        return trabajoRepository.buscarPorId(id)
+                .orElseThrow(() -> new TrabajoReporteNoEncontradoException(id));
+    }
+
+    private void ejecutar(TrabajoReporte trabajo) {
+        TrabajoReporte enProceso = trabajo.enProceso();
+        trabajoRepository.guardar(enProceso);
+        try {
+            ReporteEstadoCuentaResponse reporte = generarReporteUseCase.generarReporte(
+                    trabajo.getClienteId(), trabajo.getFechaInicio(), trabajo.getFechaFin());
+            if (trabajo.esPdf()) {
+                ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+                generarReporteUseCase.escribirReportePdf(reporte, pdf);
+                trabajoRepository.guardar(enProceso.completado(null, pdf.toByteArray()));
+            } else {
+                trabajoRepository.guardar(enProceso.completado(reporte, null));
+            }
+        } catch (RuntimeException e) {
+            trabajoRepository.guardar(enProceso.fallido(e.getMessage()));
+        }
+    }
+
+    private static ThreadFactory fabricaHilos(boolean hilosVirtuales) {
+        // Igual que Spring Boot, la propiedad se ignora en versiones anteriores a Java 21
+        if (hilosVirtuales && Runtime.version().feature() >= 21) {
+            return new VirtualThreadTaskExecutor("reporte-trabajo-").getVirtualThreadFactory();
+        }
+        AtomicInteger contador = new AtomicInteger();
+        return tarea -> {
+            Thread hilo = new Thread(tarea, "reporte-trabajo-" + contador.incrementAndGet());
+            hilo.setDaemon(true);
+            return hilo;
+        };
+    }
+
+    @PreDestroy
+    void detener() {
+        ejecutor.shutdownNow();
+    }
+}
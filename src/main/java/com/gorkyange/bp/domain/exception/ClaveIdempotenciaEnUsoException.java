@@ -0,0 +1,7 @@
+package com.gorkyange.bp.domain.exception;
+
+public class ClaveIdempotenciaEnUsoException extends RuntimeException {
+    public ClaveIdempotenciaEnUsoException(String clave) {
+        super(String.format("La clave de idempotencia '%s' está siendo registrada por otra solicitud; intente nuevamente", clave));
+    }
+}
@@ -0,0 +1,7 @@
+package com.gorkyange.bp.domain.exception;
+
+public class ClaveIdempotenciaReutilizadaException extends RuntimeException {
+    public ClaveIdempotenciaReutilizadaException(String clave) {
+        super(String.format("La clave de idempotencia '%s' ya se usó con una solicitud diferente", clave));
+    }
+}
@@ -0,0 +1,7 @@
+package com.gorkyange.bp.domain.exception;
+
+public class ColaReportesLlenaException extends RuntimeException {
+    public ColaReportesLlenaException(int capacidad) {
+        super(String.format("La cola de reportes está llena (%d trabajos en espera); intente más tarde", capacidad));
+    }
+}
@@ -0,0 +1,7 @@
+package com.gorkyange.bp.domain.exception;
+
+public class ConflictoSaldoException extends RuntimeException {
+    public ConflictoSaldoException(String numeroCuenta) {
+        super(String.format("El saldo de la cuenta '%s' fue modificado por otra operación; intente nuevamente", numeroCuenta));
+    }
+}
@@ -1,5 +1,9 @@
 package com.gorkyange.bp.domain.exception;
 
+import com.gorkyange.bp.domain.model.Dinero;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
 public class DatosInvalidosException extends RuntimeException {
     
     public DatosInvalidosException(String mensaje) {
@@ -12,9 +16,16 @@ public class DatosInvalidosException extends RuntimeException {
         );
     }
     
-    public static DatosInvalidosException saldoInicialNegativo(Double saldo) {
+    public static DatosInvalidosException saldoInicialNegativo(Dinero saldo) {
+        return new DatosInvalidosException(
+            String.format("El saldo inicial no puede ser negativo: %s", saldo)
+        );
+    }
+    
+    public static DatosInvalidosException importeInvalido(BigDecimal importe) {
         return new DatosInvalidosException(
-            String.format("El saldo inicial no puede ser negativo: %.2f", saldo)
+            String.format("El importe %s no es válido: admite hasta %d decimales y un máximo de %d dígitos enteros",
+                importe, Dinero.ESCALA, Dinero.MAXIMO_DIGITOS_ENTEROS)
         );
     }
     
@@ -36,9 +47,47 @@ public class DatosInvalidosException extends RuntimeException {
         );
     }
     
+    public static DatosInvalidosException rangoFechasInvalido(LocalDate fechaInicio, LocalDate fechaFin) {
+        return new DatosInvalidosException(
+            String.format("La fecha de inicio %s es posterior a la fecha fin %s", fechaInicio, fechaFin)
+        );
+    }
+    
+    public static DatosInvalidosException formatoNoSoportado(String formato) {
+        return new DatosInvalidosException(
+            String.format("El formato '%s' no está soportado", formato)
+        );
+    }
+    
+    public static DatosInvalidosException claveIdempotenciaInvalida(int longitudMaxima) {
+        return new DatosInvalidosException(
+            String.format("La clave de idempotencia no puede estar vacía ni superar %d caracteres", longitudMaxima)
+        );
+    }
+    
     public static DatosInvalidosException identificacionInvalida(String identificacion) {
         return new DatosInvalidosException(
             String.format("La identificación '%s' no tiene un formato válido", identificacion)
         );
     }
+    
+    public static DatosInvalidosException loteVacio() {
+        return new DatosInvalidosException("El lote no puede estar vacío");
+    }
+    
+    public static DatosInvalidosException loteExcedeMaximo(int tamano, int maximo) {
+        return new DatosInvalidosException(
+            String.format("El lote tiene %d elementos y el máximo permitido es %d", tamano, maximo)
+        );
+    }
+    
+    public static DatosInvalidosException elementoVacioEnLote() {
+        return new DatosInvalidosException("El elemento del lote está vacío");
+    }
+    
+    public static DatosInvalidosException repetidoEnLote(String campo, Object valor, int indicePrevio) {
+        return new DatosInvalidosException(
+            String.format("El campo '%s' con valor '%s' ya aparece en el lote en la posición %d", campo, valor, indicePrevio)
+        );
+    }
 }
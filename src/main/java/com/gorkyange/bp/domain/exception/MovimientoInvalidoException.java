@@ -14,4 +14,14 @@ public class MovimientoInvalidoException extends RuntimeException {
             String.format("El movimiento con ID %d no existe en el sistema", movimientoId)
         );
     }
+    
+    public static MovimientoInvalidoException loteVacio() {
+        return new MovimientoInvalidoException("El lote de movimientos no puede estar vacío");
+    }
+    
+    public static MovimientoInvalidoException loteExcedeMaximo(int tamano, int maximo) {
+        return new MovimientoInvalidoException(
+            String.format("El lote tiene %d movimientos y el máximo permitido es %d", tamano, maximo)
+        );
+    }
 }
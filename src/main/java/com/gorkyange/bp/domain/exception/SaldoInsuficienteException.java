@@ -1,8 +1,20 @@
 package com.gorkyange.bp.domain.exception;
 
+import com.gorkyange.bp.domain.model.Dinero;
+
 public class SaldoInsuficienteException extends RuntimeException {
-    public SaldoInsuficienteException(Double saldoActual, Double valorRetiro) {
-        super(String.format("Saldo no disponible. Saldo actual: %.2f, Valor a retirar: %.2f", 
-              saldoActual, Math.abs(valorRetiro)));
+    public SaldoInsuficienteException(Dinero saldoActual, Dinero valorRetiro) {
+        super(String.format("Saldo no disponible. Saldo actual: %s, Valor a retirar: %s", 
+              saldoActual, valorRetiro.abs()));
+    }
+
+    private SaldoInsuficienteException(String mensaje) {
+        super(mensaje);
+    }
+
+    // Un cambio sobre un movimiento ya registrado dejaría negativo un saldo posterior
+    public static SaldoInsuficienteException saldoIntermedioNegativo(String numeroCuenta, Dinero saldoMinimo) {
+        return new SaldoInsuficienteException(String.format(
+                "Saldo no disponible. El cambio deja la cuenta %s con un saldo de %s", numeroCuenta, saldoMinimo));
     }
 }
@@ -0,0 +1,7 @@
+package com.gorkyange.bp.domain.exception;
+
+public class TrabajoReporteNoCompletadoException extends RuntimeException {
+    public TrabajoReporteNoCompletadoException(String id, String estado) {
+        super(String.format("El trabajo de reporte %s no tiene resultado disponible (estado %s)", id, estado));
+    }
+}
@@ -0,0 +1,7 @@
+package com.gorkyange.bp.domain.exception;
+
+public class TrabajoReporteNoEncontradoException extends RuntimeException {
+    public TrabajoReporteNoEncontradoException(String id) {
+        super(String.format("Trabajo de reporte no encontrado o expirado: %s", id));
+    }
+}
@@ -0,0 +1,7 @@
+package com.gorkyange.bp.domain.exception;
+
+public class TrabajoReporteResultadoExpiradoException extends RuntimeException {
+    public TrabajoReporteResultadoExpiradoException(String id) {
+        super(String.format("El resultado del trabajo de reporte %s ya no está disponible; solicite el reporte nuevamente", id));
+    }
+}
@@ -5,14 +5,16 @@ public class Cuenta {
     private Long id;
     private String numeroCuenta;
     private String tipoCuenta;
-    private Double saldoInicial;
+    private Dinero saldoInicial;
+    private Dinero saldoActual;
+    private Long version;
     private Boolean estado;
     private Long clienteId;
 
     public Cuenta() {
     }
 
-    public Cuenta(String numeroCuenta, String tipoCuenta, Double saldoInicial, Boolean estado, Long clienteId) {
+    public Cuenta(String numeroCuenta, String tipoCuenta, Dinero saldoInicial, Boolean estado, Long clienteId) {
         this.numeroCuenta = numeroCuenta;
         this.tipoCuenta = tipoCuenta;
         this.saldoInicial = saldoInicial;
@@ -44,14 +46,30 @@ public class Cuenta {
         this.tipoCuenta = tipoCuenta;
     }
 
-    public Double getSaldoInicial() {
+    public Dinero getSaldoInicial() {
         return saldoInicial;
     }
 
-    public void setSaldoInicial(Double saldoInicial) {
+    public void setSaldoInicial(Dinero saldoInicial) {
         this.saldoInicial = saldoInicial;
     }
 
+    public Dinero getSaldoActual() {
+        return saldoActual;
+    }
+
+    public void setSaldoActual(Dinero saldoActual) {
+        this.saldoActual = saldoActual;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Boolean getEstado() {
         return estado;
     }
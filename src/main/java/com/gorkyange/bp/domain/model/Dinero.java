@@ -0,0 +1,114 @@
+package com.gorkyange.bp.domain.model;
+
+import com.gorkyange.bp.domain.exception.DatosInvalidosException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Importe monetario exacto expresado en centavos (escala 2, igual que DECIMAL(18,2)).
+ * Es inmutable; los cálculos de saldo en caliente operan sobre {@link #getCentavos()}
+ * como long primitivo y solo crean un Dinero al fijar el resultado.
+ */
+public final class Dinero implements Comparable<Dinero> {
+
+    public static final int ESCALA = 2;
+    public static final Dinero CERO = new Dinero(0L);
+    // DECIMAL(18,2) admite 16 dígitos enteros más los 2 decimales
+    public static final int MAXIMO_DIGITOS_ENTEROS = 16;
+    private static final long LIMITE_CENTAVOS = 1_000_000_000_000_000_000L;
+
+    private final long centavos;
+
+    private Dinero(long centavos) {
+        this.centavos = centavos;
+    }
+
+    public static Dinero deCentavos(long centavos) {
+        return centavos == 0L ? CERO : new Dinero(centavos);
+    }
+
+    /**
+     * Convierte un importe exacto en centavos. Un importe con fracciones de centavo o con más
+     * dígitos enteros de los que admiten las columnas DECIMAL(18,2) se rechaza con
+     * {@link DatosInvalidosException}; no se redondea en silencio ni se deja fallar al guardar.
+     */
+    public static Dinero de(BigDecimal valor) {
+        try {
+            long centavos;
+            if (valor.scale() == ESCALA) {
+                // Columnas DECIMAL(18,2) y la mayoría de entradas: sin reescalar
+                centavos = valor.unscaledValue().longValueExact();
+            } else {
+                // Sin ceros de sobra, un exponente enorme (1E999999999) se rechaza antes de reescalar
+                BigDecimal exacto = valor.stripTrailingZeros();
+                if (exacto.precision() - exacto.scale() > MAXIMO_DIGITOS_ENTEROS) {
+                    throw new ArithmeticException("Fuera de rango");
+                }
+                centavos = exacto.setScale(ESCALA, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+            }
+            if (centavos >= LIMITE_CENTAVOS || centavos <= -LIMITE_CENTAVOS) {
+                throw new ArithmeticException("Fuera de rango");
+            }
+            return deCentavos(centavos);
+        } catch (ArithmeticException e) {
+            throw DatosInvalidosException.importeInvalido(valor);
+        }
+    }
+
+    public static Dinero de(double valor) {
+        return de(BigDecimal.valueOf(valor));
+    }
+
+    public long getCentavos() {
+        return centavos;
+    }
+
+    public Dinero sumar(Dinero otro) {
+        return deCentavos(Math.addExact(centavos, otro.centavos));
+    }
+
+    public Dinero restar(Dinero otro) {
+        return deCentavos(Math.subtractExact(centavos, otro.centavos));
+    }
+
+    public Dinero negar() {
+        return deCentavos(Math.negateExact(centavos));
+    }
+
+    public Dinero abs() {
+        return centavos < 0 ? negar() : this;
+    }
+
+    public boolean esCero() {
+        return centavos == 0L;
+    }
+
+    public boolean esNegativo() {
+        return centavos < 0L;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(centavos, ESCALA);
+    }
+
+    @Override
+    public int compareTo(Dinero otro) {
+        return Long.compare(centavos, otro.centavos);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Dinero otro && centavos == otro.centavos);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(centavos);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
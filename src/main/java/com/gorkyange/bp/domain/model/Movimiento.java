@@ -7,20 +7,20 @@ public class Movimiento {
     private Long id;
     private LocalDate fecha;
     private String tipoMovimiento;
-    private Double valor;
-    private Double saldo;
+    private Dinero valor;
+    private Dinero saldo;
     private String numeroCuenta;
     
     // Campos enriquecidos para el response
     private String nombreCliente;
     private String tipoCuenta;
-    private Double saldoInicial;
+    private Dinero saldoInicial;
     private Boolean estadoCuenta;
 
     public Movimiento() {
     }
 
-    public Movimiento(LocalDate fecha, String tipoMovimiento, Double valor, Double saldo, String numeroCuenta) {
+    public Movimiento(LocalDate fecha, String tipoMovimiento, Dinero valor, Dinero saldo, String numeroCuenta) {
         this.fecha = fecha;
         this.tipoMovimiento = tipoMovimiento;
         this.valor = valor;
@@ -52,19 +52,19 @@ public class Movimiento {
         this.tipoMovimiento = tipoMovimiento;
     }
 
-    public Double getValor() {
+    public Dinero getValor() {
         return valor;
     }
 
-    public void setValor(Double valor) {
+    public void setValor(Dinero valor) {
         this.valor = valor;
     }
 
-    public Double getSaldo() {
+    public Dinero getSaldo() {
         return saldo;
     }
 
-    public void setSaldo(Double saldo) {
+    public void setSaldo(Dinero saldo) {
         this.saldo = saldo;
     }
 
@@ -92,11 +92,11 @@ public class Movimiento {
         this.tipoCuenta = tipoCuenta;
     }
 
-    public Double getSaldoInicial() {
+    public Dinero getSaldoInicial() {
         return saldoInicial;
     }
 
-    public void setSaldoInicial(Double saldoInicial) {
+    public void setSaldoInicial(Dinero saldoInicial) {
         this.saldoInicial = saldoInicial;
     }
 
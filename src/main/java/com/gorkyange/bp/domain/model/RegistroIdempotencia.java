@@ -0,0 +1,31 @@
+package com.gorkyange.bp.domain.model;
+
+/**
+ * Resultado de un movimiento creado con una clave de idempotencia. La huella resume
+ * el contenido de la solicitud original para detectar claves reutilizadas con otro
+ * contenido; el movimiento es la respuesta que se devuelve en cada repetición.
+ */
+public class RegistroIdempotencia {
+
+    private final String clave;
+    private final String huella;
+    private final Movimiento movimiento;
+
+    public RegistroIdempotencia(String clave, String huella, Movimiento movimiento) {
+        this.clave = clave;
+        this.huella = huella;
+        this.movimiento = movimiento;
+    }
+
+    public String getClave() {
+        return clave;
+    }
+
+    public String getHuella() {
+        return huella;
+    }
+
+    public Movimiento getMovimiento() {
+        return movimiento;
+    }
+}
@@ -0,0 +1,38 @@
+package com.gorkyange.bp.domain.model;
+
+public class ResultadoClienteLote {
+
+    private final int indice;
+    private final Cliente cliente;
+    private final String error;
+
+    private ResultadoClienteLote(int indice, Cliente cliente, String error) {
+        this.indice = indice;
+        this.cliente = cliente;
+        this.error = error;
+    }
+
+    public static ResultadoClienteLote creado(int indice, Cliente cliente) {
+        return new ResultadoClienteLote(indice, cliente, null);
+    }
+
+    public static ResultadoClienteLote rechazado(int indice, Cliente cliente, String error) {
+        return new ResultadoClienteLote(indice, cliente, error);
+    }
+
+    public int getIndice() {
+        return indice;
+    }
+
+    public Cliente getCliente() {
+        return cliente;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isCreado() {
+        return error == null;
+    }
+}
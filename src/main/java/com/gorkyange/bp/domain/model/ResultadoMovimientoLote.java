@@ -0,0 +1,38 @@
+package com.gorkyange.bp.domain.model;
+
+public class ResultadoMovimientoLote {
+
+    private final int indice;
+    private final Movimiento movimiento;
+    private final String error;
+
+    private ResultadoMovimientoLote(int indice, Movimiento movimiento, String error) {
+        this.indice = indice;
+        this.movimiento = movimiento;
+        this.error = error;
+    }
+
+    public static ResultadoMovimientoLote creado(int indice, Movimiento movimiento) {
+        return new ResultadoMovimientoLote(indice, movimiento, null);
+    }
+
+    public static ResultadoMovimientoLote rechazado(int indice, Movimiento movimiento, String error) {
+        return new ResultadoMovimientoLote(indice, movimiento, error);
+    }
+
+    public int getIndice() {
+        return indice;
+    }
+
+    public Movimiento getMovimiento() {
+        return movimiento;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isCreado() {
+        return error == null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.gorkyange.bp.domain.model;
+
+/**
+ * Cuenta junto con su saldo vigente, guardado en centavos para que el cálculo
+ * del siguiente saldo no cree objetos intermedios, y la versión de ese saldo
+ * en base de datos contra la que se confirma la siguiente escritura.
+ */
+public class SaldoCuenta {
+
+    private final Cuenta cuenta;
+    private final long saldoCentavos;
+    private final long version;
+
+    public SaldoCuenta(Cuenta cuenta, long saldoCentavos, long version) {
+        this.cuenta = cuenta;
+        this.saldoCentavos = saldoCentavos;
+        this.version = version;
+    }
+
+    public Cuenta getCuenta() {
+        return cuenta;
+    }
+
+    public long getSaldoCentavos() {
+        return saldoCentavos;
+    }
+
+    public Dinero getSaldo() {
+        return Dinero.deCentavos(saldoCentavos);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Estado tras una escritura confirmada: nuevo saldo y la versión siguiente.
+     */
+    public SaldoCuenta conSaldo(long nuevoSaldoCentavos) {
+        return new SaldoCuenta(cuenta, nuevoSaldoCentavos, version + 1);
+    }
+}
@@ -0,0 +1,51 @@
+package com.gorkyange.bp.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * Foto del cierre de una cuenta en un día con movimientos: saldo al final del día
+ * y totales de débitos, créditos y cantidad de movimientos de ese día.
+ */
+public class SaldoDiario {
+
+    private final String numeroCuenta;
+    private final LocalDate fecha;
+    private final Dinero saldoCierre;
+    private final Dinero totalDebitos;
+    private final Dinero totalCreditos;
+    private final int cantidadMovimientos;
+
+    public SaldoDiario(String numeroCuenta, LocalDate fecha, Dinero saldoCierre,
+                       Dinero totalDebitos, Dinero totalCreditos, int cantidadMovimientos) {
+        this.numeroCuenta = numeroCuenta;
+        this.fecha = fecha;
+        this.saldoCierre = saldoCierre;
+        this.totalDebitos = totalDebitos;
+        this.totalCreditos = totalCreditos;
+        this.cantidadMovimientos = cantidadMovimientos;
+    }
+
+    public String getNumeroCuenta() {
+        return numeroCuenta;
+    }
+
+    public LocalDate getFecha() {
+        return fecha;
+    }
+
+    public Dinero getSaldoCierre() {
+        return saldoCierre;
+    }
+
+    public Dinero getTotalDebitos() {
+        return totalDebitos;
+    }
+
+    public Dinero getTotalCreditos() {
+        return totalCreditos;
+    }
+
+    public int getCantidadMovimientos() {
+        return cantidadMovimientos;
+    }
+}
@@ -2,6 +2,7 @@ package com.gorkyange.bp.infrastructure.adapter.in.rest;
 
 import com.gorkyange.bp.application.port.in.*;
 import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ClienteLoteResponse;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ClienteRequest;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ClienteResponse;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.mapper.ClienteRestMapper;
@@ -17,6 +18,7 @@ import java.util.stream.Collectors;
 public class ClienteController {
 
     private final CrearClienteUseCase crearClienteUseCase;
+    private final CrearClientesLoteUseCase crearClientesLoteUseCase;
     private final ActualizarClienteUseCase actualizarClienteUseCase;
     private final ObtenerClienteUseCase obtenerClienteUseCase;
     private final ListarClientesUseCase listarClientesUseCase;
@@ -24,12 +26,14 @@ public class ClienteController {
     private final ClienteRestMapper mapper;
 
     public ClienteController(CrearClienteUseCase crearClienteUseCase,
+                             CrearClientesLoteUseCase crearClientesLoteUseCase,
                              ActualizarClienteUseCase actualizarClienteUseCase,
                              ObtenerClienteUseCase obtenerClienteUseCase,
                              ListarClientesUseCase listarClientesUseCase,
                              EliminarClienteUseCase eliminarClienteUseCase,
                              ClienteRestMapper mapper) {
         this.crearClienteUseCase = crearClienteUseCase;
+        this.crearClientesLoteUseCase = crearClientesLoteUseCase;
         this.actualizarClienteUseCase = actualizarClienteUseCase;
         this.obtenerClienteUseCase = obtenerClienteUseCase;
         this.listarClientesUseCase = listarClientesUseCase;
@@ -44,6 +48,21 @@ public class ClienteController {
         return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(creado));
     }
 
+    @PostMapping("/lote")
+    public ResponseEntity<List<ClienteLoteResponse>> crearLote(@RequestBody List<ClienteRequest> requests) {
+        // Un elemento null del arreglo llega como null y el servicio lo rechaza por su índice
+        List<Cliente> clientes = requests.stream()
+                .map(request -> request == null ? null : mapper.toDomain(request))
+                .collect(Collectors.toList());
+
+        List<ClienteLoteResponse> response = crearClientesLoteUseCase.crearLote(clientes)
+                .stream()
+                .map(mapper::toLoteResponse)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{clienteId}")
     public ResponseEntity<ClienteResponse> obtener(@PathVariable Long clienteId) {
         return obtenerClienteUseCase.obtenerPorId(clienteId)
@@ -52,8 +71,13 @@ public class ClienteController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ClienteResponse>> listar() {
-        List<ClienteResponse> clientes = listarClientesUseCase.listarTodos()
+    public ResponseEntity<List<ClienteResponse>> listar(@RequestParam(required = false) Long after,
+                                                        @RequestParam(required = false) Integer limit) {
+        List<Cliente> resultado = (after != null || limit != null)
+                ? listarClientesUseCase.listarPagina(after, limit)
+                : listarClientesUseCase.listarTodos();
+        
+        List<ClienteResponse> clientes = resultado
                 .stream()
                 .map(mapper::toResponse)
                 .collect(Collectors.toList());
@@ -2,13 +2,17 @@ package com.gorkyange.bp.infrastructure.adapter.in.rest;
 
 import com.gorkyange.bp.application.port.in.*;
 import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.CuentaRequest;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.CuentaResponse;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.SaldoFechaResponse;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.mapper.CuentaRestMapper;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -21,6 +25,7 @@ public class CuentaController {
     private final ObtenerCuentaUseCase obtenerCuentaUseCase;
     private final ListarCuentasUseCase listarCuentasUseCase;
     private final EliminarCuentaUseCase eliminarCuentaUseCase;
+    private final ConsultarSaldoUseCase consultarSaldoUseCase;
     private final CuentaRestMapper mapper;
 
     public CuentaController(CrearCuentaUseCase crearCuentaUseCase,
@@ -28,12 +33,14 @@ public class CuentaController {
                             ObtenerCuentaUseCase obtenerCuentaUseCase,
                             ListarCuentasUseCase listarCuentasUseCase,
                             EliminarCuentaUseCase eliminarCuentaUseCase,
+                            ConsultarSaldoUseCase consultarSaldoUseCase,
                             CuentaRestMapper mapper) {
         this.crearCuentaUseCase = crearCuentaUseCase;
         this.actualizarCuentaUseCase = actualizarCuentaUseCase;
         this.obtenerCuentaUseCase = obtenerCuentaUseCase;
         this.listarCuentasUseCase = listarCuentasUseCase;
         this.eliminarCuentaUseCase = eliminarCuentaUseCase;
+        this.consultarSaldoUseCase = consultarSaldoUseCase;
         this.mapper = mapper;
     }
 
@@ -51,11 +58,24 @@ public class CuentaController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{numeroCuenta}/saldo")
+    public ResponseEntity<SaldoFechaResponse> obtenerSaldo(
+            @PathVariable String numeroCuenta,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fecha) {
+        LocalDate corte = fecha != null ? fecha : LocalDate.now();
+        Dinero saldo = consultarSaldoUseCase.obtenerSaldoAl(numeroCuenta, corte);
+        return ResponseEntity.ok(new SaldoFechaResponse(numeroCuenta, corte, saldo));
+    }
+
     @GetMapping
-    public ResponseEntity<List<CuentaResponse>> listar(@RequestParam(required = false) Long clienteId) {
+    public ResponseEntity<List<CuentaResponse>> listar(@RequestParam(required = false) Long clienteId,
+                                                       @RequestParam(required = false) Long after,
+                                                       @RequestParam(required = false) Integer limit) {
         List<Cuenta> cuentas;
         if (clienteId != null) {
             cuentas = listarCuentasUseCase.listarPorCliente(clienteId);
+        } else if (after != null || limit != null) {
+            cuentas = listarCuentasUseCase.listarPagina(after, limit);
         } else {
             cuentas = listarCuentasUseCase.listarTodas();
         }
@@ -1,15 +1,34 @@
 package com.gorkyange.bp.infrastructure.adapter.in.rest;
 
 import com.gorkyange.bp.application.port.in.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gorkyange.bp.domain.exception.DatosInvalidosException;
 import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.MovimientoLoteResponse;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.MovimientoRequest;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.MovimientoResponse;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.mapper.MovimientoRestMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -23,41 +42,86 @@ public class MovimientoController {
     private final ObtenerMovimientoUseCase obtenerMovimientoUseCase;
     private final ActualizarMovimientoUseCase actualizarMovimientoUseCase;
     private final EliminarMovimientoUseCase eliminarMovimientoUseCase;
+    private final CrearMovimientosLoteUseCase crearMovimientosLoteUseCase;
+    private final ExportarMovimientosUseCase exportarMovimientosUseCase;
     private final MovimientoRestMapper mapper;
+    private final ObjectWriter jsonWriter;
+    private final Duration limiteExportacion;
 
     public MovimientoController(CrearMovimientoUseCase crearMovimientoUseCase,
                                 ListarMovimientosUseCase listarMovimientosUseCase,
                                 ObtenerMovimientoUseCase obtenerMovimientoUseCase,
                                 ActualizarMovimientoUseCase actualizarMovimientoUseCase,
                                 EliminarMovimientoUseCase eliminarMovimientoUseCase,
-                                MovimientoRestMapper mapper) {
+                                CrearMovimientosLoteUseCase crearMovimientosLoteUseCase,
+                                ExportarMovimientosUseCase exportarMovimientosUseCase,
+                                MovimientoRestMapper mapper,
+                                ObjectMapper objectMapper,
+                                @Value("${bp.movimientos.exportacion.limite:30m}") Duration limiteExportacion) {
         this.crearMovimientoUseCase = crearMovimientoUseCase;
         this.listarMovimientosUseCase = listarMovimientosUseCase;
         this.obtenerMovimientoUseCase = obtenerMovimientoUseCase;
         this.actualizarMovimientoUseCase = actualizarMovimientoUseCase;
         this.eliminarMovimientoUseCase = eliminarMovimientoUseCase;
+        this.crearMovimientosLoteUseCase = crearMovimientosLoteUseCase;
+        this.exportarMovimientosUseCase = exportarMovimientosUseCase;
         this.mapper = mapper;
+        // Sin cerrar ni vaciar el destino en cada fila: el writer de la exportación agrupa las escrituras
+        this.jsonWriter = objectMapper.writerFor(MovimientoResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.limiteExportacion = limiteExportacion;
     }
 
     @PostMapping
-    public ResponseEntity<MovimientoResponse> crear(@RequestBody MovimientoRequest request) {
+    public ResponseEntity<MovimientoResponse> crear(
+            @RequestBody MovimientoRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String claveIdempotencia) {
         Movimiento movimiento = mapper.toDomain(request);
-        Movimiento creado = crearMovimientoUseCase.crear(movimiento);
+        // Con Idempotency-Key, un reintento de la misma solicitud devuelve el movimiento ya registrado
+        Movimiento creado = claveIdempotencia == null
+                ? crearMovimientoUseCase.crear(movimiento)
+                : crearMovimientoUseCase.crear(movimiento, claveIdempotencia);
         return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toResponse(creado));
     }
 
+    @PostMapping("/lote")
+    public ResponseEntity<List<MovimientoLoteResponse>> crearLote(@RequestBody List<MovimientoRequest> requests) {
+        // Un elemento null del arreglo llega como null y el servicio lo rechaza por su índice
+        List<Movimiento> movimientos = requests.stream()
+                .map(request -> request == null ? null : mapper.toDomain(request))
+                .collect(Collectors.toList());
+        
+        List<MovimientoLoteResponse> response = crearMovimientosLoteUseCase.crearLote(movimientos)
+                .stream()
+                .map(mapper::toLoteResponse)
+                .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     public ResponseEntity<List<MovimientoResponse>> listar(
             @RequestParam(required = false) String numeroCuenta,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaInicio,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaFin) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaFin,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit) {
         
         List<Movimiento> movimientos;
+        // Paginación por cursor ordenada por (fecha, id), también dentro de los filtros
+        boolean paginado = after != null || limit != null;
         
         if (numeroCuenta != null) {
-            movimientos = listarMovimientosUseCase.listarPorCuenta(numeroCuenta);
+            movimientos = paginado
+                    ? listarMovimientosUseCase.listarPaginaPorCuenta(numeroCuenta, after, limit)
+                    : listarMovimientosUseCase.listarPorCuenta(numeroCuenta);
         } else if (fechaInicio != null && fechaFin != null) {
-            movimientos = listarMovimientosUseCase.listarPorFechas(fechaInicio, fechaFin);
+            movimientos = paginado
+                    ? listarMovimientosUseCase.listarPaginaPorFechas(fechaInicio, fechaFin, after, limit)
+                    : listarMovimientosUseCase.listarPorFechas(fechaInicio, fechaFin);
+        } else if (paginado) {
+            movimientos = listarMovimientosUseCase.listarPagina(after, limit);
         } else {
             movimientos = listarMovimientosUseCase.listarTodos();
         }
@@ -69,6 +133,60 @@ public class MovimientoController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/export")
+    public WebAsyncTask<Void> exportar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaFin,
+            @RequestParam(defaultValue = "ndjson") String formato,
+            HttpServletResponse response) {
+
+        if (fechaInicio.isAfter(fechaFin)) {
+            throw DatosInvalidosException.rangoFechasInvalido(fechaInicio, fechaFin);
+        }
+
+        boolean csv;
+        if ("csv".equalsIgnoreCase(formato)) {
+            csv = true;
+        } else if ("ndjson".equalsIgnoreCase(formato)) {
+            csv = false;
+        } else {
+            throw DatosInvalidosException.formatoNoSoportado(formato);
+        }
+
+        // Cada fila se escribe en cuanto se lee del cursor; no se acumula la lista completa
+        StreamingResponseBody cuerpo = salida -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8));
+            if (csv) {
+                writer.write("id,fecha,tipoMovimiento,valor,saldo,numeroCuenta\n");
+            }
+            try {
+                exportarMovimientosUseCase.exportarPorFechas(fechaInicio, fechaFin, movimiento -> {
+                    try {
+                        if (csv) {
+                            escribirCsv(writer, movimiento);
+                        } else {
+                            jsonWriter.writeValue(writer, mapper.toResponse(movimiento));
+                            writer.write('\n');
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+
+        String extension = csv ? "csv" : "ndjson";
+        response.setContentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8).toString()
+                : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"movimientos-" + fechaInicio + "-" + fechaFin + "." + extension + "\"");
+        // Rangos grandes tardan minutos; el límite es propio de la exportación, no global
+        return RespuestaEnStreaming.de(response, limiteExportacion, cuerpo);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<MovimientoResponse> obtener(@PathVariable Long id) {
         return obtenerMovimientoUseCase.obtenerPorId(id)
@@ -97,4 +215,29 @@ public class MovimientoController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    private void escribirCsv(Writer writer, Movimiento movimiento) throws IOException {
+        writer.write(String.valueOf(movimiento.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(movimiento.getFecha()));
+        writer.write(',');
+        writer.write(campoCsv(movimiento.getTipoMovimiento()));
+        writer.write(',');
+        writer.write(String.valueOf(movimiento.getValor()));
+        writer.write(',');
+        writer.write(String.valueOf(movimiento.getSaldo()));
+        writer.write(',');
+        writer.write(campoCsv(movimiento.getNumeroCuenta()));
+        writer.write('\n');
+    }
+
+    private static String campoCsv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
 }
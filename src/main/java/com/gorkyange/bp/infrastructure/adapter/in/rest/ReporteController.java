@@ -1,13 +1,27 @@
 package com.gorkyange.bp.infrastructure.adapter.in.rest;
 
+import com.gorkyange.bp.application.port.in.ConsultarTrabajoReporteUseCase;
 import com.gorkyange.bp.application.port.in.GenerarReporteUseCase;
+import com.gorkyange.bp.application.port.in.SolicitarReporteUseCase;
+import com.gorkyange.bp.application.port.in.TrabajoReporte;
+import com.gorkyange.bp.domain.exception.TrabajoReporteNoCompletadoException;
+import com.gorkyange.bp.domain.exception.TrabajoReporteResultadoExpiradoException;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.SolicitudReporteRequest;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.TrabajoReporteResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,9 +31,18 @@ import java.util.Map;
 public class ReporteController {
 
     private final GenerarReporteUseCase generarReporteUseCase;
+    private final SolicitarReporteUseCase solicitarReporteUseCase;
+    private final ConsultarTrabajoReporteUseCase consultarTrabajoReporteUseCase;
+    private final Duration limitePdf;
 
-    public ReporteController(GenerarReporteUseCase generarReporteUseCase) {
+    public ReporteController(GenerarReporteUseCase generarReporteUseCase,
+                             SolicitarReporteUseCase solicitarReporteUseCase,
+                             ConsultarTrabajoReporteUseCase consultarTrabajoReporteUseCase,
+                             @Value("${bp.reportes.pdf.limite:5m}") Duration limitePdf) {
         this.generarReporteUseCase = generarReporteUseCase;
+        this.solicitarReporteUseCase = solicitarReporteUseCase;
+        this.consultarTrabajoReporteUseCase = consultarTrabajoReporteUseCase;
+        this.limitePdf = limitePdf;
     }
 
     @GetMapping
@@ -50,4 +73,74 @@ public class ReporteController {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
+
+    @GetMapping("/pdf")
+    public WebAsyncTask<Void> generarReportePdf(
+            @RequestParam Long clienteId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaInicio,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fechaFin,
+            HttpServletResponse response) {
+
+        // Los datos se obtienen antes de abrir la respuesta para que los errores
+        // lleguen al GlobalExceptionHandler con su código HTTP
+        ReporteEstadoCuentaResponse reporte = generarReporteUseCase.generarReporte(clienteId, fechaInicio, fechaFin);
+
+        StreamingResponseBody cuerpo = salida -> generarReporteUseCase.escribirReportePdf(reporte, salida);
+
+        response.setContentType(MediaType.APPLICATION_PDF_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"estado-cuenta-" + clienteId + ".pdf\"");
+        return RespuestaEnStreaming.de(response, limitePdf, cuerpo);
+    }
+
+    @PostMapping("/jobs")
+    public ResponseEntity<TrabajoReporteResponse> solicitarReporte(@RequestBody SolicitudReporteRequest request) {
+        TrabajoReporte trabajo = solicitarReporteUseCase.solicitarReporte(request.getClienteId(),
+                request.getFechaInicio(), request.getFechaFin(), request.getFormato());
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .location(URI.create("/reportes/jobs/" + trabajo.getId()))
+                .body(toResponse(trabajo));
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<TrabajoReporteResponse> obtenerTrabajo(@PathVariable String id) {
+        return ResponseEntity.ok(toResponse(consultarTrabajoReporteUseCase.obtenerTrabajo(id)));
+    }
+
+    @GetMapping("/jobs/{id}/resultado")
+    public ResponseEntity<?> descargarResultado(@PathVariable String id) {
+        TrabajoReporte trabajo = consultarTrabajoReporteUseCase.obtenerTrabajo(id);
+        if (trabajo.getEstado() == TrabajoReporte.Estado.RESULTADO_EXPIRADO) {
+            throw new TrabajoReporteResultadoExpiradoException(id);
+        }
+        if (trabajo.getEstado() != TrabajoReporte.Estado.COMPLETADO) {
+            throw new TrabajoReporteNoCompletadoException(id, trabajo.getEstado().name());
+        }
+
+        if (trabajo.esPdf()) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_PDF)
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            "inline; filename=\"estado-cuenta-" + trabajo.getClienteId() + ".pdf\"")
+                    .body(trabajo.getPdf());
+        }
+        return ResponseEntity.ok(trabajo.getReporte());
+    }
+
+    private TrabajoReporteResponse toResponse(TrabajoReporte trabajo) {
+        TrabajoReporteResponse response = new TrabajoReporteResponse();
+        response.setId(trabajo.getId());
+        response.setEstado(trabajo.getEstado().name());
+        response.setClienteId(trabajo.getClienteId());
+        response.setFechaInicio(trabajo.getFechaInicio());
+        response.setFechaFin(trabajo.getFechaFin());
+        response.setFormato(trabajo.getFormato());
+        response.setFechaSolicitud(trabajo.getFechaSolicitud());
+        response.setFechaFinalizacion(trabajo.getFechaFinalizacion());
+        response.setError(trabajo.getError());
+        if (trabajo.getEstado() == TrabajoReporte.Estado.COMPLETADO) {
+            response.setResultado("/reportes/jobs/" + trabajo.getId() + "/resultado");
+        }
+        return response;
+    }
 }
@@ -0,0 +1,30 @@
+package com.gorkyange.bp.infrastructure.adapter.in.rest;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+
+/**
+ * Respuesta escrita en un hilo del ejecutor de Spring MVC con un límite de tiempo propio del
+ * endpoint. Un {@link StreamingResponseBody} devuelto directamente solo admite el límite
+ * global de spring.mvc.async.request-timeout, que vale para todas las respuestas asíncronas.
+ */
+final class RespuestaEnStreaming {
+
+    private RespuestaEnStreaming() {
+    }
+
+    /**
+     * El estado y las cabeceras se fijan en la respuesta antes de llamar; el cuerpo se escribe
+     * directamente en ella. Si el límite vence antes de empezar a escribir se responde 503.
+     */
+    static WebAsyncTask<Void> de(HttpServletResponse response, Duration limite, StreamingResponseBody cuerpo) {
+        return new WebAsyncTask<>(limite.toMillis(), () -> {
+            cuerpo.writeTo(response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.gorkyange.bp.infrastructure.adapter.in.rest.dto;
+
+public class ClienteLoteResponse {
+
+    private Integer indice;
+    private String estado;
+    private ClienteResponse cliente;
+    private String error;
+
+    public ClienteLoteResponse() {
+    }
+
+    public Integer getIndice() {
+        return indice;
+    }
+
+    public void setIndice(Integer indice) {
+        this.indice = indice;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public void setEstado(String estado) {
+        this.estado = estado;
+    }
+
+    public ClienteResponse getCliente() {
+        return cliente;
+    }
+
+    public void setCliente(ClienteResponse cliente) {
+        this.cliente = cliente;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -1,10 +1,12 @@
 package com.gorkyange.bp.infrastructure.adapter.in.rest.dto;
 
+import com.gorkyange.bp.domain.model.Dinero;
+
 public class CuentaRequest {
 
     private String numeroCuenta;
     private String tipoCuenta;
-    private Double saldoInicial;
+    private Dinero saldoInicial;
     private Boolean estado;
     private Long clienteId;
 
@@ -27,11 +29,11 @@ public class CuentaRequest {
         this.tipoCuenta = tipoCuenta;
     }
 
-    public Double getSaldoInicial() {
+    public Dinero getSaldoInicial() {
         return saldoInicial;
     }
 
-    public void setSaldoInicial(Double saldoInicial) {
+    public void setSaldoInicial(Dinero saldoInicial) {
         this.saldoInicial = saldoInicial;
     }
 
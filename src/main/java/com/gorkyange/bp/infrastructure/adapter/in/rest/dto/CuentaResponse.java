@@ -1,11 +1,14 @@
 package com.gorkyange.bp.infrastructure.adapter.in.rest.dto;
 
+import com.gorkyange.bp.domain.model.Dinero;
+
 public class CuentaResponse {
 
     private Long id;
     private String numeroCuenta;
     private String tipoCuenta;
-    private Double saldoInicial;
+    private Dinero saldoInicial;
+    private Dinero saldoActual;
     private Boolean estado;
     private Long clienteId;
 
@@ -36,14 +39,22 @@ public class CuentaResponse {
         this.tipoCuenta = tipoCuenta;
     }
 
-    public Double getSaldoInicial() {
+    public Dinero getSaldoInicial() {
         return saldoInicial;
     }
 
-    public void setSaldoInicial(Double saldoInicial) {
+    public void setSaldoInicial(Dinero saldoInicial) {
         this.saldoInicial = saldoInicial;
     }
 
+    public Dinero getSaldoActual() {
+        return saldoActual;
+    }
+
+    public void setSaldoActual(Dinero saldoActual) {
+        this.saldoActual = saldoActual;
+    }
+
     public Boolean getEstado() {
         return estado;
     }
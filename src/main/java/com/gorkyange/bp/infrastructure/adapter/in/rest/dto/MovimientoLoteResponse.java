@@ -0,0 +1,44 @@
+package com.gorkyange.bp.infrastructure.adapter.in.rest.dto;
+
+public class MovimientoLoteResponse {
+
+    private Integer indice;
+    private String estado;
+    private MovimientoResponse movimiento;
+    private String error;
+
+    public MovimientoLoteResponse() {
+    }
+
+    public Integer getIndice() {
+        return indice;
+    }
+
+    public void setIndice(Integer indice) {
+        this.indice = indice;
+    }
+
+    public String getEstado() {
+        return estado;
+    }
+
+    public void setEstado(String estado) {
+        this.estado = estado;
+    }
+
+    public MovimientoResponse getMovimiento() {
+        return movimiento;
+    }
+
+    public void setMovimiento(MovimientoResponse movimiento) {
+        this.movimiento = movimiento;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -1,12 +1,13 @@
 package com.gorkyange.bp.infrastructure.adapter.in.rest.dto;
 
+import com.gorkyange.bp.domain.model.Dinero;
 import java.time.LocalDate;
 
 public class MovimientoRequest {
 
     private LocalDate fecha;
     private String tipoMovimiento;
-    private Double valor;
+    private Dinero valor;
     private String numeroCuenta;
 
     public MovimientoRequest() {
@@ -28,11 +29,11 @@ public class MovimientoRequest {
         this.tipoMovimiento = tipoMovimiento;
     }
 
-    public Double getValor() {
+    public Dinero getValor() {
         return valor;
     }
 
-    public void setValor(Double valor) {
+    public void setValor(Dinero valor) {
         this.valor = valor;
     }
 
@@ -1,5 +1,6 @@
 package com.gorkyange.bp.infrastructure.adapter.in.rest.dto;
 
+import com.gorkyange.bp.domain.model.Dinero;
 import java.time.LocalDate;
 
 public class MovimientoResponse {
@@ -7,12 +8,12 @@ public class MovimientoResponse {
     private Long id;
     private LocalDate fecha;
     private String tipoMovimiento;
-    private Double valor;
-    private Double saldo;
+    private Dinero valor;
+    private Dinero saldo;
     private String numeroCuenta;
     private String cliente;
     private String tipoCuenta;
-    private Double saldoInicial;
+    private Dinero saldoInicial;
     private Boolean estado;
 
     public MovimientoResponse() {
@@ -42,19 +43,19 @@ public class MovimientoResponse {
         this.tipoMovimiento = tipoMovimiento;
     }
 
-    public Double getValor() {
+    public Dinero getValor() {
         return valor;
     }
 
-    public void setValor(Double valor) {
+    public void setValor(Dinero valor) {
         this.valor = valor;
     }
 
-    public Double getSaldo() {
+    public Dinero getSaldo() {
         return saldo;
     }
 
-    public void setSaldo(Double saldo) {
+    public void setSaldo(Dinero saldo) {
         this.saldo = saldo;
     }
 
@@ -82,11 +83,11 @@ public class MovimientoResponse {
         this.tipoCuenta = tipoCuenta;
     }
 
-    public Double getSaldoInicial() {
+    public Dinero getSaldoInicial() {
         return saldoInicial;
     }
 
-    public void setSaldoInicial(Double saldoInicial) {
+    public void setSaldoInicial(Dinero saldoInicial) {
         this.saldoInicial = saldoInicial;
     }
 
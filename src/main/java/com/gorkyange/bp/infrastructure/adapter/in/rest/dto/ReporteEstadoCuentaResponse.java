@@ -1,5 +1,6 @@
 package com.gorkyange.bp.infrastructure.adapter.in.rest.dto;
 
+import com.gorkyange.bp.domain.model.Dinero;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -14,13 +15,13 @@ public class ReporteEstadoCuentaResponse {
     public static class CuentaReporte {
         private String numeroCuenta;
         private String tipoCuenta;
-        private Double saldoInicial;
-        private Double saldoActual;
+        private Dinero saldoInicial;
+        private Dinero saldoActual;
         private List<MovimientoReporte> movimientos;
 
         public CuentaReporte() {}
 
-        public CuentaReporte(String numeroCuenta, String tipoCuenta, Double saldoInicial, Double saldoActual, List<MovimientoReporte> movimientos) {
+        public CuentaReporte(String numeroCuenta, String tipoCuenta, Dinero saldoInicial, Dinero saldoActual, List<MovimientoReporte> movimientos) {
             this.numeroCuenta = numeroCuenta;
             this.tipoCuenta = tipoCuenta;
             this.saldoInicial = saldoInicial;
@@ -44,19 +45,19 @@ public class ReporteEstadoCuentaResponse {
             this.tipoCuenta = tipoCuenta;
         }
 
-        public Double getSaldoInicial() {
+        public Dinero getSaldoInicial() {
             return saldoInicial;
         }
 
-        public void setSaldoInicial(Double saldoInicial) {
+        public void setSaldoInicial(Dinero saldoInicial) {
             this.saldoInicial = saldoInicial;
         }
 
-        public Double getSaldoActual() {
+        public Dinero getSaldoActual() {
             return saldoActual;
         }
 
-        public void setSaldoActual(Double saldoActual) {
+        public void setSaldoActual(Dinero saldoActual) {
             this.saldoActual = saldoActual;
         }
 
@@ -72,12 +73,12 @@ public class ReporteEstadoCuentaResponse {
     public static class MovimientoReporte {
         private LocalDate fecha;
         private String tipoMovimiento;
-        private Double valor;
-        private Double saldo;
+        private Dinero valor;
+        private Dinero saldo;
 
         public MovimientoReporte() {}
 
-        public MovimientoReporte(LocalDate fecha, String tipoMovimiento, Double valor, Double saldo) {
+        public MovimientoReporte(LocalDate fecha, String tipoMovimiento, Dinero valor, Dinero saldo) {
             this.fecha = fecha;
             this.tipoMovimiento = tipoMovimiento;
             this.valor = valor;
@@ -100,57 +101,57 @@ public class ReporteEstadoCuentaResponse {
             this.tipoMovimiento = tipoMovimiento;
         }
 
-        public Double getValor() {
+        public Dinero getValor() {
             return valor;
         }
 
-        public void setValor(Double valor) {
+        public void setValor(Dinero valor) {
             this.valor = valor;
         }
 
-        public Double getSaldo() {
+        public Dinero getSaldo() {
             return saldo;
         }
 
-        public void setSaldo(Double saldo) {
+        public void setSaldo(Dinero saldo) {
             this.saldo = saldo;
         }
     }
 
     public static class ResumenReporte {
-        private Double totalDebitos;
-        private Double totalCreditos;
-        private Double saldoFinal;
+        private Dinero totalDebitos;
+        private Dinero totalCreditos;
+        private Dinero saldoFinal;
 
         public ResumenReporte() {}
 
-        public ResumenReporte(Double totalDebitos, Double totalCreditos, Double saldoFinal) {
+        public ResumenReporte(Dinero totalDebitos, Dinero totalCreditos, Dinero saldoFinal) {
             this.totalDebitos = totalDebitos;
             this.totalCreditos = totalCreditos;
             this.saldoFinal = saldoFinal;
         }
 
-        public Double getTotalDebitos() {
+        public Dinero getTotalDebitos() {
             return totalDebitos;
         }
 
-        public void setTotalDebitos(Double totalDebitos) {
+        public void setTotalDebitos(Dinero totalDebitos) {
             this.totalDebitos = totalDebitos;
         }
 
-        public Double getTotalCreditos() {
+        public Dinero getTotalCreditos() {
             return totalCreditos;
         }
 
-        public void setTotalCreditos(Double totalCreditos) {
+        public void setTotalCreditos(Dinero totalCreditos) {
             this.totalCreditos = totalCreditos;
         }
 
-        public Double getSaldoFinal() {
+        public Dinero getSaldoFinal() {
             return saldoFinal;
         }
 
-        public void setSaldoFinal(Double saldoFinal) {
+        public void setSaldoFinal(Dinero saldoFinal) {
             this.saldoFinal = saldoFinal;
         }
     }
@@ -0,0 +1,44 @@
+package com.gorkyange.bp.infrastructure.adapter.in.rest.dto;
+
+import com.gorkyange.bp.domain.model.Dinero;
+import java.time.LocalDate;
+
+public class SaldoFechaResponse {
+
+    private String numeroCuenta;
+    private LocalDate fecha;
+    private Dinero saldo;
+
+    public SaldoFechaResponse() {
+    }
+
+    public SaldoFechaResponse(String numeroCuenta, LocalDate fecha, Dinero saldo) {
+        this.numeroCuenta = numeroCuenta;
+        this.fecha = fecha;
+        this.saldo = saldo;
+    }
+
+    public String getNumeroCuenta() {
+        return numeroCuenta;
+    }
+
+    public void setNumeroCuenta(String numeroCuenta) {
+        this.numeroCuenta = numeroCuenta;
+    }
+
+    public LocalDate getFecha() {
+        return fecha;
+    }
+
+    public void setFecha(LocalDate fecha) {
+        this.fecha = fecha;
+    }
+
+    public Dinero getSaldo() {
+        return saldo;
+    }
+
+    public void setSaldo(Dinero saldo) {
+        this.saldo = saldo;
+    }
+}
@@ -0,0 +1,46 @@
+package com.gorkyange.bp.infrastructure.adapter.in.rest.dto;
+
+import java.time.LocalDate;
+
+public class SolicitudReporteRequest {
+
+    private Long clienteId;
+    private LocalDate fechaInicio;
+    private LocalDate fechaFin;
+    private String formato;
+
+    public SolicitudReporteRequest() {
+    }
+
+    public Long getClienteId() {
+        return clienteId;
+    }
+
+    public void setClienteId(Long clienteId) {
+        this.clienteId = clienteId;
+    }
+
+    public LocalDate getFechaInicio() {
+        return fechaInicio;
+    }
+
+    public void setFechaInicio(LocalDate fechaInicio) {
+        this.fechaInicio = fechaInicio;
+    }
+
+    public LocalDate getFechaFin() {
+        return fechaFin;
+    }
+
+    public void setFechaFin(LocalDate fechaFin) {
+        this.fechaFin = fechaFin;
+    }
+
+    public String getFormato() {
+        return formato;
+    }
+
+    public void setFormato(String formato) {
+        this.formato = formato;
+    }
+}
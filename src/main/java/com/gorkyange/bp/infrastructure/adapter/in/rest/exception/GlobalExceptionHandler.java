@@ -1,8 +1,10 @@
 package com.gorkyange.bp.infrastructure.adapter.in.rest.exception;
 
 import com.gorkyange.bp.domain.exception.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -18,6 +20,21 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), "SALDO_INSUFICIENTE");
     }
 
+    @ExceptionHandler(ConflictoSaldoException.class)
+    public ResponseEntity<Map<String, Object>> handleConflictoSaldo(ConflictoSaldoException ex) {
+        return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), "CONFLICTO_SALDO");
+    }
+
+    @ExceptionHandler(ClaveIdempotenciaReutilizadaException.class)
+    public ResponseEntity<Map<String, Object>> handleClaveIdempotenciaReutilizada(ClaveIdempotenciaReutilizadaException ex) {
+        return buildErrorResponse(HttpStatus.UNPROCESSABLE_ENTITY, ex.getMessage(), "CLAVE_IDEMPOTENCIA_REUTILIZADA");
+    }
+
+    @ExceptionHandler(ClaveIdempotenciaEnUsoException.class)
+    public ResponseEntity<Map<String, Object>> handleClaveIdempotenciaEnUso(ClaveIdempotenciaEnUsoException ex) {
+        return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), "CLAVE_IDEMPOTENCIA_EN_USO");
+    }
+
     @ExceptionHandler(CuentaNoEncontradaException.class)
     public ResponseEntity<Map<String, Object>> handleCuentaNoEncontrada(CuentaNoEncontradaException ex) {
         return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), "CUENTA_NO_ENCONTRADA");
@@ -63,6 +80,41 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), "DATOS_INVALIDOS");
     }
 
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<Map<String, Object>> handleCuerpoNoLegible(HttpMessageNotReadableException ex) {
+        // Jackson envuelve el error de un deserializador, p. ej. un importe con fracciones de centavo
+        for (Throwable causa = ex.getCause(); causa != null; causa = causa.getCause()) {
+            if (causa instanceof DatosInvalidosException datosInvalidos) {
+                return handleDatosInvalidos(datosInvalidos);
+            }
+        }
+        return handleRuntimeException(ex);
+    }
+
+    @ExceptionHandler(TrabajoReporteNoEncontradoException.class)
+    public ResponseEntity<Map<String, Object>> handleTrabajoReporteNoEncontrado(TrabajoReporteNoEncontradoException ex) {
+        return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), "TRABAJO_NO_ENCONTRADO");
+    }
+
+    @ExceptionHandler(TrabajoReporteNoCompletadoException.class)
+    public ResponseEntity<Map<String, Object>> handleTrabajoReporteNoCompletado(TrabajoReporteNoCompletadoException ex) {
+        return buildErrorResponse(HttpStatus.CONFLICT, ex.getMessage(), "TRABAJO_NO_COMPLETADO");
+    }
+
+    @ExceptionHandler(TrabajoReporteResultadoExpiradoException.class)
+    public ResponseEntity<Map<String, Object>> handleTrabajoReporteResultadoExpirado(TrabajoReporteResultadoExpiradoException ex) {
+        return buildErrorResponse(HttpStatus.GONE, ex.getMessage(), "RESULTADO_EXPIRADO");
+    }
+
+    @ExceptionHandler(ColaReportesLlenaException.class)
+    public ResponseEntity<Map<String, Object>> handleColaReportesLlena(ColaReportesLlenaException ex) {
+        ResponseEntity<Map<String, Object>> respuesta = buildErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), "COLA_REPORTES_LLENA");
+        return ResponseEntity.status(respuesta.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(respuesta.getBody());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, Object>> handleRuntimeException(RuntimeException ex) {
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, 
@@ -1,6 +1,8 @@
 package com.gorkyange.bp.infrastructure.adapter.in.rest.mapper;
 
 import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.domain.model.ResultadoClienteLote;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ClienteLoteResponse;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ClienteRequest;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ClienteResponse;
 import org.springframework.stereotype.Component;
@@ -35,4 +37,17 @@ public class ClienteRestMapper {
         response.setEstado(cliente.getEstado());
         return response;
     }
+
+    public ClienteLoteResponse toLoteResponse(ResultadoClienteLote resultado) {
+        ClienteLoteResponse response = new ClienteLoteResponse();
+        response.setIndice(resultado.getIndice());
+        if (resultado.isCreado()) {
+            response.setEstado("CREADO");
+            response.setCliente(toResponse(resultado.getCliente()));
+        } else {
+            response.setEstado("RECHAZADO");
+            response.setError(resultado.getError());
+        }
+        return response;
+    }
 }
@@ -24,6 +24,7 @@ public class CuentaRestMapper {
         response.setNumeroCuenta(cuenta.getNumeroCuenta());
         response.setTipoCuenta(cuenta.getTipoCuenta());
         response.setSaldoInicial(cuenta.getSaldoInicial());
+        response.setSaldoActual(cuenta.getSaldoActual());
         response.setEstado(cuenta.getEstado());
         response.setClienteId(cuenta.getClienteId());
         return response;
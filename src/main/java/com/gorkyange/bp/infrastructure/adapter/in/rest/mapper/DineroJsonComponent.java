@@ -0,0 +1,62 @@
+package com.gorkyange.bp.infrastructure.adapter.in.rest.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.gorkyange.bp.domain.exception.DatosInvalidosException;
+import com.gorkyange.bp.domain.model.Dinero;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Serializa {@link Dinero} como número JSON con dos decimales (500.00) y acepta
+ * números o cadenas numéricas en la entrada. Un importe con fracciones de centavo
+ * se rechaza con 400 (DATOS_INVALIDOS).
+ */
+@JsonComponent
+public class DineroJsonComponent {
+
+    public static class Serializer extends JsonSerializer<Dinero> {
+        @Override
+        public void serialize(Dinero dinero, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeNumber(dinero.toBigDecimal());
+        }
+    }
+
+    public static class Deserializer extends JsonDeserializer<Dinero> {
+        @Override
+        public Dinero deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                return importe(p, p.getDecimalValue());
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                String texto = p.getText().trim();
+                BigDecimal valor;
+                try {
+                    valor = new BigDecimal(texto);
+                } catch (NumberFormatException e) {
+                    return (Dinero) ctxt.handleWeirdStringValue(Dinero.class, texto, "importe no numérico");
+                }
+                return importe(p, valor);
+            }
+            return (Dinero) ctxt.handleUnexpectedToken(Dinero.class, p);
+        }
+
+        // La causa llega al GlobalExceptionHandler, que responde 400 DATOS_INVALIDOS
+        private static Dinero importe(JsonParser p, BigDecimal valor) throws JsonMappingException {
+            try {
+                return Dinero.de(valor);
+            } catch (DatosInvalidosException e) {
+                throw JsonMappingException.from(p, e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.gorkyange.bp.infrastructure.adapter.in.rest.mapper;
 
 import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.domain.model.ResultadoMovimientoLote;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.MovimientoLoteResponse;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.MovimientoRequest;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.MovimientoResponse;
 import org.springframework.stereotype.Component;
@@ -31,4 +33,17 @@ public class MovimientoRestMapper {
         response.setEstado(movimiento.getEstadoCuenta());
         return response;
     }
+
+    public MovimientoLoteResponse toLoteResponse(ResultadoMovimientoLote resultado) {
+        MovimientoLoteResponse response = new MovimientoLoteResponse();
+        response.setIndice(resultado.getIndice());
+        if (resultado.isCreado()) {
+            response.setEstado("CREADO");
+            response.setMovimiento(toResponse(resultado.getMovimiento()));
+        } else {
+            response.setEstado("RECHAZADO");
+            response.setError(resultado.getError());
+        }
+        return response;
+    }
 }
@@ -0,0 +1,36 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import com.gorkyange.bp.infrastructure.adapter.out.metrics.MetricasPuertosAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Llamadas a un puerto que un decorador resuelve desde memoria, sin llegar al adaptador
+ * de persistencia. Van al mismo timer {@code bp.puerto} que mide MetricasPuertosAspect,
+ * con resultado "cache", para que la tasa de llamadas por puerto incluya los aciertos.
+ */
+final class AciertosPuerto {
+
+    private final MeterRegistry registry;
+    private final String puerto;
+    private final boolean habilitado;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    AciertosPuerto(MeterRegistry registry, Class<?> puerto, boolean habilitado) {
+        this.registry = registry;
+        this.puerto = puerto.getSimpleName();
+        this.habilitado = habilitado;
+    }
+
+    void registrar(String operacion, long inicio) {
+        if (habilitado) {
+            timers.computeIfAbsent(operacion,
+                            op -> MetricasPuertosAspect.timer(registry, puerto, op, MetricasPuertosAspect.RESULTADO_CACHE))
+                    .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+}
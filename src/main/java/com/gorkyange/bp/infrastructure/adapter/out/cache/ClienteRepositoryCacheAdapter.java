@@ -0,0 +1,205 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gorkyange.bp.application.port.out.ClienteRepositoryPort;
+import com.gorkyange.bp.domain.exception.ClienteDuplicadoException;
+import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.ClientePersistenceAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Clientes por id en memoria delante del adaptador de persistencia. Se consultan en cada
+ * listado enriquecido y en cada reporte, y casi nunca cambian: cada guardar o eliminar
+ * descarta la entrada y la expiración acota lo que puede atrasarse otra instancia.
+ * La verificación de identificación duplicada pasa antes por un filtro de Bloom, así un
+ * alta nueva no cuesta una consulta previa a la inserción.
+ */
+@Component
+@Primary
+public class ClienteRepositoryCacheAdapter implements ClienteRepositoryPort {
+
+    private final ClientePersistenceAdapter delegado;
+    private final Cache<Long, Cliente> cache;
+    private final FiltroClaves identificacionesRegistradas;
+    private final AciertosPuerto aciertosPuerto;
+
+    public ClienteRepositoryCacheAdapter(ClientePersistenceAdapter delegado,
+                                         @Value("${bp.cache.clientes.tamano-maximo:10000}") long tamanoMaximo,
+                                         @Value("${bp.cache.clientes.expiracion:5m}") Duration expiracion,
+                                         @Value("${bp.filtro-claves.capacidad-minima:1000000}") long capacidadFiltro,
+                                         @Value("${bp.filtro-claves.falsos-positivos:0.01}") double falsosPositivos,
+                                         @Value("${bp.metricas.puertos.habilitado:true}") boolean medirPuertos,
+                                         MeterRegistry meterRegistry) {
+        this.delegado = delegado;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanoMaximo)
+                .expireAfterWrite(expiracion)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "clientes");
+        this.identificacionesRegistradas = new FiltroClaves("cliente", capacidadFiltro, falsosPositivos, meterRegistry);
+        this.aciertosPuerto = new AciertosPuerto(meterRegistry, ClienteRepositoryPort.class, medirPuertos);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarFiltro() {
+        identificacionesRegistradas.cargar(delegado.contar(), delegado::recorrerIdentificaciones);
+    }
+
+    @Override
+    public Cliente guardar(Cliente cliente) {
+        Cliente guardado;
+        try {
+            guardado = delegado.guardar(cliente);
+        } catch (DataIntegrityViolationException e) {
+            // La restricción única decide cuando el filtro dejó pasar un alta concurrente
+            // o hecha desde otra instancia
+            if (cliente.getId() == null && cliente.getIdentificacion() != null
+                    && delegado.existePorIdentificacion(cliente.getIdentificacion())) {
+                throw new ClienteDuplicadoException(cliente.getIdentificacion());
+            }
+            throw e;
+        }
+        identificacionesRegistradas.agregar(guardado.getIdentificacion());
+        cache.invalidate(guardado.getId());
+        return guardado;
+    }
+
+    @Override
+    public List<Cliente> guardarTodos(List<Cliente> clientes) {
+        List<Cliente> guardados;
+        try {
+            guardados = delegado.guardarTodos(clientes);
+        } catch (DataIntegrityViolationException e) {
+            Set<String> existentes = delegado.buscarIdentificacionesExistentes(clientes.stream()
+                    .filter(cliente -> cliente.getId() == null && cliente.getIdentificacion() != null)
+                    .map(Cliente::getIdentificacion)
+                    .collect(Collectors.toList()));
+            if (!existentes.isEmpty()) {
+                throw new ClienteDuplicadoException(existentes.iterator().next());
+            }
+            throw e;
+        }
+        for (Cliente guardado : guardados) {
+            identificacionesRegistradas.agregar(guardado.getIdentificacion());
+            cache.invalidate(guardado.getId());
+        }
+        return guardados;
+    }
+
+    @Override
+    public Optional<Cliente> buscarPorId(Long clienteId) {
+        long inicio = System.nanoTime();
+        AtomicBoolean consultado = new AtomicBoolean();
+        Cliente cliente = cache.get(clienteId, id -> {
+            consultado.set(true);
+            return delegado.buscarPorId(id).orElse(null);
+        });
+        if (!consultado.get()) {
+            aciertosPuerto.registrar("buscarPorId", inicio);
+        }
+        return Optional.ofNullable(cliente).map(ClienteRepositoryCacheAdapter::copia);
+    }
+
+    @Override
+    public List<Cliente> buscarPorIds(Collection<Long> clienteIds) {
+        long inicio = System.nanoTime();
+        AtomicBoolean consultado = new AtomicBoolean();
+        // Una sola consulta por bloque para todos los que faltan
+        Map<Long, Cliente> clientes = cache.getAll(clienteIds, faltantes -> {
+            consultado.set(true);
+            return delegado.buscarPorIds(new ArrayList<>(faltantes))
+                    .stream()
+                    .collect(Collectors.toMap(Cliente::getId, Function.identity()));
+        });
+        if (!consultado.get()) {
+            aciertosPuerto.registrar("buscarPorIds", inicio);
+        }
+        return clientes.values()
+                .stream()
+                .map(ClienteRepositoryCacheAdapter::copia)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Cliente> buscarTodos() {
+        return delegado.buscarTodos();
+    }
+
+    @Override
+    public List<Cliente> buscarPagina(Long despuesDe, int limite) {
+        return delegado.buscarPagina(despuesDe, limite);
+    }
+
+    @Override
+    public void eliminar(Long clienteId) {
+        delegado.eliminar(clienteId);
+        cache.invalidate(clienteId);
+    }
+
+    @Override
+    public boolean existePorId(Long clienteId) {
+        long inicio = System.nanoTime();
+        // Sin pasar por las estadísticas: no es una lectura del cliente
+        if (cache.asMap().containsKey(clienteId)) {
+            aciertosPuerto.registrar("existePorId", inicio);
+            return true;
+        }
+        return delegado.existePorId(clienteId);
+    }
+
+    @Override
+    public boolean existePorIdentificacion(String identificacion) {
+        long inicio = System.nanoTime();
+        if (identificacionesRegistradas.esNueva(identificacion)) {
+            aciertosPuerto.registrar("existePorIdentificacion", inicio);
+            return false;
+        }
+        return delegado.existePorIdentificacion(identificacion);
+    }
+
+    @Override
+    public Set<String> buscarIdentificacionesExistentes(Collection<String> identificaciones) {
+        long inicio = System.nanoTime();
+        // Solo las que el filtro no descarta llegan a la consulta IN
+        List<String> posibles = identificaciones.stream()
+                .filter(identificacion -> !identificacionesRegistradas.esNueva(identificacion))
+                .collect(Collectors.toList());
+        if (posibles.isEmpty()) {
+            aciertosPuerto.registrar("buscarIdentificacionesExistentes", inicio);
+            return Set.of();
+        }
+        return delegado.buscarIdentificacionesExistentes(posibles);
+    }
+
+    /**
+     * Los servicios modifican los clientes que reciben: nunca se entrega la instancia en caché.
+     */
+    private static Cliente copia(Cliente origen) {
+        Cliente cliente = new Cliente(origen.getNombre(), origen.getGenero(), origen.getEdad(),
+                origen.getIdentificacion(), origen.getDireccion(), origen.getTelefono(),
+                origen.getClienteId(), origen.getContrasena(), origen.getEstado());
+        cliente.setId(origen.getId());
+        return cliente;
+    }
+}
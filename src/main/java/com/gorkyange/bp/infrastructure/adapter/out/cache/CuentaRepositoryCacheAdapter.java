@@ -0,0 +1,217 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import com.gorkyange.bp.application.port.out.CuentaRepositoryPort;
+import com.gorkyange.bp.application.port.out.SaldoCachePort;
+import com.gorkyange.bp.domain.exception.CuentaDuplicadaException;
+import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.SaldoCuenta;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.CuentaPersistenceAdapter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Resuelve las búsquedas de cuentas por número desde la caché de saldos antes de ir a
+ * base de datos. La fila de la cuenta lleva el saldo vigente y su versión, que cambian con
+ * cada movimiento: esa caché es la única que los servicios mantienen al día en cada escritura,
+ * así que una segunda caché de cuentas devolvería saldos atrasados.
+ * Las búsquedas por id, por cliente y los listados van siempre a base de datos.
+ * La verificación de número de cuenta duplicado pasa antes por un filtro de Bloom.
+ */
+@Component
+@Primary
+public class CuentaRepositoryCacheAdapter implements CuentaRepositoryPort {
+
+    private final CuentaPersistenceAdapter delegado;
+    private final SaldoCachePort saldoCache;
+    private final FiltroClaves numerosRegistrados;
+    private final Counter aciertos;
+    private final Counter fallos;
+    private final AciertosPuerto aciertosPuerto;
+
+    public CuentaRepositoryCacheAdapter(CuentaPersistenceAdapter delegado,
+                                        SaldoCachePort saldoCache,
+                                        @Value("${bp.filtro-claves.capacidad-minima:1000000}") long capacidadFiltro,
+                                        @Value("${bp.filtro-claves.falsos-positivos:0.01}") double falsosPositivos,
+                                        @Value("${bp.metricas.puertos.habilitado:true}") boolean medirPuertos,
+                                        MeterRegistry meterRegistry) {
+        this.delegado = delegado;
+        this.saldoCache = saldoCache;
+        this.numerosRegistrados = new FiltroClaves("cuenta", capacidadFiltro, falsosPositivos, meterRegistry);
+        this.aciertos = contador(meterRegistry, "hit");
+        this.fallos = contador(meterRegistry, "miss");
+        this.aciertosPuerto = new AciertosPuerto(meterRegistry, CuentaRepositoryPort.class, medirPuertos);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarFiltro() {
+        numerosRegistrados.cargar(delegado.contar(), delegado::recorrerNumerosCuenta);
+    }
+
+    @Override
+    public Cuenta guardar(Cuenta cuenta) {
+        // Con el número anterior: una actualización puede cambiar el número de cuenta
+        invalidarPorId(cuenta.getId());
+        Cuenta guardada;
+        try {
+            guardada = delegado.guardar(cuenta);
+        } catch (DataIntegrityViolationException e) {
+            // La restricción única decide cuando el filtro dejó pasar un alta concurrente
+            // o hecha desde otra instancia
+            if (cuenta.getId() == null && cuenta.getNumeroCuenta() != null
+                    && delegado.existePorNumeroCuenta(cuenta.getNumeroCuenta())) {
+                throw new CuentaDuplicadaException(cuenta.getNumeroCuenta());
+            }
+            throw e;
+        }
+        numerosRegistrados.agregar(guardada.getNumeroCuenta());
+        saldoCache.invalidar(guardada.getNumeroCuenta());
+        return guardada;
+    }
+
+    @Override
+    public Optional<Cuenta> buscarPorId(Long id) {
+        return delegado.buscarPorId(id);
+    }
+
+    @Override
+    public Optional<Cuenta> buscarPorNumeroCuenta(String numeroCuenta) {
+        long inicio = System.nanoTime();
+        Optional<SaldoCuenta> enCache = saldoCache.obtener(numeroCuenta);
+        if (enCache.isPresent()) {
+            aciertos.increment();
+            aciertosPuerto.registrar("buscarPorNumeroCuenta", inicio);
+            return enCache.map(CuentaRepositoryCacheAdapter::copia);
+        }
+        fallos.increment();
+        Optional<Cuenta> cuenta = delegado.buscarPorNumeroCuenta(numeroCuenta);
+        cuenta.ifPresent(this::recordar);
+        return cuenta;
+    }
+
+    @Override
+    public List<Cuenta> buscarPorNumerosCuenta(Collection<String> numerosCuenta) {
+        long inicio = System.nanoTime();
+        List<Cuenta> cuentas = new ArrayList<>(numerosCuenta.size());
+        Set<String> faltantes = new LinkedHashSet<>();
+        for (String numeroCuenta : numerosCuenta) {
+            Optional<SaldoCuenta> enCache = saldoCache.obtener(numeroCuenta);
+            if (enCache.isPresent()) {
+                cuentas.add(copia(enCache.get()));
+            } else {
+                faltantes.add(numeroCuenta);
+            }
+        }
+        aciertos.increment(cuentas.size());
+        fallos.increment(faltantes.size());
+
+        if (faltantes.isEmpty()) {
+            aciertosPuerto.registrar("buscarPorNumerosCuenta", inicio);
+            return cuentas;
+        }
+        for (Cuenta cuenta : delegado.buscarPorNumerosCuenta(faltantes)) {
+            recordar(cuenta);
+            cuentas.add(cuenta);
+        }
+        return cuentas;
+    }
+
+    @Override
+    public List<Cuenta> buscarTodas() {
+        return delegado.buscarTodas();
+    }
+
+    @Override
+    public List<Cuenta> buscarPagina(Long despuesDe, int limite) {
+        return delegado.buscarPagina(despuesDe, limite);
+    }
+
+    @Override
+    public List<Cuenta> buscarPorCliente(Long clienteId) {
+        return delegado.buscarPorCliente(clienteId);
+    }
+
+    @Override
+    public void eliminar(Long id) {
+        invalidarPorId(id);
+        delegado.eliminar(id);
+    }
+
+    @Override
+    public boolean existePorId(Long id) {
+        return delegado.existePorId(id);
+    }
+
+    @Override
+    public boolean existePorNumeroCuenta(String numeroCuenta) {
+        long inicio = System.nanoTime();
+        if (numerosRegistrados.esNueva(numeroCuenta)) {
+            aciertosPuerto.registrar("existePorNumeroCuenta", inicio);
+            return false;
+        }
+        if (saldoCache.obtener(numeroCuenta).isPresent()) {
+            aciertosPuerto.registrar("existePorNumeroCuenta", inicio);
+            return true;
+        }
+        return delegado.existePorNumeroCuenta(numeroCuenta);
+    }
+
+    @Override
+    public int contarPorCliente(Long clienteId) {
+        return delegado.contarPorCliente(clienteId);
+    }
+
+    private void recordar(Cuenta cuenta) {
+        if (cuenta.getSaldoActual() != null && cuenta.getVersion() != null) {
+            // Leída fuera del lock de la cuenta: un movimiento confirmado mientras tanto
+            // ya dejó en la caché una versión más nueva, que se conserva
+            saldoCache.actualizarSiMasReciente(new SaldoCuenta(copia(cuenta),
+                    cuenta.getSaldoActual().getCentavos(), cuenta.getVersion()));
+        }
+    }
+
+    private void invalidarPorId(Long id) {
+        if (id != null) {
+            delegado.buscarPorId(id).ifPresent(cuenta -> saldoCache.invalidar(cuenta.getNumeroCuenta()));
+        }
+    }
+
+    /**
+     * Los servicios modifican las cuentas que reciben: nunca se entrega la instancia en caché.
+     */
+    private static Cuenta copia(SaldoCuenta saldoCuenta) {
+        Cuenta cuenta = copia(saldoCuenta.getCuenta());
+        cuenta.setSaldoActual(saldoCuenta.getSaldo());
+        cuenta.setVersion(saldoCuenta.getVersion());
+        return cuenta;
+    }
+
+    private static Cuenta copia(Cuenta origen) {
+        Cuenta cuenta = new Cuenta(origen.getNumeroCuenta(), origen.getTipoCuenta(), origen.getSaldoInicial(),
+                origen.getEstado(), origen.getClienteId());
+        cuenta.setId(origen.getId());
+        cuenta.setSaldoActual(origen.getSaldoActual());
+        cuenta.setVersion(origen.getVersion());
+        return cuenta;
+    }
+
+    private static Counter contador(MeterRegistry registry, String resultado) {
+        return Counter.builder("bp.repositorio.cache")
+                .description("Búsquedas por clave resueltas desde caché frente a base de datos")
+                .tag("entidad", "cuenta")
+                .tag("resultado", resultado)
+                .register(registry);
+    }
+}
@@ -0,0 +1,71 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom concurrente sobre cadenas. {@link #podriaContener} nunca da un falso
+ * negativo: si responde false la clave no se agregó. Un true puede ser un falso positivo
+ * con la tasa indicada mientras no se supere la capacidad. No admite eliminar claves.
+ */
+final class FiltroBloom {
+
+    private final AtomicLongArray palabras;
+    private final long bits;
+    private final int funciones;
+
+    FiltroBloom(long capacidad, double tasaFalsosPositivos) {
+        long n = Math.max(1L, capacidad);
+        double ln2 = Math.log(2);
+        long m = (long) Math.ceil(-n * Math.log(tasaFalsosPositivos) / (ln2 * ln2));
+        int palabrasNecesarias = Math.toIntExact(Math.max(1L, (m + 63) >>> 6));
+        this.palabras = new AtomicLongArray(palabrasNecesarias);
+        this.bits = (long) palabrasNecesarias << 6;
+        this.funciones = Math.max(1, (int) Math.round((double) bits / n * ln2));
+    }
+
+    void agregar(String clave) {
+        long h1 = hash(clave);
+        long h2 = mezclar(h1) | 1L;
+        for (int i = 0; i < funciones; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            int indice = (int) (bit >>> 6);
+            long mascara = 1L << bit;
+            long actual = palabras.get(indice);
+            while ((actual & mascara) == 0 && !palabras.compareAndSet(indice, actual, actual | mascara)) {
+                actual = palabras.get(indice);
+            }
+        }
+    }
+
+    boolean podriaContener(String clave) {
+        long h1 = hash(clave);
+        long h2 = mezclar(h1) | 1L;
+        for (int i = 0; i < funciones; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bits);
+            if ((palabras.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a de 64 bits sobre UTF-8; el segundo hash sale de mezclar el primero (doble hashing)
+    private static long hash(String clave) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : clave.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        return mezclar(h);
+    }
+
+    private static long mezclar(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,71 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.Consumer;
+
+/**
+ * Claves únicas ya registradas (identificación de cliente, número de cuenta) para
+ * responder sin consultar la base de datos que una clave nueva no existe. Mientras el
+ * filtro no termina de cargarse toda consulta va a base de datos; una posible existencia
+ * también, y la restricción única de la tabla sigue siendo la que decide al insertar.
+ */
+final class FiltroClaves {
+
+    private final long capacidadMinima;
+    private final double tasaFalsosPositivos;
+    private final Counter descartadas;
+    private final Counter consultadas;
+    private volatile FiltroBloom filtro;
+    private volatile boolean cargado;
+
+    FiltroClaves(String entidad, long capacidadMinima, double tasaFalsosPositivos, MeterRegistry registry) {
+        this.capacidadMinima = capacidadMinima;
+        this.tasaFalsosPositivos = tasaFalsosPositivos;
+        this.descartadas = contador(registry, entidad, "nueva");
+        this.consultadas = contador(registry, entidad, "consulta");
+    }
+
+    /**
+     * Construye el filtro con holgura para crecer al doble de las claves actuales. El filtro
+     * se publica antes de recorrer la tabla para que las inserciones concurrentes no se pierdan.
+     */
+    void cargar(long total, Consumer<Consumer<String>> recorrerClaves) {
+        FiltroBloom nuevo = new FiltroBloom(Math.max(capacidadMinima, 2 * total), tasaFalsosPositivos);
+        filtro = nuevo;
+        recorrerClaves.accept(clave -> {
+            if (clave != null) {
+                nuevo.agregar(clave);
+            }
+        });
+        cargado = true;
+    }
+
+    void agregar(String clave) {
+        FiltroBloom actual = filtro;
+        if (actual != null && clave != null) {
+            actual.agregar(clave);
+        }
+    }
+
+    /**
+     * true solo si la clave seguro no está registrada.
+     */
+    boolean esNueva(String clave) {
+        if (cargado && clave != null && !filtro.podriaContener(clave)) {
+            descartadas.increment();
+            return true;
+        }
+        consultadas.increment();
+        return false;
+    }
+
+    private static Counter contador(MeterRegistry registry, String entidad, String resultado) {
+        return Counter.builder("bp.filtro.claves")
+                .description("Verificaciones de duplicado resueltas por el filtro frente a base de datos")
+                .tag("entidad", entidad)
+                .tag("resultado", resultado)
+                .register(registry);
+    }
+}
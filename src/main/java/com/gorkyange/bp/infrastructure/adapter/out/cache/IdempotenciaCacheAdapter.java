@@ -0,0 +1,39 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gorkyange.bp.application.port.out.IdempotenciaCachePort;
+import com.gorkyange.bp.domain.model.RegistroIdempotencia;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Claves de idempotencia recientes en memoria: los reintentos de un canal suelen llegar
+ * segundos después del original, así que se resuelven sin consultar la base de datos.
+ */
+@Component
+public class IdempotenciaCacheAdapter implements IdempotenciaCachePort {
+
+    private final Cache<String, RegistroIdempotencia> cache;
+
+    public IdempotenciaCacheAdapter(@Value("${bp.idempotencia.cache.tamano-maximo:100000}") long tamanoMaximo,
+                                    @Value("${bp.idempotencia.retencion:24h}") Duration retencion) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanoMaximo)
+                .expireAfterWrite(retencion)
+                .build();
+    }
+
+    @Override
+    public Optional<RegistroIdempotencia> obtener(String clave) {
+        return Optional.ofNullable(cache.getIfPresent(clave));
+    }
+
+    @Override
+    public void guardar(RegistroIdempotencia registro) {
+        cache.put(registro.getClave(), registro);
+    }
+}
@@ -0,0 +1,30 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse.CuentaReporte;
+
+/**
+ * Peso aproximado en bytes de un reporte y su PDF, compartido por las cachés acotadas
+ * por peso. No mide el objeto real: basta con que crezca con el número de movimientos.
+ */
+final class PesoReporte {
+
+    private static final int BYTES_BASE = 512;
+    private static final int BYTES_POR_MOVIMIENTO = 160;
+
+    private PesoReporte() {
+    }
+
+    static int de(ReporteEstadoCuentaResponse reporte, byte[] pdf) {
+        long bytes = BYTES_BASE;
+        if (reporte != null) {
+            for (CuentaReporte cuenta : reporte.getCuentas()) {
+                bytes += (long) cuenta.getMovimientos().size() * BYTES_POR_MOVIMIENTO;
+            }
+        }
+        if (pdf != null) {
+            bytes += pdf.length;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+}
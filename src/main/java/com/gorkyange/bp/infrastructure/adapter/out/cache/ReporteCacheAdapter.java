@@ -0,0 +1,161 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.gorkyange.bp.application.port.out.ReporteCachePort;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Caché de reportes acotada por peso aproximado en bytes. El PDF se guarda en la misma
+ * entrada que el reporte del que se generó, así ambos se descartan juntos.
+ * Un índice por cliente permite invalidar solo sus entradas sin recorrer la caché.
+ */
+@Component
+public class ReporteCacheAdapter implements ReporteCachePort {
+
+    private static final int FRANJAS_GENERACION = 1024;
+
+    private final Cache<Clave, Entrada> cache;
+    private final ConcurrentHashMap<Long, Set<Clave>> clavesPorCliente = new ConcurrentHashMap<>();
+    private final AtomicLongArray generaciones = new AtomicLongArray(FRANJAS_GENERACION);
+    private final Counter aciertosReporte;
+    private final Counter fallosReporte;
+    private final Counter aciertosPdf;
+    private final Counter fallosPdf;
+
+    public ReporteCacheAdapter(@Value("${bp.cache.reportes.peso-maximo-bytes:33554432}") long pesoMaximo,
+                               @Value("${bp.cache.reportes.expiracion:10m}") Duration expiracion,
+                               MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(pesoMaximo)
+                .weigher((Clave clave, Entrada entrada) -> PesoReporte.de(entrada.reporte(), entrada.pdf()))
+                // Red de seguridad para escrituras hechas desde otra instancia
+                .expireAfterWrite(expiracion)
+                .removalListener(this::alRemover)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "reportes");
+        this.aciertosReporte = contador(meterRegistry, "json", "hit");
+        this.fallosReporte = contador(meterRegistry, "json", "miss");
+        this.aciertosPdf = contador(meterRegistry, "pdf", "hit");
+        this.fallosPdf = contador(meterRegistry, "pdf", "miss");
+    }
+
+    @Override
+    public long generacion(Long clienteId) {
+        return generaciones.get(franja(clienteId));
+    }
+
+    @Override
+    public Optional<ReporteEstadoCuentaResponse> obtener(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin) {
+        Entrada entrada = cache.getIfPresent(new Clave(clienteId, fechaInicio, fechaFin));
+        (entrada != null ? aciertosReporte : fallosReporte).increment();
+        return Optional.ofNullable(entrada).map(Entrada::reporte);
+    }
+
+    @Override
+    public void guardar(ReporteEstadoCuentaResponse reporte, long generacion) {
+        Clave clave = Clave.de(reporte);
+        if (generacion(clave.clienteId()) != generacion) {
+            return;
+        }
+        // El índice se actualiza antes de publicar la entrada para que una invalidación
+        // concurrente siempre la encuentre
+        clavesPorCliente.computeIfAbsent(clave.clienteId(), k -> ConcurrentHashMap.newKeySet()).add(clave);
+        Entrada entrada = new Entrada(reporte, null);
+        cache.put(clave, entrada);
+
+        // Si hubo una invalidación mientras se publicaba, la entrada ya nace obsoleta
+        if (generacion(clave.clienteId()) != generacion) {
+            cache.asMap().remove(clave, entrada);
+        }
+    }
+
+    @Override
+    public Optional<byte[]> obtenerPdf(ReporteEstadoCuentaResponse reporte) {
+        Entrada entrada = cache.getIfPresent(Clave.de(reporte));
+        byte[] pdf = entrada != null && entrada.reporte() == reporte ? entrada.pdf() : null;
+        (pdf != null ? aciertosPdf : fallosPdf).increment();
+        return Optional.ofNullable(pdf);
+    }
+
+    @Override
+    public void guardarPdf(ReporteEstadoCuentaResponse reporte, byte[] pdf) {
+        Clave clave = Clave.de(reporte);
+        Entrada actual = cache.getIfPresent(clave);
+        if (actual != null && actual.reporte() == reporte) {
+            // Reemplazo atómico: si la entrada se invalidó entretanto, el PDF se descarta
+            cache.asMap().replace(clave, actual, new Entrada(reporte, pdf));
+        }
+    }
+
+    @Override
+    public void invalidar(Long clienteId, LocalDate fecha) {
+        generaciones.incrementAndGet(franja(clienteId));
+        Set<Clave> claves = clavesPorCliente.get(clienteId);
+        if (claves != null) {
+            for (Clave clave : claves) {
+                if (fecha == null || !clave.fechaFin().isBefore(fecha)) {
+                    cache.invalidate(clave);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void invalidarCliente(Long clienteId) {
+        invalidar(clienteId, null);
+    }
+
+    private void alRemover(Clave clave, Entrada entrada, RemovalCause causa) {
+        // Un put sobre una entrada expirada notifica EXPIRED con la nueva ya publicada
+        if (clave != null && causa != RemovalCause.REPLACED && !cache.asMap().containsKey(clave)) {
+            quitarDelIndice(clave);
+        }
+    }
+
+    private void quitarDelIndice(Clave clave) {
+        clavesPorCliente.computeIfPresent(clave.clienteId(), (id, claves) -> {
+            claves.remove(clave);
+            return claves.isEmpty() ? null : claves;
+        });
+    }
+
+    private static int franja(Long clienteId) {
+        int h = Long.hashCode(clienteId);
+        return (h ^ (h >>> 16)) & (FRANJAS_GENERACION - 1);
+    }
+
+    private static Counter contador(MeterRegistry registry, String tipo, String resultado) {
+        return Counter.builder("bp.reportes.cache")
+                .description("Consultas a la caché de reportes")
+                .tag("tipo", tipo)
+                .tag("resultado", resultado)
+                .register(registry);
+    }
+
+    private record Clave(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin) {
+
+        static Clave de(ReporteEstadoCuentaResponse reporte) {
+            return new Clave(reporte.getClienteId(), reporte.getFechaInicio(), reporte.getFechaFin());
+        }
+    }
+
+    private record Entrada(ReporteEstadoCuentaResponse reporte, byte[] pdf) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gorkyange.bp.application.port.out.SaldoCachePort;
+import com.gorkyange.bp.domain.model.SaldoCuenta;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+public class SaldoCacheAdapter implements SaldoCachePort {
+
+    private final Cache<String, SaldoCuenta> cache;
+
+    public SaldoCacheAdapter(@Value("${bp.cache.saldos.tamano-maximo:10000}") long tamanoMaximo,
+                             @Value("${bp.cache.saldos.expiracion:5m}") Duration expiracion,
+                             MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanoMaximo)
+                // Acota cuánto puede quedar atrasada una cuenta escrita desde otra instancia
+                .expireAfterWrite(expiracion)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "saldos");
+    }
+
+    @Override
+    public Optional<SaldoCuenta> obtener(String numeroCuenta) {
+        return Optional.ofNullable(cache.getIfPresent(numeroCuenta));
+    }
+
+    @Override
+    public void actualizar(SaldoCuenta saldoCuenta) {
+        cache.put(saldoCuenta.getCuenta().getNumeroCuenta(), saldoCuenta);
+    }
+
+    @Override
+    public void actualizarSiMasReciente(SaldoCuenta saldoCuenta) {
+        cache.asMap().merge(saldoCuenta.getCuenta().getNumeroCuenta(), saldoCuenta,
+                (actual, leido) -> leido.getVersion() > actual.getVersion() ? leido : actual);
+    }
+
+    @Override
+    public void invalidar(String numeroCuenta) {
+        if (numeroCuenta != null) {
+            cache.invalidate(numeroCuenta);
+        }
+    }
+}
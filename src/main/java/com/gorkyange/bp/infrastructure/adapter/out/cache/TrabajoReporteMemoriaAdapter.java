@@ -0,0 +1,63 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gorkyange.bp.application.port.in.TrabajoReporte;
+import com.gorkyange.bp.application.port.out.TrabajoReporteRepositoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Trabajos de reporte en memoria de la instancia que los ejecuta. El estado de cada trabajo
+ * se conserva durante el tiempo de retención; los resultados se guardan aparte, acotados
+ * por peso aproximado en bytes. Si un resultado se desaloja antes de expirar, el trabajo
+ * sigue visible con estado RESULTADO_EXPIRADO en lugar de desaparecer.
+ */
+@Component
+public class TrabajoReporteMemoriaAdapter implements TrabajoReporteRepositoryPort {
+
+    private final Cache<String, TrabajoReporte> trabajos;
+    private final Cache<String, TrabajoReporte> resultados;
+
+    public TrabajoReporteMemoriaAdapter(@Value("${bp.reportes.trabajos.peso-maximo-bytes:67108864}") long pesoMaximo,
+                                        @Value("${bp.reportes.trabajos.retencion:30m}") Duration retencion) {
+        this.trabajos = Caffeine.newBuilder()
+                .expireAfterWrite(retencion)
+                .build();
+        this.resultados = Caffeine.newBuilder()
+                .maximumWeight(pesoMaximo)
+                .weigher((String id, TrabajoReporte trabajo) -> PesoReporte.de(trabajo.getReporte(), trabajo.getPdf()))
+                .expireAfterWrite(retencion)
+                .build();
+    }
+
+    @Override
+    public void guardar(TrabajoReporte trabajo) {
+        if (trabajo.getEstado() == TrabajoReporte.Estado.COMPLETADO) {
+            // El resultado primero: quien ve el estado COMPLETADO ya lo encuentra
+            resultados.put(trabajo.getId(), trabajo);
+            trabajos.put(trabajo.getId(), trabajo.sinResultado());
+        } else {
+            trabajos.put(trabajo.getId(), trabajo);
+        }
+    }
+
+    @Override
+    public Optional<TrabajoReporte> buscarPorId(String id) {
+        TrabajoReporte trabajo = trabajos.getIfPresent(id);
+        if (trabajo == null || trabajo.getEstado() != TrabajoReporte.Estado.COMPLETADO) {
+            return Optional.ofNullable(trabajo);
+        }
+        TrabajoReporte resultado = resultados.getIfPresent(id);
+        return Optional.of(resultado != null ? resultado : trabajo.resultadoExpirado());
+    }
+
+    @Override
+    public void eliminar(String id) {
+        trabajos.invalidate(id);
+        resultados.invalidate(id);
+    }
+}
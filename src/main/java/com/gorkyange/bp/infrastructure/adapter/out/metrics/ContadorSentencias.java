@@ -0,0 +1,45 @@
+package com.gorkyange.bp.infrastructure.adapter.out.metrics;
+
+/**
+ * Sentencias SQL y tiempo en base de datos acumulados por el hilo que atiende una solicitud.
+ * {@link DataSourceContador} suma cada ejecución mientras haya un contador activo en el hilo;
+ * fuera de una solicitud (reportes en segundo plano, tareas programadas) no se cuenta nada.
+ * Un executeBatch cuenta como una sentencia: es un solo viaje a la base de datos.
+ */
+public final class ContadorSentencias {
+
+    private static final ThreadLocal<ContadorSentencias> ACTUAL = new ThreadLocal<>();
+
+    private int sentencias;
+    private long nanos;
+
+    private ContadorSentencias() {
+    }
+
+    /** Activa un contador nuevo en el hilo actual; debe cerrarse con {@link #terminar()}. */
+    public static ContadorSentencias iniciar() {
+        ContadorSentencias contador = new ContadorSentencias();
+        ACTUAL.set(contador);
+        return contador;
+    }
+
+    public void terminar() {
+        ACTUAL.remove();
+    }
+
+    static void registrar(long nanos) {
+        ContadorSentencias contador = ACTUAL.get();
+        if (contador != null) {
+            contador.sentencias++;
+            contador.nanos += nanos;
+        }
+    }
+
+    public int sentencias() {
+        return sentencias;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+}
@@ -0,0 +1,97 @@
+package com.gorkyange.bp.infrastructure.adapter.out.metrics;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Envuelve el DataSource de la aplicación para medir cada ejecución de sentencia
+ * (execute, executeQuery, executeUpdate, executeBatch...) en el {@link ContadorSentencias}
+ * del hilo. Conexiones y sentencias se envuelven con proxies JDK; unwrap e isWrapperFor
+ * siguen llegando al pool, así que las métricas de Hikari no cambian.
+ */
+@Component
+@ConditionalOnProperty(name = "bp.metricas.sql.habilitado", havingValue = "true", matchIfMissing = true)
+public class DataSourceContador implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof DataSourceMedido)) {
+            return new DataSourceMedido(dataSource);
+        }
+        return bean;
+    }
+
+    static final class DataSourceMedido extends DelegatingDataSource {
+
+        DataSourceMedido(DataSource destino) {
+            super(destino);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return envolver(Connection.class, super.getConnection(), DataSourceContador::invocarConexion);
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return envolver(Connection.class, super.getConnection(username, password), DataSourceContador::invocarConexion);
+        }
+    }
+
+    private static Object invocarConexion(Object conexion, Method metodo, Object[] args) throws Throwable {
+        Object resultado = invocar(conexion, metodo, args);
+        if (resultado instanceof CallableStatement sentencia) {
+            return envolver(CallableStatement.class, sentencia, DataSourceContador::invocarSentencia);
+        }
+        if (resultado instanceof PreparedStatement sentencia) {
+            return envolver(PreparedStatement.class, sentencia, DataSourceContador::invocarSentencia);
+        }
+        if (resultado instanceof Statement sentencia) {
+            return envolver(Statement.class, sentencia, DataSourceContador::invocarSentencia);
+        }
+        return resultado;
+    }
+
+    private static Object invocarSentencia(Object sentencia, Method metodo, Object[] args) throws Throwable {
+        if (!metodo.getName().startsWith("execute")) {
+            return invocar(sentencia, metodo, args);
+        }
+        long inicio = System.nanoTime();
+        try {
+            return invocar(sentencia, metodo, args);
+        } finally {
+            ContadorSentencias.registrar(System.nanoTime() - inicio);
+        }
+    }
+
+    private static Object invocar(Object destino, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(destino, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static <T> T envolver(Class<T> tipo, T destino, Invocacion invocacion) {
+        InvocationHandler manejador = (proxy, metodo, args) -> invocacion.invocar(destino, metodo, args);
+        return tipo.cast(Proxy.newProxyInstance(DataSourceContador.class.getClassLoader(), new Class<?>[]{tipo}, manejador));
+    }
+
+    @FunctionalInterface
+    private interface Invocacion {
+        Object invocar(Object destino, Method metodo, Object[] args) throws Throwable;
+    }
+}
@@ -0,0 +1,44 @@
+package com.gorkyange.bp.infrastructure.adapter.out.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Acumulado de sentencias SQL de un endpoint desde el arranque, con la URI de la solicitud
+ * que más sentencias ejecutó (los valores de sus parámetros van enmascarados).
+ */
+final class EstadisticaEndpoint {
+
+    private final String endpoint;
+    private long solicitudes;
+    private long sentencias;
+    private long nanos;
+    private long excesos;
+    private int maximoSentencias;
+    private String uriMaximo;
+
+    EstadisticaEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    synchronized void registrar(PresupuestoSentenciasFilter.Medicion medicion, boolean excedido, String uri) {
+        solicitudes++;
+        sentencias += medicion.sentencias();
+        nanos += medicion.nanos();
+        if (excedido) {
+            excesos++;
+        }
+        if (uriMaximo == null || medicion.sentencias() > maximoSentencias) {
+            maximoSentencias = medicion.sentencias();
+            uriMaximo = uri;
+        }
+    }
+
+    synchronized Resumen resumen() {
+        return new Resumen(endpoint, solicitudes, (double) sentencias / solicitudes, maximoSentencias,
+                (double) TimeUnit.NANOSECONDS.toMicros(nanos) / solicitudes / 1_000, excesos, uriMaximo);
+    }
+
+    record Resumen(String endpoint, long solicitudes, double mediaSentencias, int maximoSentencias,
+                   double mediaMsBaseDatos, long excesos, String uriMaximo) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.gorkyange.bp.infrastructure.adapter.out.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Al quedar lista la aplicación registra en el log cuánto tardó desde el inicio de la JVM,
+ * si arrancó con el contexto procesado por Spring AOT y con un archivo CDS, y los beans
+ * que más tardaron en crearse. La línea de tiempo completa queda en /actuator/startup.
+ */
+@Component
+public class InformeArranque {
+
+    private static final Logger log = LoggerFactory.getLogger(InformeArranque.class);
+    private static final String INSTANCIACION = "spring.beans.instantiate";
+
+    private final ApplicationStartup applicationStartup;
+    private final int pasosInforme;
+
+    public InformeArranque(ApplicationStartup applicationStartup,
+                           @Value("${bp.arranque.informe.pasos:10}") int pasosInforme) {
+        this.applicationStartup = applicationStartup;
+        this.pasosInforme = pasosInforme;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void informar(ApplicationReadyEvent evento) {
+        List<String> argumentosJvm = ManagementFactory.getRuntimeMXBean().getInputArguments();
+        boolean cds = argumentosJvm.stream().anyMatch(argumento -> argumento.startsWith("-XX:SharedArchiveFile="));
+        log.info("Arranque: lista en {} ms desde el inicio de la JVM (contexto {} ms, {} AOT, {} CDS)",
+                ManagementFactory.getRuntimeMXBean().getUptime(), evento.getTimeTaken().toMillis(),
+                AotDetector.useGeneratedArtifacts() ? "con" : "sin", cds ? "con" : "sin");
+
+        if (pasosInforme > 0 && applicationStartup instanceof BufferingApplicationStartup buffering) {
+            // Solo los beans: los pasos de refresh y de configuración contienen a todos los demás
+            List<StartupTimeline.TimelineEvent> lentos = buffering.getBufferedTimeline().getEvents().stream()
+                    .filter(e -> INSTANCIACION.equals(e.getStartupStep().getName()))
+                    .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                    .limit(pasosInforme)
+                    .collect(Collectors.toList());
+            for (StartupTimeline.TimelineEvent e : lentos) {
+                log.info("Arranque: {} ms creando {} (con sus dependencias)",
+                        e.getDuration().toMillis(), nombreBean(e.getStartupStep()));
+            }
+        }
+    }
+
+    private static String nombreBean(StartupStep paso) {
+        return StreamSupport.stream(paso.getTags().spliterator(), false)
+                .filter(tag -> "beanName".equals(tag.getKey()))
+                .map(StartupStep.Tag::getValue)
+                .findFirst()
+                .orElse("?");
+    }
+}
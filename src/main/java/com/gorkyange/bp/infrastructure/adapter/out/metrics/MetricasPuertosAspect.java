@@ -0,0 +1,95 @@
+package com.gorkyange.bp.infrastructure.adapter.out.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide cada llamada a un puerto de aplicación (casos de uso y puertos de salida)
+ * con un timer {@code bp.puerto} etiquetado por puerto, operación y resultado.
+ * El resultado es "ok" o el nombre simple de la excepción lanzada, por ejemplo
+ * SaldoInsuficienteException. Los decoradores {@code @Primary} de un puerto no se miden:
+ * el adaptador al que delegan ya lo hace con las mismas etiquetas. Las llamadas que el
+ * decorador resuelve sin delegar las registra él mismo con resultado "cache".
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "bp.metricas.puertos.habilitado", havingValue = "true", matchIfMissing = true)
+public class MetricasPuertosAspect {
+
+    public static final String RESULTADO_CACHE = "cache";
+    static final String METRICA = "bp.puerto";
+    private static final String PAQUETE_PUERTOS = "com.gorkyange.bp.application.port.";
+    private static final String RESULTADO_OK = "ok";
+
+    private final MeterRegistry registry;
+    private final Map<Method, String> puertosPorMetodo = new ConcurrentHashMap<>();
+    private final Map<ClaveTimer, Timer> timers = new ConcurrentHashMap<>();
+
+    public MetricasPuertosAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.gorkyange.bp.application.port..*.*(..))"
+            + " && !@within(org.springframework.context.annotation.Primary)")
+    public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+        long inicio = System.nanoTime();
+        String resultado = RESULTADO_OK;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            resultado = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Method metodo = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            String puerto = puertosPorMetodo.computeIfAbsent(metodo, m -> resolverPuerto(m, joinPoint.getTarget()));
+            timers.computeIfAbsent(new ClaveTimer(puerto, metodo.getName(), resultado), this::registrar)
+                    .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer registrar(ClaveTimer clave) {
+        return timer(registry, clave.puerto(), clave.operacion(), clave.resultado());
+    }
+
+    public static Timer timer(MeterRegistry registry, String puerto, String operacion, String resultado) {
+        return Timer.builder(METRICA)
+                .description("Latencia de las llamadas a los puertos de aplicación")
+                .tag("puerto", puerto)
+                .tag("operacion", operacion)
+                .tag("resultado", resultado)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /**
+     * Nombre de la interfaz de puerto que declara el método; un servicio implementa
+     * varios casos de uso y la etiqueta debe identificar el puerto, no la clase.
+     */
+    private static String resolverPuerto(Method metodo, Object destino) {
+        Class<?> clase = AopUtils.getTargetClass(destino);
+        for (Class<?> interfaz : ClassUtils.getAllInterfacesForClassAsSet(clase)) {
+            if (interfaz.getName().startsWith(PAQUETE_PUERTOS)
+                    && ClassUtils.hasMethod(interfaz, metodo.getName(), metodo.getParameterTypes())) {
+                return interfaz.getSimpleName();
+            }
+        }
+        return clase.getSimpleName();
+    }
+
+    private record ClaveTimer(String puerto, String operacion, String resultado) {
+    }
+}
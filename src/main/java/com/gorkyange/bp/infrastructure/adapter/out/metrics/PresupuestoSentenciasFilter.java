@@ -0,0 +1,158 @@
+package com.gorkyange.bp.infrastructure.adapter.out.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cuenta las sentencias SQL y el tiempo en base de datos de cada solicitud y los registra por
+ * endpoint (método y patrón de la ruta): summary {@code bp.sql.sentencias}, timer
+ * {@code bp.sql.tiempo} y, cuando una solicitud supera el presupuesto, un warning y el
+ * contador {@code bp.sql.presupuesto.excedido}. Los endpoints con más sentencias quedan en
+ * /actuator/sql. La medición también se deja como atributo de la solicitud para que los
+ * tests la verifiquen.
+ *
+ * <p>Solo se cuenta el hilo de la solicitud: lo que se escribe en streaming desde otro hilo
+ * (exportaciones, PDF) no entra en la medición.
+ */
+@Component
+@ConditionalOnProperty(name = "bp.metricas.sql.habilitado", havingValue = "true", matchIfMissing = true)
+public class PresupuestoSentenciasFilter extends OncePerRequestFilter {
+
+    public static final String ATRIBUTO_MEDICION = PresupuestoSentenciasFilter.class.getName() + ".medicion";
+
+    private static final Logger log = LoggerFactory.getLogger(PresupuestoSentenciasFilter.class);
+
+    private final MeterRegistry registry;
+    private final int presupuesto;
+    private final Map<String, EstadisticaEndpoint> estadisticas = new ConcurrentHashMap<>();
+    private final Map<String, Medidores> medidoresPorEndpoint = new ConcurrentHashMap<>();
+
+    public PresupuestoSentenciasFilter(ObjectProvider<MeterRegistry> registry,
+                                       @Value("${bp.metricas.sql.presupuesto:15}") int presupuesto) {
+        this.registry = registry.getIfAvailable();
+        this.presupuesto = presupuesto;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContadorSentencias contador = ContadorSentencias.iniciar();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            contador.terminar();
+            Medicion medicion = new Medicion(contador.sentencias(), contador.nanos());
+            request.setAttribute(ATRIBUTO_MEDICION, medicion);
+            // Sin patrón (404, recursos estáticos) no se registra: la ruta cruda no está acotada
+            Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (patron != null) {
+                registrar(request, request.getMethod() + " " + patron, medicion);
+            }
+        }
+    }
+
+    private void registrar(HttpServletRequest request, String endpoint, Medicion medicion) {
+        boolean excedido = medicion.sentencias() > presupuesto;
+        String uri = uriEnmascarada(request);
+        estadisticas.computeIfAbsent(endpoint, EstadisticaEndpoint::new).registrar(medicion, excedido, uri);
+
+        if (registry != null) {
+            medidores(endpoint).registrar(medicion, excedido);
+        }
+        if (excedido) {
+            log.warn("SQL: {} ejecutó {} sentencias en {} ms (presupuesto {}), posible N+1: {}",
+                    endpoint, medicion.sentencias(), TimeUnit.NANOSECONDS.toMillis(medicion.nanos()), presupuesto, uri);
+        }
+    }
+
+    /**
+     * Ruta de la solicitud con los nombres de los parámetros pero sin sus valores: la consulta
+     * puede traer identificaciones o números de cuenta, y la URI queda en el log y en /actuator/sql.
+     */
+    static String uriEnmascarada(HttpServletRequest request) {
+        String consulta = request.getQueryString();
+        if (consulta == null || consulta.isEmpty()) {
+            return request.getRequestURI();
+        }
+        return request.getRequestURI() + "?" + Arrays.stream(consulta.split("&"))
+                .filter(parametro -> !parametro.isEmpty())
+                .map(parametro -> {
+                    int igual = parametro.indexOf('=');
+                    return (igual < 0 ? parametro : parametro.substring(0, igual)) + "=*";
+                })
+                .collect(Collectors.joining("&"));
+    }
+
+    private Medidores medidores(String endpoint) {
+        return medidoresPorEndpoint.computeIfAbsent(endpoint, e -> {
+            String[] partes = e.split(" ", 2);
+            return new Medidores(
+                    DistributionSummary.builder("bp.sql.sentencias")
+                            .description("Sentencias SQL ejecutadas por solicitud")
+                            .tag("metodo", partes[0]).tag("uri", partes[1])
+                            .publishPercentiles(0.5, 0.95, 0.99)
+                            .register(registry),
+                    Timer.builder("bp.sql.tiempo")
+                            .description("Tiempo en base de datos por solicitud")
+                            .tag("metodo", partes[0]).tag("uri", partes[1])
+                            .register(registry),
+                    Counter.builder("bp.sql.presupuesto.excedido")
+                            .description("Solicitudes que superaron el presupuesto de sentencias SQL")
+                            .tag("metodo", partes[0]).tag("uri", partes[1])
+                            .register(registry));
+        });
+    }
+
+    int presupuesto() {
+        return presupuesto;
+    }
+
+    /** Endpoints ordenados por el máximo de sentencias de una solicitud, de mayor a menor. */
+    List<EstadisticaEndpoint.Resumen> peores(int limite) {
+        return estadisticas.values().stream()
+                .map(EstadisticaEndpoint::resumen)
+                .sorted(Comparator.comparingInt(EstadisticaEndpoint.Resumen::maximoSentencias)
+                        .thenComparingDouble(EstadisticaEndpoint.Resumen::mediaSentencias)
+                        .reversed())
+                .limit(limite)
+                .collect(Collectors.toList());
+    }
+
+    /** Sentencias y nanosegundos en base de datos de una solicitud. */
+    public record Medicion(int sentencias, long nanos) {
+    }
+
+    private record Medidores(DistributionSummary sentencias, Timer tiempo, Counter excedido) {
+
+        void registrar(Medicion medicion, boolean excedida) {
+            sentencias.record(medicion.sentencias());
+            tiempo.record(medicion.nanos(), TimeUnit.NANOSECONDS);
+            if (excedida) {
+                excedido.increment();
+            }
+        }
+    }
+}
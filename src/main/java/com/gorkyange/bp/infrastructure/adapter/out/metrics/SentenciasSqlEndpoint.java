@@ -0,0 +1,37 @@
+package com.gorkyange.bp.infrastructure.adapter.out.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/sql: presupuesto de sentencias por solicitud y los endpoints que más sentencias
+ * ejecutaron, con la media, el máximo, el tiempo medio en base de datos y la URI del peor caso.
+ */
+@Component
+@Endpoint(id = "sql")
+@ConditionalOnProperty(name = "bp.metricas.sql.habilitado", havingValue = "true", matchIfMissing = true)
+public class SentenciasSqlEndpoint {
+
+    private final PresupuestoSentenciasFilter filtro;
+    private final int limite;
+
+    public SentenciasSqlEndpoint(PresupuestoSentenciasFilter filtro,
+                                 @Value("${bp.metricas.sql.peores:20}") int limite) {
+        this.filtro = filtro;
+        this.limite = limite;
+    }
+
+    @ReadOperation
+    public Map<String, Object> peores() {
+        Map<String, Object> informe = new LinkedHashMap<>();
+        informe.put("presupuesto", filtro.presupuesto());
+        informe.put("endpoints", filtro.peores(limite));
+        return informe;
+    }
+}
@@ -0,0 +1,26 @@
+package com.gorkyange.bp.infrastructure.adapter.out.persistence;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Parte colecciones grandes en bloques para consultas IN. SQL Server admite
+ * como máximo 2100 parámetros por sentencia.
+ */
+final class Bloques {
+
+    static final int TAMANO = 1000;
+
+    private Bloques() {
+    }
+
+    static <T> List<List<T>> de(Collection<T> valores) {
+        List<T> lista = new ArrayList<>(valores);
+        List<List<T>> bloques = new ArrayList<>((lista.size() + TAMANO - 1) / TAMANO);
+        for (int i = 0; i < lista.size(); i += TAMANO) {
+            bloques.add(lista.subList(i, Math.min(i + TAMANO, lista.size())));
+        }
+        return bloques;
+    }
+}
@@ -2,24 +2,36 @@ package com.gorkyange.bp.infrastructure.adapter.out.persistence;
 
 import com.gorkyange.bp.application.port.out.ClienteRepositoryPort;
 import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.entity.ClienteEntity;
 import com.gorkyange.bp.infrastructure.adapter.out.persistence.mapper.ClienteMapper;
 import com.gorkyange.bp.infrastructure.adapter.out.persistence.repository.ClienteJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class ClientePersistenceAdapter implements ClienteRepositoryPort {
 
     private final ClienteJpaRepository jpaRepository;
     private final ClienteMapper mapper;
+    private final EntityManager entityManager;
 
-    public ClientePersistenceAdapter(ClienteJpaRepository jpaRepository, ClienteMapper mapper) {
+    public ClientePersistenceAdapter(ClienteJpaRepository jpaRepository, ClienteMapper mapper,
+                                     EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -27,12 +39,50 @@ public class ClientePersistenceAdapter implements ClienteRepositoryPort {
         return mapper.toDomain(jpaRepository.save(mapper.toEntity(cliente)));
     }
 
+    @Override
+    @Transactional
+    public List<Cliente> guardarTodos(List<Cliente> clientes) {
+        // Una sola transacción por grupo: Hibernate agrupa los INSERT según hibernate.jdbc.batch_size
+        List<Cliente> guardados = jpaRepository.saveAll(clientes.stream()
+                        .map(mapper::toEntity)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+        // Con open-in-view el contexto de persistencia dura toda la solicitud: sin vaciarlo,
+        // cada flush de los grupos siguientes revisaría también las filas ya insertadas
+        entityManager.flush();
+        entityManager.clear();
+        return guardados;
+    }
+
     @Override
     public Optional<Cliente> buscarPorId(Long clienteId) {
         return jpaRepository.findById(clienteId)
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public List<Cliente> buscarPorIds(Collection<Long> clienteIds) {
+        List<Cliente> clientes = new ArrayList<>(clienteIds.size());
+        for (List<Long> bloque : Bloques.de(clienteIds)) {
+            jpaRepository.findAllById(bloque)
+                    .forEach(entity -> clientes.add(mapper.toDomain(entity)));
+        }
+        return clientes;
+    }
+
+    @Override
+    public List<Cliente> buscarPagina(Long despuesDe, int limite) {
+        PageRequest pagina = PageRequest.ofSize(limite);
+        List<ClienteEntity> entities = despuesDe == null
+                ? jpaRepository.findAllByOrderByIdAsc(pagina)
+                : jpaRepository.findByIdGreaterThanOrderByIdAsc(despuesDe, pagina);
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Cliente> buscarTodos() {
         return jpaRepository.findAll()
@@ -56,4 +106,27 @@ public class ClientePersistenceAdapter implements ClienteRepositoryPort {
     public boolean existePorIdentificacion(String identificacion) {
         return jpaRepository.existsByIdentificacion(identificacion);
     }
+
+    @Override
+    public Set<String> buscarIdentificacionesExistentes(Collection<String> identificaciones) {
+        Set<String> existentes = new HashSet<>();
+        for (List<String> bloque : Bloques.de(identificaciones)) {
+            existentes.addAll(jpaRepository.findIdentificacionesIn(bloque));
+        }
+        return existentes;
+    }
+
+    public long contar() {
+        return jpaRepository.count();
+    }
+
+    /**
+     * Recorre todos los identificaciones registrados con un cursor, sin cargar las entidades.
+     */
+    @Transactional(readOnly = true)
+    public void recorrerIdentificaciones(Consumer<String> consumidor) {
+        try (Stream<String> claves = jpaRepository.streamIdentificaciones()) {
+            claves.forEach(consumidor);
+        }
+    }
 }
@@ -2,28 +2,62 @@ package com.gorkyange.bp.infrastructure.adapter.out.persistence;
 
 import com.gorkyange.bp.application.port.out.CuentaRepositoryPort;
 import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.entity.CuentaEntity;
 import com.gorkyange.bp.infrastructure.adapter.out.persistence.mapper.CuentaMapper;
 import com.gorkyange.bp.infrastructure.adapter.out.persistence.repository.CuentaJpaRepository;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.repository.SaldoDiarioJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class CuentaPersistenceAdapter implements CuentaRepositoryPort {
 
     private final CuentaJpaRepository jpaRepository;
+    private final SaldoDiarioJpaRepository saldoDiarioJpaRepository;
     private final CuentaMapper mapper;
+    private final EntityManager entityManager;
 
-    public CuentaPersistenceAdapter(CuentaJpaRepository jpaRepository, CuentaMapper mapper) {
+    public CuentaPersistenceAdapter(CuentaJpaRepository jpaRepository,
+                                    SaldoDiarioJpaRepository saldoDiarioJpaRepository,
+                                    CuentaMapper mapper,
+                                    EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.saldoDiarioJpaRepository = saldoDiarioJpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public Cuenta guardar(Cuenta cuenta) {
-        return mapper.toDomain(jpaRepository.save(mapper.toEntity(cuenta)));
+        CuentaEntity entity = mapper.toEntity(cuenta);
+        boolean nueva = entity.getId() == null;
+        if (nueva) {
+            // Cuenta nueva: el saldo vigente parte del saldo inicial
+            entity.setSaldoActual(entity.getSaldoInicial());
+            entity.setVersion(0L);
+        } else if (entity.getSaldoInicial() != null) {
+            // Ambos leen el saldo inicial anterior: deben ir antes de guardar el nuevo
+            saldoDiarioJpaRepository.rebasarSaldoInicial(entity.getId(), entity.getSaldoInicial().toBigDecimal());
+            jpaRepository.rebasarSaldoInicial(entity.getId(), entity.getSaldoInicial().toBigDecimal());
+        }
+        CuentaEntity guardada = jpaRepository.save(entity);
+        if (!nueva) {
+            // saldo_actual y version no se escriben desde la entidad: se releen tras el UPDATE
+            entityManager.flush();
+            entityManager.refresh(guardada);
+        }
+        return mapper.toDomain(guardada);
     }
 
     @Override
@@ -36,6 +70,27 @@ public class CuentaPersistenceAdapter implements CuentaRepositoryPort {
         return jpaRepository.findByNumeroCuenta(numeroCuenta).map(mapper::toDomain);
     }
 
+    @Override
+    public List<Cuenta> buscarPorNumerosCuenta(Collection<String> numerosCuenta) {
+        List<Cuenta> cuentas = new ArrayList<>(numerosCuenta.size());
+        for (List<String> bloque : Bloques.de(numerosCuenta)) {
+            jpaRepository.findByNumeroCuentaIn(bloque)
+                    .forEach(entity -> cuentas.add(mapper.toDomain(entity)));
+        }
+        return cuentas;
+    }
+
+    @Override
+    public List<Cuenta> buscarPagina(Long despuesDe, int limite) {
+        PageRequest pagina = PageRequest.ofSize(limite);
+        List<CuentaEntity> entities = despuesDe == null
+                ? jpaRepository.findAllByOrderByIdAsc(pagina)
+                : jpaRepository.findByIdGreaterThanOrderByIdAsc(despuesDe, pagina);
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Cuenta> buscarTodas() {
         return jpaRepository.findAll()
@@ -71,4 +126,18 @@ public class CuentaPersistenceAdapter implements CuentaRepositoryPort {
     public int contarPorCliente(Long clienteId) {
         return jpaRepository.countByClienteId(clienteId);
     }
+
+    public long contar() {
+        return jpaRepository.count();
+    }
+
+    /**
+     * Recorre todos los números de cuenta registrados con un cursor, sin cargar las entidades.
+     */
+    @Transactional(readOnly = true)
+    public void recorrerNumerosCuenta(Consumer<String> consumidor) {
+        try (Stream<String> claves = jpaRepository.streamNumerosCuenta()) {
+            claves.forEach(consumidor);
+        }
+    }
 }
@@ -0,0 +1,47 @@
+package com.gorkyange.bp.infrastructure.adapter.out.persistence;
+
+import com.gorkyange.bp.application.port.out.IdempotenciaRepositoryPort;
+import com.gorkyange.bp.domain.model.RegistroIdempotencia;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.mapper.ClaveIdempotenciaMapper;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.repository.ClaveIdempotenciaJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Claves de idempotencia persistidas: sobreviven a reinicios y se comparten entre
+ * instancias. Las claves se escriben junto con su movimiento en MovimientoPersistenceAdapter;
+ * aquí solo se consultan y se purgan al cumplir la retención.
+ */
+@Component
+public class IdempotenciaPersistenceAdapter implements IdempotenciaRepositoryPort {
+
+    private final ClaveIdempotenciaJpaRepository jpaRepository;
+    private final ClaveIdempotenciaMapper mapper;
+    private final Duration retencion;
+
+    public IdempotenciaPersistenceAdapter(ClaveIdempotenciaJpaRepository jpaRepository,
+                                          ClaveIdempotenciaMapper mapper,
+                                          @Value("${bp.idempotencia.retencion:24h}") Duration retencion) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.retencion = retencion;
+    }
+
+    @Override
+    public Optional<RegistroIdempotencia> buscar(String clave) {
+        return jpaRepository.findById(clave).map(mapper::toDomain);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${bp.idempotencia.intervalo-purga:PT10M}",
+               initialDelayString = "${bp.idempotencia.intervalo-purga:PT10M}")
+    public void purgarExpiradas() {
+        jpaRepository.eliminarAnterioresA(LocalDateTime.now().minus(retencion));
+    }
+}
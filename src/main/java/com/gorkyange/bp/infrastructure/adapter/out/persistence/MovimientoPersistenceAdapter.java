@@ -1,30 +1,236 @@
 package com.gorkyange.bp.infrastructure.adapter.out.persistence;
 
 import com.gorkyange.bp.application.port.out.MovimientoRepositoryPort;
+import com.gorkyange.bp.domain.exception.ClaveIdempotenciaEnUsoException;
+import com.gorkyange.bp.domain.exception.ConflictoSaldoException;
+import com.gorkyange.bp.domain.model.Dinero;
 import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.entity.MovimientoEntity;
 import com.gorkyange.bp.infrastructure.adapter.out.persistence.mapper.MovimientoMapper;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.repository.ClaveIdempotenciaJpaRepository;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.repository.CuentaJpaRepository;
 import com.gorkyange.bp.infrastructure.adapter.out.persistence.repository.MovimientoJpaRepository;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.repository.SaldoDiarioJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class MovimientoPersistenceAdapter implements MovimientoRepositoryPort {
 
     private final MovimientoJpaRepository jpaRepository;
+    private final CuentaJpaRepository cuentaJpaRepository;
+    private final SaldoDiarioJpaRepository saldoDiarioJpaRepository;
+    private final ClaveIdempotenciaJpaRepository claveIdempotenciaJpaRepository;
     private final MovimientoMapper mapper;
+    private final EntityManager entityManager;
 
-    public MovimientoPersistenceAdapter(MovimientoJpaRepository jpaRepository, MovimientoMapper mapper) {
+    public MovimientoPersistenceAdapter(MovimientoJpaRepository jpaRepository,
+                                        CuentaJpaRepository cuentaJpaRepository,
+                                        SaldoDiarioJpaRepository saldoDiarioJpaRepository,
+                                        ClaveIdempotenciaJpaRepository claveIdempotenciaJpaRepository,
+                                        MovimientoMapper mapper,
+                                        EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.cuentaJpaRepository = cuentaJpaRepository;
+        this.saldoDiarioJpaRepository = saldoDiarioJpaRepository;
+        this.claveIdempotenciaJpaRepository = claveIdempotenciaJpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
     }
 
     @Override
+    @Transactional
     public Movimiento guardar(Movimiento movimiento) {
-        return mapper.toDomain(jpaRepository.save(mapper.toEntity(movimiento)));
+        // Toda escritura de movimientos mantiene saldo_actual = saldo_inicial + suma de valores,
+        // los saldos diarios de los días afectados y la cadena de saldos por movimiento
+        Map<String, LocalDate> reencadenar = new LinkedHashMap<>();
+        if (movimiento.getId() != null) {
+            jpaRepository.findById(movimiento.getId()).ifPresent(existente -> {
+                ajustarSaldo(existente.getNumeroCuenta(), existente.getValor().negar());
+                registrarSaldosDiarios(List.of(mapper.toDomain(existente)), -1, reencadenar);
+                // La fila cambia en su lugar: todo lo posterior a su fecha original se recalcula
+                desdeFecha(reencadenar, existente.getNumeroCuenta(), existente.getFecha());
+            });
+        }
+        MovimientoEntity guardado = jpaRepository.save(mapper.toEntity(movimiento));
+        ajustarSaldo(guardado.getNumeroCuenta(), guardado.getValor());
+        registrarSaldosDiarios(List.of(mapper.toDomain(guardado)), 1, reencadenar);
+        if (movimiento.getId() != null) {
+            desdeFecha(reencadenar, guardado.getNumeroCuenta(), guardado.getFecha());
+        }
+        reencadenarSaldos(reencadenar, List.of(guardado));
+        return mapper.toDomain(guardado);
+    }
+
+    @Override
+    @Transactional
+    public List<Movimiento> guardarTodos(List<Movimiento> movimientos) {
+        Map<String, Long> deltas = new LinkedHashMap<>();
+        for (Movimiento movimiento : movimientos) {
+            deltas.merge(movimiento.getNumeroCuenta(), movimiento.getValor().getCentavos(), Math::addExact);
+        }
+        deltas.forEach((numeroCuenta, delta) -> ajustarSaldo(numeroCuenta, Dinero.deCentavos(delta)));
+        Map<String, LocalDate> reencadenar = new LinkedHashMap<>();
+        registrarSaldosDiarios(movimientos, 1, reencadenar);
+        return insertar(movimientos, reencadenar);
+    }
+
+    @Override
+    @Transactional
+    public List<Movimiento> guardarConSaldo(String numeroCuenta, long versionEsperada, List<Movimiento> movimientos) {
+        long delta = 0;
+        for (Movimiento movimiento : movimientos) {
+            delta = Math.addExact(delta, movimiento.getValor().getCentavos());
+        }
+
+        // El UPDATE condicional va primero: bloquea la fila de la cuenta hasta el commit,
+        // así dos instancias no pueden registrar sobre el mismo saldo
+        int filas = cuentaJpaRepository.avanzarSaldo(numeroCuenta, versionEsperada, BigDecimal.valueOf(delta, Dinero.ESCALA));
+        if (filas == 0) {
+            throw new ConflictoSaldoException(numeroCuenta);
+        }
+        Map<String, LocalDate> reencadenar = new LinkedHashMap<>();
+        registrarSaldosDiarios(movimientos, 1, reencadenar);
+        return insertar(movimientos, reencadenar);
+    }
+
+    @Override
+    @Transactional
+    public Movimiento guardarConSaldo(String numeroCuenta, long versionEsperada, Movimiento movimiento,
+                                      String claveIdempotencia, String huella) {
+        Movimiento guardado = guardarConSaldo(numeroCuenta, versionEsperada, List.of(movimiento)).get(0);
+        try {
+            claveIdempotenciaJpaRepository.insertar(claveIdempotencia, huella, guardado.getId(),
+                    guardado.getFecha(), guardado.getTipoMovimiento(), guardado.getValor().toBigDecimal(),
+                    guardado.getSaldo().toBigDecimal(), guardado.getNumeroCuenta(), LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            // Otra solicitud con la misma clave se confirmó primero (en otra cuenta o instancia):
+            // se revierte el movimiento y el servicio responde con el registro de esa solicitud
+            throw new ClaveIdempotenciaEnUsoException(claveIdempotencia);
+        }
+        return guardado;
+    }
+
+    private List<Movimiento> insertar(List<Movimiento> movimientos, Map<String, LocalDate> reencadenar) {
+        // Una sola transacción por grupo: Hibernate agrupa los INSERT según hibernate.jdbc.batch_size
+        List<MovimientoEntity> entities = jpaRepository.saveAll(movimientos.stream()
+                .map(mapper::toEntity)
+                .collect(Collectors.toList()));
+        reencadenarSaldos(reencadenar, entities);
+        List<Movimiento> guardados = entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+        // Con open-in-view el contexto de persistencia dura toda la solicitud: sin vaciarlo,
+        // cada flush de los grupos siguientes revisaría también las filas ya insertadas
+        entityManager.flush();
+        entityManager.clear();
+        return guardados;
+    }
+
+    /**
+     * Recalcula la cadena de saldos de cada cuenta desde la fecha indicada con una sentencia
+     * por cuenta, y relee en una consulta por bloque el saldo de las filas devueltas al llamador
+     * que pudo cambiar.
+     */
+    private void reencadenarSaldos(Map<String, LocalDate> reencadenar, List<MovimientoEntity> devueltos) {
+        if (reencadenar.isEmpty()) {
+            return;
+        }
+        reencadenar.forEach(jpaRepository::reencadenarSaldos);
+
+        Map<Long, MovimientoEntity> afectados = devueltos.stream()
+                .filter(entity -> reencadenar.containsKey(entity.getNumeroCuenta()))
+                .collect(Collectors.toMap(MovimientoEntity::getId, Function.identity()));
+        for (List<Long> bloque : Bloques.de(afectados.keySet())) {
+            for (Object[] fila : jpaRepository.findSaldosByIdIn(bloque)) {
+                // El MERGE ya escribió el saldo en la base: la entidad se desvincula antes de
+                // fijarlo para que el contexto de persistencia no lo vuelva a escribir
+                MovimientoEntity entity = afectados.get((Long) fila[0]);
+                entityManager.detach(entity);
+                entity.setSaldo((Dinero) fila[1]);
+            }
+        }
+    }
+
+    private static void desdeFecha(Map<String, LocalDate> reencadenar, String numeroCuenta, LocalDate fecha) {
+        reencadenar.merge(numeroCuenta, fecha, (actual, nueva) -> nueva.isBefore(actual) ? nueva : actual);
+    }
+
+    /**
+     * Suma (signo 1) o resta (signo -1) los movimientos en las fotos diarias de su cuenta.
+     * Se llama después de actualizar la fila de la cuenta, cuyo bloqueo serializa el
+     * UPDATE-o-INSERT de cada día entre instancias hasta el commit.
+     * Si hay días posteriores con movimientos, la cadena de saldos de la cuenta queda
+     * pendiente de reencadenar desde ese día.
+     */
+    private void registrarSaldosDiarios(List<Movimiento> movimientos, int signo, Map<String, LocalDate> reencadenar) {
+        Map<DiaCuenta, AcumuladoDia> dias = new LinkedHashMap<>();
+        for (Movimiento movimiento : movimientos) {
+            dias.computeIfAbsent(new DiaCuenta(movimiento.getNumeroCuenta(), movimiento.getFecha()),
+                    k -> new AcumuladoDia()).sumar(movimiento.getValor().getCentavos());
+        }
+
+        dias.forEach((dia, acumulado) -> {
+            BigDecimal neto = BigDecimal.valueOf(signo * acumulado.neto, Dinero.ESCALA);
+            BigDecimal debitos = BigDecimal.valueOf(signo * acumulado.debitos, Dinero.ESCALA);
+            BigDecimal creditos = BigDecimal.valueOf(signo * acumulado.creditos, Dinero.ESCALA);
+            int cantidad = signo * acumulado.cantidad;
+
+            if (saldoDiarioJpaRepository.acumularDia(dia.numeroCuenta(), dia.fecha(), neto, debitos, creditos, cantidad) == 0) {
+                saldoDiarioJpaRepository.abrirDia(dia.numeroCuenta(), dia.fecha(), neto, debitos, creditos, cantidad);
+            }
+            if (neto.signum() != 0
+                    && saldoDiarioJpaRepository.desplazarPosteriores(dia.numeroCuenta(), dia.fecha(), neto) > 0) {
+                desdeFecha(reencadenar, dia.numeroCuenta(), dia.fecha());
+            }
+        });
+    }
+
+    private record DiaCuenta(String numeroCuenta, LocalDate fecha) {
+    }
+
+    private static final class AcumuladoDia {
+        private long neto;
+        private long debitos;
+        private long creditos;
+        private int cantidad;
+
+        void sumar(long valor) {
+            neto = Math.addExact(neto, valor);
+            if (valor < 0) {
+                debitos = Math.subtractExact(debitos, valor);
+            } else {
+                creditos = Math.addExact(creditos, valor);
+            }
+            cantidad++;
+        }
+    }
+
+    private void ajustarSaldo(String numeroCuenta, Dinero delta) {
+        if (!delta.esCero()) {
+            cuentaJpaRepository.ajustarSaldo(numeroCuenta, delta.toBigDecimal());
+        }
+    }
+
+    @Override
+    public Dinero saldoMinimoConCambio(String numeroCuenta, LocalDate desde, Long id, LocalDate fecha, Dinero valor) {
+        BigDecimal minimo = jpaRepository.saldoMinimoConCambio(numeroCuenta, desde, id, fecha, valor.toBigDecimal());
+        return minimo == null ? Dinero.CERO : Dinero.de(minimo);
     }
 
     @Override
@@ -40,6 +246,60 @@ public class MovimientoPersistenceAdapter implements MovimientoRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Movimiento> buscarPagina(Long despuesDe, int limite) {
+        PageRequest pagina = PageRequest.ofSize(limite);
+        List<MovimientoEntity> entities;
+        if (despuesDe == null) {
+            entities = jpaRepository.findPrimeraPagina(pagina);
+        } else {
+            entities = jpaRepository.findPaginaDespuesDe(despuesDe, pagina);
+            // Una página vacía también es la de un cursor eliminado entre una solicitud y la siguiente:
+            // se continúa por id, que puede repetir o saltar movimientos con fecha retroactiva
+            if (entities.isEmpty() && !jpaRepository.existsById(despuesDe)) {
+                entities = jpaRepository.findPaginaPorIdDespuesDe(despuesDe, pagina);
+            }
+        }
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Movimiento> buscarPaginaPorCuenta(String numeroCuenta, Long despuesDe, int limite) {
+        PageRequest pagina = PageRequest.ofSize(limite);
+        List<MovimientoEntity> entities;
+        if (despuesDe == null) {
+            entities = jpaRepository.findPrimeraPaginaPorCuenta(numeroCuenta, pagina);
+        } else {
+            entities = jpaRepository.findPaginaPorCuentaDespuesDe(numeroCuenta, despuesDe, pagina);
+            if (entities.isEmpty() && !jpaRepository.existsById(despuesDe)) {
+                entities = jpaRepository.findPaginaPorCuentaYIdDespuesDe(numeroCuenta, despuesDe, pagina);
+            }
+        }
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Movimiento> buscarPaginaPorFechas(LocalDate fechaInicio, LocalDate fechaFin, Long despuesDe,
+                                                  int limite) {
+        PageRequest pagina = PageRequest.ofSize(limite);
+        List<MovimientoEntity> entities;
+        if (despuesDe == null) {
+            entities = jpaRepository.findPrimeraPaginaPorFechas(fechaInicio, fechaFin, pagina);
+        } else {
+            entities = jpaRepository.findPaginaPorFechasDespuesDe(fechaInicio, fechaFin, despuesDe, pagina);
+            if (entities.isEmpty() && !jpaRepository.existsById(despuesDe)) {
+                entities = jpaRepository.findPaginaPorFechasYIdDespuesDe(fechaInicio, fechaFin, despuesDe, pagina);
+            }
+        }
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public List<Movimiento> buscarPorCuenta(String numeroCuenta) {
         return jpaRepository.findByNumeroCuentaOrderByFechaDesc(numeroCuenta)
@@ -56,6 +316,19 @@ public class MovimientoPersistenceAdapter implements MovimientoRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void recorrerPorFechas(LocalDate fechaInicio, LocalDate fechaFin, Consumer<Movimiento> consumidor) {
+        // Cursor del driver con fetch size: cada fila se entrega y se desvincula del
+        // contexto de persistencia, así la memoria no crece con el tamaño del rango
+        try (Stream<MovimientoEntity> filas = jpaRepository.streamByFechaBetween(fechaInicio, fechaFin)) {
+            filas.forEach(entity -> {
+                consumidor.accept(mapper.toDomain(entity));
+                entityManager.detach(entity);
+            });
+        }
+    }
+
     @Override
     public List<Movimiento> buscarPorClienteYFechas(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin) {
         return jpaRepository.findByClienteIdAndFechaBetween(clienteId, fechaInicio, fechaFin)
@@ -64,6 +337,14 @@ public class MovimientoPersistenceAdapter implements MovimientoRepositoryPort {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Movimiento> buscarPorClienteYFechasAgrupadoPorCuenta(Long clienteId, LocalDate fechaInicio, LocalDate fechaFin) {
+        return jpaRepository.findByClienteIdAndFechaBetweenOrderByCuenta(clienteId, fechaInicio, fechaFin)
+                .stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Movimiento> buscarUltimoPorCuenta(String numeroCuenta) {
         return jpaRepository.findFirstByNumeroCuentaOrderByFechaDescIdDesc(numeroCuenta)
@@ -76,7 +357,15 @@ public class MovimientoPersistenceAdapter implements MovimientoRepositoryPort {
     }
 
     @Override
+    @Transactional
     public void eliminar(Long id) {
-        jpaRepository.deleteById(id);
+        jpaRepository.findById(id).ifPresent(existente -> {
+            jpaRepository.delete(existente);
+            ajustarSaldo(existente.getNumeroCuenta(), existente.getValor().negar());
+            Map<String, LocalDate> reencadenar = new LinkedHashMap<>();
+            registrarSaldosDiarios(List.of(mapper.toDomain(existente)), -1, reencadenar);
+            desdeFecha(reencadenar, existente.getNumeroCuenta(), existente.getFecha());
+            reencadenarSaldos(reencadenar, List.of());
+        });
     }
 }
@@ -0,0 +1,41 @@
+package com.gorkyange.bp.infrastructure.adapter.out.persistence;
+
+import com.gorkyange.bp.application.port.out.SaldoDiarioRepositoryPort;
+import com.gorkyange.bp.domain.model.SaldoDiario;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.mapper.SaldoDiarioMapper;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.repository.SaldoDiarioJpaRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class SaldoDiarioPersistenceAdapter implements SaldoDiarioRepositoryPort {
+
+    private final SaldoDiarioJpaRepository jpaRepository;
+    private final SaldoDiarioMapper mapper;
+
+    public SaldoDiarioPersistenceAdapter(SaldoDiarioJpaRepository jpaRepository, SaldoDiarioMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<SaldoDiario> buscarUltimoHasta(String numeroCuenta, LocalDate fecha) {
+        return jpaRepository.findFirstByNumeroCuentaAndFechaLessThanEqualOrderByFechaDesc(numeroCuenta, fecha)
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public List<SaldoDiario> buscarUltimosHasta(Collection<String> numerosCuenta, LocalDate fecha) {
+        List<SaldoDiario> saldos = new ArrayList<>(numerosCuenta.size());
+        for (List<String> bloque : Bloques.de(numerosCuenta)) {
+            jpaRepository.findUltimosHasta(bloque, fecha)
+                    .forEach(entity -> saldos.add(mapper.toDomain(entity)));
+        }
+        return saldos;
+    }
+}
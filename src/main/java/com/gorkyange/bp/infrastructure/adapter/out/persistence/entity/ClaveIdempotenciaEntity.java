@@ -0,0 +1,117 @@
+package com.gorkyange.bp.infrastructure.adapter.out.persistence.entity;
+
+import com.gorkyange.bp.domain.model.Dinero;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Las filas se insertan con la sentencia nativa de ClaveIdempotenciaJpaRepository, en la
+// transacción del movimiento, y guardan la respuesta original para las repeticiones
+@Entity
+@Table(name = "claves_idempotencia",
+       indexes = @Index(name = "IX_claves_idempotencia_fecha_creacion", columnList = "fecha_creacion"))
+public class ClaveIdempotenciaEntity {
+
+    @Id
+    @Column(length = 100)
+    private String clave;
+
+    @Column(nullable = false, length = 64)
+    private String huella;
+
+    @Column(name = "movimiento_id", nullable = false)
+    private Long movimientoId;
+
+    @Column(nullable = false)
+    private LocalDate fecha;
+
+    @Column(name = "tipo_movimiento", nullable = false)
+    private String tipoMovimiento;
+
+    @Column(nullable = false, precision = 18, scale = 2)
+    private Dinero valor;
+
+    @Column(nullable = false, precision = 18, scale = 2)
+    private Dinero saldo;
+
+    @Column(name = "numero_cuenta", nullable = false)
+    private String numeroCuenta;
+
+    @Column(name = "fecha_creacion", nullable = false)
+    private LocalDateTime fechaCreacion;
+
+    public ClaveIdempotenciaEntity() {
+    }
+
+    public String getClave() {
+        return clave;
+    }
+
+    public void setClave(String clave) {
+        this.clave = clave;
+    }
+
+    public String getHuella() {
+        return huella;
+    }
+
+    public void setHuella(String huella) {
+        this.huella = huella;
+    }
+
+    public Long getMovimientoId() {
+        return movimientoId;
+    }
+
+    public void setMovimientoId(Long movimientoId) {
+        this.movimientoId = movimientoId;
+    }
+
+    public LocalDate getFecha() {
+        return fecha;
+    }
+
+    public void setFecha(LocalDate fecha) {
+        this.fecha = fecha;
+    }
+
+    public String getTipoMovimiento() {
+        return tipoMovimiento;
+    }
+
+    public void setTipoMovimiento(String tipoMovimiento) {
+        this.tipoMovimiento = tipoMovimiento;
+    }
+
+    public Dinero getValor() {
+        return valor;
+    }
+
+    public void setValor(Dinero valor) {
+        this.valor = valor;
+    }
+
+    public Dinero getSaldo() {
+        return saldo;
+    }
+
+    public void setSaldo(Dinero saldo) {
+        this.saldo = saldo;
+    }
+
+    public String getNumeroCuenta() {
+        return numeroCuenta;
+    }
+
+    public void setNumeroCuenta(String numeroCuenta) {
+        this.numeroCuenta = numeroCuenta;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return fechaCreacion;
+    }
+
+    public void setFechaCreacion(LocalDateTime fechaCreacion) {
+        this.fechaCreacion = fechaCreacion;
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 
 @Entity
 @Table(name = "clientes")
+@SequenceGenerator(name = "clientes_seq", sequenceName = "clientes_seq", allocationSize = 50)
 public class ClienteEntity extends PersonaEntity {
 
     @Column(name = "cliente_id", unique = true)
@@ -1,5 +1,6 @@
 package com.gorkyange.bp.infrastructure.adapter.out.persistence.entity;
 
+import com.gorkyange.bp.domain.model.Dinero;
 import jakarta.persistence.*;
 
 @Entity
@@ -7,7 +8,8 @@ import jakarta.persistence.*;
 public class CuentaEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cuentas_seq")
+    @SequenceGenerator(name = "cuentas_seq", sequenceName = "cuentas_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "numero_cuenta", nullable = false, unique = true)
@@ -16,8 +18,16 @@ public class CuentaEntity {
     @Column(name = "tipo_cuenta", nullable = false)
     private String tipoCuenta;
 
-    @Column(name = "saldo_inicial", nullable = false)
-    private Double saldoInicial;
+    @Column(name = "saldo_inicial", nullable = false, precision = 18, scale = 2)
+    private Dinero saldoInicial;
+
+    // Solo se escriben al insertar; después los mantienen los UPDATE condicionales
+    // de los adaptadores para que un save() de la cuenta nunca pise el saldo vigente
+    @Column(name = "saldo_actual", nullable = false, updatable = false, precision = 18, scale = 2)
+    private Dinero saldoActual;
+
+    @Column(nullable = false, updatable = false)
+    private Long version;
 
     @Column(nullable = false)
     private Boolean estado;
@@ -52,14 +62,30 @@ public class CuentaEntity {
         this.tipoCuenta = tipoCuenta;
     }
 
-    public Double getSaldoInicial() {
+    public Dinero getSaldoInicial() {
         return saldoInicial;
     }
 
-    public void setSaldoInicial(Double saldoInicial) {
+    public void setSaldoInicial(Dinero saldoInicial) {
         this.saldoInicial = saldoInicial;
     }
 
+    public Dinero getSaldoActual() {
+        return saldoActual;
+    }
+
+    public void setSaldoActual(Dinero saldoActual) {
+        this.saldoActual = saldoActual;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Boolean getEstado() {
         return estado;
     }
@@ -0,0 +1,24 @@
+package com.gorkyange.bp.infrastructure.adapter.out.persistence.entity;
+
+import com.gorkyange.bp.domain.model.Dinero;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Mapea {@link Dinero} a las columnas DECIMAL(18,2) de cuentas y movimientos.
+ */
+@Converter(autoApply = true)
+public class DineroConverter implements AttributeConverter<Dinero, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Dinero dinero) {
+        return dinero == null ? null : dinero.toBigDecimal();
+    }
+
+    @Override
+    public Dinero convertToEntityAttribute(BigDecimal valor) {
+        return valor == null ? null : Dinero.de(valor);
+    }
+}
@@ -1,14 +1,19 @@
 package com.gorkyange.bp.infrastructure.adapter.out.persistence.entity;
 
+import com.gorkyange.bp.domain.model.Dinero;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "movimientos")
+@Table(name = "movimientos",
+       indexes = @Index(name = "IX_movimientos_cuenta_fecha_id", columnList = "numero_cuenta, fecha, id"))
 public class MovimientoEntity {
 
+    // Ids reservados de a 50 en la secuencia: el INSERT espera al flush y Hibernate
+    // lo agrupa en lotes JDBC. Con IDENTITY cada fila se insertaba en el momento, una por una
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "movimientos_seq")
+    @SequenceGenerator(name = "movimientos_seq", sequenceName = "movimientos_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -17,11 +22,11 @@ public class MovimientoEntity {
     @Column(name = "tipo_movimiento", nullable = false)
     private String tipoMovimiento;
 
-    @Column(nullable = false)
-    private Double valor;
+    @Column(nullable = false, precision = 18, scale = 2)
+    private Dinero valor;
 
-    @Column(nullable = false)
-    private Double saldo;
+    @Column(nullable = false, precision = 18, scale = 2)
+    private Dinero saldo;
 
     @Column(name = "numero_cuenta", nullable = false)
     private String numeroCuenta;
@@ -53,19 +58,19 @@ public class MovimientoEntity {
         this.tipoMovimiento = tipoMovimiento;
     }
 
-    public Double getValor() {
+    public Dinero getValor() {
         return valor;
     }
 
-    public void setValor(Double valor) {
+    public void setValor(Dinero valor) {
         this.valor = valor;
     }
 
-    public Double getSaldo() {
+    public Dinero getSaldo() {
         return saldo;
     }
 
-    public void setSaldo(Double saldo) {
+    public void setSaldo(Dinero saldo) {
         this.saldo = saldo;
     }
 
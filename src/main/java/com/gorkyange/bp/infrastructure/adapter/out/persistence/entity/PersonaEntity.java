@@ -5,8 +5,9 @@ import jakarta.persistence.*;
 @MappedSuperclass
 public abstract class PersonaEntity {
 
+    // Secuencia declarada en cada entidad concreta (ClienteEntity)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clientes_seq")
     private Long id;
 
     @Column(nullable = false)
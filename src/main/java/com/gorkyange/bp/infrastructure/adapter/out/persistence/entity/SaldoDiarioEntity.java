@@ -0,0 +1,95 @@
+package com.gorkyange.bp.infrastructure.adapter.out.persistence.entity;
+
+import com.gorkyange.bp.domain.model.Dinero;
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+// Las filas se escriben solo con las sentencias nativas de SaldoDiarioJpaRepository,
+// dentro de la transacción del movimiento que las modifica
+@Entity
+@Table(name = "saldos_diarios",
+       uniqueConstraints = @UniqueConstraint(name = "UQ_saldos_diarios_cuenta_fecha",
+                                             columnNames = {"numero_cuenta", "fecha"}))
+public class SaldoDiarioEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "numero_cuenta", nullable = false)
+    private String numeroCuenta;
+
+    @Column(nullable = false)
+    private LocalDate fecha;
+
+    @Column(name = "saldo_cierre", nullable = false, precision = 18, scale = 2)
+    private Dinero saldoCierre;
+
+    @Column(name = "total_debitos", nullable = false, precision = 18, scale = 2)
+    private Dinero totalDebitos;
+
+    @Column(name = "total_creditos", nullable = false, precision = 18, scale = 2)
+    private Dinero totalCreditos;
+
+    @Column(name = "cantidad_movimientos", nullable = false)
+    private Integer cantidadMovimientos;
+
+    public SaldoDiarioEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getNumeroCuenta() {
+        return numeroCuenta;
+    }
+
+    public void setNumeroCuenta(String numeroCuenta) {
+        this.numeroCuenta = numeroCuenta;
+    }
+
+    public LocalDate getFecha() {
+        return fecha;
+    }
+
+    public void setFecha(LocalDate fecha) {
+        this.fecha = fecha;
+    }
+
+    public Dinero getSaldoCierre() {
+        return saldoCierre;
+    }
+
+    public void setSaldoCierre(Dinero saldoCierre) {
+        this.saldoCierre = saldoCierre;
+    }
+
+    public Dinero getTotalDebitos() {
+        return totalDebitos;
+    }
+
+    public void setTotalDebitos(Dinero totalDebitos) {
+        this.totalDebitos = totalDebitos;
+    }
+
+    public Dinero getTotalCreditos() {
+        return totalCreditos;
+    }
+
+    public void setTotalCreditos(Dinero totalCreditos) {
+        this.totalCreditos = totalCreditos;
+    }
+
+    public Integer getCantidadMovimientos() {
+        return cantidadMovimientos;
+    }
+
+    public void setCantidadMovimientos(Integer cantidadMovimientos) {
+        this.cantidadMovimientos = cantidadMovimientos;
+    }
+}
@@ -0,0 +1,21 @@
+package com.gorkyange.bp.infrastructure.adapter.out.persistence.mapper;
+
+import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.domain.model.RegistroIdempotencia;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.entity.ClaveIdempotenciaEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ClaveIdempotenciaMapper {
+
+    public RegistroIdempotencia toDomain(ClaveIdempotenciaEntity entity) {
+        Movimiento movimiento = new Movimiento();
+        movimiento.setId(entity.getMovimientoId());
+        movimiento.setFecha(entity.getFecha());
+        movimiento.setTipoMovimiento(entity.getTipoMovimiento());
+        movimiento.setValor(entity.getValor());
+        movimiento.setSaldo(entity.getSaldo());
+        movimiento.setNumeroCuenta(entity.getNumeroCuenta());
+        return new RegistroIdempotencia(entity.getClave(), entity.getHuella(), movimiento);
+    }
+}
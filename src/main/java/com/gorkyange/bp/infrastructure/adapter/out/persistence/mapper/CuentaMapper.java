@@ -13,6 +13,8 @@ public class CuentaMapper {
         entity.setNumeroCuenta(cuenta.getNumeroCuenta());
         entity.setTipoCuenta(cuenta.getTipoCuenta());
         entity.setSaldoInicial(cuenta.getSaldoInicial());
+        entity.setSaldoActual(cuenta.getSaldoActual());
+        entity.setVersion(cuenta.getVersion());
         entity.setEstado(cuenta.getEstado());
         entity.setClienteId(cuenta.getClienteId());
         return entity;
@@ -24,6 +26,8 @@ public class CuentaMapper {
         cuenta.setNumeroCuenta(entity.getNumeroCuenta());
         cuenta.setTipoCuenta(entity.getTipoCuenta());
         cuenta.setSaldoInicial(entity.getSaldoInicial());
+        cuenta.setSaldoActual(entity.getSaldoActual());
+        cuenta.setVersion(entity.getVersion());
         cuenta.setEstado(entity.getEstado());
         cuenta.setClienteId(entity.getClienteId());
         return cuenta;
@@ -0,0 +1,19 @@
+package com.gorkyange.bp.infrastructure.adapter.out.persistence.mapper;
+
+import com.gorkyange.bp.domain.model.SaldoDiario;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.entity.SaldoDiarioEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SaldoDiarioMapper {
+
+    public SaldoDiario toDomain(SaldoDiarioEntity entity) {
+        return new SaldoDiario(
+                entity.getNumeroCuenta(),
+                entity.getFecha(),
+                entity.getSaldoCierre(),
+                entity.getTotalDebitos(),
+                entity.getTotalCreditos(),
+                entity.getCantidadMovimientos());
+    }
+}
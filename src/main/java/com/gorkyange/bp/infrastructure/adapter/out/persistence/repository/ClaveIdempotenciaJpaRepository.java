@@ -0,0 +1,36 @@
+package com.gorkyange.bp.infrastructure.adapter.out.persistence.repository;
+
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.entity.ClaveIdempotenciaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Repository
+public interface ClaveIdempotenciaJpaRepository extends JpaRepository<ClaveIdempotenciaEntity, String> {
+
+    // INSERT inmediato (sin esperar al flush): si la clave ya existe, la violación de la
+    // clave primaria se lanza aquí y no al confirmar la transacción
+    @Modifying
+    @Query(value = "INSERT INTO claves_idempotencia (clave, huella, movimiento_id, fecha, tipo_movimiento, " +
+                   "valor, saldo, numero_cuenta, fecha_creacion) VALUES (:clave, :huella, :movimientoId, " +
+                   ":fecha, :tipoMovimiento, :valor, :saldo, :numeroCuenta, :fechaCreacion)", nativeQuery = true)
+    int insertar(@Param("clave") String clave,
+                 @Param("huella") String huella,
+                 @Param("movimientoId") Long movimientoId,
+                 @Param("fecha") LocalDate fecha,
+                 @Param("tipoMovimiento") String tipoMovimiento,
+                 @Param("valor") BigDecimal valor,
+                 @Param("saldo") BigDecimal saldo,
+                 @Param("numeroCuenta") String numeroCuenta,
+                 @Param("fechaCreacion") LocalDateTime fechaCreacion);
+
+    @Modifying
+    @Query("DELETE FROM ClaveIdempotenciaEntity c WHERE c.fechaCreacion < :limite")
+    int eliminarAnterioresA(@Param("limite") LocalDateTime limite);
+}
@@ -1,10 +1,30 @@
 package com.gorkyange.bp.infrastructure.adapter.out.persistence.repository;
 
 import com.gorkyange.bp.infrastructure.adapter.out.persistence.entity.ClienteEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 public interface ClienteJpaRepository extends JpaRepository<ClienteEntity, Long> {
     boolean existsByIdentificacion(String identificacion);
+
+    @Query("SELECT c.identificacion FROM ClienteEntity c WHERE c.identificacion IN :identificaciones")
+    List<String> findIdentificacionesIn(@Param("identificaciones") Collection<String> identificaciones);
+
+    List<ClienteEntity> findAllByOrderByIdAsc(Pageable pageable);
+    List<ClienteEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.identificacion FROM ClienteEntity c")
+    Stream<String> streamIdentificaciones();
 }
@@ -1,16 +1,54 @@
 package com.gorkyange.bp.infrastructure.adapter.out.persistence.repository;
 
 import com.gorkyange.bp.infrastructure.adapter.out.persistence.entity.CuentaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CuentaJpaRepository extends JpaRepository<CuentaEntity, Long> {
     Optional<CuentaEntity> findByNumeroCuenta(String numeroCuenta);
     List<CuentaEntity> findByClienteId(Long clienteId);
+    List<CuentaEntity> findByNumeroCuentaIn(Collection<String> numerosCuenta);
     boolean existsByNumeroCuenta(String numeroCuenta);
     int countByClienteId(Long clienteId);
+    List<CuentaEntity> findAllByOrderByIdAsc(Pageable pageable);
+    List<CuentaEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT c.numeroCuenta FROM CuentaEntity c")
+    Stream<String> streamNumerosCuenta();
+
+    // Avanza el saldo solo si nadie lo modificó desde la lectura (misma versión)
+    // y, para débitos, si el saldo resultante no queda negativo
+    @Modifying
+    @Query(value = "UPDATE cuentas SET saldo_actual = saldo_actual + :delta, version = version + 1 " +
+                   "WHERE numero_cuenta = :numeroCuenta AND version = :version " +
+                   "AND (:delta >= 0 OR saldo_actual + :delta >= 0)", nativeQuery = true)
+    int avanzarSaldo(@Param("numeroCuenta") String numeroCuenta,
+                     @Param("version") long version,
+                     @Param("delta") BigDecimal delta);
+
+    @Modifying
+    @Query(value = "UPDATE cuentas SET saldo_actual = saldo_actual + :delta, version = version + 1 " +
+                   "WHERE numero_cuenta = :numeroCuenta", nativeQuery = true)
+    int ajustarSaldo(@Param("numeroCuenta") String numeroCuenta, @Param("delta") BigDecimal delta);
+
+    // Mantiene saldo_actual = saldo_inicial + suma de movimientos al editar el saldo inicial
+    @Modifying
+    @Query(value = "UPDATE cuentas SET saldo_actual = saldo_actual + :saldoInicial - saldo_inicial, " +
+                   "version = version + 1 WHERE id = :id", nativeQuery = true)
+    int rebasarSaldoInicial(@Param("id") Long id, @Param("saldoInicial") BigDecimal saldoInicial);
 }
@@ -1,14 +1,22 @@
 package com.gorkyange.bp.infrastructure.adapter.out.persistence.repository;
 
 import com.gorkyange.bp.infrastructure.adapter.out.persistence.entity.MovimientoEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MovimientoJpaRepository extends JpaRepository<MovimientoEntity, Long> {
@@ -17,6 +25,16 @@ public interface MovimientoJpaRepository extends JpaRepository<MovimientoEntity,
     
     List<MovimientoEntity> findByFechaBetweenOrderByFechaDesc(LocalDate fechaInicio, LocalDate fechaFin);
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM MovimientoEntity m WHERE m.fecha BETWEEN :fechaInicio AND :fechaFin " +
+           "ORDER BY m.fecha, m.id")
+    Stream<MovimientoEntity> streamByFechaBetween(
+            @Param("fechaInicio") LocalDate fechaInicio,
+            @Param("fechaFin") LocalDate fechaFin);
+    
     @Query("SELECT m FROM MovimientoEntity m WHERE m.numeroCuenta IN " +
            "(SELECT c.numeroCuenta FROM CuentaEntity c WHERE c.clienteId = :clienteId) " +
            "AND m.fecha BETWEEN :fechaInicio AND :fechaFin " +
@@ -26,7 +44,108 @@ public interface MovimientoJpaRepository extends JpaRepository<MovimientoEntity,
             @Param("fechaInicio") LocalDate fechaInicio,
             @Param("fechaFin") LocalDate fechaFin);
     
+    @Query("SELECT m FROM MovimientoEntity m WHERE m.numeroCuenta IN " +
+           "(SELECT c.numeroCuenta FROM CuentaEntity c WHERE c.clienteId = :clienteId) " +
+           "AND m.fecha BETWEEN :fechaInicio AND :fechaFin " +
+           "ORDER BY m.numeroCuenta, m.fecha, m.id")
+    List<MovimientoEntity> findByClienteIdAndFechaBetweenOrderByCuenta(
+            @Param("clienteId") Long clienteId,
+            @Param("fechaInicio") LocalDate fechaInicio,
+            @Param("fechaFin") LocalDate fechaFin);
+    
+    @Query("SELECT m FROM MovimientoEntity m ORDER BY m.fecha, m.id")
+    List<MovimientoEntity> findPrimeraPagina(Pageable pageable);
+    
+    // Keyset sobre (fecha, id): continúa justo después del movimiento usado como cursor
+    @Query("SELECT m FROM MovimientoEntity m, MovimientoEntity c WHERE c.id = :despuesDe " +
+           "AND (m.fecha > c.fecha OR (m.fecha = c.fecha AND m.id > c.id)) " +
+           "ORDER BY m.fecha, m.id")
+    List<MovimientoEntity> findPaginaDespuesDe(@Param("despuesDe") Long despuesDe, Pageable pageable);
+    
+    // Para un cursor que ya no existe (movimiento eliminado): sin su fecha solo queda el id
+    @Query("SELECT m FROM MovimientoEntity m WHERE m.id > :despuesDe ORDER BY m.fecha, m.id")
+    List<MovimientoEntity> findPaginaPorIdDespuesDe(@Param("despuesDe") Long despuesDe, Pageable pageable);
+    
+    // Las mismas páginas dentro de una cuenta (IX_movimientos_cuenta_fecha_id) o de un rango de fechas
+    @Query("SELECT m FROM MovimientoEntity m WHERE m.numeroCuenta = :numeroCuenta ORDER BY m.fecha, m.id")
+    List<MovimientoEntity> findPrimeraPaginaPorCuenta(@Param("numeroCuenta") String numeroCuenta, Pageable pageable);
+    
+    @Query("SELECT m FROM MovimientoEntity m, MovimientoEntity c WHERE c.id = :despuesDe " +
+           "AND m.numeroCuenta = :numeroCuenta " +
+           "AND (m.fecha > c.fecha OR (m.fecha = c.fecha AND m.id > c.id)) " +
+           "ORDER BY m.fecha, m.id")
+    List<MovimientoEntity> findPaginaPorCuentaDespuesDe(
+            @Param("numeroCuenta") String numeroCuenta,
+            @Param("despuesDe") Long despuesDe,
+            Pageable pageable);
+    
+    @Query("SELECT m FROM MovimientoEntity m WHERE m.numeroCuenta = :numeroCuenta AND m.id > :despuesDe " +
+           "ORDER BY m.fecha, m.id")
+    List<MovimientoEntity> findPaginaPorCuentaYIdDespuesDe(
+            @Param("numeroCuenta") String numeroCuenta,
+            @Param("despuesDe") Long despuesDe,
+            Pageable pageable);
+    
+    @Query("SELECT m FROM MovimientoEntity m WHERE m.fecha BETWEEN :fechaInicio AND :fechaFin " +
+           "ORDER BY m.fecha, m.id")
+    List<MovimientoEntity> findPrimeraPaginaPorFechas(
+            @Param("fechaInicio") LocalDate fechaInicio,
+            @Param("fechaFin") LocalDate fechaFin,
+            Pageable pageable);
+    
+    @Query("SELECT m FROM MovimientoEntity m, MovimientoEntity c WHERE c.id = :despuesDe " +
+           "AND m.fecha BETWEEN :fechaInicio AND :fechaFin " +
+           "AND (m.fecha > c.fecha OR (m.fecha = c.fecha AND m.id > c.id)) " +
+           "ORDER BY m.fecha, m.id")
+    List<MovimientoEntity> findPaginaPorFechasDespuesDe(
+            @Param("fechaInicio") LocalDate fechaInicio,
+            @Param("fechaFin") LocalDate fechaFin,
+            @Param("despuesDe") Long despuesDe,
+            Pageable pageable);
+    
+    @Query("SELECT m FROM MovimientoEntity m WHERE m.fecha BETWEEN :fechaInicio AND :fechaFin " +
+           "AND m.id > :despuesDe ORDER BY m.fecha, m.id")
+    List<MovimientoEntity> findPaginaPorFechasYIdDespuesDe(
+            @Param("fechaInicio") LocalDate fechaInicio,
+            @Param("fechaFin") LocalDate fechaFin,
+            @Param("despuesDe") Long despuesDe,
+            Pageable pageable);
+    
     Optional<MovimientoEntity> findFirstByNumeroCuentaOrderByFechaDescIdDesc(String numeroCuenta);
     
     int countByNumeroCuenta(String numeroCuenta);
+    
+    // Recalcula en una sola sentencia el saldo de los movimientos de la cuenta desde una fecha:
+    // cierre del último día anterior (o saldo inicial) más la suma acumulada en orden (fecha, id).
+    // Solo se escriben las filas cuyo saldo cambia
+    @Modifying(flushAutomatically = true)
+    @Query(value = "MERGE INTO movimientos t USING (" +
+                   "SELECT m.id, b.base + SUM(m.valor) OVER (ORDER BY m.fecha, m.id ROWS UNBOUNDED PRECEDING) AS saldo " +
+                   "FROM movimientos m CROSS JOIN (SELECT COALESCE((SELECT s.saldo_cierre FROM saldos_diarios s " +
+                   "WHERE s.numero_cuenta = c.numero_cuenta AND s.fecha = (SELECT MAX(p.fecha) FROM saldos_diarios p " +
+                   "WHERE p.numero_cuenta = c.numero_cuenta AND p.fecha < :desde)), c.saldo_inicial) AS base " +
+                   "FROM cuentas c WHERE c.numero_cuenta = :numeroCuenta) b " +
+                   "WHERE m.numero_cuenta = :numeroCuenta AND m.fecha >= :desde) s ON (t.id = s.id) " +
+                   "WHEN MATCHED AND t.saldo <> s.saldo THEN UPDATE SET saldo = s.saldo;", nativeQuery = true)
+    int reencadenarSaldos(@Param("numeroCuenta") String numeroCuenta, @Param("desde") LocalDate desde);
+    
+    // Saldos vigentes (id, saldo) de un bloque de movimientos, para releerlos tras reencadenar
+    @Query("SELECT m.id, m.saldo FROM MovimientoEntity m WHERE m.id IN :ids")
+    List<Object[]> findSaldosByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // Saldo mínimo de la cuenta desde una fecha, en orden (fecha, id), si el movimiento :id tuviera
+    // :fecha y :valor en ella. Misma base que reencadenarSaldos; la fila simulada se agrega aparte
+    // para cubrir un movimiento que llega desde otra cuenta
+    @Query(value = "SELECT MIN(x.saldo) FROM (" +
+                   "SELECT b.base + SUM(v.valor) OVER (ORDER BY v.fecha, v.id ROWS UNBOUNDED PRECEDING) AS saldo " +
+                   "FROM (SELECT m.id, m.fecha, m.valor FROM movimientos m " +
+                   "WHERE m.numero_cuenta = :numeroCuenta AND m.fecha >= :desde AND m.id <> :id " +
+                   "UNION ALL SELECT CAST(:id AS BIGINT), CAST(:fecha AS DATE), CAST(:valor AS DECIMAL(18,2))) v " +
+                   "CROSS JOIN (SELECT COALESCE((SELECT s.saldo_cierre FROM saldos_diarios s " +
+                   "WHERE s.numero_cuenta = c.numero_cuenta AND s.fecha = (SELECT MAX(p.fecha) FROM saldos_diarios p " +
+                   "WHERE p.numero_cuenta = c.numero_cuenta AND p.fecha < :desde)), c.saldo_inicial) AS base " +
+                   "FROM cuentas c WHERE c.numero_cuenta = :numeroCuenta) b) x", nativeQuery = true)
+    BigDecimal saldoMinimoConCambio(@Param("numeroCuenta") String numeroCuenta, @Param("desde") LocalDate desde,
+                                    @Param("id") Long id, @Param("fecha") LocalDate fecha,
+                                    @Param("valor") BigDecimal valor);
 }
@@ -0,0 +1,73 @@
+package com.gorkyange.bp.infrastructure.adapter.out.persistence.repository;
+
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.entity.SaldoDiarioEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SaldoDiarioJpaRepository extends JpaRepository<SaldoDiarioEntity, Long> {
+
+    Optional<SaldoDiarioEntity> findFirstByNumeroCuentaAndFechaLessThanEqualOrderByFechaDesc(
+            String numeroCuenta, LocalDate fecha);
+
+    // Última foto de cada cuenta hasta la fecha: una búsqueda por índice (numero_cuenta, fecha) por cuenta
+    @Query("SELECT s FROM SaldoDiarioEntity s WHERE s.numeroCuenta IN :numerosCuenta " +
+           "AND s.fecha = (SELECT MAX(u.fecha) FROM SaldoDiarioEntity u " +
+           "WHERE u.numeroCuenta = s.numeroCuenta AND u.fecha <= :fecha)")
+    List<SaldoDiarioEntity> findUltimosHasta(@Param("numerosCuenta") Collection<String> numerosCuenta,
+                                             @Param("fecha") LocalDate fecha);
+
+    // Suma los movimientos al día si ya tiene foto
+    @Modifying
+    @Query(value = "UPDATE saldos_diarios SET saldo_cierre = saldo_cierre + :neto, " +
+                   "total_debitos = total_debitos + :debitos, total_creditos = total_creditos + :creditos, " +
+                   "cantidad_movimientos = cantidad_movimientos + :cantidad " +
+                   "WHERE numero_cuenta = :numeroCuenta AND fecha = :fecha", nativeQuery = true)
+    int acumularDia(@Param("numeroCuenta") String numeroCuenta,
+                    @Param("fecha") LocalDate fecha,
+                    @Param("neto") BigDecimal neto,
+                    @Param("debitos") BigDecimal debitos,
+                    @Param("creditos") BigDecimal creditos,
+                    @Param("cantidad") int cantidad);
+
+    // Primer movimiento del día: el cierre parte del cierre anterior o, si no hay, del saldo inicial
+    @Modifying
+    @Query(value = "INSERT INTO saldos_diarios (numero_cuenta, fecha, saldo_cierre, total_debitos, " +
+                   "total_creditos, cantidad_movimientos) " +
+                   "SELECT c.numero_cuenta, :fecha, COALESCE((SELECT s.saldo_cierre FROM saldos_diarios s " +
+                   "WHERE s.numero_cuenta = c.numero_cuenta AND s.fecha = (SELECT MAX(p.fecha) " +
+                   "FROM saldos_diarios p WHERE p.numero_cuenta = c.numero_cuenta AND p.fecha < :fecha)), " +
+                   "c.saldo_inicial) + :neto, :debitos, :creditos, :cantidad " +
+                   "FROM cuentas c WHERE c.numero_cuenta = :numeroCuenta", nativeQuery = true)
+    int abrirDia(@Param("numeroCuenta") String numeroCuenta,
+                 @Param("fecha") LocalDate fecha,
+                 @Param("neto") BigDecimal neto,
+                 @Param("debitos") BigDecimal debitos,
+                 @Param("creditos") BigDecimal creditos,
+                 @Param("cantidad") int cantidad);
+
+    // Un movimiento con fecha pasada también mueve el cierre de los días posteriores
+    @Modifying
+    @Query(value = "UPDATE saldos_diarios SET saldo_cierre = saldo_cierre + :neto " +
+                   "WHERE numero_cuenta = :numeroCuenta AND fecha > :fecha", nativeQuery = true)
+    int desplazarPosteriores(@Param("numeroCuenta") String numeroCuenta,
+                             @Param("fecha") LocalDate fecha,
+                             @Param("neto") BigDecimal neto);
+
+    // Al editar el saldo inicial se desplazan todos los cierres por la diferencia
+    @Modifying
+    @Query(value = "UPDATE saldos_diarios SET saldo_cierre = saldo_cierre + :saldoInicial - " +
+                   "(SELECT c.saldo_inicial FROM cuentas c WHERE c.id = :cuentaId) " +
+                   "WHERE numero_cuenta = (SELECT c.numero_cuenta FROM cuentas c WHERE c.id = :cuentaId)",
+           nativeQuery = true)
+    int rebasarSaldoInicial(@Param("cuentaId") Long cuentaId, @Param("saldoInicial") BigDecimal saldoInicial);
+}
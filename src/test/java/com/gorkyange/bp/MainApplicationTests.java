@@ -1,13 +1,130 @@
 package com.gorkyange.bp;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.SentenciasSql;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
+@AutoConfigureMockMvc
 class MainApplicationTests {
 
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private long crearCliente(String identificacion, long clienteId) throws Exception {
+		String cliente = mockMvc.perform(post("/clientes")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"nombre\":\"Marianela Montalvo\",\"genero\":\"F\",\"edad\":28,"
+								+ "\"identificacion\":\"" + identificacion + "\",\"direccion\":\"Amazonas y NNUU\","
+								+ "\"telefono\":\"097548965\",\"clienteId\":" + clienteId
+								+ ",\"contrasena\":\"5678\",\"estado\":true}"))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(cliente).get("id").asLong();
+	}
+
+	private void crearCuenta(String numeroCuenta, long id) throws Exception {
+		mockMvc.perform(post("/cuentas")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"numeroCuenta\":\"" + numeroCuenta + "\",\"tipoCuenta\":\"Corriente\","
+								+ "\"saldoInicial\":100,\"estado\":true,\"clienteId\":" + id + "}"))
+				.andExpect(status().isCreated());
+	}
+
+	private void registrarDepositos(String numeroCuenta, LocalDate desde, int cantidad) throws Exception {
+		List<String> depositos = new ArrayList<>();
+		for (int i = 0; i < cantidad; i++) {
+			depositos.add("{\"numeroCuenta\":\"" + numeroCuenta + "\",\"tipoMovimiento\":\"Deposito\",\"valor\":10,"
+					+ "\"fecha\":\"" + desde.plusDays(i % 3) + "\"}");
+		}
+		mockMvc.perform(post("/movimientos/lote")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("[" + String.join(",", depositos) + "]"))
+				.andExpect(status().isOk());
+	}
+
 	@Test
 	void contextLoads() {
 	}
 
+	@Test
+	void listarMovimientosDeUnaCuentaNoConsultaPorCadaMovimiento() throws Exception {
+		long id = crearCliente("sql-0001", 9001);
+		crearCuenta("SQL-225487", id);
+		for (int i = 0; i < 10; i++) {
+			mockMvc.perform(post("/movimientos")
+							.contentType(MediaType.APPLICATION_JSON)
+							.content("{\"numeroCuenta\":\"SQL-225487\",\"tipoMovimiento\":\"Deposito\",\"valor\":10}"))
+					.andExpect(status().isCreated());
+		}
+
+		// La cuenta y su saldo se resuelven una vez por listado, no una vez por movimiento
+		mockMvc.perform(get("/movimientos").param("numeroCuenta", "SQL-225487"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(10)))
+				.andExpect(SentenciasSql.maximo(3));
+	}
+
+	@Test
+	void listarMovimientosDeVariasCuentasYClientesNoCreceConLasFilas() throws Exception {
+		LocalDate desde = LocalDate.of(2039, 6, 1);
+		for (int c = 0; c < 4; c++) {
+			long id = crearCliente("sql-01" + c, 9301 + c);
+			for (int n = 0; n < 3; n++) {
+				String numeroCuenta = "SQL-0" + c + n;
+				crearCuenta(numeroCuenta, id);
+				registrarDepositos(numeroCuenta, desde, 25);
+			}
+		}
+
+		// 300 movimientos de 12 cuentas y 4 clientes: una consulta de movimientos y una IN
+		// para cuentas y otra para clientes, sin importar cuántas filas haya
+		mockMvc.perform(get("/movimientos")
+						.param("fechaInicio", desde.toString())
+						.param("fechaFin", desde.plusDays(2).toString()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(300)))
+				.andExpect(SentenciasSql.maximo(3));
+	}
+
+	@Test
+	void generarReporteConVariasCuentasNoConsultaPorCuentaNiPorMovimiento() throws Exception {
+		LocalDate desde = LocalDate.of(2039, 7, 1);
+		long id = crearCliente("sql-0201", 9201);
+		for (int n = 0; n < 5; n++) {
+			String numeroCuenta = "SQL-RPT-" + n;
+			crearCuenta(numeroCuenta, id);
+			registrarDepositos(numeroCuenta, desde, 40);
+		}
+
+		// Cliente, cuentas, saldos de apertura y cierre y una sola consulta de movimientos
+		// ordenada por cuenta, con cualquier cantidad de cuentas y movimientos
+		mockMvc.perform(get("/reportes")
+						.param("clienteId", String.valueOf(id))
+						.param("fechaInicio", desde.toString())
+						.param("fechaFin", desde.plusDays(2).toString()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.cuentas", hasSize(5)))
+				.andExpect(jsonPath("$.cuentas[4].movimientos", hasSize(40)))
+				.andExpect(SentenciasSql.maximo(5));
+	}
+
 }
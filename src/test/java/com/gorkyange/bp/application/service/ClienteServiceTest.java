@@ -0,0 +1,289 @@
+package com.gorkyange.bp.application.service;
+
+import com.gorkyange.bp.application.port.out.ClienteRepositoryPort;
+import com.gorkyange.bp.application.port.out.CuentaRepositoryPort;
+import com.gorkyange.bp.application.port.out.ReporteCachePort;
+import com.gorkyange.bp.domain.exception.ClienteDuplicadoException;
+import com.gorkyange.bp.domain.exception.DatosInvalidosException;
+import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.domain.model.ResultadoClienteLote;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ClienteService - Alta por lote")
+class ClienteServiceTest {
+
+    private ClientesEnMemoria clienteRepository;
+
+    @BeforeEach
+    void setUp() {
+        clienteRepository = new ClientesEnMemoria();
+    }
+
+    private ClienteService servicio(int tamanoMaximoLote, int tamanoCommitLote) {
+        return new ClienteService(clienteRepository, mock(CuentaRepositoryPort.class), mock(ReporteCachePort.class),
+                tamanoMaximoLote, tamanoCommitLote);
+    }
+
+    private static Cliente cliente(String identificacion, Long clienteId) {
+        return new Cliente("Cliente " + identificacion, "F", 30, identificacion, "Av. Amazonas", "0991234567",
+                clienteId, "1234", true);
+    }
+
+    private static List<String> creados(List<ResultadoClienteLote> resultados) {
+        return resultados.stream()
+                .filter(ResultadoClienteLote::isCreado)
+                .map(resultado -> resultado.getCliente().getIdentificacion())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("crearLote - Rechaza identificaciones y clienteId repetidos dentro del lote")
+    void debeRechazarRepetidosDentroDelLote() {
+        // Arrange
+        List<Cliente> lote = List.of(cliente("1701", 1L), cliente("1702", 2L), cliente("1701", 3L),
+                cliente("1703", 2L), cliente("1704", null), cliente("1705", null));
+
+        // Act
+        List<ResultadoClienteLote> resultados = servicio(100, 500).crearLote(lote);
+
+        // Assert
+        assertEquals(6, resultados.size());
+        assertEquals(List.of("1701", "1702", "1704", "1705"), creados(resultados));
+        assertEquals(DatosInvalidosException.repetidoEnLote("identificacion", "1701", 0).getMessage(),
+                resultados.get(2).getError());
+        assertEquals(DatosInvalidosException.repetidoEnLote("clienteId", 2L, 1).getMessage(),
+                resultados.get(3).getError());
+        for (int i = 0; i < resultados.size(); i++) {
+            assertEquals(i, resultados.get(i).getIndice(), "Los resultados conservan el orden del lote");
+        }
+        assertEquals(1, clienteRepository.guardarTodos, "Un solo INSERT por lotes para los válidos");
+    }
+
+    @Test
+    @DisplayName("crearLote - Una sola consulta IN descarta las identificaciones ya registradas")
+    void debeRechazarRegistradosConUnaConsulta() {
+        // Arrange
+        clienteRepository.guardar(cliente("1801", 10L));
+        clienteRepository.guardar(cliente("1803", 11L));
+        List<Cliente> lote = List.of(cliente("1801", null), cliente("1802", null), cliente("1803", null),
+                cliente("1804", null));
+
+        // Act
+        List<ResultadoClienteLote> resultados = servicio(100, 500).crearLote(lote);
+
+        // Assert
+        assertEquals(List.of("1802", "1804"), creados(resultados));
+        assertEquals(new ClienteDuplicadoException("1801").getMessage(), resultados.get(0).getError());
+        assertEquals(new ClienteDuplicadoException("1803").getMessage(), resultados.get(2).getError());
+        assertEquals(1, clienteRepository.consultasIn.size());
+        assertEquals(Set.of("1801", "1802", "1803", "1804"), new HashSet<>(clienteRepository.consultasIn.get(0)));
+        assertEquals(1, clienteRepository.guardarTodos);
+        assertEquals(2, clienteRepository.guardarUno, "Solo las dos altas previas al lote");
+    }
+
+    @Test
+    @DisplayName("crearLote - Si el grupo se revierte se reintenta fila por fila y solo se rechazan las que fallan")
+    void debeReintentarFilaPorFilaCuandoElGrupoFalla() {
+        // Arrange: otra instancia registra 1902 entre la consulta IN y el INSERT
+        clienteRepository.altasConcurrentes.put("1902", cliente("1902", 20L));
+        clienteRepository.fallos.add("1904");
+        List<Cliente> lote = List.of(cliente("1901", null), cliente("1902", null), cliente("1903", null),
+                cliente("1904", null));
+
+        // Act
+        List<ResultadoClienteLote> resultados = servicio(100, 500).crearLote(lote);
+
+        // Assert
+        assertEquals(List.of("1901", "1903"), creados(resultados));
+        assertEquals(new ClienteDuplicadoException("1902").getMessage(), resultados.get(1).getError());
+        assertEquals("No se pudo registrar el cliente; intente nuevamente", resultados.get(3).getError());
+        assertFalse(resultados.get(3).getError().contains("restricción violada"), "El detalle técnico no llega al cliente");
+        assertNotNull(resultados.get(0).getCliente().getId());
+        assertEquals(4, clienteRepository.guardarUno);
+        assertTrue(clienteRepository.existePorIdentificacion("1901"));
+        assertFalse(clienteRepository.existePorIdentificacion("1904"));
+    }
+
+    @Test
+    @DisplayName("crearLote - Un elemento null se rechaza por su índice sin afectar al resto")
+    void debeRechazarElementosNull() {
+        // Arrange
+        List<Cliente> lote = Arrays.asList(cliente("2101", null), null, cliente("2102", null));
+
+        // Act
+        List<ResultadoClienteLote> resultados = servicio(100, 500).crearLote(lote);
+
+        // Assert
+        assertEquals(List.of("2101", "2102"), creados(resultados));
+        assertEquals(DatosInvalidosException.elementoVacioEnLote().getMessage(), resultados.get(1).getError());
+        assertEquals(1, resultados.get(1).getIndice());
+        assertEquals(1, clienteRepository.guardarTodos);
+    }
+
+    @Test
+    @DisplayName("crearLote - Solo el grupo de commit que falla pasa a fila por fila")
+    void debeReintentarSoloElGrupoQueFalla() {
+        // Arrange: grupos de dos; el conflicto cae en el segundo
+        clienteRepository.altasConcurrentes.put("2003", cliente("2003", 30L));
+        List<Cliente> lote = List.of(cliente("2001", null), cliente("2002", null), cliente("2003", null),
+                cliente("2004", null), cliente("2005", null));
+
+        // Act
+        List<ResultadoClienteLote> resultados = servicio(100, 2).crearLote(lote);
+
+        // Assert
+        assertEquals(List.of("2001", "2002", "2004", "2005"), creados(resultados));
+        assertEquals(3, clienteRepository.guardarTodos);
+        assertEquals(2, clienteRepository.guardarUno, "Solo los dos clientes del grupo revertido");
+    }
+
+    @Test
+    @DisplayName("crearLote - Los datos inválidos se rechazan sin consultar ni insertar")
+    void debeRechazarDatosInvalidos() {
+        // Arrange
+        Cliente menor = cliente("2101", null);
+        menor.setEdad(15);
+
+        // Act
+        List<ResultadoClienteLote> resultados = servicio(100, 500).crearLote(List.of(menor));
+
+        // Assert
+        assertFalse(resultados.get(0).isCreado());
+        assertEquals(DatosInvalidosException.edadInvalida(15).getMessage(), resultados.get(0).getError());
+        assertEquals(0, clienteRepository.guardarTodos + clienteRepository.guardarUno);
+    }
+
+    @Test
+    @DisplayName("crearLote - Un lote vacío o mayor al máximo se rechaza completo")
+    void debeRechazarLotesVaciosOExcedidos() {
+        // Arrange
+        ClienteService servicio = servicio(2, 500);
+
+        // Act & Assert
+        assertThrows(DatosInvalidosException.class, () -> servicio.crearLote(List.of()));
+        assertThrows(DatosInvalidosException.class, () -> servicio.crearLote(
+                List.of(cliente("2201", null), cliente("2202", null), cliente("2203", null))));
+        assertEquals(0, clienteRepository.consultasIn.size());
+    }
+
+    /**
+     * Repositorio en memoria con la semántica del decorador: identificación única,
+     * guardarTodos atómico y ClienteDuplicadoException ante una identificación registrada.
+     */
+    private static class ClientesEnMemoria implements ClienteRepositoryPort {
+
+        private final Map<String, Cliente> porIdentificacion = new LinkedHashMap<>();
+        // Registradas por otra instancia después de la consulta IN: solo aparecen al insertar
+        private final Map<String, Cliente> altasConcurrentes = new LinkedHashMap<>();
+        // Identificaciones que fallan con un error distinto de duplicado
+        private final Set<String> fallos = new HashSet<>();
+        private final List<Collection<String>> consultasIn = new ArrayList<>();
+        private long siguienteId = 1;
+        private int guardarTodos;
+        private int guardarUno;
+
+        @Override
+        public Cliente guardar(Cliente cliente) {
+            guardarUno++;
+            verificar(cliente);
+            return registrar(cliente);
+        }
+
+        @Override
+        public List<Cliente> guardarTodos(List<Cliente> clientes) {
+            guardarTodos++;
+            for (Cliente cliente : clientes) {
+                verificar(cliente);
+            }
+            List<Cliente> guardados = new ArrayList<>(clientes.size());
+            for (Cliente cliente : clientes) {
+                guardados.add(registrar(cliente));
+            }
+            return guardados;
+        }
+
+        private void verificar(Cliente cliente) {
+            String identificacion = cliente.getIdentificacion();
+            if (porIdentificacion.containsKey(identificacion) || altasConcurrentes.containsKey(identificacion)) {
+                throw new ClienteDuplicadoException(identificacion);
+            }
+            if (fallos.contains(identificacion)) {
+                throw new IllegalStateException("restricción violada");
+            }
+        }
+
+        private Cliente registrar(Cliente cliente) {
+            cliente.setId(siguienteId++);
+            porIdentificacion.put(cliente.getIdentificacion(), cliente);
+            return cliente;
+        }
+
+        @Override
+        public Optional<Cliente> buscarPorId(Long clienteId) {
+            return porIdentificacion.values().stream().filter(c -> c.getId().equals(clienteId)).findFirst();
+        }
+
+        @Override
+        public List<Cliente> buscarPorIds(Collection<Long> clienteIds) {
+            return porIdentificacion.values().stream()
+                    .filter(c -> clienteIds.contains(c.getId()))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<Cliente> buscarTodos() {
+            return new ArrayList<>(porIdentificacion.values());
+        }
+
+        @Override
+        public List<Cliente> buscarPagina(Long despuesDe, int limite) {
+            return porIdentificacion.values().stream()
+                    .filter(c -> despuesDe == null || c.getId() > despuesDe)
+                    .limit(limite)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public void eliminar(Long clienteId) {
+            porIdentificacion.values().removeIf(c -> c.getId().equals(clienteId));
+        }
+
+        @Override
+        public boolean existePorId(Long clienteId) {
+            return buscarPorId(clienteId).isPresent();
+        }
+
+        @Override
+        public boolean existePorIdentificacion(String identificacion) {
+            return porIdentificacion.containsKey(identificacion);
+        }
+
+        @Override
+        public Set<String> buscarIdentificacionesExistentes(Collection<String> identificaciones) {
+            consultasIn.add(new ArrayList<>(identificaciones));
+            return identificaciones.stream()
+                    .filter(porIdentificacion::containsKey)
+                    .collect(Collectors.toSet());
+        }
+    }
+}
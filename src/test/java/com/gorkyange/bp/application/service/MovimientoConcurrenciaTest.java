@@ -0,0 +1,243 @@
+package com.gorkyange.bp.application.service;
+
+import com.gorkyange.bp.application.port.in.CrearClienteUseCase;
+import com.gorkyange.bp.application.port.in.CrearCuentaUseCase;
+import com.gorkyange.bp.application.port.in.ObtenerClienteUseCase;
+import com.gorkyange.bp.application.port.in.ObtenerCuentaUseCase;
+import com.gorkyange.bp.application.port.out.IdempotenciaRepositoryPort;
+import com.gorkyange.bp.application.port.out.MovimientoRepositoryPort;
+import com.gorkyange.bp.application.port.out.ReporteCachePort;
+import com.gorkyange.bp.domain.exception.ConflictoSaldoException;
+import com.gorkyange.bp.domain.exception.SaldoInsuficienteException;
+import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.infrastructure.adapter.out.cache.IdempotenciaCacheAdapter;
+import com.gorkyange.bp.infrastructure.adapter.out.cache.SaldoCacheAdapter;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.CuentaPersistenceAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Escrituras concurrentes sobre una misma cuenta contra H2. Cada "instancia" es un
+ * MovimientoService con su propia caché de saldos y sus propios locks, como dos réplicas
+ * de la aplicación: solo el UPDATE condicional por versión las coordina.
+ */
+@SpringBootTest
+@DisplayName("MovimientoService - Concurrencia entre instancias")
+class MovimientoConcurrenciaTest {
+
+    private static final LocalDate FECHA = LocalDate.of(2026, 4, 1);
+
+    @Autowired
+    private CrearClienteUseCase crearClienteUseCase;
+
+    @Autowired
+    private CrearCuentaUseCase crearCuentaUseCase;
+
+    @Autowired
+    private MovimientoRepositoryPort movimientoRepository;
+
+    @Autowired
+    private CuentaPersistenceAdapter cuentaPersistenceAdapter;
+
+    @Autowired
+    private ObtenerClienteUseCase obtenerClienteUseCase;
+
+    @Autowired
+    private ReporteCachePort reporteCache;
+
+    @Autowired
+    private IdempotenciaRepositoryPort idempotenciaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${bp.movimientos.intentos-conflicto:3}")
+    private int intentosConflicto;
+
+    private String crearCuenta(String numeroCuenta, long clienteId, double saldoInicial) {
+        Cliente cliente = crearClienteUseCase.crear(new Cliente("Marianela Montalvo", "F", 28, "conc-" + numeroCuenta,
+                "Amazonas y NNUU", "097548965", clienteId, "5678", true));
+        crearCuentaUseCase.crear(new Cuenta(numeroCuenta, "Corriente", Dinero.de(saldoInicial), true, cliente.getId()));
+        return numeroCuenta;
+    }
+
+    /** Una réplica de la aplicación: caché de saldos y locks propios, cuentas leídas de base de datos. */
+    private MovimientoService instancia(MovimientoRepositoryPort repositorio, int intentos) {
+        ObtenerCuentaUseCase cuentas = mock(ObtenerCuentaUseCase.class);
+        doAnswer(invocacion -> cuentaPersistenceAdapter.buscarPorNumeroCuenta(invocacion.getArgument(0)))
+                .when(cuentas).obtenerPorNumeroCuenta(anyString());
+        return new MovimientoService(repositorio, cuentas, obtenerClienteUseCase,
+                new SaldoCacheAdapter(1000, Duration.ofMinutes(5), new SimpleMeterRegistry()), reporteCache,
+                new IdempotenciaCacheAdapter(1000, Duration.ofHours(24)), idempotenciaRepository,
+                new SerializadorCuentas(16), 10_000, 500, intentos);
+    }
+
+    private static Movimiento retiro(String numeroCuenta, double valor) {
+        return new Movimiento(FECHA, "Retiro", Dinero.de(-valor), null, numeroCuenta);
+    }
+
+    private long version(String numeroCuenta) {
+        return jdbcTemplate.queryForObject("SELECT version FROM cuentas WHERE numero_cuenta = ?", Long.class, numeroCuenta);
+    }
+
+    private BigDecimal saldoActual(String numeroCuenta) {
+        return jdbcTemplate.queryForObject(
+                "SELECT saldo_actual FROM cuentas WHERE numero_cuenta = ?", BigDecimal.class, numeroCuenta);
+    }
+
+    /** saldo_actual = saldo_inicial + SUM(valor), y ningún saldo de la cadena es negativo. */
+    private void assertSaldoConsistente(String numeroCuenta) {
+        BigDecimal saldo = jdbcTemplate.queryForObject(
+                "SELECT saldo_inicial FROM cuentas WHERE numero_cuenta = ?", BigDecimal.class, numeroCuenta);
+        for (Map<String, Object> fila : jdbcTemplate.queryForList(
+                "SELECT valor, saldo FROM movimientos WHERE numero_cuenta = ? ORDER BY fecha, id", numeroCuenta)) {
+            saldo = saldo.add((BigDecimal) fila.get("valor"));
+            assertEquals(0, saldo.compareTo((BigDecimal) fila.get("saldo")), "Cadena de saldos");
+            assertTrue(saldo.signum() >= 0, "Saldo negativo en la cadena: " + saldo);
+        }
+        assertEquals(0, saldo.compareTo(saldoActual(numeroCuenta)), "saldo_actual = saldo_inicial + SUM(valor)");
+    }
+
+    private static <T> List<Future<T>> enParalelo(int hilos, Callable<T> tarea) throws InterruptedException {
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<T>> resultados = new ArrayList<>();
+        try {
+            for (int i = 0; i < hilos; i++) {
+                resultados.add(ejecutor.submit(() -> {
+                    salida.await();
+                    return tarea.call();
+                }));
+            }
+            salida.countDown();
+        } finally {
+            ejecutor.shutdown();
+        }
+        return resultados;
+    }
+
+    @Test
+    @DisplayName("guardarConSaldo - Con la misma versión leída, solo una de N escrituras concurrentes se confirma")
+    void soloUnaEscrituraConLaMismaVersionSeConfirma() throws Exception {
+        // Arrange
+        String cuenta = crearCuenta("CONC-300001", 8101L, 100.0);
+        long versionLeida = version(cuenta);
+
+        // Act: cada hilo retira 60 creyendo que el saldo es 100
+        List<Future<List<Movimiento>>> resultados = enParalelo(8, () -> {
+            Movimiento movimiento = retiro(cuenta, 60.0);
+            movimiento.setSaldo(Dinero.de(40.0));
+            return movimientoRepository.guardarConSaldo(cuenta, versionLeida, List.of(movimiento));
+        });
+
+        // Assert
+        int confirmadas = 0;
+        for (Future<List<Movimiento>> resultado : resultados) {
+            try {
+                resultado.get();
+                confirmadas++;
+            } catch (ExecutionException e) {
+                assertInstanceOf(ConflictoSaldoException.class, e.getCause());
+            }
+        }
+        assertEquals(1, confirmadas);
+        assertEquals(versionLeida + 1, version(cuenta));
+        assertEquals(0, new BigDecimal("40.00").compareTo(saldoActual(cuenta)));
+        assertSaldoConsistente(cuenta);
+    }
+
+    @Test
+    @DisplayName("crear - Dos instancias retirando de la misma cuenta nunca dejan un saldo negativo")
+    void dosInstanciasNoDejanSaldoNegativo() throws Exception {
+        // Arrange: 8 hilos repartidos en dos instancias intentan retirar 240 de una cuenta con 100
+        String cuenta = crearCuenta("CONC-300002", 8102L, 100.0);
+        MovimientoService[] instancias = {instancia(movimientoRepository, 50), instancia(movimientoRepository, 50)};
+        AtomicInteger siguiente = new AtomicInteger();
+        AtomicInteger confirmados = new AtomicInteger();
+
+        // Act
+        List<Future<Integer>> resultados = enParalelo(8, () -> {
+            MovimientoService servicio = instancias[siguiente.getAndIncrement() % instancias.length];
+            int rechazados = 0;
+            for (int i = 0; i < 3; i++) {
+                try {
+                    servicio.crear(retiro(cuenta, 10.0));
+                    confirmados.incrementAndGet();
+                } catch (SaldoInsuficienteException e) {
+                    rechazados++;
+                }
+            }
+            return rechazados;
+        });
+        int rechazados = 0;
+        for (Future<Integer> resultado : resultados) {
+            rechazados += resultado.get();
+        }
+
+        // Assert
+        assertEquals(10, confirmados.get(), "Caben exactamente diez retiros de 10");
+        assertEquals(14, rechazados);
+        assertEquals(0, BigDecimal.ZERO.compareTo(saldoActual(cuenta)));
+        assertSaldoConsistente(cuenta);
+    }
+
+    @Test
+    @DisplayName("crear - Tras intentos-conflicto conflictos seguidos se responde ConflictoSaldoException")
+    void debeAgotarLosReintentosAnteConflictosSeguidos() {
+        // Arrange: otra instancia escribe en la cuenta justo antes de cada intento
+        String cuenta = crearCuenta("CONC-300003", 8103L, 100.0);
+        MovimientoRepositoryPort repositorio = mock(MovimientoRepositoryPort.class, delegatesTo(movimientoRepository));
+        doAnswer(invocacion -> {
+            jdbcTemplate.update("UPDATE cuentas SET version = version + 1 WHERE numero_cuenta = ?", cuenta);
+            return movimientoRepository.guardarConSaldo(invocacion.getArgument(0), invocacion.<Long>getArgument(1),
+                    invocacion.<List<Movimiento>>getArgument(2));
+        }).when(repositorio).guardarConSaldo(eq(cuenta), anyLong(), anyList());
+        MovimientoService servicio = instancia(repositorio, intentosConflicto);
+        long versionInicial = version(cuenta);
+
+        // Act & Assert
+        assertThrows(ConflictoSaldoException.class, () -> servicio.crear(retiro(cuenta, 10.0)));
+        verify(repositorio, times(intentosConflicto)).guardarConSaldo(eq(cuenta), anyLong(), anyList());
+        verify(repositorio, times(0)).guardarConSaldo(anyString(), anyLong(), any(Movimiento.class), anyString(), anyString());
+        assertEquals(versionInicial + intentosConflicto, version(cuenta), "Solo avanzó la versión de la otra instancia");
+        assertEquals(0, new BigDecimal("100.00").compareTo(saldoActual(cuenta)));
+        assertSaldoConsistente(cuenta);
+    }
+}
@@ -0,0 +1,296 @@
+package com.gorkyange.bp.application.service;
+
+import com.gorkyange.bp.application.port.in.ObtenerClienteUseCase;
+import com.gorkyange.bp.application.port.in.ObtenerCuentaUseCase;
+import com.gorkyange.bp.application.port.out.IdempotenciaRepositoryPort;
+import com.gorkyange.bp.application.port.out.MovimientoRepositoryPort;
+import com.gorkyange.bp.application.port.out.ReporteCachePort;
+import com.gorkyange.bp.domain.exception.ClaveIdempotenciaReutilizadaException;
+import com.gorkyange.bp.domain.exception.ClaveIdempotenciaEnUsoException;
+import com.gorkyange.bp.domain.exception.ConflictoSaldoException;
+import com.gorkyange.bp.domain.exception.DatosInvalidosException;
+import com.gorkyange.bp.domain.exception.SaldoInsuficienteException;
+import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.domain.model.RegistroIdempotencia;
+import com.gorkyange.bp.domain.model.ResultadoMovimientoLote;
+import com.gorkyange.bp.infrastructure.adapter.out.cache.IdempotenciaCacheAdapter;
+import com.gorkyange.bp.infrastructure.adapter.out.cache.SaldoCacheAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("MovimientoService Tests")
+class MovimientoServiceTest {
+
+    private static final String CUENTA = "478758";
+    private static final LocalDate FECHA = LocalDate.of(2026, 1, 5);
+
+    private MovimientoRepositoryPort movimientoRepository;
+    private ObtenerCuentaUseCase obtenerCuentaUseCase;
+    private IdempotenciaRepositoryPort idempotenciaRepository;
+    private SaldoCacheAdapter saldoCache;
+    private final AtomicLong ids = new AtomicLong(100);
+
+    @BeforeEach
+    void setUp() {
+        movimientoRepository = mock(MovimientoRepositoryPort.class);
+        obtenerCuentaUseCase = mock(ObtenerCuentaUseCase.class);
+        idempotenciaRepository = mock(IdempotenciaRepositoryPort.class);
+        saldoCache = new SaldoCacheAdapter(1000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
+        Cuenta cuenta = new Cuenta(CUENTA, "Ahorro", Dinero.de(1000.0), true, 1L);
+        cuenta.setSaldoActual(Dinero.de(1000.0));
+        cuenta.setVersion(0L);
+        when(obtenerCuentaUseCase.obtenerPorNumeroCuenta(CUENTA)).thenReturn(Optional.of(cuenta));
+
+        // El repositorio asigna el id y devuelve una copia, como el adaptador JPA
+        when(movimientoRepository.guardarConSaldo(eq(CUENTA), anyLong(), any(Movimiento.class), anyString(), anyString()))
+                .thenAnswer(invocacion -> guardado(invocacion.getArgument(2)));
+    }
+
+    private MovimientoService servicio(int intentosConflicto) {
+        return new MovimientoService(movimientoRepository, obtenerCuentaUseCase, mock(ObtenerClienteUseCase.class),
+                saldoCache, mock(ReporteCachePort.class),
+                new IdempotenciaCacheAdapter(1000, Duration.ofHours(24)), idempotenciaRepository,
+                new SerializadorCuentas(16), 10_000, 500, intentosConflicto);
+    }
+
+    private Movimiento guardado(Movimiento movimiento) {
+        Movimiento copia = new Movimiento(movimiento.getFecha(), movimiento.getTipoMovimiento(),
+                movimiento.getValor(), movimiento.getSaldo(), movimiento.getNumeroCuenta());
+        copia.setId(ids.incrementAndGet());
+        return copia;
+    }
+
+    private static Movimiento deposito(double valor) {
+        return new Movimiento(FECHA, "Deposito", Dinero.de(valor), null, CUENTA);
+    }
+
+    @Test
+    @DisplayName("crear con Idempotency-Key - Una repetición devuelve el movimiento original sin registrar otro")
+    void debeDevolverElMovimientoOriginalEnUnaRepeticion() {
+        // Arrange
+        MovimientoService servicio = servicio(3);
+        Movimiento original = servicio.crear(deposito(50.0), "clave-1");
+
+        // Act
+        Movimiento repetido = servicio.crear(deposito(50.0), "clave-1");
+
+        // Assert
+        assertEquals(original.getId(), repetido.getId());
+        assertEquals(Dinero.de(1050.0), repetido.getSaldo());
+        verify(movimientoRepository, times(1))
+                .guardarConSaldo(eq(CUENTA), anyLong(), any(Movimiento.class), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("crear con Idempotency-Key - La misma clave con otro contenido se rechaza")
+    void debeRechazarLaClaveConOtroContenido() {
+        // Arrange
+        MovimientoService servicio = servicio(3);
+        servicio.crear(deposito(50.0), "clave-1");
+
+        // Act & Assert
+        assertThrows(ClaveIdempotenciaReutilizadaException.class,
+                () -> servicio.crear(deposito(75.0), "clave-1"));
+        verify(movimientoRepository, times(1))
+                .guardarConSaldo(eq(CUENTA), anyLong(), any(Movimiento.class), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("crear con Idempotency-Key - Solicitudes concurrentes con la misma clave registran un solo movimiento")
+    void debeRegistrarUnSoloMovimientoConSolicitudesConcurrentes() throws Exception {
+        // Arrange
+        MovimientoService servicio = servicio(3);
+        int hilos = 8;
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<Movimiento>> resultados = new ArrayList<>();
+
+        // Act
+        try {
+            for (int i = 0; i < hilos; i++) {
+                Callable<Movimiento> solicitud = () -> {
+                    salida.await();
+                    return servicio.crear(deposito(50.0), "clave-concurrente");
+                };
+                resultados.add(ejecutor.submit(solicitud));
+            }
+            salida.countDown();
+
+            // Assert
+            Long id = resultados.get(0).get().getId();
+            for (Future<Movimiento> resultado : resultados) {
+                assertEquals(id, resultado.get().getId());
+            }
+        } finally {
+            ejecutor.shutdownNow();
+        }
+        verify(movimientoRepository, times(1))
+                .guardarConSaldo(eq(CUENTA), anyLong(), any(Movimiento.class), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("crear con Idempotency-Key - Si otra instancia registró la clave se responde con su movimiento sin reintentar")
+    void debeResponderConElRegistroDeOtraInstancia() {
+        // Arrange: con un solo intento, el camino de conflicto de saldo respondería 409
+        MovimientoService servicio = servicio(1);
+        Movimiento deOtraInstancia = guardado(deposito(50.0));
+        deOtraInstancia.setSaldo(Dinero.de(1050.0));
+        String huella = MovimientoService.huella(deOtraInstancia);
+        when(movimientoRepository.guardarConSaldo(eq(CUENTA), anyLong(), any(Movimiento.class), eq("clave-2"), anyString()))
+                .thenThrow(new ClaveIdempotenciaEnUsoException("clave-2"));
+        when(idempotenciaRepository.buscar("clave-2"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new RegistroIdempotencia("clave-2", huella, deOtraInstancia)));
+
+        // Act
+        Movimiento resultado = servicio.crear(deposito(50.0), "clave-2");
+
+        // Assert
+        assertEquals(deOtraInstancia.getId(), resultado.getId());
+        assertTrue(saldoCache.obtener(CUENTA).isPresent(), "Una clave en uso no es un conflicto de saldo");
+        verify(movimientoRepository, times(1))
+                .guardarConSaldo(eq(CUENTA), anyLong(), any(Movimiento.class), eq("clave-2"), anyString());
+    }
+
+    @Test
+    @DisplayName("crear con Idempotency-Key - Si otra instancia registró la clave con otro contenido se rechaza")
+    void debeRechazarLaClaveRegistradaPorOtraInstanciaConOtroContenido() {
+        // Arrange
+        MovimientoService servicio = servicio(3);
+        Movimiento deOtraInstancia = guardado(deposito(80.0));
+        String huella = MovimientoService.huella(deOtraInstancia);
+        when(movimientoRepository.guardarConSaldo(eq(CUENTA), anyLong(), any(Movimiento.class), eq("clave-3"), anyString()))
+                .thenThrow(new ClaveIdempotenciaEnUsoException("clave-3"));
+        when(idempotenciaRepository.buscar("clave-3"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new RegistroIdempotencia("clave-3", huella, deOtraInstancia)));
+
+        // Act & Assert
+        assertThrows(ClaveIdempotenciaReutilizadaException.class,
+                () -> servicio.crear(deposito(50.0), "clave-3"));
+    }
+
+    @Test
+    @DisplayName("actualizar - Se rechaza un cambio que deja negativo un saldo posterior aunque el final alcance")
+    void debeRechazarUnCambioQueDejaNegativoUnSaldoIntermedio() {
+        // Arrange
+        MovimientoService servicio = servicio(3);
+        Movimiento existente = guardado(new Movimiento(FECHA, "Retiro", Dinero.de(-80.0), Dinero.de(920.0), CUENTA));
+        when(movimientoRepository.buscarPorId(existente.getId())).thenReturn(Optional.of(existente));
+        when(movimientoRepository.saldoMinimoConCambio(CUENTA, FECHA, existente.getId(), FECHA, Dinero.de(-1100.0)))
+                .thenReturn(Dinero.de(-180.0));
+
+        // Act & Assert
+        assertThrows(SaldoInsuficienteException.class, () -> servicio.actualizar(existente.getId(),
+                new Movimiento(FECHA, "Retiro", Dinero.de(-1100.0), null, CUENTA)));
+        verify(movimientoRepository, never()).guardar(any(Movimiento.class));
+    }
+
+    @Test
+    @DisplayName("actualizar - Sin número de cuenta ni valor el movimiento conserva los suyos")
+    void debeConservarLaCuentaYElValorSiNoVienen() {
+        // Arrange
+        MovimientoService servicio = servicio(3);
+        Movimiento existente = guardado(new Movimiento(FECHA, "Deposito", Dinero.de(50.0), Dinero.de(1050.0), CUENTA));
+        when(movimientoRepository.buscarPorId(existente.getId())).thenReturn(Optional.of(existente));
+        when(movimientoRepository.guardar(any(Movimiento.class))).thenAnswer(invocacion -> invocacion.getArgument(0));
+
+        // Act
+        Movimiento actualizado = servicio.actualizar(existente.getId(), new Movimiento(null, "Deposito", null, null, null));
+
+        // Assert
+        assertEquals(CUENTA, actualizado.getNumeroCuenta());
+        assertEquals(Dinero.de(50.0), actualizado.getValor());
+        assertEquals(FECHA, actualizado.getFecha());
+        verify(movimientoRepository, never()).saldoMinimoConCambio(anyString(), any(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("crearLote - Las filas vacías o incompletas se rechazan por índice sin revertir su grupo")
+    void debeRechazarFilasInvalidasAntesDeAgrupar() {
+        // Arrange
+        MovimientoService servicio = servicio(3);
+        when(movimientoRepository.guardarConSaldo(eq(CUENTA), anyLong(), anyList()))
+                .thenAnswer(invocacion -> invocacion.<List<Movimiento>>getArgument(2).stream()
+                        .map(this::guardado)
+                        .collect(Collectors.toList()));
+        List<Movimiento> lote = Arrays.asList(deposito(10.0), null,
+                new Movimiento(FECHA, " ", Dinero.de(5.0), null, CUENTA), deposito(20.0));
+
+        // Act
+        List<ResultadoMovimientoLote> resultados = servicio.crearLote(lote);
+
+        // Assert
+        assertTrue(resultados.get(0).isCreado());
+        assertEquals(DatosInvalidosException.elementoVacioEnLote().getMessage(), resultados.get(1).getError());
+        assertEquals(DatosInvalidosException.campoRequerido("tipoMovimiento").getMessage(), resultados.get(2).getError());
+        assertTrue(resultados.get(3).isCreado());
+        assertEquals(Dinero.de(1030.0), resultados.get(3).getMovimiento().getSaldo());
+        verify(movimientoRepository, times(1)).guardarConSaldo(eq(CUENTA), anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("crearLote - Un error de base de datos no expone su detalle en el resultado")
+    void noDebeExponerErroresDeBaseDeDatos() {
+        // Arrange
+        MovimientoService servicio = servicio(3);
+        when(movimientoRepository.guardarConSaldo(eq(CUENTA), anyLong(), anyList()))
+                .thenThrow(new IllegalStateException("could not execute statement [insert into movimientos ...]"));
+
+        // Act
+        List<ResultadoMovimientoLote> resultados = servicio.crearLote(List.of(deposito(10.0), deposito(20.0)));
+
+        // Assert
+        for (ResultadoMovimientoLote resultado : resultados) {
+            assertEquals("No se pudo registrar el movimiento; intente nuevamente", resultado.getError());
+        }
+    }
+
+    @Test
+    @DisplayName("crearLote - Un conflicto de saldo conserva su mensaje de dominio")
+    void debeInformarConflictosDeSaldo() {
+        // Arrange
+        MovimientoService servicio = servicio(3);
+        when(movimientoRepository.guardarConSaldo(eq(CUENTA), anyLong(), anyList()))
+                .thenThrow(new ConflictoSaldoException(CUENTA));
+
+        // Act
+        List<ResultadoMovimientoLote> resultados = servicio.crearLote(List.of(deposito(10.0)));
+
+        // Assert
+        assertEquals(new ConflictoSaldoException(CUENTA).getMessage(), resultados.get(0).getError());
+    }
+}
@@ -0,0 +1,182 @@
+package com.gorkyange.bp.application.service;
+
+import com.gorkyange.bp.application.port.in.GenerarReporteUseCase;
+import com.gorkyange.bp.application.port.in.TrabajoReporte;
+import com.gorkyange.bp.application.port.in.TrabajoReporte.Estado;
+import com.gorkyange.bp.application.port.out.TrabajoReporteRepositoryPort;
+import com.gorkyange.bp.domain.exception.ColaReportesLlenaException;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse;
+import com.gorkyange.bp.infrastructure.adapter.out.cache.TrabajoReporteMemoriaAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pool de un hilo con cola de un trabajo: el primero se ejecuta, el segundo espera y
+ * el tercero se rechaza.
+ */
+@DisplayName("TrabajoReporteService Tests")
+class TrabajoReporteServiceTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2026, 1, 1);
+    private static final LocalDate FIN = LocalDate.of(2026, 1, 31);
+
+    private GenerarReporteUseCase generarReporteUseCase;
+    private TrabajoReporteRepositoryPort trabajoRepository;
+    private TrabajoReporteService service;
+
+    @BeforeEach
+    void setUp() {
+        generarReporteUseCase = mock(GenerarReporteUseCase.class);
+        trabajoRepository = mock(TrabajoReporteRepositoryPort.class,
+                delegatesTo(new TrabajoReporteMemoriaAdapter(64 * 1024 * 1024, Duration.ofMinutes(30))));
+        service = new TrabajoReporteService(generarReporteUseCase, trabajoRepository, 1, 1, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.detener();
+    }
+
+    private static ReporteEstadoCuentaResponse reporte(Long clienteId) {
+        return new ReporteEstadoCuentaResponse(clienteId, "Jose Lema", INICIO, FIN, List.of(), null);
+    }
+
+    private TrabajoReporte esperarEstado(String id, Estado estado) throws InterruptedException {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        TrabajoReporte trabajo = service.obtenerTrabajo(id);
+        while (trabajo.getEstado() != estado && System.nanoTime() < limite) {
+            Thread.sleep(10);
+            trabajo = service.obtenerTrabajo(id);
+        }
+        assertEquals(estado, trabajo.getEstado(), "Estado del trabajo " + id);
+        return trabajo;
+    }
+
+    @Test
+    @DisplayName("solicitarReporte - Con el hilo ocupado y la cola llena se lanza ColaReportesLlenaException")
+    void debeRechazarCuandoLaColaEstaLlena() throws Exception {
+        // Arrange: el primer reporte bloquea el único hilo
+        CountDownLatch liberar = new CountDownLatch(1);
+        when(generarReporteUseCase.generarReporte(anyLong(), any(), any())).thenAnswer(invocacion -> {
+            liberar.await();
+            return reporte(invocacion.getArgument(0));
+        });
+        TrabajoReporte enEjecucion = service.solicitarReporte(1L, INICIO, FIN, "json");
+        esperarEstado(enEjecucion.getId(), Estado.EN_PROCESO);
+        TrabajoReporte enCola = service.solicitarReporte(2L, INICIO, FIN, "json");
+
+        // Act & Assert
+        try {
+            assertThrows(ColaReportesLlenaException.class, () -> service.solicitarReporte(3L, INICIO, FIN, "json"));
+            assertEquals(Estado.PENDIENTE, service.obtenerTrabajo(enCola.getId()).getEstado());
+            // El trabajo rechazado no queda registrado como pendiente
+            verify(trabajoRepository, times(1)).eliminar(anyString());
+            verify(trabajoRepository, times(0)).eliminar(eq(enCola.getId()));
+        } finally {
+            liberar.countDown();
+        }
+
+        // Assert: al liberar el hilo ambos trabajos aceptados terminan
+        assertEquals(1L, esperarEstado(enEjecucion.getId(), Estado.COMPLETADO).getReporte().getClienteId());
+        assertEquals(2L, esperarEstado(enCola.getId(), Estado.COMPLETADO).getReporte().getClienteId());
+    }
+
+    @Test
+    @DisplayName("solicitarReporte - Al vaciarse la cola vuelve a aceptar trabajos")
+    void debeAceptarTrabajosAlVaciarseLaCola() throws Exception {
+        // Arrange
+        when(generarReporteUseCase.generarReporte(anyLong(), any(), any()))
+                .thenAnswer(invocacion -> reporte(invocacion.getArgument(0)));
+        TrabajoReporte primero = service.solicitarReporte(1L, INICIO, FIN, "json");
+        esperarEstado(primero.getId(), Estado.COMPLETADO);
+
+        // Act
+        TrabajoReporte segundo = service.solicitarReporte(2L, INICIO, FIN, "json");
+
+        // Assert
+        esperarEstado(segundo.getId(), Estado.COMPLETADO);
+    }
+
+    @Test
+    @DisplayName("ejecutar - Un error al generar deja el trabajo FALLIDO con el mensaje y sin resultado")
+    void debeMarcarFallidoCuandoLaGeneracionFalla() throws Exception {
+        // Arrange
+        when(generarReporteUseCase.generarReporte(anyLong(), any(), any()))
+                .thenThrow(new IllegalStateException("Base de datos no disponible"));
+
+        // Act
+        TrabajoReporte trabajo = service.solicitarReporte(1L, INICIO, FIN, "pdf");
+
+        // Assert
+        TrabajoReporte fallido = esperarEstado(trabajo.getId(), Estado.FALLIDO);
+        assertEquals("Base de datos no disponible", fallido.getError());
+        assertNotNull(fallido.getFechaFinalizacion());
+        assertNull(fallido.getReporte());
+        assertNull(fallido.getPdf());
+        verify(generarReporteUseCase, times(0)).escribirReportePdf(any(), any());
+    }
+
+    @Test
+    @DisplayName("ejecutar - Un trabajo FALLIDO no ocupa el hilo: el siguiente se ejecuta")
+    void debeSeguirEjecutandoTrasUnFallo() throws Exception {
+        // Arrange
+        ReporteEstadoCuentaResponse reporte = reporte(2L);
+        when(generarReporteUseCase.generarReporte(eq(1L), any(), any())).thenThrow(new IllegalStateException("fallo"));
+        when(generarReporteUseCase.generarReporte(eq(2L), any(), any())).thenReturn(reporte);
+        TrabajoReporte fallido = service.solicitarReporte(1L, INICIO, FIN, "json");
+        esperarEstado(fallido.getId(), Estado.FALLIDO);
+
+        // Act
+        TrabajoReporte trabajo = service.solicitarReporte(2L, INICIO, FIN, "json");
+
+        // Assert
+        assertSame(reporte, esperarEstado(trabajo.getId(), Estado.COMPLETADO).getReporte());
+        assertEquals(Estado.FALLIDO, service.obtenerTrabajo(fallido.getId()).getEstado(), "El fallo se conserva");
+    }
+
+    @Test
+    @DisplayName("ejecutar - Un trabajo PDF guarda el documento y no el reporte")
+    void debeGuardarSoloElPdf() throws Exception {
+        // Arrange
+        when(generarReporteUseCase.generarReporte(anyLong(), any(), any())).thenReturn(reporte(1L));
+        doAnswer(invocacion -> {
+            invocacion.<OutputStream>getArgument(1).write(new byte[] {'%', 'P', 'D', 'F'});
+            return null;
+        }).when(generarReporteUseCase).escribirReportePdf(any(), any());
+
+        // Act
+        TrabajoReporte trabajo = service.solicitarReporte(1L, INICIO, FIN, "PDF");
+
+        // Assert
+        TrabajoReporte completado = esperarEstado(trabajo.getId(), Estado.COMPLETADO);
+        assertNull(completado.getReporte());
+        assertEquals(4, completado.getPdf().length);
+        assertTrue(completado.esPdf());
+    }
+}
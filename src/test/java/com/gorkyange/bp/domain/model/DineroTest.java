@@ -0,0 +1,94 @@
+package com.gorkyange.bp.domain.model;
+
+import com.gorkyange.bp.domain.exception.DatosInvalidosException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Dinero Tests")
+class DineroTest {
+
+    @Test
+    @DisplayName("de - Acepta importes exactos en centavos con cualquier escala")
+    void debeAceptarImportesExactos() {
+        // Act & Assert
+        assertEquals(50_000L, Dinero.de(new BigDecimal("500.00")).getCentavos());
+        assertEquals(50_000L, Dinero.de(new BigDecimal("500")).getCentavos());
+        assertEquals(50_010L, Dinero.de(new BigDecimal("500.1")).getCentavos());
+        assertEquals(50_000L, Dinero.de(new BigDecimal("500.0000")).getCentavos());
+        assertEquals(50_000L, Dinero.de(new BigDecimal("5E+2")).getCentavos());
+        assertEquals(-1_999L, Dinero.de(new BigDecimal("-19.99")).getCentavos());
+        assertEquals(1_000L, Dinero.de(10.0).getCentavos());
+        assertSame(Dinero.CERO, Dinero.de(new BigDecimal("0.000")));
+    }
+
+    @Test
+    @DisplayName("de - Rechaza fracciones de centavo en lugar de redondear")
+    void debeRechazarFraccionesDeCentavo() {
+        // Act & Assert
+        assertThrows(DatosInvalidosException.class, () -> Dinero.de(new BigDecimal("10.005")));
+        assertThrows(DatosInvalidosException.class, () -> Dinero.de(new BigDecimal("-0.001")));
+        assertThrows(DatosInvalidosException.class, () -> Dinero.de(0.1 + 0.2));
+    }
+
+    @Test
+    @DisplayName("de - Rechaza importes que no caben en DECIMAL(18,2)")
+    void debeRechazarImportesFueraDeRango() {
+        // Arrange
+        BigDecimal maximo = new BigDecimal("9999999999999999.99");
+
+        // Act & Assert
+        assertEquals(999_999_999_999_999_999L, Dinero.de(maximo).getCentavos());
+        assertEquals(-999_999_999_999_999_999L, Dinero.de(maximo.negate()).getCentavos());
+        assertEquals(-999_999_999_999_999_900L, Dinero.de(new BigDecimal("-9999999999999999")).getCentavos());
+        assertThrows(DatosInvalidosException.class, () -> Dinero.de(maximo.add(new BigDecimal("0.01"))));
+        assertThrows(DatosInvalidosException.class, () -> Dinero.de(maximo.negate().subtract(new BigDecimal("0.01"))));
+        assertThrows(DatosInvalidosException.class, () -> Dinero.de(new BigDecimal("10000000000000000")));
+        assertThrows(DatosInvalidosException.class, () -> Dinero.de(BigDecimal.valueOf(Long.MAX_VALUE, Dinero.ESCALA)));
+        assertThrows(DatosInvalidosException.class, () -> Dinero.de(new BigDecimal("1E999999999")));
+        DatosInvalidosException error = assertThrows(DatosInvalidosException.class,
+                () -> Dinero.de(new BigDecimal("1E-999999999")));
+        assertTrue(error.getMessage().contains("1E-999999999"));
+    }
+
+    @Test
+    @DisplayName("negar y abs - Cambian el signo sin perder centavos")
+    void debeNegarYObtenerValorAbsoluto() {
+        // Arrange
+        Dinero retiro = Dinero.de(new BigDecimal("-575.25"));
+
+        // Act & Assert
+        assertEquals(Dinero.de(new BigDecimal("575.25")), retiro.negar());
+        assertEquals(retiro, retiro.negar().negar());
+        assertEquals(retiro.negar(), retiro.abs());
+        assertSame(Dinero.CERO, Dinero.CERO.negar());
+        assertTrue(retiro.esNegativo());
+    }
+
+    @Test
+    @DisplayName("sumar, restar y negar - Un desbordamiento falla en lugar de dar la vuelta")
+    void debeFallarAlDesbordar() {
+        // Arrange
+        Dinero maximo = Dinero.deCentavos(Long.MAX_VALUE);
+
+        // Act & Assert
+        assertThrows(ArithmeticException.class, () -> maximo.sumar(Dinero.deCentavos(1)));
+        assertThrows(ArithmeticException.class, () -> Dinero.deCentavos(Long.MIN_VALUE).restar(Dinero.deCentavos(1)));
+        assertThrows(ArithmeticException.class, () -> Dinero.deCentavos(Long.MIN_VALUE).negar());
+    }
+
+    @Test
+    @DisplayName("toBigDecimal y toString - Siempre con dos decimales")
+    void debeExponerDosDecimales() {
+        // Act & Assert
+        assertEquals(new BigDecimal("500.00"), Dinero.de(500.0).toBigDecimal());
+        assertEquals("-0.05", Dinero.deCentavos(-5).toString());
+        assertEquals(Dinero.ESCALA, Dinero.CERO.toBigDecimal().scale());
+    }
+}
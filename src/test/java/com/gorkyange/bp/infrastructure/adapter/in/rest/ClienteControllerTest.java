@@ -4,7 +4,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gorkyange.bp.application.port.in.*;
 import com.gorkyange.bp.domain.exception.*;
 import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.domain.model.ResultadoClienteLote;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ClienteLoteResponse;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ClienteRequest;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ClienteResponse;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.mapper.ClienteRestMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,12 +18,14 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
@@ -41,6 +46,9 @@ class ClienteControllerTest {
     @MockBean
     private CrearClienteUseCase crearClienteUseCase;
 
+    @MockBean
+    private CrearClientesLoteUseCase crearClientesLoteUseCase;
+
     @MockBean
     private ActualizarClienteUseCase actualizarClienteUseCase;
 
@@ -145,6 +153,74 @@ class ClienteControllerTest {
                 .andExpect(jsonPath("$.errorCode", is("DATOS_INVALIDOS")));
     }
 
+    // ===== POST /clientes/lote =====
+
+    @Test
+    @DisplayName("POST /clientes/lote - Debe retornar resultado por cada cliente")
+    void debeRetornarResultadoPorCadaClienteDelLote() throws Exception {
+        // Arrange
+        ClienteRequest nuevo = new ClienteRequest();
+        nuevo.setNombre("Jose Lema");
+        nuevo.setIdentificacion("1234567890");
+        nuevo.setEdad(30);
+        nuevo.setContrasena("1234");
+
+        ClienteRequest repetido = new ClienteRequest();
+        repetido.setNombre("Marianela Montalvo");
+        repetido.setIdentificacion("1234567890");
+        repetido.setEdad(25);
+        repetido.setContrasena("5678");
+
+        ResultadoClienteLote creado = ResultadoClienteLote.creado(0, new Cliente());
+        ResultadoClienteLote rechazado = ResultadoClienteLote.rechazado(1, new Cliente(),
+                "El campo 'identificacion' con valor '1234567890' ya aparece en el lote en la posición 0");
+
+        ClienteLoteResponse respuestaCreado = new ClienteLoteResponse();
+        respuestaCreado.setIndice(0);
+        respuestaCreado.setEstado("CREADO");
+
+        ClienteLoteResponse respuestaRechazado = new ClienteLoteResponse();
+        respuestaRechazado.setIndice(1);
+        respuestaRechazado.setEstado("RECHAZADO");
+        respuestaRechazado.setError(rechazado.getError());
+
+        when(crearClientesLoteUseCase.crearLote(anyList())).thenReturn(Arrays.asList(creado, rechazado));
+        when(mapper.toLoteResponse(creado)).thenReturn(respuestaCreado);
+        when(mapper.toLoteResponse(rechazado)).thenReturn(respuestaRechazado);
+
+        // Act & Assert
+        mockMvc.perform(post("/clientes/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(nuevo, repetido))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].estado", is("CREADO")))
+                .andExpect(jsonPath("$[1].estado", is("RECHAZADO")))
+                .andExpect(jsonPath("$[1].error", is(rechazado.getError())));
+    }
+
+    @Test
+    @DisplayName("POST /clientes/lote - Un elemento null llega al servicio como null y se rechaza por índice")
+    void debeRechazarElementosNullDelLote() throws Exception {
+        // Arrange
+        ResultadoClienteLote rechazado = ResultadoClienteLote.rechazado(0, null, "El elemento del lote está vacío");
+        ClienteLoteResponse respuestaRechazado = new ClienteLoteResponse();
+        respuestaRechazado.setIndice(0);
+        respuestaRechazado.setEstado("RECHAZADO");
+        respuestaRechazado.setError("El elemento del lote está vacío");
+
+        when(crearClientesLoteUseCase.crearLote(Collections.singletonList(null))).thenReturn(List.of(rechazado));
+        when(mapper.toLoteResponse(rechazado)).thenReturn(respuestaRechazado);
+
+        // Act & Assert
+        mockMvc.perform(post("/clientes/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[null]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].estado", is("RECHAZADO")))
+                .andExpect(jsonPath("$[0].error", is("El elemento del lote está vacío")));
+    }
+
     // ===== GET /clientes/{clienteId} =====
 
     @Test
@@ -213,6 +289,30 @@ class ClienteControllerTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    @DisplayName("GET /clientes?after=&limit= - Debe retornar la página siguiente al cursor")
+    void debeRetornarPaginaDeClientesDespuesDelCursor() throws Exception {
+        // Arrange
+        Cliente cliente = new Cliente();
+        cliente.setId(11L);
+        cliente.setNombre("Juan Osorio");
+
+        ClienteResponse response = new ClienteResponse();
+        response.setId(11L);
+        response.setNombre("Juan Osorio");
+
+        when(listarClientesUseCase.listarPagina(10L, 1)).thenReturn(List.of(cliente));
+        when(mapper.toResponse(cliente)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/clientes")
+                        .param("after", "10")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(11)));
+    }
+
     // ===== PUT /clientes/{clienteId} =====
 
     @Test
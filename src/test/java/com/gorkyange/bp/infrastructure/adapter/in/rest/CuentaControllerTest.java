@@ -3,6 +3,7 @@ package com.gorkyange.bp.infrastructure.adapter.in.rest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gorkyange.bp.application.port.in.*;
 import com.gorkyange.bp.domain.exception.*;
+import com.gorkyange.bp.domain.model.Dinero;
 import com.gorkyange.bp.domain.model.Cuenta;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.CuentaRequest;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.mapper.CuentaRestMapper;
@@ -14,6 +15,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -53,6 +55,9 @@ class CuentaControllerTest {
     @MockBean
     private EliminarCuentaUseCase eliminarCuentaUseCase;
 
+    @MockBean
+    private ConsultarSaldoUseCase consultarSaldoUseCase;
+
     @MockBean
     private CuentaRestMapper mapper;
 
@@ -65,7 +70,7 @@ class CuentaControllerTest {
         CuentaRequest request = new CuentaRequest();
         request.setNumeroCuenta("478758");
         request.setTipoCuenta("Ahorro");
-        request.setSaldoInicial(2000.0);
+        request.setSaldoInicial(Dinero.de(2000.0));
         request.setEstado(true);
         request.setClienteId(1L);
 
@@ -97,7 +102,7 @@ class CuentaControllerTest {
         CuentaRequest request = new CuentaRequest();
         request.setNumeroCuenta("478758");
         request.setTipoCuenta("Ahorro");
-        request.setSaldoInicial(2000.0);
+        request.setSaldoInicial(Dinero.de(2000.0));
         request.setEstado(true);
         request.setClienteId(1L);
 
@@ -119,12 +124,12 @@ class CuentaControllerTest {
         CuentaRequest request = new CuentaRequest();
         request.setNumeroCuenta("478758");
         request.setTipoCuenta("Ahorro");
-        request.setSaldoInicial(-100.0);
+        request.setSaldoInicial(Dinero.de(-100.0));
         request.setEstado(true);
         request.setClienteId(1L);
 
         when(crearCuentaUseCase.crear(any(Cuenta.class)))
-                .thenThrow(DatosInvalidosException.saldoInicialNegativo(-100.0));
+                .thenThrow(DatosInvalidosException.saldoInicialNegativo(Dinero.de(-100.0)));
 
         // Act & Assert
         mockMvc.perform(post("/cuentas")
@@ -165,6 +170,35 @@ class CuentaControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    // ===== GET /cuentas/{numeroCuenta}/saldo =====
+
+    @Test
+    @DisplayName("GET /cuentas/{numeroCuenta}/saldo - Debe retornar el saldo a la fecha")
+    void debeRetornarSaldoALaFecha() throws Exception {
+        // Arrange
+        when(consultarSaldoUseCase.obtenerSaldoAl("478758", LocalDate.of(2026, 1, 5)))
+                .thenReturn(Dinero.de(2500.0));
+
+        // Act & Assert
+        mockMvc.perform(get("/cuentas/478758/saldo").param("fecha", "2026-01-05"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.numeroCuenta", is("478758")))
+                .andExpect(jsonPath("$.fecha", is("2026-01-05")))
+                .andExpect(jsonPath("$.saldo", is(2500.00)));
+    }
+
+    @Test
+    @DisplayName("GET /cuentas/{numeroCuenta}/saldo - Debe retornar 404 cuando la cuenta no existe")
+    void debeRetornar404AlConsultarSaldoDeCuentaInexistente() throws Exception {
+        // Arrange
+        when(consultarSaldoUseCase.obtenerSaldoAl(eq("999999"), any(LocalDate.class)))
+                .thenThrow(new CuentaNoEncontradaException("999999"));
+
+        // Act & Assert
+        mockMvc.perform(get("/cuentas/999999/saldo").param("fecha", "2026-01-05"))
+                .andExpect(status().isNotFound());
+    }
+
     // ===== GET /cuentas =====
 
     @Test
@@ -281,7 +315,7 @@ class CuentaControllerTest {
         CuentaRequest request = new CuentaRequest();
         request.setNumeroCuenta("478758");
         request.setTipoCuenta("Corriente");
-        request.setSaldoInicial(3000.0);
+        request.setSaldoInicial(Dinero.de(3000.0));
         request.setEstado(true);
         request.setClienteId(1L);
 
@@ -309,7 +343,7 @@ class CuentaControllerTest {
         CuentaRequest request = new CuentaRequest();
         request.setNumeroCuenta("478758");
         request.setTipoCuenta("Corriente");
-        request.setSaldoInicial(3000.0);
+        request.setSaldoInicial(Dinero.de(3000.0));
         request.setEstado(true);
         request.setClienteId(1L);
 
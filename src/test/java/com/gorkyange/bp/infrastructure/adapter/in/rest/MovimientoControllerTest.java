@@ -1,11 +1,14 @@
 package com.gorkyange.bp.infrastructure.adapter.in.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.gorkyange.bp.application.port.in.CrearMovimientoUseCase;
-import com.gorkyange.bp.application.port.in.ListarMovimientosUseCase;
+import com.gorkyange.bp.application.port.in.*;
 import com.gorkyange.bp.domain.exception.*;
+import com.gorkyange.bp.domain.model.Dinero;
 import com.gorkyange.bp.domain.model.Movimiento;
+import com.gorkyange.bp.domain.model.ResultadoMovimientoLote;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.MovimientoLoteResponse;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.MovimientoRequest;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.MovimientoResponse;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.mapper.MovimientoRestMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,14 +17,20 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -42,6 +51,21 @@ class MovimientoControllerTest {
     @MockBean
     private ListarMovimientosUseCase listarMovimientosUseCase;
 
+    @MockBean
+    private ObtenerMovimientoUseCase obtenerMovimientoUseCase;
+
+    @MockBean
+    private ActualizarMovimientoUseCase actualizarMovimientoUseCase;
+
+    @MockBean
+    private EliminarMovimientoUseCase eliminarMovimientoUseCase;
+
+    @MockBean
+    private CrearMovimientosLoteUseCase crearMovimientosLoteUseCase;
+
+    @MockBean
+    private ExportarMovimientosUseCase exportarMovimientosUseCase;
+
     @MockBean
     private MovimientoRestMapper mapper;
 
@@ -54,7 +78,7 @@ class MovimientoControllerTest {
         MovimientoRequest request = new MovimientoRequest();
         request.setFecha(LocalDate.now());
         request.setTipoMovimiento("Depósito");
-        request.setValor(500.0);
+        request.setValor(Dinero.de(500.0));
         request.setNumeroCuenta("478758");
 
         Movimiento movimientoCreado = new Movimiento();
@@ -62,7 +86,7 @@ class MovimientoControllerTest {
         movimientoCreado.setFecha(request.getFecha());
         movimientoCreado.setTipoMovimiento(request.getTipoMovimiento());
         movimientoCreado.setValor(request.getValor());
-        movimientoCreado.setSaldo(2500.0);
+        movimientoCreado.setSaldo(Dinero.de(2500.0));
         movimientoCreado.setNumeroCuenta(request.getNumeroCuenta());
 
         when(crearMovimientoUseCase.crear(any(Movimiento.class))).thenReturn(movimientoCreado);
@@ -84,7 +108,7 @@ class MovimientoControllerTest {
         MovimientoRequest request = new MovimientoRequest();
         request.setFecha(LocalDate.now());
         request.setTipoMovimiento("Depósito");
-        request.setValor(0.0);
+        request.setValor(Dinero.de(0.0));
         request.setNumeroCuenta("478758");
 
         when(crearMovimientoUseCase.crear(any(Movimiento.class)))
@@ -98,6 +122,63 @@ class MovimientoControllerTest {
                 .andExpect(jsonPath("$.errorCode", is("MOVIMIENTO_INVALIDO")));
     }
 
+    @Test
+    @DisplayName("POST /movimientos - Debe pasar la Idempotency-Key al caso de uso")
+    void debeCrearMovimientoConClaveIdempotencia() throws Exception {
+        // Arrange
+        MovimientoRequest request = new MovimientoRequest();
+        request.setFecha(LocalDate.now());
+        request.setTipoMovimiento("Depósito");
+        request.setValor(Dinero.de(500.0));
+        request.setNumeroCuenta("478758");
+
+        Movimiento movimientoCreado = new Movimiento();
+        movimientoCreado.setId(7L);
+        movimientoCreado.setFecha(request.getFecha());
+        movimientoCreado.setTipoMovimiento(request.getTipoMovimiento());
+        movimientoCreado.setValor(request.getValor());
+        movimientoCreado.setSaldo(Dinero.de(2500.0));
+        movimientoCreado.setNumeroCuenta(request.getNumeroCuenta());
+
+        MovimientoResponse respuesta = new MovimientoResponse();
+        respuesta.setId(7L);
+
+        when(mapper.toDomain(any(MovimientoRequest.class))).thenReturn(new Movimiento());
+        when(crearMovimientoUseCase.crear(any(Movimiento.class), eq("pago-001"))).thenReturn(movimientoCreado);
+        when(mapper.toResponse(movimientoCreado)).thenReturn(respuesta);
+
+        // Act & Assert
+        mockMvc.perform(post("/movimientos")
+                        .header("Idempotency-Key", "pago-001")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is(7)));
+    }
+
+    @Test
+    @DisplayName("POST /movimientos - Debe fallar al reutilizar la Idempotency-Key con otro contenido")
+    void debeFallarConClaveIdempotenciaReutilizada() throws Exception {
+        // Arrange
+        MovimientoRequest request = new MovimientoRequest();
+        request.setFecha(LocalDate.now());
+        request.setTipoMovimiento("Retiro");
+        request.setValor(Dinero.de(-50.0));
+        request.setNumeroCuenta("478758");
+
+        when(mapper.toDomain(any(MovimientoRequest.class))).thenReturn(new Movimiento());
+        when(crearMovimientoUseCase.crear(any(Movimiento.class), eq("pago-001")))
+                .thenThrow(new ClaveIdempotenciaReutilizadaException("pago-001"));
+
+        // Act & Assert
+        mockMvc.perform(post("/movimientos")
+                        .header("Idempotency-Key", "pago-001")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errorCode", is("CLAVE_IDEMPOTENCIA_REUTILIZADA")));
+    }
+
     @Test
     @DisplayName("POST /movimientos - Debe fallar con saldo insuficiente")
     void debeFallarConSaldoInsuficiente() throws Exception {
@@ -105,11 +186,11 @@ class MovimientoControllerTest {
         MovimientoRequest request = new MovimientoRequest();
         request.setFecha(LocalDate.now());
         request.setTipoMovimiento("Retiro");
-        request.setValor(-500.0);
+        request.setValor(Dinero.de(-500.0));
         request.setNumeroCuenta("478758");
 
         when(crearMovimientoUseCase.crear(any(Movimiento.class)))
-                .thenThrow(new SaldoInsuficienteException(100.0, 500.0));
+                .thenThrow(new SaldoInsuficienteException(Dinero.de(100.0), Dinero.de(500.0)));
 
         // Act & Assert
         mockMvc.perform(post("/movimientos")
@@ -126,7 +207,7 @@ class MovimientoControllerTest {
         MovimientoRequest request = new MovimientoRequest();
         request.setFecha(LocalDate.now());
         request.setTipoMovimiento("Depósito");
-        request.setValor(500.0);
+        request.setValor(Dinero.de(500.0));
         request.setNumeroCuenta("999999");
 
         when(crearMovimientoUseCase.crear(any(Movimiento.class)))
@@ -147,7 +228,7 @@ class MovimientoControllerTest {
         MovimientoRequest request = new MovimientoRequest();
         request.setFecha(LocalDate.now());
         request.setTipoMovimiento("Depósito");
-        request.setValor(500.0);
+        request.setValor(Dinero.de(500.0));
         request.setNumeroCuenta("478758");
 
         when(crearMovimientoUseCase.crear(any(Movimiento.class)))
@@ -161,6 +242,82 @@ class MovimientoControllerTest {
                 .andExpect(jsonPath("$.errorCode", is("CUENTA_INACTIVA")));
     }
 
+    @Test
+    @DisplayName("POST /movimientos - Debe rechazar un valor con fracciones de centavo")
+    void debeRechazarValorConFraccionesDeCentavo() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/movimientos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"numeroCuenta\":\"478758\",\"tipoMovimiento\":\"Deposito\",\"valor\":10.005}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode", is("DATOS_INVALIDOS")));
+    }
+
+    // ===== POST /movimientos/lote =====
+
+    @Test
+    @DisplayName("POST /movimientos/lote - Debe retornar resultado por cada movimiento")
+    void debeRetornarResultadoPorCadaMovimientoDelLote() throws Exception {
+        // Arrange
+        MovimientoRequest deposito = new MovimientoRequest();
+        deposito.setTipoMovimiento("Depósito");
+        deposito.setValor(Dinero.de(500.0));
+        deposito.setNumeroCuenta("478758");
+
+        MovimientoRequest retiro = new MovimientoRequest();
+        retiro.setTipoMovimiento("Retiro");
+        retiro.setValor(Dinero.de(-9000.0));
+        retiro.setNumeroCuenta("478758");
+
+        ResultadoMovimientoLote creado = ResultadoMovimientoLote.creado(0, new Movimiento());
+        ResultadoMovimientoLote rechazado = ResultadoMovimientoLote.rechazado(1, new Movimiento(), "Saldo no disponible");
+
+        MovimientoLoteResponse respuestaCreado = new MovimientoLoteResponse();
+        respuestaCreado.setIndice(0);
+        respuestaCreado.setEstado("CREADO");
+
+        MovimientoLoteResponse respuestaRechazado = new MovimientoLoteResponse();
+        respuestaRechazado.setIndice(1);
+        respuestaRechazado.setEstado("RECHAZADO");
+        respuestaRechazado.setError("Saldo no disponible");
+
+        when(crearMovimientosLoteUseCase.crearLote(anyList())).thenReturn(Arrays.asList(creado, rechazado));
+        when(mapper.toLoteResponse(creado)).thenReturn(respuestaCreado);
+        when(mapper.toLoteResponse(rechazado)).thenReturn(respuestaRechazado);
+
+        // Act & Assert
+        mockMvc.perform(post("/movimientos/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(deposito, retiro))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].estado", is("CREADO")))
+                .andExpect(jsonPath("$[1].estado", is("RECHAZADO")))
+                .andExpect(jsonPath("$[1].error", is("Saldo no disponible")));
+    }
+
+    @Test
+    @DisplayName("POST /movimientos/lote - Un elemento null llega al servicio como null y se rechaza por índice")
+    void debeRechazarElementosNullDelLote() throws Exception {
+        // Arrange
+        ResultadoMovimientoLote rechazado = ResultadoMovimientoLote.rechazado(0, null, "El elemento del lote está vacío");
+        MovimientoLoteResponse respuestaRechazado = new MovimientoLoteResponse();
+        respuestaRechazado.setIndice(0);
+        respuestaRechazado.setEstado("RECHAZADO");
+        respuestaRechazado.setError("El elemento del lote está vacío");
+
+        when(crearMovimientosLoteUseCase.crearLote(Collections.singletonList(null))).thenReturn(List.of(rechazado));
+        when(mapper.toLoteResponse(rechazado)).thenReturn(respuestaRechazado);
+
+        // Act & Assert
+        mockMvc.perform(post("/movimientos/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[null]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].estado", is("RECHAZADO")))
+                .andExpect(jsonPath("$[0].error", is("El elemento del lote está vacío")));
+    }
+
     // ===== GET /movimientos =====
 
     @Test
@@ -170,12 +327,12 @@ class MovimientoControllerTest {
         Movimiento mov1 = new Movimiento();
         mov1.setId(1L);
         mov1.setNumeroCuenta("478758");
-        mov1.setValor(500.0);
+        mov1.setValor(Dinero.de(500.0));
 
         Movimiento mov2 = new Movimiento();
         mov2.setId(2L);
         mov2.setNumeroCuenta("478758");
-        mov2.setValor(-100.0);
+        mov2.setValor(Dinero.de(-100.0));
 
         List<Movimiento> movimientos = Arrays.asList(mov1, mov2);
         when(listarMovimientosUseCase.listarTodos()).thenReturn(movimientos);
@@ -200,6 +357,77 @@ class MovimientoControllerTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    @DisplayName("GET /movimientos?after=&limit= - Debe paginar por cursor")
+    void debeRetornarPaginaDeMovimientosDespuesDelCursor() throws Exception {
+        // Arrange
+        Movimiento movimiento = new Movimiento();
+        movimiento.setId(8L);
+
+        MovimientoResponse response = new MovimientoResponse();
+        response.setId(8L);
+
+        when(listarMovimientosUseCase.listarPagina(7L, 20)).thenReturn(List.of(movimiento));
+        when(mapper.toResponse(movimiento)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/movimientos")
+                        .param("after", "7")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(8)));
+    }
+
+    @Test
+    @DisplayName("GET /movimientos?numeroCuenta=&after=&limit= - Debe paginar por cursor dentro de la cuenta")
+    void debeRetornarPaginaDeMovimientosPorCuenta() throws Exception {
+        // Arrange
+        Movimiento movimiento = new Movimiento();
+        movimiento.setId(8L);
+
+        MovimientoResponse response = new MovimientoResponse();
+        response.setId(8L);
+
+        when(listarMovimientosUseCase.listarPaginaPorCuenta("478758", 7L, 20)).thenReturn(List.of(movimiento));
+        when(mapper.toResponse(movimiento)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/movimientos")
+                        .param("numeroCuenta", "478758")
+                        .param("after", "7")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(8)));
+    }
+
+    @Test
+    @DisplayName("GET /movimientos?fechaInicio=&fechaFin=&limit= - Debe paginar dentro del rango de fechas")
+    void debeRetornarPaginaDeMovimientosPorFechas() throws Exception {
+        // Arrange
+        LocalDate fechaInicio = LocalDate.of(2026, 1, 1);
+        LocalDate fechaFin = LocalDate.of(2026, 1, 31);
+        Movimiento movimiento = new Movimiento();
+        movimiento.setId(3L);
+
+        MovimientoResponse response = new MovimientoResponse();
+        response.setId(3L);
+
+        when(listarMovimientosUseCase.listarPaginaPorFechas(fechaInicio, fechaFin, null, 5))
+                .thenReturn(List.of(movimiento));
+        when(mapper.toResponse(movimiento)).thenReturn(response);
+
+        // Act & Assert
+        mockMvc.perform(get("/movimientos")
+                        .param("fechaInicio", "2026-01-01")
+                        .param("fechaFin", "2026-01-31")
+                        .param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(3)));
+    }
+
     // ===== GET /movimientos?numeroCuenta= =====
 
     @Test
@@ -209,12 +437,12 @@ class MovimientoControllerTest {
         Movimiento mov1 = new Movimiento();
         mov1.setId(1L);
         mov1.setNumeroCuenta("478758");
-        mov1.setValor(500.0);
+        mov1.setValor(Dinero.de(500.0));
 
         Movimiento mov2 = new Movimiento();
         mov2.setId(2L);
         mov2.setNumeroCuenta("478758");
-        mov2.setValor(-100.0);
+        mov2.setValor(Dinero.de(-100.0));
 
         List<Movimiento> movimientos = Arrays.asList(mov1, mov2);
         when(listarMovimientosUseCase.listarPorCuenta("478758")).thenReturn(movimientos);
@@ -251,12 +479,12 @@ class MovimientoControllerTest {
         Movimiento mov1 = new Movimiento();
         mov1.setId(1L);
         mov1.setFecha(LocalDate.of(2026, 1, 5));
-        mov1.setValor(500.0);
+        mov1.setValor(Dinero.de(500.0));
 
         Movimiento mov2 = new Movimiento();
         mov2.setId(2L);
         mov2.setFecha(LocalDate.of(2026, 1, 15));
-        mov2.setValor(-100.0);
+        mov2.setValor(Dinero.de(-100.0));
 
         List<Movimiento> movimientos = Arrays.asList(mov1, mov2);
         when(listarMovimientosUseCase.listarPorFechas(fechaInicio, fechaFin))
@@ -287,4 +515,52 @@ class MovimientoControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(0)));
     }
+
+    // ===== GET /movimientos/export =====
+
+    @Test
+    @DisplayName("GET /movimientos/export?formato=csv - Debe escribir los movimientos como CSV")
+    void debeExportarMovimientosComoCsv() throws Exception {
+        // Arrange
+        Movimiento mov1 = new Movimiento();
+        mov1.setId(1L);
+        mov1.setFecha(LocalDate.of(2026, 1, 5));
+        mov1.setTipoMovimiento("Deposito de 500");
+        mov1.setValor(Dinero.de(500.0));
+        mov1.setSaldo(Dinero.de(600.0));
+        mov1.setNumeroCuenta("478758");
+
+        doAnswer(invocacion -> {
+            Consumer<Movimiento> consumidor = invocacion.getArgument(2);
+            consumidor.accept(mov1);
+            return null;
+        }).when(exportarMovimientosUseCase).exportarPorFechas(
+                eq(LocalDate.of(2026, 1, 1)), eq(LocalDate.of(2026, 1, 31)), any());
+
+        // Act
+        MvcResult resultado = mockMvc.perform(get("/movimientos/export")
+                        .param("fechaInicio", "2026-01-01")
+                        .param("fechaFin", "2026-01-31")
+                        .param("formato", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().string(
+                        "id,fecha,tipoMovimiento,valor,saldo,numeroCuenta\n" +
+                        "1,2026-01-05,Deposito de 500,500.00,600.00,478758\n"));
+    }
+
+    @Test
+    @DisplayName("GET /movimientos/export - Debe fallar con formato no soportado")
+    void debeFallarExportacionConFormatoNoSoportado() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/movimientos/export")
+                        .param("fechaInicio", "2026-01-01")
+                        .param("fechaFin", "2026-01-31")
+                        .param("formato", "xml"))
+                .andExpect(status().isBadRequest());
+    }
 }
@@ -1,21 +1,31 @@
 package com.gorkyange.bp.infrastructure.adapter.in.rest;
 
+import com.gorkyange.bp.application.port.in.ConsultarTrabajoReporteUseCase;
 import com.gorkyange.bp.application.port.in.GenerarReporteUseCase;
+import com.gorkyange.bp.application.port.in.SolicitarReporteUseCase;
+import com.gorkyange.bp.application.port.in.TrabajoReporte;
 import com.gorkyange.bp.domain.exception.ClienteNoEncontradoException;
+import com.gorkyange.bp.domain.exception.ColaReportesLlenaException;
+import com.gorkyange.bp.domain.exception.TrabajoReporteNoEncontradoException;
 import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.ArrayList;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -30,6 +40,12 @@ class ReporteControllerTest {
     @MockBean
     private GenerarReporteUseCase generarReporteUseCase;
 
+    @MockBean
+    private SolicitarReporteUseCase solicitarReporteUseCase;
+
+    @MockBean
+    private ConsultarTrabajoReporteUseCase consultarTrabajoReporteUseCase;
+
     // ===== GET /reportes?formato=json =====
 
     @Test
@@ -144,4 +160,174 @@ class ReporteControllerTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.errorCode", is("CLIENTE_NO_ENCONTRADO")));
     }
+
+    // ===== GET /reportes/pdf =====
+
+    @Test
+    @DisplayName("GET /reportes/pdf - Debe transmitir el PDF como application/pdf")
+    void debeTransmitirPdfBinario() throws Exception {
+        // Arrange
+        LocalDate fechaInicio = LocalDate.of(2026, 1, 1);
+        LocalDate fechaFin = LocalDate.of(2026, 1, 31);
+
+        ReporteEstadoCuentaResponse reporte = new ReporteEstadoCuentaResponse();
+        reporte.setNombreCliente("Jose Lema");
+        reporte.setCuentas(new ArrayList<>());
+
+        when(generarReporteUseCase.generarReporte(eq(1L), eq(fechaInicio), eq(fechaFin)))
+                .thenReturn(reporte);
+        doAnswer(invocation -> {
+            OutputStream salida = invocation.getArgument(1);
+            salida.write("%PDF-1.7".getBytes(StandardCharsets.US_ASCII));
+            return null;
+        }).when(generarReporteUseCase).escribirReportePdf(eq(reporte), any(OutputStream.class));
+
+        // Act
+        MvcResult resultado = mockMvc.perform(get("/reportes/pdf")
+                        .param("clienteId", "1")
+                        .param("fechaInicio", "2026-01-01")
+                        .param("fechaFin", "2026-01-31"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                .andExpect(content().string("%PDF-1.7"));
+    }
+
+    @Test
+    @DisplayName("GET /reportes/pdf - Debe fallar cuando cliente no existe")
+    void debeFallarPdfBinarioCuandoClienteNoExiste() throws Exception {
+        // Arrange
+        when(generarReporteUseCase.generarReporte(eq(999L), any(), any()))
+                .thenThrow(new ClienteNoEncontradoException(999L));
+
+        // Act & Assert
+        mockMvc.perform(get("/reportes/pdf")
+                        .param("clienteId", "999")
+                        .param("fechaInicio", "2026-01-01")
+                        .param("fechaFin", "2026-01-31"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode", is("CLIENTE_NO_ENCONTRADO")));
+    }
+
+    // ===== /reportes/jobs =====
+
+    @Test
+    @DisplayName("POST /reportes/jobs - Debe aceptar el trabajo y devolver su ubicación")
+    void debeAceptarTrabajoDeReporte() throws Exception {
+        // Arrange
+        TrabajoReporte trabajo = TrabajoReporte.pendiente("abc-123", 1L,
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), "pdf");
+        when(solicitarReporteUseCase.solicitarReporte(eq(1L), eq(LocalDate.of(2026, 1, 1)),
+                eq(LocalDate.of(2026, 1, 31)), eq("pdf")))
+                .thenReturn(trabajo);
+
+        // Act & Assert
+        mockMvc.perform(post("/reportes/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"clienteId\":1,\"fechaInicio\":\"2026-01-01\",\"fechaFin\":\"2026-01-31\",\"formato\":\"pdf\"}"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/reportes/jobs/abc-123"))
+                .andExpect(jsonPath("$.id", is("abc-123")))
+                .andExpect(jsonPath("$.estado", is("PENDIENTE")));
+    }
+
+    @Test
+    @DisplayName("POST /reportes/jobs - Debe responder 503 cuando la cola está llena")
+    void debeRechazarTrabajoConColaLlena() throws Exception {
+        // Arrange
+        when(solicitarReporteUseCase.solicitarReporte(any(), any(), any(), any()))
+                .thenThrow(new ColaReportesLlenaException(50));
+
+        // Act & Assert
+        mockMvc.perform(post("/reportes/jobs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"clienteId\":1,\"fechaInicio\":\"2026-01-01\",\"fechaFin\":\"2026-01-31\"}"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.errorCode", is("COLA_REPORTES_LLENA")));
+    }
+
+    @Test
+    @DisplayName("GET /reportes/jobs/{id} - Debe devolver el estado y el enlace al resultado")
+    void debeConsultarTrabajoCompletado() throws Exception {
+        // Arrange
+        TrabajoReporte trabajo = TrabajoReporte.pendiente("abc-123", 1L,
+                        LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), "pdf")
+                .enProceso()
+                .completado(null, "%PDF-1.7".getBytes(StandardCharsets.US_ASCII));
+        when(consultarTrabajoReporteUseCase.obtenerTrabajo("abc-123")).thenReturn(trabajo);
+
+        // Act & Assert
+        mockMvc.perform(get("/reportes/jobs/abc-123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.estado", is("COMPLETADO")))
+                .andExpect(jsonPath("$.resultado", is("/reportes/jobs/abc-123/resultado")));
+    }
+
+    @Test
+    @DisplayName("GET /reportes/jobs/{id} - Debe responder 404 para un trabajo desconocido")
+    void debeFallarTrabajoDesconocido() throws Exception {
+        // Arrange
+        when(consultarTrabajoReporteUseCase.obtenerTrabajo("nope"))
+                .thenThrow(new TrabajoReporteNoEncontradoException("nope"));
+
+        // Act & Assert
+        mockMvc.perform(get("/reportes/jobs/nope"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode", is("TRABAJO_NO_ENCONTRADO")));
+    }
+
+    @Test
+    @DisplayName("GET /reportes/jobs/{id}/resultado - Debe descargar el PDF generado")
+    void debeDescargarPdfDeTrabajo() throws Exception {
+        // Arrange
+        TrabajoReporte trabajo = TrabajoReporte.pendiente("abc-123", 1L,
+                        LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), "pdf")
+                .enProceso()
+                .completado(null, "%PDF-1.7".getBytes(StandardCharsets.US_ASCII));
+        when(consultarTrabajoReporteUseCase.obtenerTrabajo("abc-123")).thenReturn(trabajo);
+
+        // Act & Assert
+        mockMvc.perform(get("/reportes/jobs/abc-123/resultado"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                .andExpect(content().string("%PDF-1.7"));
+    }
+
+    @Test
+    @DisplayName("GET /reportes/jobs/{id}/resultado - Debe responder 409 si el trabajo no terminó")
+    void debeFallarResultadoDeTrabajoPendiente() throws Exception {
+        // Arrange
+        TrabajoReporte trabajo = TrabajoReporte.pendiente("abc-123", 1L,
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), "json");
+        when(consultarTrabajoReporteUseCase.obtenerTrabajo("abc-123")).thenReturn(trabajo);
+
+        // Act & Assert
+        mockMvc.perform(get("/reportes/jobs/abc-123/resultado"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode", is("TRABAJO_NO_COMPLETADO")));
+    }
+
+    @Test
+    @DisplayName("GET /reportes/jobs/{id}/resultado - Debe responder 410 si el resultado ya no está disponible")
+    void debeFallarResultadoExpirado() throws Exception {
+        // Arrange
+        TrabajoReporte trabajo = TrabajoReporte.pendiente("abc-123", 1L,
+                LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31), "json")
+                .enProceso().completado(null, null).resultadoExpirado();
+        when(consultarTrabajoReporteUseCase.obtenerTrabajo("abc-123")).thenReturn(trabajo);
+
+        // Act & Assert
+        mockMvc.perform(get("/reportes/jobs/abc-123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.estado", is("RESULTADO_EXPIRADO")))
+                .andExpect(jsonPath("$.resultado").doesNotExist());
+        mockMvc.perform(get("/reportes/jobs/abc-123/resultado"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.errorCode", is("RESULTADO_EXPIRADO")));
+    }
 }
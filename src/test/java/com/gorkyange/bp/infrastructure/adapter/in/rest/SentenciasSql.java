@@ -0,0 +1,29 @@
+package com.gorkyange.bp.infrastructure.adapter.in.rest;
+
+import com.gorkyange.bp.infrastructure.adapter.out.metrics.PresupuestoSentenciasFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica con MockMvc las sentencias SQL que ejecutó una solicitud, según la medición que
+ * deja {@link PresupuestoSentenciasFilter}. Con los puertos simulados de @WebMvcTest la cuenta
+ * es la del propio controlador; con @SpringBootTest es la de la solicitud completa.
+ */
+public final class SentenciasSql {
+
+    private SentenciasSql() {
+    }
+
+    public static ResultMatcher maximo(int sentencias) {
+        return resultado -> {
+            Object medicion = resultado.getRequest().getAttribute(PresupuestoSentenciasFilter.ATRIBUTO_MEDICION);
+            assertNotNull(medicion, "La solicitud no pasó por PresupuestoSentenciasFilter");
+            int ejecutadas = ((PresupuestoSentenciasFilter.Medicion) medicion).sentencias();
+            assertTrue(ejecutadas <= sentencias, () -> resultado.getRequest().getMethod() + " "
+                    + resultado.getRequest().getRequestURI() + " ejecutó " + ejecutadas
+                    + " sentencias SQL, máximo esperado " + sentencias);
+        };
+    }
+}
@@ -0,0 +1,69 @@
+package com.gorkyange.bp.infrastructure.adapter.in.rest.mapper;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.gorkyange.bp.domain.exception.DatosInvalidosException;
+import com.gorkyange.bp.domain.model.Dinero;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("DineroJsonComponent Tests")
+class DineroJsonComponentTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new SimpleModule()
+            .addSerializer(Dinero.class, new DineroJsonComponent.Serializer())
+            .addDeserializer(Dinero.class, new DineroJsonComponent.Deserializer()));
+
+    @Test
+    @DisplayName("serialize - Escribe un número JSON con dos decimales")
+    void debeSerializarConDosDecimales() throws Exception {
+        // Act & Assert
+        assertEquals("500.00", objectMapper.writeValueAsString(Dinero.de(500.0)));
+        assertEquals("-0.05", objectMapper.writeValueAsString(Dinero.deCentavos(-5)));
+    }
+
+    @Test
+    @DisplayName("deserialize - Acepta números enteros, decimales y cadenas numéricas")
+    void debeDeserializarNumerosYCadenas() throws Exception {
+        // Act & Assert
+        assertEquals(Dinero.deCentavos(50_000), objectMapper.readValue("500", Dinero.class));
+        assertEquals(Dinero.deCentavos(-57_525), objectMapper.readValue("-575.25", Dinero.class));
+        assertEquals(Dinero.deCentavos(1_050), objectMapper.readValue("\" 10.5 \"", Dinero.class));
+    }
+
+    @Test
+    @DisplayName("deserialize y serialize - Ida y vuelta sin perder centavos")
+    void debeConservarElImporteEnIdaYVuelta() throws Exception {
+        // Arrange
+        Dinero original = Dinero.deCentavos(999_999_999_999_999_999L);
+
+        // Act
+        Dinero leido = objectMapper.readValue(objectMapper.writeValueAsString(original), Dinero.class);
+
+        // Assert
+        assertEquals(original, leido);
+    }
+
+    @Test
+    @DisplayName("deserialize - Un importe con fracciones de centavo o desbordado es DatosInvalidosException")
+    void debeRechazarImportesInexactos() {
+        // Act & Assert
+        for (String json : new String[] {"10.005", "\"10.005\"", "10000000000000000.00", "92233720368547758.08", "1E999999999"}) {
+            JsonMappingException error = assertThrows(JsonMappingException.class,
+                    () -> objectMapper.readValue(json, Dinero.class), json);
+            assertInstanceOf(DatosInvalidosException.class, error.getCause(), json);
+        }
+    }
+
+    @Test
+    @DisplayName("deserialize - Una cadena no numérica es un error de formato")
+    void debeRechazarCadenasNoNumericas() {
+        // Act & Assert
+        assertThrows(JsonMappingException.class, () -> objectMapper.readValue("\"quinientos\"", Dinero.class));
+    }
+}
@@ -0,0 +1,157 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.ClientePersistenceAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ClienteRepositoryCacheAdapter Tests")
+class ClienteRepositoryCacheAdapterTest {
+
+    private ClientePersistenceAdapter delegado;
+    private SimpleMeterRegistry registry;
+    private ClienteRepositoryCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        delegado = mock(ClientePersistenceAdapter.class);
+        registry = new SimpleMeterRegistry();
+        adapter = new ClienteRepositoryCacheAdapter(delegado, 1000, Duration.ofMinutes(5), 1000, 0.01, true, registry);
+    }
+
+    private static Cliente cliente(Long id, String nombre) {
+        Cliente cliente = new Cliente(nombre, "M", 35, "17" + id, "Otavalo sn y principal", "098254785",
+                id, "1234", true);
+        cliente.setId(id);
+        return cliente;
+    }
+
+    private double consultas(String resultado) {
+        return registry.get("cache.gets").tag("cache", "clientes").tag("result", resultado).functionCounter().count();
+    }
+
+    private long aciertosPuerto(String operacion) {
+        return registry.get("bp.puerto").tag("puerto", "ClienteRepositoryPort").tag("operacion", operacion)
+                .tag("resultado", "cache").timer().count();
+    }
+
+    @Test
+    @DisplayName("buscarPorId - La segunda búsqueda se resuelve desde caché")
+    void debeResolverDesdeCache() {
+        // Arrange
+        when(delegado.buscarPorId(1L)).thenReturn(Optional.of(cliente(1L, "Jose Lema")));
+
+        // Act
+        adapter.buscarPorId(1L);
+        Cliente cliente = adapter.buscarPorId(1L).orElseThrow();
+
+        // Assert
+        verify(delegado, times(1)).buscarPorId(1L);
+        assertEquals("Jose Lema", cliente.getNombre());
+        assertEquals(1.0, consultas("hit"));
+        assertEquals(1.0, consultas("miss"));
+        assertEquals(1L, aciertosPuerto("buscarPorId"));
+    }
+
+    @Test
+    @DisplayName("buscarPorId - Un cliente inexistente no queda en caché")
+    void noDebeGuardarClientesInexistentes() {
+        // Arrange
+        when(delegado.buscarPorId(anyLong())).thenReturn(Optional.empty());
+
+        // Act
+        adapter.buscarPorId(9L);
+        adapter.buscarPorId(9L);
+
+        // Assert
+        verify(delegado, times(2)).buscarPorId(9L);
+        assertNull(registry.find("bp.puerto").tag("resultado", "cache").timer());
+    }
+
+    @Test
+    @DisplayName("buscarPorId - Modificar el cliente devuelto no altera la caché")
+    void debeEntregarUnaCopiaDelClienteEnCache() {
+        // Arrange
+        when(delegado.buscarPorId(1L)).thenReturn(Optional.of(cliente(1L, "Jose Lema")));
+
+        // Act: el servicio modifica el cliente que recibe
+        Cliente primero = adapter.buscarPorId(1L).orElseThrow();
+        primero.setNombre("Otro nombre");
+        primero.setEstado(false);
+
+        // Assert
+        Cliente segundo = adapter.buscarPorId(1L).orElseThrow();
+        assertNotSame(primero, segundo);
+        assertEquals("Jose Lema", segundo.getNombre());
+        assertTrue(segundo.getEstado());
+    }
+
+    @Test
+    @DisplayName("buscarPorIds - Una consulta solo para los que faltan en caché")
+    void debeConsultarSoloLosClientesFaltantes() {
+        // Arrange
+        when(delegado.buscarPorId(1L)).thenReturn(Optional.of(cliente(1L, "Jose Lema")));
+        when(delegado.buscarPorIds(anyList())).thenReturn(List.of(cliente(2L, "Marianela Montalvo")));
+        adapter.buscarPorId(1L);
+
+        // Act
+        List<Cliente> clientes = adapter.buscarPorIds(List.of(1L, 2L));
+        List<Cliente> deNuevo = adapter.buscarPorIds(List.of(1L, 2L));
+
+        // Assert
+        assertEquals(2, clientes.size());
+        assertEquals(2, deNuevo.size());
+        verify(delegado, times(1)).buscarPorIds(List.of(2L));
+        assertEquals(1L, aciertosPuerto("buscarPorIds"), "Solo la llamada que no llegó a base de datos");
+    }
+
+    @Test
+    @DisplayName("guardar - Descarta el cliente en caché")
+    void debeInvalidarAlGuardar() {
+        // Arrange
+        when(delegado.buscarPorId(1L)).thenReturn(Optional.of(cliente(1L, "Jose Lema")),
+                Optional.of(cliente(1L, "Jose Lema Actualizado")));
+        adapter.buscarPorId(1L);
+        when(delegado.guardar(any(Cliente.class))).thenReturn(cliente(1L, "Jose Lema Actualizado"));
+
+        // Act
+        adapter.guardar(cliente(1L, "Jose Lema Actualizado"));
+
+        // Assert
+        assertEquals("Jose Lema Actualizado", adapter.buscarPorId(1L).orElseThrow().getNombre());
+        verify(delegado, times(2)).buscarPorId(1L);
+    }
+
+    @Test
+    @DisplayName("eliminar - Descarta el cliente en caché")
+    void debeInvalidarAlEliminar() {
+        // Arrange
+        when(delegado.buscarPorId(1L)).thenReturn(Optional.of(cliente(1L, "Jose Lema")), Optional.empty());
+        adapter.buscarPorId(1L);
+
+        // Act
+        adapter.eliminar(1L);
+
+        // Assert
+        assertTrue(adapter.buscarPorId(1L).isEmpty());
+        verify(delegado).eliminar(1L);
+    }
+}
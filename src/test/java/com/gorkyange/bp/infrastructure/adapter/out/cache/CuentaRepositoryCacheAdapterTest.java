@@ -0,0 +1,177 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.infrastructure.adapter.out.persistence.CuentaPersistenceAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CuentaRepositoryCacheAdapter Tests")
+class CuentaRepositoryCacheAdapterTest {
+
+    private CuentaPersistenceAdapter delegado;
+    private SimpleMeterRegistry registry;
+    private CuentaRepositoryCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        delegado = mock(CuentaPersistenceAdapter.class);
+        registry = new SimpleMeterRegistry();
+        adapter = new CuentaRepositoryCacheAdapter(delegado,
+                new SaldoCacheAdapter(1000, Duration.ofMinutes(5), registry), 1000, 0.01, true, registry);
+    }
+
+    private static Cuenta cuenta(Long id, String numeroCuenta, double saldo, long version) {
+        Cuenta cuenta = new Cuenta(numeroCuenta, "Ahorro", Dinero.de(100.0), true, 1L);
+        cuenta.setId(id);
+        cuenta.setSaldoActual(Dinero.de(saldo));
+        cuenta.setVersion(version);
+        return cuenta;
+    }
+
+    private double contador(String resultado) {
+        return registry.get("bp.repositorio.cache").tag("entidad", "cuenta").tag("resultado", resultado)
+                .counter().count();
+    }
+
+    private long aciertosPuerto(String operacion) {
+        return registry.get("bp.puerto").tag("puerto", "CuentaRepositoryPort").tag("operacion", operacion)
+                .tag("resultado", "cache").timer().count();
+    }
+
+    @Test
+    @DisplayName("buscarPorNumeroCuenta - La segunda búsqueda se resuelve desde caché")
+    void debeResolverDesdeCache() {
+        // Arrange
+        when(delegado.buscarPorNumeroCuenta("478758")).thenReturn(Optional.of(cuenta(1L, "478758", 150.0, 3L)));
+
+        // Act
+        adapter.buscarPorNumeroCuenta("478758");
+        Cuenta cuenta = adapter.buscarPorNumeroCuenta("478758").orElseThrow();
+
+        // Assert
+        verify(delegado, times(1)).buscarPorNumeroCuenta("478758");
+        assertEquals(Dinero.de(150.0), cuenta.getSaldoActual());
+        assertEquals(3L, cuenta.getVersion());
+        assertEquals(1.0, contador("hit"));
+        assertEquals(1.0, contador("miss"));
+        assertEquals(1L, aciertosPuerto("buscarPorNumeroCuenta"));
+    }
+
+    @Test
+    @DisplayName("buscarPorNumeroCuenta - Modificar la cuenta devuelta no altera la caché")
+    void debeEntregarUnaCopiaDeLaCuentaEnCache() {
+        // Arrange
+        Cuenta original = cuenta(1L, "478758", 150.0, 3L);
+        when(delegado.buscarPorNumeroCuenta("478758")).thenReturn(Optional.of(original));
+        adapter.buscarPorNumeroCuenta("478758");
+
+        // Act: el servicio modifica la cuenta que recibe
+        Cuenta primera = adapter.buscarPorNumeroCuenta("478758").orElseThrow();
+        primera.setSaldoActual(Dinero.de(0.0));
+        primera.setVersion(99L);
+        primera.setEstado(false);
+        original.setTipoCuenta("Corriente");
+
+        // Assert
+        Cuenta segunda = adapter.buscarPorNumeroCuenta("478758").orElseThrow();
+        assertNotSame(primera, segunda);
+        assertEquals(Dinero.de(150.0), segunda.getSaldoActual());
+        assertEquals(3L, segunda.getVersion());
+        assertTrue(segunda.getEstado());
+        assertEquals("Ahorro", segunda.getTipoCuenta(), "La caché guarda su propia copia");
+    }
+
+    @Test
+    @DisplayName("buscarPorNumerosCuenta - Solo consulta las que faltan en caché")
+    void debeConsultarSoloLasCuentasFaltantes() {
+        // Arrange
+        when(delegado.buscarPorNumeroCuenta("478758")).thenReturn(Optional.of(cuenta(1L, "478758", 150.0, 3L)));
+        when(delegado.buscarPorNumerosCuenta(anyCollection())).thenReturn(List.of(cuenta(2L, "225487", 700.0, 1L)));
+        adapter.buscarPorNumeroCuenta("478758");
+
+        // Act
+        List<Cuenta> cuentas = adapter.buscarPorNumerosCuenta(List.of("478758", "225487"));
+        List<Cuenta> deNuevo = adapter.buscarPorNumerosCuenta(List.of("478758", "225487"));
+
+        // Assert
+        assertEquals(2, cuentas.size());
+        assertEquals(2, deNuevo.size());
+        verify(delegado, times(1)).buscarPorNumerosCuenta(Set.of("225487"));
+        assertEquals(3.0, contador("hit"));
+        assertEquals(2.0, contador("miss"));
+        assertEquals(1L, aciertosPuerto("buscarPorNumerosCuenta"), "Solo la llamada que no llegó a base de datos");
+    }
+
+    @Test
+    @DisplayName("guardar - Descarta la cuenta en caché aunque cambie su número")
+    void debeInvalidarAlGuardar() {
+        // Arrange
+        Cuenta anterior = cuenta(1L, "478758", 150.0, 3L);
+        when(delegado.buscarPorNumeroCuenta("478758")).thenReturn(Optional.of(anterior));
+        when(delegado.buscarPorId(1L)).thenReturn(Optional.of(anterior));
+        adapter.buscarPorNumeroCuenta("478758");
+        Cuenta renumerada = cuenta(1L, "478759", 150.0, 4L);
+        when(delegado.guardar(any(Cuenta.class))).thenReturn(renumerada);
+
+        // Act
+        adapter.guardar(renumerada);
+        adapter.buscarPorNumeroCuenta("478758");
+
+        // Assert
+        verify(delegado, times(2)).buscarPorNumeroCuenta("478758");
+        assertEquals(2.0, contador("miss"));
+    }
+
+    @Test
+    @DisplayName("eliminar - Descarta la cuenta en caché")
+    void debeInvalidarAlEliminar() {
+        // Arrange
+        Cuenta cuenta = cuenta(1L, "478758", 150.0, 3L);
+        when(delegado.buscarPorNumeroCuenta("478758")).thenReturn(Optional.of(cuenta), Optional.empty());
+        when(delegado.buscarPorId(1L)).thenReturn(Optional.of(cuenta));
+        adapter.buscarPorNumeroCuenta("478758");
+
+        // Act
+        adapter.eliminar(1L);
+
+        // Assert
+        assertTrue(adapter.buscarPorNumeroCuenta("478758").isEmpty());
+        verify(delegado).eliminar(1L);
+    }
+
+    @Test
+    @DisplayName("existePorNumeroCuenta - Con el filtro cargado un número nuevo no consulta la base de datos")
+    void noDebeConsultarNumerosNuevos() {
+        // Arrange: tabla vacía
+        adapter.cargarFiltro();
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            assertFalse(adapter.existePorNumeroCuenta("NUEVA-" + i));
+        }
+
+        // Assert
+        verify(delegado, times(0)).existePorNumeroCuenta(anyString());
+        assertEquals(100L, aciertosPuerto("existePorNumeroCuenta"));
+    }
+}
@@ -0,0 +1,148 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("FiltroClaves Tests")
+class FiltroClavesTest {
+
+    private static final int CLAVES = 100_000;
+
+    private static FiltroClaves filtro(SimpleMeterRegistry registry) {
+        return new FiltroClaves("cuenta", CLAVES, 0.01, registry);
+    }
+
+    @Test
+    @DisplayName("FiltroBloom - Ninguna clave agregada da un falso negativo")
+    void noDebeDarFalsosNegativos() {
+        // Arrange
+        FiltroBloom filtro = new FiltroBloom(CLAVES, 0.01);
+
+        // Act
+        for (int i = 0; i < CLAVES; i++) {
+            filtro.agregar("CTA-" + i);
+        }
+
+        // Assert
+        for (int i = 0; i < CLAVES; i++) {
+            assertTrue(filtro.podriaContener("CTA-" + i), "Falso negativo para CTA-" + i);
+        }
+    }
+
+    @Test
+    @DisplayName("FiltroBloom - La tasa de falsos positivos queda cerca de la configurada")
+    void debeRespetarLaTasaDeFalsosPositivos() {
+        // Arrange
+        FiltroBloom filtro = new FiltroBloom(CLAVES, 0.01);
+        for (int i = 0; i < CLAVES; i++) {
+            filtro.agregar("CTA-" + i);
+        }
+
+        // Act
+        int falsosPositivos = 0;
+        for (int i = 0; i < CLAVES; i++) {
+            if (filtro.podriaContener("NUEVA-" + i)) {
+                falsosPositivos++;
+            }
+        }
+
+        // Assert: 1 % configurado, con holgura para no depender de la función de hash
+        double tasa = (double) falsosPositivos / CLAVES;
+        assertTrue(tasa < 0.02, "Tasa de falsos positivos: " + tasa);
+    }
+
+    @Test
+    @DisplayName("esNueva - Mientras el filtro no termina de cargarse ninguna clave se descarta")
+    void noDebeDescartarAntesDeCargar() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FiltroClaves filtro = filtro(registry);
+
+        // Act & Assert
+        assertFalse(filtro.esNueva("CTA-1"));
+        assertEquals(1.0, registry.get("bp.filtro.claves").tag("resultado", "consulta").counter().count());
+    }
+
+    @Test
+    @DisplayName("cargar - Las claves agregadas mientras se recorre la tabla no dan falsos negativos")
+    void noDebePerderClavesAgregadasDuranteLaCarga() throws Exception {
+        // Arrange: la carga recorre la mitad de las claves mientras otro hilo da de alta la otra mitad
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FiltroClaves filtro = filtro(registry);
+        CountDownLatch recorriendo = new CountDownLatch(1);
+        CountDownLatch altasTerminadas = new CountDownLatch(1);
+        ExecutorService ejecutor = Executors.newSingleThreadExecutor();
+        Future<?> altas;
+        try {
+            altas = ejecutor.submit(() -> {
+                recorriendo.await();
+                for (int i = CLAVES / 2; i < CLAVES; i++) {
+                    filtro.agregar("CTA-" + i);
+                }
+                altasTerminadas.countDown();
+                return null;
+            });
+
+            // Act
+            filtro.cargar(CLAVES / 2, consumidor -> {
+                for (int i = 0; i < CLAVES / 2; i++) {
+                    consumidor.accept("CTA-" + i);
+                    if (i == CLAVES / 4) {
+                        recorriendo.countDown();
+                    }
+                }
+                try {
+                    assertTrue(altasTerminadas.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            altas.get();
+        } finally {
+            ejecutor.shutdownNow();
+        }
+
+        // Assert
+        for (int i = 0; i < CLAVES; i++) {
+            assertFalse(filtro.esNueva("CTA-" + i), "Falso negativo para CTA-" + i);
+        }
+        assertEquals(0.0, registry.get("bp.filtro.claves").tag("resultado", "nueva").counter().count());
+    }
+
+    @Test
+    @DisplayName("esNueva - Con el filtro cargado casi todas las claves nuevas se descartan")
+    void debeDescartarLasClavesNuevas() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FiltroClaves filtro = filtro(registry);
+        filtro.cargar(CLAVES, consumidor -> {
+            for (int i = 0; i < CLAVES; i++) {
+                consumidor.accept("CTA-" + i);
+            }
+        });
+        List<String> nuevas = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            nuevas.add("NUEVA-" + i);
+        }
+
+        // Act
+        long descartadas = nuevas.stream().filter(filtro::esNueva).count();
+
+        // Assert: el filtro se dimensiona al doble de las claves cargadas
+        assertTrue(descartadas > 9_800, "Descartadas: " + descartadas);
+        assertEquals(descartadas, registry.get("bp.filtro.claves").tag("resultado", "nueva").counter().count());
+    }
+}
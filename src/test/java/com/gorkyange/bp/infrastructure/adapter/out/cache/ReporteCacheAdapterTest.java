@@ -0,0 +1,235 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse.CuentaReporte;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse.MovimientoReporte;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ReporteCacheAdapter Tests")
+class ReporteCacheAdapterTest {
+
+    private static final Long CLIENTE = 1L;
+    private static final LocalDate ENERO = LocalDate.of(2026, 1, 1);
+    private static final LocalDate FEBRERO = LocalDate.of(2026, 2, 1);
+    private static final LocalDate MARZO = LocalDate.of(2026, 3, 1);
+    private static final byte[] PDF = "%PDF-1.7".getBytes(StandardCharsets.US_ASCII);
+
+    private SimpleMeterRegistry registry;
+    private ReporteCacheAdapter cache;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new ReporteCacheAdapter(32 * 1024 * 1024, Duration.ofMinutes(10), registry);
+    }
+
+    private static ReporteEstadoCuentaResponse reporte(Long clienteId, LocalDate inicio, int movimientos) {
+        List<MovimientoReporte> detalle = new ArrayList<>();
+        for (int i = 0; i < movimientos; i++) {
+            detalle.add(new MovimientoReporte(inicio, "Deposito", Dinero.de(10.0), Dinero.de(100.0 + 10 * i)));
+        }
+        CuentaReporte cuenta = new CuentaReporte("478758", "Ahorro", Dinero.de(100.0), Dinero.de(100.0), detalle);
+        return new ReporteEstadoCuentaResponse(clienteId, "Jose Lema", inicio,
+                inicio.plusMonths(1).minusDays(1), List.of(cuenta), null);
+    }
+
+    private ReporteEstadoCuentaResponse guardado(Long clienteId, LocalDate inicio) {
+        ReporteEstadoCuentaResponse reporte = reporte(clienteId, inicio, 3);
+        cache.guardar(reporte, cache.generacion(clienteId));
+        return reporte;
+    }
+
+    private boolean enCache(ReporteEstadoCuentaResponse reporte) {
+        return cache.obtener(reporte.getClienteId(), reporte.getFechaInicio(), reporte.getFechaFin()).isPresent();
+    }
+
+    private double contador(String tipo, String resultado) {
+        return registry.get("bp.reportes.cache").tag("tipo", tipo).tag("resultado", resultado).counter().count();
+    }
+
+    @Test
+    @DisplayName("invalidar - Solo descarta los reportes del cliente que terminan en o después de la fecha")
+    void debeInvalidarSoloLosReportesAfectados() {
+        // Arrange
+        ReporteEstadoCuentaResponse enero = guardado(CLIENTE, ENERO);
+        ReporteEstadoCuentaResponse febrero = guardado(CLIENTE, FEBRERO);
+        ReporteEstadoCuentaResponse marzo = guardado(CLIENTE, MARZO);
+        ReporteEstadoCuentaResponse otroCliente = guardado(2L, FEBRERO);
+
+        // Act: un movimiento a mitad de febrero
+        cache.invalidar(CLIENTE, LocalDate.of(2026, 2, 15));
+
+        // Assert
+        assertTrue(enCache(enero), "Enero termina antes de la fecha");
+        assertTrue(!enCache(febrero), "Febrero contiene la fecha");
+        assertTrue(!enCache(marzo), "Marzo cambia su saldo de apertura");
+        assertTrue(enCache(otroCliente), "Otro cliente no se toca");
+    }
+
+    @Test
+    @DisplayName("invalidar - Un reporte que termina justo en la fecha se descarta")
+    void debeInvalidarElReporteQueTerminaEnLaFecha() {
+        // Arrange
+        ReporteEstadoCuentaResponse enero = guardado(CLIENTE, ENERO);
+
+        // Act
+        cache.invalidar(CLIENTE, enero.getFechaFin());
+
+        // Assert
+        assertTrue(!enCache(enero));
+    }
+
+    @Test
+    @DisplayName("invalidarCliente - Descarta todos los reportes del cliente")
+    void debeInvalidarTodoElCliente() {
+        // Arrange
+        ReporteEstadoCuentaResponse enero = guardado(CLIENTE, ENERO);
+        ReporteEstadoCuentaResponse marzo = guardado(CLIENTE, MARZO);
+
+        // Act
+        cache.invalidarCliente(CLIENTE);
+
+        // Assert
+        assertTrue(!enCache(enero));
+        assertTrue(!enCache(marzo));
+    }
+
+    @Test
+    @DisplayName("guardar - Un reporte calculado antes de una invalidación no queda en caché")
+    void noDebeGuardarUnReporteDeUnaGeneracionAnterior() {
+        // Arrange: el servicio lee la generación y consulta los datos; entretanto llega un movimiento
+        long generacion = cache.generacion(CLIENTE);
+        ReporteEstadoCuentaResponse reporte = reporte(CLIENTE, ENERO, 3);
+        cache.invalidar(CLIENTE, ENERO);
+
+        // Act
+        cache.guardar(reporte, generacion);
+
+        // Assert
+        assertTrue(!enCache(reporte), "El reporte se calculó con datos anteriores al movimiento");
+
+        // Un nuevo cálculo con la generación vigente sí se guarda
+        cache.guardar(reporte, cache.generacion(CLIENTE));
+        assertTrue(enCache(reporte));
+    }
+
+    @Test
+    @DisplayName("guardar - Una invalidación por fecha sin reportes afectados también avanza la generación")
+    void debeAvanzarLaGeneracionEnCadaInvalidacion() {
+        // Arrange
+        long generacion = cache.generacion(CLIENTE);
+
+        // Act
+        cache.invalidar(CLIENTE, MARZO);
+
+        // Assert: el reporte en curso podría incluir la fecha aunque aún no esté en caché
+        assertTrue(cache.generacion(CLIENTE) != generacion);
+    }
+
+    @Test
+    @DisplayName("guardarPdf - El PDF se sirve solo para la misma instancia del reporte en caché")
+    void debeServirElPdfSoloParaLaMismaInstancia() {
+        // Arrange
+        ReporteEstadoCuentaResponse reporte = guardado(CLIENTE, ENERO);
+
+        // Act
+        cache.guardarPdf(reporte, PDF);
+
+        // Assert
+        assertArrayEquals(PDF, cache.obtenerPdf(reporte).orElseThrow());
+        assertSame(reporte, cache.obtener(CLIENTE, reporte.getFechaInicio(), reporte.getFechaFin()).orElseThrow());
+        assertTrue(cache.obtenerPdf(reporte(CLIENTE, ENERO, 3)).isEmpty(), "Otro cálculo del mismo rango");
+    }
+
+    @Test
+    @DisplayName("guardarPdf - Un reporte reemplazado o invalidado no recibe el PDF")
+    void debeDescartarElPdfDeUnReporteReemplazado() {
+        // Arrange
+        ReporteEstadoCuentaResponse anterior = guardado(CLIENTE, ENERO);
+        ReporteEstadoCuentaResponse nuevo = guardado(CLIENTE, ENERO);
+
+        // Act
+        cache.guardarPdf(anterior, PDF);
+
+        // Assert
+        assertTrue(cache.obtenerPdf(nuevo).isEmpty());
+        assertTrue(cache.obtenerPdf(anterior).isEmpty());
+
+        // Act: invalidado entre la generación del reporte y la del PDF
+        cache.invalidar(CLIENTE, ENERO);
+        cache.guardarPdf(nuevo, PDF);
+
+        // Assert
+        assertTrue(!enCache(nuevo));
+        assertTrue(cache.obtenerPdf(nuevo).isEmpty());
+    }
+
+    @Test
+    @DisplayName("invalidar - El PDF se descarta junto con su reporte")
+    void debeDescartarElPdfConSuReporte() {
+        // Arrange
+        ReporteEstadoCuentaResponse reporte = guardado(CLIENTE, FEBRERO);
+        cache.guardarPdf(reporte, PDF);
+
+        // Act
+        cache.invalidar(CLIENTE, FEBRERO);
+        cache.guardar(reporte, cache.generacion(CLIENTE));
+
+        // Assert: el reporte vuelve a guardarse, pero sin el PDF anterior
+        assertTrue(enCache(reporte));
+        assertTrue(cache.obtenerPdf(reporte).isEmpty());
+    }
+
+    @Test
+    @DisplayName("obtener y obtenerPdf - Registran aciertos y fallos por tipo")
+    void debeContarAciertosYFallos() {
+        // Arrange
+        ReporteEstadoCuentaResponse reporte = guardado(CLIENTE, ENERO);
+
+        // Act
+        cache.obtener(CLIENTE, ENERO, reporte.getFechaFin());
+        cache.obtener(CLIENTE, ENERO, reporte.getFechaFin());
+        cache.obtener(CLIENTE, MARZO, MARZO.plusDays(30));
+        cache.obtenerPdf(reporte);
+        cache.guardarPdf(reporte, PDF);
+        cache.obtenerPdf(reporte);
+
+        // Assert
+        assertEquals(2.0, contador("json", "hit"));
+        assertEquals(1.0, contador("json", "miss"));
+        assertEquals(1.0, contador("pdf", "hit"));
+        assertEquals(1.0, contador("pdf", "miss"));
+    }
+
+    @Test
+    @DisplayName("guardar - Un reporte más pesado que el máximo no se conserva")
+    void noDebeConservarUnReporteMasPesadoQueElMaximo() {
+        // Arrange
+        ReporteCacheAdapter pequena = new ReporteCacheAdapter(4 * 1024, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        ReporteEstadoCuentaResponse liviano = reporte(CLIENTE, ENERO, 3);
+        ReporteEstadoCuentaResponse pesado = reporte(CLIENTE, FEBRERO, 100);
+
+        // Act
+        pequena.guardar(liviano, pequena.generacion(CLIENTE));
+        pequena.guardar(pesado, pequena.generacion(CLIENTE));
+
+        // Assert
+        assertTrue(pequena.obtener(CLIENTE, ENERO, liviano.getFechaFin()).isPresent());
+        assertTrue(pequena.obtener(CLIENTE, FEBRERO, pesado.getFechaFin()).isEmpty());
+    }
+}
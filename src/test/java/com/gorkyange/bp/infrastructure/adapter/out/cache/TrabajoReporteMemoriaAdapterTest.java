@@ -0,0 +1,131 @@
+package com.gorkyange.bp.infrastructure.adapter.out.cache;
+
+import com.gorkyange.bp.application.port.in.TrabajoReporte;
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse.CuentaReporte;
+import com.gorkyange.bp.infrastructure.adapter.in.rest.dto.ReporteEstadoCuentaResponse.MovimientoReporte;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TrabajoReporteMemoriaAdapter Tests")
+class TrabajoReporteMemoriaAdapterTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2026, 1, 1);
+    private static final LocalDate FIN = LocalDate.of(2026, 1, 31);
+
+    private static TrabajoReporte pendiente(String id) {
+        return TrabajoReporte.pendiente(id, 1L, INICIO, FIN, "json");
+    }
+
+    private static ReporteEstadoCuentaResponse reporte(int movimientos) {
+        List<MovimientoReporte> detalle = new ArrayList<>();
+        for (int i = 0; i < movimientos; i++) {
+            detalle.add(new MovimientoReporte(INICIO, "Deposito", Dinero.de(10.0), Dinero.de(10.0 * (i + 1))));
+        }
+        return new ReporteEstadoCuentaResponse(1L, "Jose Lema", INICIO, FIN,
+                List.of(new CuentaReporte("478758", "Ahorro", Dinero.CERO, Dinero.CERO, detalle)), null);
+    }
+
+    @Test
+    @DisplayName("guardar - Los trabajos terminados se conservan durante la retención y luego expiran")
+    void debeConservarLosTrabajosDuranteLaRetencion() throws InterruptedException {
+        // Arrange
+        TrabajoReporteMemoriaAdapter adapter = new TrabajoReporteMemoriaAdapter(64 * 1024 * 1024, Duration.ofMillis(200));
+        TrabajoReporte completado = pendiente("t-1").enProceso().completado(reporte(3), null);
+        TrabajoReporte fallido = pendiente("t-2").enProceso().fallido("fallo");
+
+        // Act
+        adapter.guardar(completado);
+        adapter.guardar(fallido);
+
+        // Assert
+        assertEquals(TrabajoReporte.Estado.COMPLETADO, adapter.buscarPorId("t-1").orElseThrow().getEstado());
+        assertEquals("fallo", adapter.buscarPorId("t-2").orElseThrow().getError());
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((adapter.buscarPorId("t-1").isPresent() || adapter.buscarPorId("t-2").isPresent())
+                && System.nanoTime() < limite) {
+            Thread.sleep(50);
+        }
+        assertTrue(adapter.buscarPorId("t-1").isEmpty(), "El resultado expira tras la retención");
+        assertTrue(adapter.buscarPorId("t-2").isEmpty(), "El fallo expira tras la retención");
+    }
+
+    @Test
+    @DisplayName("guardar - Los trabajos sin terminar no se desalojan por peso")
+    void noDebeDesalojarTrabajosSinTerminar() {
+        // Arrange: el máximo no alcanza ni para un resultado
+        TrabajoReporteMemoriaAdapter adapter = new TrabajoReporteMemoriaAdapter(1024, Duration.ofMinutes(30));
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            adapter.guardar(pendiente("p-" + i));
+        }
+        adapter.guardar(pendiente("e-1").enProceso());
+        adapter.guardar(pendiente("c-1").enProceso().completado(reporte(100), null));
+
+        // Assert
+        for (int i = 0; i < 100; i++) {
+            assertTrue(adapter.buscarPorId("p-" + i).isPresent());
+        }
+        assertTrue(adapter.buscarPorId("e-1").isPresent());
+    }
+
+    @Test
+    @DisplayName("buscarPorId - Un resultado desalojado por peso deja el trabajo como RESULTADO_EXPIRADO")
+    void debeConservarElEstadoCuandoSeDesalojaElResultado() throws InterruptedException {
+        // Arrange: el máximo no alcanza para el resultado
+        TrabajoReporteMemoriaAdapter adapter = new TrabajoReporteMemoriaAdapter(1024, Duration.ofMinutes(30));
+        TrabajoReporte completado = pendiente("c-2").enProceso().completado(reporte(100), null);
+
+        // Act
+        adapter.guardar(completado);
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (adapter.buscarPorId("c-2").orElseThrow().getEstado() == TrabajoReporte.Estado.COMPLETADO
+                && System.nanoTime() < limite) {
+            Thread.sleep(50);
+        }
+
+        // Assert
+        TrabajoReporte trabajo = adapter.buscarPorId("c-2").orElseThrow();
+        assertEquals(TrabajoReporte.Estado.RESULTADO_EXPIRADO, trabajo.getEstado());
+        assertEquals(completado.getFechaFinalizacion(), trabajo.getFechaFinalizacion());
+        assertNull(trabajo.getReporte());
+    }
+
+    @Test
+    @DisplayName("buscarPorId - Un resultado dentro del peso máximo se devuelve completo")
+    void debeDevolverElResultadoCompleto() {
+        // Arrange
+        TrabajoReporteMemoriaAdapter adapter = new TrabajoReporteMemoriaAdapter(64 * 1024 * 1024, Duration.ofMinutes(30));
+        ReporteEstadoCuentaResponse reporte = reporte(5);
+
+        // Act
+        adapter.guardar(pendiente("c-3").enProceso().completado(reporte, null));
+
+        // Assert
+        TrabajoReporte trabajo = adapter.buscarPorId("c-3").orElseThrow();
+        assertEquals(TrabajoReporte.Estado.COMPLETADO, trabajo.getEstado());
+        assertSame(reporte, trabajo.getReporte());
+    }
+
+    @Test
+    @DisplayName("PesoReporte - Crece con los movimientos y con el PDF")
+    void debeEstimarElPesoDelReporte() {
+        // Act & Assert
+        assertEquals(512, PesoReporte.de(null, null));
+        assertEquals(512 + 160 * 10, PesoReporte.de(reporte(10), null));
+        assertEquals(512 + 160 * 10 + 2048, PesoReporte.de(reporte(10), new byte[2048]));
+    }
+}
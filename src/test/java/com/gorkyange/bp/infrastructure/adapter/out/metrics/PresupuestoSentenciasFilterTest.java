@@ -0,0 +1,51 @@
+package com.gorkyange.bp.infrastructure.adapter.out.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("PresupuestoSentenciasFilter Tests")
+class PresupuestoSentenciasFilterTest {
+
+    private static MockHttpServletRequest solicitud(String uri, String consulta) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setQueryString(consulta);
+        return request;
+    }
+
+    @Test
+    @DisplayName("uriEnmascarada - Conserva la ruta y los nombres de los parámetros, no sus valores")
+    void debeEnmascararLosValoresDeLaConsulta() {
+        // Act & Assert
+        assertEquals("/movimientos", PresupuestoSentenciasFilter.uriEnmascarada(solicitud("/movimientos", null)));
+        assertEquals("/movimientos?numeroCuenta=*", PresupuestoSentenciasFilter.uriEnmascarada(
+                solicitud("/movimientos", "numeroCuenta=478758")));
+        assertEquals("/reportes?clienteId=*&fechaInicio=*&formato=*", PresupuestoSentenciasFilter.uriEnmascarada(
+                solicitud("/reportes", "clienteId=1&fechaInicio=2026-01-01&&formato")));
+    }
+
+    @Test
+    @DisplayName("doFilter - /actuator/sql guarda la URI del peor caso enmascarada")
+    void debeGuardarLaUriEnmascarada() throws Exception {
+        // Arrange
+        PresupuestoSentenciasFilter filtro = new PresupuestoSentenciasFilter(
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class), 15);
+        MockHttpServletRequest request = solicitud("/clientes", "identificacion=1712345678");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/clientes");
+
+        // Act
+        filtro.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        // Assert
+        EstadisticaEndpoint.Resumen resumen = filtro.peores(1).get(0);
+        assertEquals("GET /clientes", resumen.endpoint());
+        assertEquals("/clientes?identificacion=*", resumen.uriMaximo());
+    }
+}
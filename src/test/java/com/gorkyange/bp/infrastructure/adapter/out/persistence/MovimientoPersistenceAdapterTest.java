@@ -0,0 +1,290 @@
+package com.gorkyange.bp.infrastructure.adapter.out.persistence;
+
+import com.gorkyange.bp.application.port.in.ActualizarMovimientoUseCase;
+import com.gorkyange.bp.application.port.in.CrearClienteUseCase;
+import com.gorkyange.bp.application.port.in.CrearCuentaUseCase;
+import com.gorkyange.bp.application.port.in.CrearMovimientoUseCase;
+import com.gorkyange.bp.application.port.in.EliminarMovimientoUseCase;
+import com.gorkyange.bp.domain.exception.SaldoInsuficienteException;
+import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.domain.model.Movimiento;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@DisplayName("MovimientoPersistenceAdapter Tests")
+class MovimientoPersistenceAdapterTest {
+
+    private static final LocalDate DIA_1 = LocalDate.of(2026, 3, 1);
+    private static final LocalDate DIA_2 = LocalDate.of(2026, 3, 2);
+    private static final LocalDate DIA_3 = LocalDate.of(2026, 3, 3);
+
+    @Autowired
+    private CrearClienteUseCase crearClienteUseCase;
+
+    @Autowired
+    private CrearCuentaUseCase crearCuentaUseCase;
+
+    @Autowired
+    private CrearMovimientoUseCase crearMovimientoUseCase;
+
+    @Autowired
+    private ActualizarMovimientoUseCase actualizarMovimientoUseCase;
+
+    @Autowired
+    private EliminarMovimientoUseCase eliminarMovimientoUseCase;
+
+    @Autowired
+    private MovimientoPersistenceAdapter movimientoPersistenceAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String crearCuenta(String numeroCuenta, long clienteId, double saldoInicial) {
+        Cliente cliente = crearClienteUseCase.crear(new Cliente("Jose Lema", "M", 35, "rec-" + numeroCuenta,
+                "Otavalo sn y principal", "098254785", clienteId, "1234", true));
+        crearCuentaUseCase.crear(new Cuenta(numeroCuenta, "Ahorro", Dinero.de(saldoInicial), true, cliente.getId()));
+        return numeroCuenta;
+    }
+
+    private Movimiento registrar(String numeroCuenta, LocalDate fecha, double valor) {
+        return crearMovimientoUseCase.crear(new Movimiento(fecha, valor < 0 ? "Retiro" : "Deposito",
+                Dinero.de(valor), null, numeroCuenta));
+    }
+
+    private record Dia(LocalDate fecha, BigDecimal cierre, BigDecimal debitos, BigDecimal creditos, int cantidad) {
+    }
+
+    /**
+     * Recorre los movimientos de la cuenta en orden (fecha, id) y compara cada saldo guardado,
+     * el saldo_actual de la cuenta y cada foto diaria con lo que resulta de sumar los valores.
+     */
+    private void assertCadenaConsistente(String numeroCuenta) {
+        BigDecimal saldo = jdbcTemplate.queryForObject(
+                "SELECT saldo_inicial FROM cuentas WHERE numero_cuenta = ?", BigDecimal.class, numeroCuenta);
+        List<Map<String, Object>> filas = jdbcTemplate.queryForList(
+                "SELECT id, fecha, valor, saldo FROM movimientos WHERE numero_cuenta = ? ORDER BY fecha, id",
+                numeroCuenta);
+
+        Map<LocalDate, Dia> esperados = new TreeMap<>();
+        for (Map<String, Object> fila : filas) {
+            LocalDate fecha = ((java.sql.Date) fila.get("fecha")).toLocalDate();
+            BigDecimal valor = (BigDecimal) fila.get("valor");
+            saldo = saldo.add(valor);
+            assertEquals(0, saldo.compareTo((BigDecimal) fila.get("saldo")), "Saldo del movimiento " + fila.get("id"));
+
+            Dia anterior = esperados.getOrDefault(fecha, new Dia(fecha, null, BigDecimal.ZERO, BigDecimal.ZERO, 0));
+            esperados.put(fecha, new Dia(fecha, saldo,
+                    valor.signum() < 0 ? anterior.debitos().subtract(valor) : anterior.debitos(),
+                    valor.signum() < 0 ? anterior.creditos() : anterior.creditos().add(valor),
+                    anterior.cantidad() + 1));
+        }
+
+        BigDecimal saldoActual = jdbcTemplate.queryForObject(
+                "SELECT saldo_actual FROM cuentas WHERE numero_cuenta = ?", BigDecimal.class, numeroCuenta);
+        assertEquals(0, saldo.compareTo(saldoActual), "saldo_actual de la cuenta");
+
+        List<Dia> guardados = jdbcTemplate.query(
+                "SELECT fecha, saldo_cierre, total_debitos, total_creditos, cantidad_movimientos "
+                        + "FROM saldos_diarios WHERE numero_cuenta = ? AND cantidad_movimientos > 0 ORDER BY fecha",
+                (rs, i) -> new Dia(rs.getDate(1).toLocalDate(), rs.getBigDecimal(2), rs.getBigDecimal(3),
+                        rs.getBigDecimal(4), rs.getInt(5)),
+                numeroCuenta);
+        assertEquals(esperados.values().stream().map(Dia::fecha).collect(Collectors.toList()),
+                guardados.stream().map(Dia::fecha).collect(Collectors.toList()), "Días con movimientos");
+        for (Dia guardado : guardados) {
+            Dia esperado = esperados.get(guardado.fecha());
+            assertEquals(0, esperado.cierre().compareTo(guardado.cierre()), "Cierre del " + guardado.fecha());
+            assertEquals(0, esperado.debitos().compareTo(guardado.debitos()), "Débitos del " + guardado.fecha());
+            assertEquals(0, esperado.creditos().compareTo(guardado.creditos()), "Créditos del " + guardado.fecha());
+            assertEquals(esperado.cantidad(), guardado.cantidad(), "Movimientos del " + guardado.fecha());
+        }
+    }
+
+    @Test
+    @DisplayName("guardar - Editar un movimiento intermedio reencadena los saldos posteriores")
+    void debeReencadenarAlEditarUnMovimientoIntermedio() {
+        // Arrange
+        String cuenta = crearCuenta("REC-100001", 7101L, 100.0);
+        registrar(cuenta, DIA_1, 50.0);
+        Movimiento intermedio = registrar(cuenta, DIA_2, -30.0);
+        registrar(cuenta, DIA_2, 20.0);
+        registrar(cuenta, DIA_3, -40.0);
+
+        // Act
+        Movimiento editado = actualizarMovimientoUseCase.actualizar(intermedio.getId(),
+                new Movimiento(DIA_2, "Retiro", Dinero.de(-60.0), null, cuenta));
+
+        // Assert
+        assertEquals(Dinero.de(90.0), editado.getSaldo());
+        assertCadenaConsistente(cuenta);
+    }
+
+    @Test
+    @DisplayName("guardar - Mover un movimiento a otra fecha reencadena desde la fecha más temprana")
+    void debeReencadenarAlCambiarLaFecha() {
+        // Arrange
+        String cuenta = crearCuenta("REC-100002", 7102L, 100.0);
+        registrar(cuenta, DIA_1, 10.0);
+        registrar(cuenta, DIA_2, -20.0);
+        Movimiento ultimo = registrar(cuenta, DIA_3, 30.0);
+
+        // Act
+        actualizarMovimientoUseCase.actualizar(ultimo.getId(),
+                new Movimiento(DIA_1, "Deposito", Dinero.de(30.0), null, cuenta));
+
+        // Assert
+        assertCadenaConsistente(cuenta);
+    }
+
+    @Test
+    @DisplayName("eliminar - Eliminar un movimiento intermedio reencadena los saldos posteriores")
+    void debeReencadenarAlEliminarUnMovimientoIntermedio() {
+        // Arrange
+        String cuenta = crearCuenta("REC-100003", 7103L, 100.0);
+        registrar(cuenta, DIA_1, 50.0);
+        Movimiento intermedio = registrar(cuenta, DIA_2, 25.0);
+        registrar(cuenta, DIA_2, -10.0);
+        registrar(cuenta, DIA_3, -40.0);
+
+        // Act
+        eliminarMovimientoUseCase.eliminar(intermedio.getId());
+
+        // Assert
+        assertCadenaConsistente(cuenta);
+    }
+
+    @Test
+    @DisplayName("actualizar - Se rechaza una edición que deja negativo un saldo intermedio aunque el final sea positivo")
+    void debeRechazarUnaEdicionQueDejaNegativoUnSaldoIntermedio() {
+        // Arrange: 100 -> 20 (retiro de 80) -> 220 (depósito de 200)
+        String cuenta = crearCuenta("REC-100004", 7104L, 100.0);
+        Movimiento retiro = registrar(cuenta, DIA_1, -80.0);
+        registrar(cuenta, DIA_2, 200.0);
+
+        // Act & Assert: un retiro de 150 deja el saldo final en 150, pero el del primer día en -50
+        assertThrows(SaldoInsuficienteException.class, () -> actualizarMovimientoUseCase.actualizar(retiro.getId(),
+                new Movimiento(DIA_1, "Retiro", Dinero.de(-150.0), null, cuenta)));
+        assertCadenaConsistente(cuenta);
+    }
+
+    @Test
+    @DisplayName("eliminar - Se rechaza eliminar un depósito del que dependen retiros posteriores")
+    void debeRechazarEliminarUnDepositoDelQueDependenRetiros() {
+        // Arrange
+        String cuenta = crearCuenta("REC-100005", 7105L, 10.0);
+        Movimiento deposito = registrar(cuenta, DIA_1, 100.0);
+        registrar(cuenta, DIA_2, -90.0);
+
+        // Act & Assert
+        assertThrows(SaldoInsuficienteException.class, () -> eliminarMovimientoUseCase.eliminar(deposito.getId()));
+        assertCadenaConsistente(cuenta);
+    }
+
+    private List<Long> pagina(Long despuesDe, int limite) {
+        return movimientoPersistenceAdapter.buscarPagina(despuesDe, limite)
+                .stream()
+                .map(Movimiento::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("buscarPagina - Continúa en orden (fecha, id) después del cursor, incluidos los retroactivos")
+    void debePaginarEnOrdenDeFechaEId() {
+        // Arrange: fechas posteriores a las del resto de los tests para quedar al final del orden global
+        String cuenta = crearCuenta("PAG-110001", 7111L, 100.0);
+        Movimiento segundo = registrar(cuenta, LocalDate.of(2040, 1, 2), 10.0);
+        Movimiento tercero = registrar(cuenta, LocalDate.of(2040, 1, 3), 10.0);
+        Movimiento primero = registrar(cuenta, LocalDate.of(2040, 1, 1), 10.0);
+        Movimiento cuarto = registrar(cuenta, LocalDate.of(2040, 1, 4), 10.0);
+
+        // Act & Assert
+        assertEquals(List.of(segundo.getId(), tercero.getId(), cuarto.getId()), pagina(primero.getId(), 3));
+        assertEquals(List.of(tercero.getId(), cuarto.getId()), pagina(segundo.getId(), 2));
+    }
+
+    @Test
+    @DisplayName("buscarPagina - Un cursor eliminado continúa con los movimientos siguientes en lugar de una página vacía")
+    void debeContinuarDespuesDeUnCursorEliminado() {
+        // Arrange
+        String cuenta = crearCuenta("PAG-110002", 7112L, 100.0);
+        registrar(cuenta, LocalDate.of(2041, 1, 1), 10.0);
+        Movimiento cursor = registrar(cuenta, LocalDate.of(2041, 1, 2), 10.0);
+        Movimiento siguiente = registrar(cuenta, LocalDate.of(2041, 1, 3), 10.0);
+
+        // Act
+        eliminarMovimientoUseCase.eliminar(cursor.getId());
+
+        // Assert
+        assertEquals(List.of(siguiente.getId()), pagina(cursor.getId(), 10));
+        assertTrue(pagina(siguiente.getId(), 10).isEmpty(), "Fin del recorrido con un cursor existente");
+    }
+
+    @Test
+    @DisplayName("buscarPaginaPorCuenta - Pagina en orden (fecha, id) sin salir de la cuenta filtrada")
+    void debePaginarDentroDeLaCuenta() {
+        // Arrange: dos cuentas con movimientos intercalados en las mismas fechas
+        String cuenta = crearCuenta("PAG-110003", 7113L, 100.0);
+        String otra = crearCuenta("PAG-110004", 7114L, 100.0);
+        Movimiento segundo = registrar(cuenta, LocalDate.of(2042, 1, 2), 10.0);
+        registrar(otra, LocalDate.of(2042, 1, 2), 10.0);
+        Movimiento primero = registrar(cuenta, LocalDate.of(2042, 1, 1), 10.0);
+        registrar(otra, LocalDate.of(2042, 1, 3), 10.0);
+        Movimiento tercero = registrar(cuenta, LocalDate.of(2042, 1, 3), 10.0);
+
+        // Act
+        List<Long> primeraPagina = ids(movimientoPersistenceAdapter.buscarPaginaPorCuenta(cuenta, null, 2));
+        List<Long> siguiente = ids(movimientoPersistenceAdapter.buscarPaginaPorCuenta(cuenta, segundo.getId(), 2));
+
+        // Assert
+        assertEquals(List.of(primero.getId(), segundo.getId()), primeraPagina);
+        assertEquals(List.of(tercero.getId()), siguiente);
+    }
+
+    @Test
+    @DisplayName("buscarPaginaPorFechas - Pagina en orden (fecha, id) sin salir del rango")
+    void debePaginarDentroDelRangoDeFechas() {
+        // Arrange: fechas que solo usa este test
+        String cuenta = crearCuenta("PAG-110005", 7115L, 100.0);
+        Movimiento antes = registrar(cuenta, LocalDate.of(2043, 1, 1), 10.0);
+        Movimiento primero = registrar(cuenta, LocalDate.of(2043, 1, 2), 10.0);
+        Movimiento segundo = registrar(cuenta, LocalDate.of(2043, 1, 3), 10.0);
+        Movimiento tercero = registrar(cuenta, LocalDate.of(2043, 1, 4), 10.0);
+        registrar(cuenta, LocalDate.of(2043, 1, 5), 10.0);
+        LocalDate inicio = LocalDate.of(2043, 1, 2);
+        LocalDate fin = LocalDate.of(2043, 1, 4);
+
+        // Act
+        List<Long> primeraPagina = ids(movimientoPersistenceAdapter.buscarPaginaPorFechas(inicio, fin, null, 2));
+        List<Long> siguiente = ids(movimientoPersistenceAdapter.buscarPaginaPorFechas(inicio, fin, segundo.getId(), 2));
+        List<Long> desdeFueraDelRango = ids(movimientoPersistenceAdapter.buscarPaginaPorFechas(inicio, fin,
+                antes.getId(), 10));
+
+        // Assert
+        assertEquals(List.of(primero.getId(), segundo.getId()), primeraPagina);
+        assertEquals(List.of(tercero.getId()), siguiente);
+        assertEquals(List.of(primero.getId(), segundo.getId(), tercero.getId()), desdeFueraDelRango);
+    }
+
+    private static List<Long> ids(List<Movimiento> movimientos) {
+        return movimientos.stream()
+                .map(Movimiento::getId)
+                .collect(Collectors.toList());
+    }
+}
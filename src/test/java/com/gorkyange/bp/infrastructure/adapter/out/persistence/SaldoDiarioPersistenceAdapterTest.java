@@ -0,0 +1,153 @@
+package com.gorkyange.bp.infrastructure.adapter.out.persistence;
+
+import com.gorkyange.bp.application.port.in.ActualizarCuentaUseCase;
+import com.gorkyange.bp.application.port.in.ConsultarSaldoUseCase;
+import com.gorkyange.bp.application.port.in.CrearClienteUseCase;
+import com.gorkyange.bp.application.port.in.CrearCuentaUseCase;
+import com.gorkyange.bp.application.port.in.CrearMovimientoUseCase;
+import com.gorkyange.bp.application.port.in.EliminarMovimientoUseCase;
+import com.gorkyange.bp.domain.model.Cliente;
+import com.gorkyange.bp.domain.model.Cuenta;
+import com.gorkyange.bp.domain.model.Dinero;
+import com.gorkyange.bp.domain.model.Movimiento;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Fotos diarias (abrirDia, acumularDia, desplazarPosteriores, rebasarSaldoInicial) vistas
+ * a través de {@link ConsultarSaldoUseCase#obtenerSaldoAl}.
+ */
+@SpringBootTest
+@DisplayName("SaldoDiarioPersistenceAdapter Tests")
+class SaldoDiarioPersistenceAdapterTest {
+
+    private static final LocalDate DIA_0 = LocalDate.of(2026, 5, 1);
+    private static final LocalDate DIA_1 = LocalDate.of(2026, 5, 2);
+    private static final LocalDate DIA_2 = LocalDate.of(2026, 5, 3);
+    private static final LocalDate DIA_3 = LocalDate.of(2026, 5, 4);
+
+    @Autowired
+    private CrearClienteUseCase crearClienteUseCase;
+
+    @Autowired
+    private CrearCuentaUseCase crearCuentaUseCase;
+
+    @Autowired
+    private ActualizarCuentaUseCase actualizarCuentaUseCase;
+
+    @Autowired
+    private CrearMovimientoUseCase crearMovimientoUseCase;
+
+    @Autowired
+    private EliminarMovimientoUseCase eliminarMovimientoUseCase;
+
+    @Autowired
+    private ConsultarSaldoUseCase consultarSaldoUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Cuenta crearCuenta(String numeroCuenta, long clienteId, double saldoInicial) {
+        Cliente cliente = crearClienteUseCase.crear(new Cliente("Juan Osorio", "M", 40, "dia-" + numeroCuenta,
+                "13 junio y Equinoccial", "098874587", clienteId, "1245", true));
+        return crearCuentaUseCase.crear(new Cuenta(numeroCuenta, "Ahorro", Dinero.de(saldoInicial), true, cliente.getId()));
+    }
+
+    private Movimiento registrar(String numeroCuenta, LocalDate fecha, double valor) {
+        return crearMovimientoUseCase.crear(new Movimiento(fecha, valor < 0 ? "Retiro" : "Deposito",
+                Dinero.de(valor), null, numeroCuenta));
+    }
+
+    private void assertSaldoAl(String numeroCuenta, LocalDate fecha, double esperado) {
+        assertEquals(Dinero.de(esperado), consultarSaldoUseCase.obtenerSaldoAl(numeroCuenta, fecha), "Saldo al " + fecha);
+    }
+
+    @Test
+    @DisplayName("abrirDia y acumularDia - El primer movimiento del día parte del cierre anterior o del saldo inicial")
+    void debeAbrirElDiaDesdeElCierreAnterior() {
+        // Arrange
+        String cuenta = crearCuenta("DIA-400001", 9101L, 100.0).getNumeroCuenta();
+
+        // Act
+        registrar(cuenta, DIA_1, 50.0);
+        registrar(cuenta, DIA_1, -20.0);
+        registrar(cuenta, DIA_3, 10.0);
+
+        // Assert
+        assertSaldoAl(cuenta, DIA_0, 100.0);
+        assertSaldoAl(cuenta, DIA_1, 130.0);
+        assertSaldoAl(cuenta, DIA_2, 130.0);
+        assertSaldoAl(cuenta, DIA_3, 140.0);
+        Map<String, Object> dia = jdbcTemplate.queryForMap("SELECT total_debitos, total_creditos, cantidad_movimientos "
+                + "FROM saldos_diarios WHERE numero_cuenta = ? AND fecha = ?", cuenta, DIA_1);
+        assertEquals(Dinero.de(20.0), Dinero.de((BigDecimal) dia.get("total_debitos")));
+        assertEquals(Dinero.de(50.0), Dinero.de((BigDecimal) dia.get("total_creditos")));
+        assertEquals(2, ((Number) dia.get("cantidad_movimientos")).intValue());
+    }
+
+    @Test
+    @DisplayName("desplazarPosteriores - Un movimiento con fecha pasada mueve el cierre de los días posteriores")
+    void debeDesplazarLosCierresPosteriores() {
+        // Arrange
+        String cuenta = crearCuenta("DIA-400002", 9102L, 100.0).getNumeroCuenta();
+        registrar(cuenta, DIA_1, 50.0);
+        registrar(cuenta, DIA_3, -20.0);
+
+        // Act: un día intermedio sin foto y otro anterior a todos
+        registrar(cuenta, DIA_2, 30.0);
+        registrar(cuenta, DIA_0, -40.0);
+
+        // Assert
+        assertSaldoAl(cuenta, DIA_0, 60.0);
+        assertSaldoAl(cuenta, DIA_1, 110.0);
+        assertSaldoAl(cuenta, DIA_2, 140.0);
+        assertSaldoAl(cuenta, DIA_3, 120.0);
+    }
+
+    @Test
+    @DisplayName("eliminar - Quitar un movimiento descuenta su día y desplaza los posteriores")
+    void debeDescontarAlEliminar() {
+        // Arrange
+        String cuenta = crearCuenta("DIA-400003", 9103L, 100.0).getNumeroCuenta();
+        Movimiento deposito = registrar(cuenta, DIA_1, 50.0);
+        registrar(cuenta, DIA_1, 5.0);
+        registrar(cuenta, DIA_2, -30.0);
+
+        // Act
+        eliminarMovimientoUseCase.eliminar(deposito.getId());
+
+        // Assert
+        assertSaldoAl(cuenta, DIA_0, 100.0);
+        assertSaldoAl(cuenta, DIA_1, 105.0);
+        assertSaldoAl(cuenta, DIA_2, 75.0);
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT cantidad_movimientos FROM saldos_diarios "
+                + "WHERE numero_cuenta = ? AND fecha = ?", Integer.class, cuenta, DIA_1));
+    }
+
+    @Test
+    @DisplayName("rebasarSaldoInicial - Editar el saldo inicial desplaza todos los cierres por la diferencia")
+    void debeRebasarLosCierresAlEditarElSaldoInicial() {
+        // Arrange
+        Cuenta cuenta = crearCuenta("DIA-400004", 9104L, 100.0);
+        registrar(cuenta.getNumeroCuenta(), DIA_1, 50.0);
+        registrar(cuenta.getNumeroCuenta(), DIA_2, -30.0);
+
+        // Act
+        actualizarCuentaUseCase.actualizar(cuenta.getId(), new Cuenta(cuenta.getNumeroCuenta(), cuenta.getTipoCuenta(),
+                Dinero.de(250.0), true, cuenta.getClienteId()));
+
+        // Assert
+        assertSaldoAl(cuenta.getNumeroCuenta(), DIA_0, 250.0);
+        assertSaldoAl(cuenta.getNumeroCuenta(), DIA_1, 300.0);
+        assertSaldoAl(cuenta.getNumeroCuenta(), DIA_2, 270.0);
+    }
+}
@@ -0,0 +1,53 @@
+package com.gorkyange.bp.infrastructure.adapter.out.persistence.entity;
+
+import com.gorkyange.bp.domain.model.Dinero;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DisplayName("DineroConverter Tests")
+class DineroConverterTest {
+
+    private final DineroConverter converter = new DineroConverter();
+
+    @Test
+    @DisplayName("convertToDatabaseColumn - Escribe DECIMAL con escala 2")
+    void debeEscribirConEscalaDos() {
+        // Act
+        BigDecimal columna = converter.convertToDatabaseColumn(Dinero.deCentavos(-57_525));
+
+        // Assert
+        assertEquals(new BigDecimal("-575.25"), columna);
+        assertEquals(Dinero.ESCALA, columna.scale());
+    }
+
+    @Test
+    @DisplayName("convertToEntityAttribute - Lee la columna con escala 2 u otra escala exacta")
+    void debeLeerLaColumna() {
+        // Act & Assert
+        assertEquals(Dinero.deCentavos(50_000), converter.convertToEntityAttribute(new BigDecimal("500.00")));
+        assertEquals(Dinero.deCentavos(50_000), converter.convertToEntityAttribute(new BigDecimal("500.000000")));
+    }
+
+    @Test
+    @DisplayName("Ida y vuelta - Conserva el importe en los extremos del rango")
+    void debeConservarElImporteEnIdaYVuelta() {
+        // Act & Assert
+        for (long centavos : new long[] {0L, 1L, -1L, 999_999_999_999_999_999L, -999_999_999_999_999_999L}) {
+            Dinero original = Dinero.deCentavos(centavos);
+            assertEquals(original, converter.convertToEntityAttribute(converter.convertToDatabaseColumn(original)));
+        }
+    }
+
+    @Test
+    @DisplayName("null - Se conserva en ambos sentidos")
+    void debeConservarNull() {
+        // Act & Assert
+        assertNull(converter.convertToDatabaseColumn(null));
+        assertNull(converter.convertToEntityAttribute(null));
+    }
+}